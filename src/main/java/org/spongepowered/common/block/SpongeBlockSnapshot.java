@@ -59,6 +59,7 @@
 import org.spongepowered.asm.util.PrettyPrinter;
 import org.spongepowered.common.SpongeImpl;
 import org.spongepowered.common.bridge.block.BlockBridge;
+import org.spongepowered.common.bridge.tileentity.TileEntityBridge;
 import org.spongepowered.common.bridge.world.WorldServerBridge;
 import org.spongepowered.common.data.persistence.NbtTranslator;
 import org.spongepowered.common.data.util.DataUtil;
@@ -96,7 +97,9 @@ public class SpongeBlockSnapshot implements BlockSnapshot {
     private ImmutableList<ImmutableDataManipulator<?, ?>> blockData;
     private ImmutableMap<Key<?>, ImmutableValue<?>> blockKeyValueMap;
     private ImmutableSet<ImmutableValue<?>> blockValueSet;
-    @Nullable final NBTTagCompound compound;
+    @Nullable private NBTTagCompound compound;
+    // Set when the tile data is serialized on demand, see SpongeBlockSnapshotBuilder#tileEntity
+    @Nullable private TileEntity tileEntity;
     @Nullable final UUID creatorUniqueId;
     @Nullable final UUID notifierUniqueId;
     // Internal use only
@@ -126,6 +129,16 @@ public class SpongeBlockSnapshot implements BlockSnapshot {
         this.keyValueMap = tileBuilder.build();
         this.valueSet = this.keyValueMap.isEmpty() ? ImmutableSet.of() : ImmutableSet.copyOf(this.keyValueMap.values());
         this.compound = builder.compound;
+        if (this.compound == null && builder.tileEntity != null) {
+            this.tileEntity = builder.tileEntity;
+            final TileEntityBridge tileBridge = (TileEntityBridge) this.tileEntity;
+            final SpongeBlockSnapshot previous = tileBridge.bridge$getPendingSnapshot();
+            if (previous != null) {
+                // Only one snapshot is kept pending per tile entity
+                previous.serializeTileEntity();
+            }
+            tileBridge.bridge$setPendingSnapshot(this);
+        }
         this.changeFlag = builder.flag;
     }
 
@@ -194,18 +207,20 @@ public boolean restore(final boolean force, final BlockChangeFlag flag) {
 //            if (current.getBlock().getClass() == BlockShulkerBox.class) {
 //                world.bridge$removeTileEntity(pos);
 //            }
+            // Serialize any lazily captured tile data before the tile entity goes away
+            final NBTTagCompound compound = this.getRawCompound();
             world.removeTileEntity(pos);
             PhaseTracker.getInstance().setBlockState(mixinWorldServer, pos, replaced, BlockChangeFlagRegistryModule.andNotifyClients(flag));
-            if (this.compound != null) {
+            if (compound != null) {
                 TileEntity te = world.getTileEntity(pos);
                 if (te != null) {
-                    te.readFromNBT(this.compound);
+                    te.readFromNBT(compound);
                 }
                 if (te == null) {
                     // Because, some mods will "unintentionally" only obey some of the rules but not all.
                     // In cases like this, we need to directly just say "fuck it" and deserialize from the compound directly.
                     try {
-                        te = TileEntity.create(world, this.compound);
+                        te = TileEntity.create(world, compound);
                         if (te != null) {
                             world.getChunk(pos).addTileEntity(te);
                         }
@@ -219,7 +234,7 @@ public boolean restore(final boolean force, final BlockChangeFlag flag) {
                             .add("Here's the provided compound:");
                         printer.add();
                         try {
-                            printer.addWrapped(80, "%s : %s", "This compound", this.compound);
+                            printer.addWrapped(80, "%s : %s", "This compound", compound);
                         } catch (Throwable error) {
                             printer.addWrapped(80, "Unable to get the string of this compound. Printing out some of the entries to better assist");
 
@@ -297,8 +312,9 @@ public DataContainer toContainer() {
         if (this.blockState != this.extendedState) {
             container.set(Constants.Block.BLOCK_EXTENDED_STATE, this.extendedState);
         }
-        if (this.compound != null) {
-            container.set(Constants.Sponge.UNSAFE_NBT, NbtTranslator.getInstance().translateFrom(this.compound));
+        final NBTTagCompound compound = this.getRawCompound();
+        if (compound != null) {
+            container.set(Constants.Sponge.UNSAFE_NBT, NbtTranslator.getInstance().translateFrom(compound));
         }
         final List<DataView> dataList = DataUtil.getSerializedImmutableManipulatorList(this.extraData);
         if (!dataList.isEmpty()) {
@@ -509,7 +525,45 @@ public Set<ImmutableValue<?>> getValues() {
     }
 
     public Optional<NBTTagCompound> getCompound() {
-        return this.compound == null ? Optional.<NBTTagCompound>empty() : Optional.of(this.compound.copy());
+        final NBTTagCompound compound = this.getRawCompound();
+        return compound == null ? Optional.<NBTTagCompound>empty() : Optional.of(compound.copy());
+    }
+
+    /**
+     * Gets the backing compound without copying it, serializing the
+     * tile entity first if this snapshot was created lazily.
+     *
+     * @return The backing compound, or null if there is no tile data
+     */
+    @Nullable
+    NBTTagCompound getRawCompound() {
+        this.serializeTileEntity();
+        return this.compound;
+    }
+
+    /**
+     * Serializes the tile entity this snapshot was lazily created from, if
+     * it hasn't been yet, and stops the tile entity from referencing this
+     * snapshot. Called before the next block change at the position and
+     * once the capturing phase processed or discarded its captures.
+     */
+    public void serializeTileEntity() {
+        final TileEntity tileEntity = this.tileEntity;
+        if (tileEntity == null) {
+            return;
+        }
+        this.tileEntity = null;
+        if (((TileEntityBridge) tileEntity).bridge$getPendingSnapshot() == this) {
+            ((TileEntityBridge) tileEntity).bridge$setPendingSnapshot(null);
+        }
+        final NBTTagCompound nbt = new NBTTagCompound();
+        // Some mods like OpenComputers assert if attempting to save robot while moving
+        try {
+            tileEntity.writeToNBT(nbt);
+            this.compound = nbt;
+        } catch (Throwable t) {
+            // ignore
+        }
     }
 
     public SpongeBlockSnapshotBuilder createBuilder() {
@@ -521,8 +575,9 @@ public SpongeBlockSnapshotBuilder createBuilder() {
         for (final ImmutableDataManipulator<?, ?> manipulator : this.extraData) {
             builder.add(manipulator);
         }
-        if (this.compound != null) {
-            builder.unsafeNbt(this.compound);
+        final NBTTagCompound compound = this.getRawCompound();
+        if (compound != null) {
+            builder.unsafeNbt(compound);
         }
         return builder;
     }
@@ -563,10 +618,11 @@ public Optional<TileEntityArchetype> createArchetype() {
         if (!(type instanceof ITileEntityProvider)) {
             return Optional.empty();
         }
-        if (this.compound == null) { // We can't retrieve the TileEntityType
+        final NBTTagCompound compound = this.getRawCompound();
+        if (compound == null) { // We can't retrieve the TileEntityType
             return Optional.empty();
         }
-        final String tileId = this.compound.getString(Constants.Item.BLOCK_ENTITY_ID);
+        final String tileId = compound.getString(Constants.Item.BLOCK_ENTITY_ID);
         final Class<? extends TileEntity> tileClass = (Class<? extends TileEntity>) TileEntityTypeRegistryModule.getInstance().getById(tileId)
             .map(TileEntityType::getTileEntityType)
             .orElse(null);
@@ -578,7 +634,7 @@ public Optional<TileEntityArchetype> createArchetype() {
         final TileEntityArchetype archetype = TileEntityArchetype.builder()
                 .tile(tileType)
                 .state(this.blockState)
-                .tileData(NbtTranslator.getInstance().translate(this.compound))
+                .tileData(NbtTranslator.getInstance().translate(compound))
                 .build();
         return Optional.of(archetype);
     }
@@ -597,7 +653,7 @@ public boolean equals(final Object o) {
                Objects.equal(this.worldUniqueId, that.worldUniqueId) &&
                Objects.equal(this.pos, that.pos) &&
                Objects.equal(this.extraData, that.extraData) &&
-               Objects.equal(this.compound, that.compound);
+               Objects.equal(this.getRawCompound(), that.getRawCompound());
     }
 
     @Override
@@ -608,6 +664,6 @@ public int hashCode() {
                 this.pos,
                 this.extraData,
                 this.changeFlag,
-                this.compound);
+                this.getRawCompound());
     }
 }
@@ -90,6 +90,7 @@ public static SpongeBlockSnapshotBuilder pooled() {
     Vector3i coords;
     @Nullable List<ImmutableDataManipulator<?, ?>> manipulators;
     @Nullable NBTTagCompound compound;
+    @Nullable TileEntity tileEntity;
     SpongeBlockChangeFlag flag = (SpongeBlockChangeFlag) BlockChangeFlags.ALL;
     private final boolean pooled;
 
@@ -175,6 +176,22 @@ public SpongeBlockSnapshotBuilder notifier(final UUID uuid) {
 
     public SpongeBlockSnapshotBuilder unsafeNbt(final NBTTagCompound compound) {
         this.compound = compound.copy();
+        this.tileEntity = null;
+        return this;
+    }
+
+    /**
+     * Sets the live {@link TileEntity} at the snapshot position, deferring
+     * its serialization until the built snapshot's tile data is actually
+     * requested, or until {@link SpongeBlockSnapshot#serializeTileEntity()}
+     * is called by the next block change or once the captures are processed.
+     *
+     * @param tileEntity The tile entity to lazily serialize
+     * @return This builder, for chaining
+     */
+    public SpongeBlockSnapshotBuilder tileEntity(final TileEntity tileEntity) {
+        this.tileEntity = checkNotNull(tileEntity, "tileEntity");
+        this.compound = null;
         return this;
     }
 
@@ -228,7 +245,7 @@ public SpongeBlockSnapshotBuilder from(final BlockSnapshot holder) {
         this.coords = holder.getPosition();
         this.manipulators = Lists.newArrayList(holder.getManipulators());
         if (holder instanceof SpongeBlockSnapshot) {
-            final NBTTagCompound compound = ((SpongeBlockSnapshot) holder).compound;
+            final NBTTagCompound compound = ((SpongeBlockSnapshot) holder).getRawCompound();
             if (compound != null) {
                 this.compound = compound.copy();
             }
@@ -246,6 +263,7 @@ public SpongeBlockSnapshotBuilder reset() {
         this.coords = null;
         this.manipulators = null;
         this.compound = null;
+        this.tileEntity = null;
         this.flag = null;
         return this;
     }
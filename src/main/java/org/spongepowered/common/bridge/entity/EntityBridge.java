@@ -74,6 +74,18 @@ public interface EntityBridge {
 
     boolean bridge$shouldTick();
 
+    /**
+     * Gets the creature types this entity was last counted as by the
+     * {@link org.spongepowered.common.world.MobSpawnTracker} of its world,
+     * as a bit mask of {@link net.minecraft.entity.EnumCreatureType}
+     * ordinals, or {@code -1} if it is not counted.
+     *
+     * @return The spawn count mask
+     */
+    int bridge$getSpawnCountMask();
+
+    void bridge$setSpawnCountMask(int mask);
+
     default void bridge$clearWrappedCaptureList() {
 
     }
@@ -26,6 +26,9 @@
 
 import org.spongepowered.api.event.cause.entity.spawn.SpawnType;
 import org.spongepowered.api.event.cause.entity.spawn.SpawnTypes;
+import org.spongepowered.common.block.SpongeBlockSnapshot;
+
+import javax.annotation.Nullable;
 
 public interface TileEntityBridge {
 
@@ -41,6 +44,22 @@ public interface TileEntityBridge {
 
     void bridge$setCaptured(boolean captured);
 
+    /**
+     * Gets the snapshot that was created with a reference to this tile entity
+     * and has not serialized its tile data yet.
+     *
+     * @return The pending snapshot, if any
+     */
+    @Nullable SpongeBlockSnapshot bridge$getPendingSnapshot();
+
+    void bridge$setPendingSnapshot(@Nullable SpongeBlockSnapshot snapshot);
+
+    /**
+     * Serializes the data of the pending snapshot, if any, so that it keeps
+     * the tile data from before this tile entity is changed.
+     */
+    void bridge$serializePendingSnapshot();
+
     default String bridge$getPrettyPrinterString() {
         return  this.toString();
     }
@@ -45,6 +45,8 @@
 import org.spongepowered.common.event.tracking.context.MultiBlockCaptureSupplier;
 import org.spongepowered.common.event.tracking.context.SpongeProxyBlockAccess;
 import org.spongepowered.common.relocate.co.aikar.timings.WorldTimingsHandler;
+import org.spongepowered.common.world.MobSpawnTracker;
+import org.spongepowered.common.world.TickThrottle;
 import org.spongepowered.common.world.gen.SpongeChunkGenerator;
 import org.spongepowered.common.world.gen.SpongeWorldGenerator;
 
@@ -125,6 +127,10 @@ public interface WorldServerBridge {
 
     WorldTimingsHandler bridge$getTimingsHandler();
 
+    TickThrottle bridge$getTickThrottle();
+
+    MobSpawnTracker bridge$getMobSpawnTracker();
+
     int bridge$getChunkGCTickInterval();
 
     long bridge$getChunkUnloadDelay();
@@ -27,9 +27,9 @@
 import net.minecraft.util.math.BlockPos;
 import net.minecraft.world.EnumSkyBlock;
 import net.minecraft.world.chunk.Chunk;
+import org.spongepowered.common.world.lighting.LightingEngine;
 
 import java.util.List;
-import java.util.concurrent.ExecutorService;
 
 public interface WorldServerBridge_AsyncLighting {
 
@@ -37,5 +37,7 @@ public interface WorldServerBridge_AsyncLighting {
 
     boolean asyncLightingBridge$checkLightAsync(EnumSkyBlock lightType, BlockPos pos, Chunk chunk, List<Chunk> neighbors);
 
-    ExecutorService asyncLightingBridge$getLightingExecutor();
+    void asyncLightingBridge$discardLightUpdate(LightingEngine.LightUpdate update);
+
+    LightingEngine asyncLightingBridge$getLightingEngine();
 }
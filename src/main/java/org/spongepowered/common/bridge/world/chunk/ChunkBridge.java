@@ -128,6 +128,14 @@ public interface ChunkBridge {
 
     Chunk[] bridge$getNeighborArray();
 
+    /**
+     * Updates the heightmap and skylight of the columns whose update was
+     * deferred by the current phase, once per column.
+     *
+     * @see IPhaseState#defersSkylightUpdate(PhaseContext, Chunk)
+     */
+    void bridge$updateDeferredSkylight();
+
     // TODO Mixin 0.8
     @Deprecated
     void accessor$populate(IChunkGenerator generator);
@@ -35,6 +35,7 @@
 import net.minecraft.world.gen.IChunkGenerator;
 import org.spongepowered.common.world.gen.SpongeChunkGenerator;
 
+import java.util.Optional;
 import java.util.Set;
 import java.util.concurrent.CompletableFuture;
 
@@ -61,6 +62,29 @@ public interface ChunkProviderServerBridge {
 
     CompletableFuture<Boolean> bridge$doesChunkExistSync(Vector3i chunkCoords);
 
+    /**
+     * Loads a chunk without generating it, reading it from disk off of the
+     * main thread. The returned future is completed on the main thread once
+     * the chunk is loaded, and may be joined on the main thread to load the
+     * chunk right away.
+     *
+     * @param x The chunk x coordinate
+     * @param z The chunk z coordinate
+     * @return The future of the loaded chunk, empty if it doesn't exist
+     */
+    CompletableFuture<Optional<Chunk>> bridge$loadChunkAsync(int x, int z);
+
+    /**
+     * Forgets the asynchronous load of a chunk. A pending load is no longer
+     * needed and is cancelled, skipping its read if it has not started yet.
+     * A completed load which found no chunk is consumed by the caller, which
+     * generates the chunk instead.
+     *
+     * @param x The chunk x coordinate
+     * @param z The chunk z coordinate
+     */
+    void bridge$removeChunkLoad(int x, int z);
+
     boolean bridge$getForceChunkRequests();
 
     void bridge$setDenyChunkRequests(boolean flag);
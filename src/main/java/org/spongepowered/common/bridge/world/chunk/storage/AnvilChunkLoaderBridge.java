@@ -25,8 +25,11 @@
 package org.spongepowered.common.bridge.world.chunk.storage;
 
 import net.minecraft.world.World;
+import org.spongepowered.common.util.QueuedChunk;
+import org.spongepowered.common.world.storage.ChunkCodec;
 
 import java.nio.file.Path;
+import java.util.concurrent.CompletableFuture;
 
 public interface AnvilChunkLoaderBridge {
 
@@ -34,4 +37,37 @@ public interface AnvilChunkLoaderBridge {
     boolean bridge$chunkExists(World world, int x, int z);
 
     Path bridge$getWorldDir();
+
+    void bridge$writeQueuedChunk(QueuedChunk chunk);
+
+    /**
+     * Reads a chunk from disk asynchronously, so that loading it later on
+     * doesn't need to wait for the region read, decompression and parsing
+     * of the chunk.
+     *
+     * @param x The chunk x coordinate
+     * @param z The chunk z coordinate
+     * @return The future completed once the chunk was read
+     */
+    CompletableFuture<?> bridge$prefetchChunk(int x, int z);
+
+    void bridge$discardPrefetchedChunk(int x, int z);
+
+    int bridge$getPendingChunkWrites();
+
+    /**
+     * Gets how long the last written chunk was waiting to be written, in
+     * milliseconds.
+     *
+     * @return The chunk write lag
+     */
+    long bridge$getChunkWriteLag();
+
+    /**
+     * Sets the codec chunks are stored with, once when the world of this
+     * loader is created.
+     *
+     * @param codec The codec
+     */
+    void bridge$setChunkCodec(ChunkCodec codec);
 }
@@ -94,10 +94,13 @@
 import org.spongepowered.common.bridge.server.MinecraftServerBridge;
 import org.spongepowered.common.bridge.world.DimensionTypeBridge;
 import org.spongepowered.common.bridge.world.WorldServerBridge;
+import org.spongepowered.common.bridge.world.WorldServerBridge_AsyncLighting;
 import org.spongepowered.common.bridge.world.WorldBridge;
 import org.spongepowered.common.bridge.world.WorldInfoBridge;
 import org.spongepowered.common.bridge.world.chunk.ChunkBridge;
+import org.spongepowered.common.bridge.world.chunk.storage.AnvilChunkLoaderBridge;
 import org.spongepowered.common.config.SpongeConfig;
+import org.spongepowered.common.config.category.WorldCategory;
 import org.spongepowered.common.config.category.MetricsCategory;
 import org.spongepowered.common.config.type.ConfigBase;
 import org.spongepowered.common.config.type.DimensionConfig;
@@ -105,13 +108,24 @@
 import org.spongepowered.common.config.type.TrackerConfig;
 import org.spongepowered.common.config.type.WorldConfig;
 import org.spongepowered.common.entity.EntityUtil;
+import org.spongepowered.common.event.ListenerStatistics;
+import org.spongepowered.common.event.RegisteredListener;
 import org.spongepowered.common.event.SpongeEventManager;
 import org.spongepowered.common.mixin.core.world.WorldAccessor;
+import org.spongepowered.common.scheduler.AsyncTaskExecutor;
 import org.spongepowered.common.util.SpongeHooks;
+import org.spongepowered.common.world.TickThrottle;
+import org.spongepowered.common.world.WorldManager;
+import org.spongepowered.common.world.lighting.LightingEngine;
+import org.spongepowered.common.world.storage.ChunkCodec;
+import org.spongepowered.common.world.storage.ChunkCompression;
+import org.spongepowered.common.world.storage.ChunkWriterPool;
+import org.spongepowered.common.world.storage.RegionRecompressTask;
 
 import java.io.File;
 import java.net.MalformedURLException;
 import java.net.URL;
+import java.nio.file.Path;
 import java.text.DecimalFormat;
 import java.time.Instant;
 import java.time.LocalDateTime;
@@ -224,6 +238,9 @@ public static CommandSpec createSpongeCommand() {
         nonFlagChildren.register(createSpongeTimingsCommand(), "timings");
         nonFlagChildren.register(createSpongeWhichCommand(), "which");
         nonFlagChildren.register(createSpongeMetricsCommand(), "metrics");
+        nonFlagChildren.register(createSpongeListenersCommand(), "listeners");
+        nonFlagChildren.register(createSpongeRecompressCommand(), "recompress");
+        nonFlagChildren.register(createSpongeAsyncTasksCommand(), "asyncTasks");
         flagChildren.register(createSpongeChunksCommand(), "chunks");
         flagChildren.register(createSpongeTPSCommand(), "tps");
         trackerFlagChildren.register(createSpongeConfigCommand(), "config");
@@ -246,6 +263,9 @@ INDENT, title("plugins"), LONG_INDENT, "List currently installed plugins\n",
                 INDENT, title("which"), LONG_INDENT, "List plugins that own a specific command\n",
                 INDENT, title("tps"), LONG_INDENT, "Provides TPS (ticks per second) data for loaded worlds\n",
                 INDENT, title("metrics"), LONG_INDENT, "Gets or sets permission for metric plugins to operate\n",
+                INDENT, title("listeners"), LONG_INDENT, "Prints the most expensive event listeners, optionally dump\n",
+                INDENT, title("recompress"), LONG_INDENT, "Rewrites the chunks of an unloaded world with its chunk compression\n",
+                INDENT, title("asyncTasks"), LONG_INDENT, "Prints the asynchronous task statistics of each plugin\n",
                 SpongeImplHooks.getAdditionalCommandDescriptions()))
             .arguments(firstParsing(nonFlagChildren,
                 flags().flag("-global", "g")
@@ -372,6 +392,8 @@ protected Text processGlobal(final SpongeConfig<GlobalConfig> config, final Comm
                         source.sendMessage(Text.of("World ", Text.of(TextStyles.BOLD, world.getName()),
                             getChunksInfo(((WorldServer) world))));
                     }
+                    source.sendMessage(Text.of(key("Pending chunk writes: "), value(ChunkWriterPool.getPendingWrites()), NEWLINE_TEXT,
+                        key("Chunk bytes written per second: "), value(ChunkWriterPool.getBytesPerSecond())));
                     return Text.of("Printed chunk info for all worlds ");
                 }
 
@@ -404,13 +426,34 @@ protected Text getChunksInfo(final WorldServer worldserver) {
                     if (((WorldBridge) worldserver).bridge$isFake() || worldserver.getWorldInfo() == null) {
                         return Text.of(NEWLINE_TEXT, "Fake world");
                     }
+                    final Text writeInfo;
+                    if (worldserver.getChunkProvider().chunkLoader instanceof AnvilChunkLoaderBridge) {
+                        final AnvilChunkLoaderBridge chunkLoader = (AnvilChunkLoaderBridge) worldserver.getChunkProvider().chunkLoader;
+                        writeInfo = Text.of(key("Pending chunk writes: "), value(chunkLoader.bridge$getPendingChunkWrites()), NEWLINE_TEXT,
+                            key("Chunk write lag: "), value(chunkLoader.bridge$getChunkWriteLag() + "ms"), NEWLINE_TEXT);
+                    } else {
+                        writeInfo = Text.EMPTY;
+                    }
+                    final Text lightingInfo;
+                    if (worldserver instanceof WorldServerBridge_AsyncLighting) {
+                        final LightingEngine lightingEngine = ((WorldServerBridge_AsyncLighting) worldserver).asyncLightingBridge$getLightingEngine();
+                        lightingInfo = Text.of(key("Queued light updates: "), value(lightingEngine.getQueuedUpdates()), NEWLINE_TEXT,
+                            key("Queued light tasks: "), value(lightingEngine.getQueuedTasks()), NEWLINE_TEXT,
+                            key("Light update latency: "), value(THREE_DECIMAL_DIGITS_FORMATTER.format(lightingEngine.getAverageLatency()) + "ms"),
+                            NEWLINE_TEXT,
+                            key("Dropped light updates: "), value(lightingEngine.getDroppedUpdates()), NEWLINE_TEXT);
+                    } else {
+                        lightingInfo = Text.EMPTY;
+                    }
                     return Text.of(NEWLINE_TEXT, key("DimensionId: "), value(((WorldServerBridge) worldserver).bridge$getDimensionId()), NEWLINE_TEXT,
                         key("Loaded chunks: "), value(worldserver.getChunkProvider().getLoadedChunkCount()), NEWLINE_TEXT,
                         key("Active chunks: "), value(worldserver.getChunkProvider().getLoadedChunks().size()), NEWLINE_TEXT,
                         key("Entities: "), value(worldserver.loadedEntityList.size()), NEWLINE_TEXT,
                         key("Tile Entities: "), value(worldserver.loadedTileEntityList.size()), NEWLINE_TEXT,
                         key("Removed Entities:"), value(((WorldAccessor) worldserver).accessor$getUnloadedEntityList().size()), NEWLINE_TEXT,
-                        key("Removed Tile Entities: "), value(((WorldAccessor) worldserver).accessor$getTileEntitiesToBeRemoved()), NEWLINE_TEXT
+                        key("Removed Tile Entities: "), value(((WorldAccessor) worldserver).accessor$getTileEntitiesToBeRemoved()), NEWLINE_TEXT,
+                        writeInfo,
+                        lightingInfo
                     );
                 }
             })
@@ -600,6 +643,63 @@ private static CommandSpec createSpongeAuditCommand() {
             .build();
     }
 
+    private static CommandSpec createSpongeListenersCommand() {
+        return CommandSpec.builder()
+            .description(Text.of("Print the most expensive event listeners, optionally dump all"))
+            .arguments(optional(firstParsing(literal(Text.of("dump"), "dump"), literal(Text.of("reset"), "reset"))))
+            .permission("sponge.command.listeners")
+            .executor((src, args) -> {
+                final List<RegisteredListener<?>> listeners = ((SpongeEventManager) Sponge.getEventManager()).getRegisteredListeners();
+                if (args.hasAny("reset")) {
+                    listeners.forEach(listener -> listener.getStatistics().reset());
+                    src.sendMessage(Text.of("Listener statistics reset"));
+                    return CommandResult.success();
+                }
+                listeners.sort(Comparator.comparingLong((RegisteredListener<?> listener) -> listener.getStatistics().getTotalNanos()).reversed());
+                for (final RegisteredListener<?> listener : listeners.subList(0, Math.min(10, listeners.size()))) {
+                    final ListenerStatistics statistics = listener.getStatistics();
+                    src.sendMessage(Text.of(TextColors.GREEN, listener.getPlugin().getId(), TextColors.RESET, " ",
+                        listener.getHandle().getClass().getSimpleName(), " (", TextColors.GRAY, listener.getEventType().getType().getSimpleName(),
+                        TextColors.RESET, "): ", statistics.getInvocations(), " calls, total ", TextColors.RED,
+                        THREE_DECIMAL_DIGITS_FORMATTER.format(statistics.getTotalNanos() * 1.0e-6d), "ms", TextColors.RESET,
+                        ", p50 ", THREE_DECIMAL_DIGITS_FORMATTER.format(statistics.getPercentileNanos(0.5) * 1.0e-6d), "ms",
+                        ", p99 ", THREE_DECIMAL_DIGITS_FORMATTER.format(statistics.getPercentileNanos(0.99) * 1.0e-6d), "ms",
+                        ", allocated ", statistics.getAllocatedBytes() / 1024, "KiB"));
+                }
+                if (args.hasAny("dump")) {
+                    final File file = new File(new File(new File("."), "listener-dumps"),
+                        "listeners-" + DateTimeFormatter.ofPattern("yyyy-MM-dd_HH.mm.ss").format(LocalDateTime.now()) + ".json");
+                    src.sendMessage(Text.of("Writing listener statistics to: ", file));
+                    ListenerStatisticsHelper.writeListeners(file, listeners);
+                    src.sendMessage(Text.of("Listener statistics complete"));
+                }
+                return CommandResult.success();
+            })
+            .build();
+    }
+
+    private static CommandSpec createSpongeAsyncTasksCommand() {
+        return CommandSpec.builder()
+            .description(Text.of("Print the asynchronous task statistics of each plugin"))
+            .permission("sponge.command.asynctasks")
+            .executor((src, args) -> {
+                final List<AsyncTaskExecutor.PluginTasks> plugins = new ArrayList<>(SpongeImpl.getScheduler().getAsyncTaskExecutor().getPluginTasks());
+                if (plugins.isEmpty()) {
+                    src.sendMessage(Text.of("No asynchronous tasks have been run"));
+                    return CommandResult.success();
+                }
+                plugins.sort(Comparator.comparingInt((AsyncTaskExecutor.PluginTasks tasks) -> tasks.getQueued() + tasks.getRunning()).reversed());
+                for (final AsyncTaskExecutor.PluginTasks tasks : plugins) {
+                    src.sendMessage(Text.of(TextColors.GREEN, tasks.getPlugin().getId(), TextColors.RESET, ": ",
+                        tasks.getRunning(), " running, ", tasks.getQueued(), " queued, ", tasks.getCompleted(), " completed, ",
+                        TextColors.RED, tasks.getRejected(), " rejected", TextColors.RESET,
+                        ", latency ", THREE_DECIMAL_DIGITS_FORMATTER.format(tasks.getAverageLatency()), "ms"));
+                }
+                return CommandResult.success();
+            })
+            .build();
+    }
+
     public static Text title(final String title) {
         return Text.of(TextColors.GREEN, title);
     }
@@ -828,6 +928,43 @@ private static CommandSpec createSpongeWhichCommand() {
             .build();
     }
 
+    private static CommandSpec createSpongeRecompressCommand() {
+        return CommandSpec.builder()
+            .permission("sponge.command.recompress")
+            .description(Text.of("Rewrites the chunks of an unloaded world with its configured chunk compression."))
+            .arguments(onlyOne(world(Text.of("world"))))
+            .executor((src, args) -> {
+                final WorldProperties properties = args.<WorldProperties>getOne("world").get();
+                if (Sponge.getServer().getWorld(properties.getUniqueId()).isPresent()) {
+                    throw new CommandException(Text.of("World ", properties.getWorldName(), " must be unloaded before it can be recompressed"));
+                }
+                final Optional<Path> savesDir = WorldManager.getCurrentSavesDirectory();
+                if (!savesDir.isPresent()) {
+                    throw new CommandException(Text.of("The saves directory is not available"));
+                }
+                final WorldCategory category = ((WorldInfoBridge) properties).bridge$getConfigAdapter().getConfig().getWorld();
+                if (ChunkCompression.byName(category.getChunkCompression()) == null) {
+                    throw new CommandException(Text.of("Unknown chunk compression '", category.getChunkCompression(), "' configured for ",
+                        properties.getWorldName()));
+                }
+                final ChunkCodec codec = ChunkCodec.of(category);
+                final Path worldDir = savesDir.get().resolve(properties.getWorldName());
+                src.sendMessage(Text.of("Recompressing the chunks of ", properties.getWorldName(), " with ",
+                    codec.getCompression().name().toLowerCase(), "..."));
+                SpongeImpl.getScheduler().submitAsyncTask(new RegionRecompressTask(worldDir, codec))
+                    .whenComplete((count, throwable) -> {
+                        if (throwable != null) {
+                            SpongeImpl.getLogger().error("Failed to recompress world {}", properties.getWorldName(), throwable);
+                            src.sendMessage(Text.of(TextColors.RED, "Failed to recompress ", properties.getWorldName(), ", see the console for details"));
+                        } else {
+                            src.sendMessage(Text.of("Recompressed ", count, " chunks of ", properties.getWorldName()));
+                        }
+                    });
+                return CommandResult.success();
+            })
+            .build();
+    }
+
     private static CommandSpec createSpongeTPSCommand() {
         return CommandSpec.builder()
             .permission("sponge.command.tps")
@@ -865,6 +1002,11 @@ private static void printWorldTickTime(final CommandSource src, final World worl
             ") TPS: ", TextColors.LIGHT_PURPLE,
             THREE_DECIMAL_DIGITS_FORMATTER.format(worldTps), TextColors.RESET,  ", Mean: ", TextColors.RED,
             THREE_DECIMAL_DIGITS_FORMATTER.format(worldMeanTickTime), "ms"));
+        final TickThrottle throttle = ((WorldServerBridge) world).bridge$getTickThrottle();
+        if (throttle.getLevel() > 0) {
+            src.sendMessage(Text.of(INDENT, "Throttle level: ", TextColors.GOLD, throttle.getLevel(), TextColors.RESET,
+                " (non-critical objects tick once every ", throttle.getInterval(), " ticks)"));
+        }
     }
 
     private static Long mean(final long[] values) {
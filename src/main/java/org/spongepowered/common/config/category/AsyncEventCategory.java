@@ -0,0 +1,72 @@
+/*
+ * This file is part of Sponge, licensed under the MIT License (MIT).
+ *
+ * Copyright (c) SpongePowered <https://www.spongepowered.org>
+ * Copyright (c) contributors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.spongepowered.common.config.category;
+
+import com.google.common.collect.Lists;
+import ninja.leaping.configurate.objectmapping.Setting;
+import ninja.leaping.configurate.objectmapping.serialize.ConfigSerializable;
+
+import java.util.List;
+
+@ConfigSerializable
+public class AsyncEventCategory extends ConfigCategory {
+
+    @Setting(value = "enabled", comment = "If 'true', listeners with an order of 'POST' for the event types listed below are\n"
+                                          + "run on a separate worker pool after all other listeners have run, instead of\n"
+                                          + "delaying the thread that posted the event. These listeners may not modify the\n"
+                                          + "event and must not access the cause stack, world or entities.")
+    private boolean enabled = false;
+
+    @Setting(value = "num-threads", comment = "The amount of threads to dedicate for asynchronous event listeners. (Default: 2)")
+    private int numThreads = 2;
+
+    @Setting(value = "queue-size", comment = "The maximum amount of events waiting per thread. Once full, the posting thread\n"
+                                             + "waits until there is room in the queue again. (Default: 4096)")
+    private int queueSize = 4096;
+
+    @Setting(value = "event-types", comment = "The fully qualified names of the event types, including their sub types,\n"
+                                              + "whose 'POST' listeners may run asynchronously.")
+    private List<String> eventTypes = Lists.newArrayList(
+            "org.spongepowered.api.event.message.MessageChannelEvent",
+            "org.spongepowered.api.event.statistic.ChangeStatisticEvent",
+            "org.spongepowered.api.event.advancement.CriterionEvent",
+            "org.spongepowered.api.event.network.ClientConnectionEvent");
+
+    public boolean isEnabled() {
+        return this.enabled;
+    }
+
+    public int getNumThreads() {
+        return this.numThreads;
+    }
+
+    public int getQueueSize() {
+        return this.queueSize;
+    }
+
+    public List<String> getEventTypes() {
+        return this.eventTypes;
+    }
+}
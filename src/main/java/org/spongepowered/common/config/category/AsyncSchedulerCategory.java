@@ -0,0 +1,66 @@
+/*
+ * This file is part of Sponge, licensed under the MIT License (MIT).
+ *
+ * Copyright (c) SpongePowered <https://www.spongepowered.org>
+ * Copyright (c) contributors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.spongepowered.common.config.category;
+
+import ninja.leaping.configurate.objectmapping.Setting;
+import ninja.leaping.configurate.objectmapping.serialize.ConfigSerializable;
+
+@ConfigSerializable
+public class AsyncSchedulerCategory extends ConfigCategory {
+
+    @Setting(value = "max-threads", comment = "The maximum amount of threads running asynchronous plugin tasks. (Default: 256)")
+    private int maxThreads = 256;
+
+    @Setting(value = "max-running-tasks-per-plugin", comment = "The maximum amount of asynchronous tasks of a single plugin running at once, \n"
+        + "further tasks of the plugin wait until one of its running tasks completes. This prevents a single plugin \n"
+        + "from occupying every thread. Ignored when virtual-threads is enabled, as virtual threads are not limited \n"
+        + "in number. (Default: 64)")
+    private int maxRunningTasksPerPlugin = 64;
+
+    @Setting(value = "max-queued-tasks-per-plugin", comment = "The maximum amount of asynchronous tasks of a single plugin waiting to run, \n"
+        + "further tasks are rejected and logged. Set to 0 to not limit the amount of waiting tasks. (Default: 0)")
+    private int maxQueuedTasksPerPlugin = 0;
+
+    @Setting(value = "virtual-threads", comment = "If 'true', asynchronous tasks run on virtual threads instead of the thread pool, \n"
+        + "allowing many more blocking tasks to run at once. Only supported on Java 21 and above, max-threads is ignored \n"
+        + "when enabled.")
+    private boolean virtualThreads = false;
+
+    public int getMaxThreads() {
+        return this.maxThreads;
+    }
+
+    public int getMaxRunningTasksPerPlugin() {
+        return this.maxRunningTasksPerPlugin;
+    }
+
+    public int getMaxQueuedTasksPerPlugin() {
+        return this.maxQueuedTasksPerPlugin;
+    }
+
+    public boolean useVirtualThreads() {
+        return this.virtualThreads;
+    }
+}
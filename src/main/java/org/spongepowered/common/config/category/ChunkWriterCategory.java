@@ -0,0 +1,65 @@
+/*
+ * This file is part of Sponge, licensed under the MIT License (MIT).
+ *
+ * Copyright (c) SpongePowered <https://www.spongepowered.org>
+ * Copyright (c) contributors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.spongepowered.common.config.category;
+
+import ninja.leaping.configurate.objectmapping.Setting;
+import ninja.leaping.configurate.objectmapping.serialize.ConfigSerializable;
+
+@ConfigSerializable
+public class ChunkWriterCategory extends ConfigCategory {
+
+    @Setting(value = "enabled", comment = "If 'true', saved chunks are written to disk by a pool of threads instead of the\n"
+                                        + "single vanilla file IO thread. Each region file is only ever written by one\n"
+                                        + "thread at a time, so the chunks of a region are still written in order.")
+    private boolean enabled = false;
+
+    @Setting(value = "num-threads", comment = "The amount of threads to dedicate for writing chunks. (Default: 2)")
+    private int numThreads = 2;
+
+    @Setting(value = "throttle-threshold", comment = "The amount of chunks waiting to be written after which fewer chunks are unloaded\n"
+                                                   + "each tick, until the writers have caught up. Set to 0 to disable. (Default: 4096)")
+    private int throttleThreshold = 4096;
+
+    @Setting(value = "serialize-sections-off-thread", comment = "If 'true', the block sections of a saved chunk are only copied on the main thread,\n"
+                                                              + "and converted to NBT by the thread writing the chunk. Note that the 'Sections'\n"
+                                                              + "list of the chunk compound is still empty when mods observe the chunk being saved.")
+    private boolean serializeSectionsOffThread = false;
+
+    public boolean isEnabled() {
+        return this.enabled;
+    }
+
+    public int getNumThreads() {
+        return this.numThreads;
+    }
+
+    public int getThrottleThreshold() {
+        return this.throttleThreshold;
+    }
+
+    public boolean serializeSectionsOffThread() {
+        return this.serializeSectionsOffThread;
+    }
+}
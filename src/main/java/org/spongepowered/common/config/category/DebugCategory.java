@@ -42,6 +42,16 @@ public class DebugCategory extends ConfigCategory {
             + "This may decrease sever preformance, so you should only enable it when debugging a specific issue.")
     private boolean concurrentChunkMapChecks = false;
 
+    @Setting(value = "listener-statistics", comment = "If 'true', the invocation count, latency and allocated bytes of every event listener\n"
+                                                      + "are recorded. These can be viewed with '/sponge listeners'.\n"
+                                                      + "Only a sample of the invocations is measured, see 'listener-statistics-sample-rate',\n"
+                                                      + "which keeps the overhead on event dispatch low.")
+    private boolean listenerStatistics = true;
+
+    @Setting(value = "listener-statistics-sample-rate", comment = "Only one in this many invocations of each listener is measured when 'listener-statistics'\n"
+                                                                  + "is enabled, the totals are extrapolated from the samples. Set to 1 to measure every invocation.")
+    private int listenerStatisticsSampleRate = 16;
+
     public boolean doConcurrentEntityChecks() {
         return this.concurrentEntityChecks;
     }
@@ -50,6 +60,14 @@ public boolean doConcurrentChunkMapChecks() {
         return this.concurrentChunkMapChecks;
     }
 
+    public boolean recordListenerStatistics() {
+        return this.listenerStatistics;
+    }
+
+    public int getListenerStatisticsSampleRate() {
+        return Math.max(1, this.listenerStatisticsSampleRate);
+    }
+
     public boolean isEnableThreadContentionMonitoring() {
         return this.enableThreadContentionMonitoring;
     }
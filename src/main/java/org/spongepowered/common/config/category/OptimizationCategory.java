@@ -55,6 +55,18 @@ public class OptimizationCategory extends ConfigCategory {
     @Setting(value = "async-lighting", comment = "Runs lighting updates asynchronously.")
     private AsyncLightingCategory asyncLightingCategory = new AsyncLightingCategory();
 
+    @Setting(value = "async-events", comment = "Runs listeners observing thread safe events asynchronously.")
+    private AsyncEventCategory asyncEventCategory = new AsyncEventCategory();
+
+    @Setting(value = "parallel-random-tick-scan", comment = "Scans chunk sections for random tick candidates in parallel.")
+    private ParallelRandomTickCategory parallelRandomTickCategory = new ParallelRandomTickCategory();
+
+    @Setting(value = "chunk-writer-pool", comment = "Writes saved chunks to disk using a pool of threads sharded by region file.")
+    private ChunkWriterCategory chunkWriterCategory = new ChunkWriterCategory();
+
+    @Setting(value = "async-chunk-loading", comment = "Reads the chunks needed by players from disk asynchronously.")
+    private AsyncChunkLoadingCategory asyncChunkLoadingCategory = new AsyncChunkLoadingCategory();
+
     @Setting(value = "eigen-redstone", comment = "Uses theosib's redstone algorithms to completely overhaul the way redstone works.")
     private EigenRedstoneCategory eigenRedstonCategory = new EigenRedstoneCategory();
 
@@ -99,6 +111,14 @@ public class OptimizationCategory extends ConfigCategory {
                                                    + "for more details.")
     private boolean optimizeHoppers = false;
 
+    @Setting(value = "event-driven-hoppers", comment = "If 'true', hoppers that fail to move any items go to sleep until an inventory\n"
+                                                       + "next to them changes, an item entity enters their intake area or a neighboring\n"
+                                                       + "block changes, instead of checking their inventories every tick. Sleeping\n"
+                                                       + "hoppers still check once a second to pick up changes that do not notify them,\n"
+                                                       + "such as those of minecart inventories. Sleeping is disabled while plugins\n"
+                                                       + "listen to pre transfer inventory events.")
+    private boolean eventDrivenHoppers = false;
+
     @Setting(value = "use-active-chunks-for-collisions", comment = "Vanilla performs a lot of is area loaded checks during\n"
                                                                    + "entity collision calculations with blocks, and because\n"
                                                                    + "these calculations require fetching the chunks to see\n"
@@ -111,6 +131,13 @@ public class OptimizationCategory extends ConfigCategory {
                                                                    + "chunks are loaded.")
     private boolean useActiveChunkForCollisions = false;
 
+    @Setting(value = "entity-collision-grid", comment = "If 'true', chunk sections holding many entities keep them in a grid of\n"
+                                                        + "small cells, so that looking up the entities within a bounding box, as\n"
+                                                        + "collisions do, only tests the entities in nearby cells instead of all\n"
+                                                        + "entities of the section. Entities found may be returned in a different\n"
+                                                        + "order than vanilla.")
+    private boolean entityCollisionGrid = false;
+
     @Setting(value = "disable-failing-deserialization-log-spam", comment = "Occasionally, some built in advancements, \n" +
             "recipes, etc. can fail to deserialize properly\n" +
             "which ends up potentially spamming the server log\n" +
@@ -167,6 +194,22 @@ public boolean useAsyncLighting() {
         return this.asyncLightingCategory.isEnabled();
     }
 
+    public AsyncEventCategory getAsyncEventCategory() {
+        return this.asyncEventCategory;
+    }
+
+    public ParallelRandomTickCategory getParallelRandomTickCategory() {
+        return this.parallelRandomTickCategory;
+    }
+
+    public ChunkWriterCategory getChunkWriterCategory() {
+        return this.chunkWriterCategory;
+    }
+
+    public AsyncChunkLoadingCategory getAsyncChunkLoadingCategory() {
+        return this.asyncChunkLoadingCategory;
+    }
+
     public EigenRedstoneCategory getEigenRedstoneCategory() {
         return this.eigenRedstonCategory;
     }
@@ -195,10 +238,18 @@ public boolean isOptimizeHoppers() {
         return this.optimizeHoppers;
     }
 
+    public boolean useEventDrivenHoppers() {
+        return this.eventDrivenHoppers;
+    }
+
     public boolean isUseActiveChunkForCollisions() {
         return this.useActiveChunkForCollisions;
     }
 
+    public boolean useEntityCollisionGrid() {
+        return this.entityCollisionGrid;
+    }
+
     public boolean disableFailingAdvancementDeserialization() {
         return this.disableFailingAdvancementDeserialization;
     }
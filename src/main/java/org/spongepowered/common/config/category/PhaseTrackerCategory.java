@@ -88,6 +88,14 @@ public class PhaseTrackerCategory extends ConfigCategory {
                                                                + "to resolve the runaway. If verbose is enabled, they will always print.")
     private int maxRunawayCount = 3;
 
+    @Setting(value = "lazy-tile-entity-snapshots", comment = "If 'true', block changes that keep the same block and tile entity \n"
+                                                           + "will only reference the tile entity in their captured snapshot, and \n"
+                                                           + "serialize its data once a plugin or a restore actually requests it, \n"
+                                                           + "before the next block change at its position, or once the captured \n"
+                                                           + "changes are processed. This avoids serializing tile entities of chests, \n"
+                                                           + "hoppers and the like on every state change.")
+    private boolean lazyTileEntitySnapshots = false;
+
     public boolean isVerbose() {
         return this.isVerbose;
     }
@@ -169,6 +177,10 @@ public int getMaximumRunawayCount() {
         return this.maxRunawayCount;
     }
 
+    public boolean useLazyTileEntitySnapshots() {
+        return this.lazyTileEntitySnapshots;
+    }
+
     public boolean isReportNullSourceBlocks() {
         return reportNullSourceBlocks;
     }
@@ -0,0 +1,79 @@
+/*
+ * This file is part of Sponge, licensed under the MIT License (MIT).
+ *
+ * Copyright (c) SpongePowered <https://www.spongepowered.org>
+ * Copyright (c) contributors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.spongepowered.common.config.category;
+
+import ninja.leaping.configurate.objectmapping.Setting;
+import ninja.leaping.configurate.objectmapping.serialize.ConfigSerializable;
+
+import java.util.ArrayList;
+import java.util.List;
+
+@ConfigSerializable
+public class TickThrottleCategory extends ConfigCategory {
+
+    @Setting(value = "enabled", comment = "If 'true', far away active entities and the tileentities listed below are ticked\n"
+                                        + "at progressively reduced rates as the mean tick time approaches the tick budget.\n"
+                                        + "Enable the realtime module to have furnaces and brewing stands compensate\n"
+                                        + "for the skipped ticks.")
+    private boolean enabled = false;
+
+    @Setting(value = "start-tick-time", comment = "The mean server tick time, in milliseconds, at which throttling starts. (Default: 40)")
+    private double startTickTime = 40;
+
+    @Setting(value = "max-tick-time", comment = "The mean server tick time, in milliseconds, at which the maximum throttle level\n"
+                                              + "is reached. (Default: 50)")
+    private double maxTickTime = 50;
+
+    @Setting(value = "max-level", comment = "The maximum throttle level. Throttled objects tick once every 2^level ticks. (Default: 3)")
+    private int maxLevel = 3;
+
+    @Setting(value = "tileentities", comment = "The ids of the tileentity types that may be throttled.")
+    private List<String> tileEntities = new ArrayList<>();
+
+    public TickThrottleCategory() {
+        this.tileEntities.add("minecraft:furnace");
+        this.tileEntities.add("minecraft:brewing_stand");
+    }
+
+    public boolean isEnabled() {
+        return this.enabled;
+    }
+
+    public double getStartTickTime() {
+        return this.startTickTime;
+    }
+
+    public double getMaxTickTime() {
+        return this.maxTickTime;
+    }
+
+    public int getMaxLevel() {
+        return this.maxLevel;
+    }
+
+    public List<String> getTileEntities() {
+        return this.tileEntities;
+    }
+}
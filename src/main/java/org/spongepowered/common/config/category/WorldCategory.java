@@ -105,6 +105,19 @@ public class WorldCategory extends ConfigCategory {
     @Setting(value = "weather-ice-and-snow", comment = "If 'true', natural formation of ice and snow in supported biomes will be allowed.")
     private boolean weatherIceAndSnow = true;
 
+    @Setting(value = "chunk-compression", comment = "The compression used to store the chunks of this world in region files, one of\n"
+                                                  + "'zlib', 'gzip', 'lz4' or 'none'. 'lz4' saves and loads chunks several times faster\n"
+                                                  + "than 'zlib' for somewhat larger region files. Chunks are read in whatever compression\n"
+                                                  + "they were stored with, and existing regions can be rewritten with '/sponge recompress'.\n"
+                                                  + "Note that chunks stored with 'none' or 'lz4' can't be read by vanilla servers older\n"
+                                                  + "than 1.15 and 1.20.5 respectively. (Default: zlib)")
+    private String chunkCompression = "zlib";
+
+    @Setting(value = "chunk-compression-level", comment = "The zlib or gzip compression level from 1 (fastest) to 9 (smallest), or -1 for the vanilla\n"
+                                                        + "level. Levels 1 to 3 take much less time to save chunks for slightly larger\n"
+                                                        + "region files. (Default: -1)")
+    private int chunkCompressionLevel = -1;
+
     public static final int USE_SERVER_VIEW_DISTANCE = -1;
     @Setting(
             value = "view-distance",
@@ -219,6 +232,14 @@ public boolean getWeatherIceAndSnow() {
         return this.weatherIceAndSnow;
     }
 
+    public String getChunkCompression() {
+        return this.chunkCompression;
+    }
+
+    public int getChunkCompressionLevel() {
+        return this.chunkCompressionLevel;
+    }
+
     public int getViewDistance() {
         return this.viewDistance;
     }
@@ -33,6 +33,7 @@
 import org.spongepowered.common.config.category.GeneralCategory;
 import org.spongepowered.common.config.category.LoggingCategory;
 import org.spongepowered.common.config.category.SpawnerCategory;
+import org.spongepowered.common.config.category.TickThrottleCategory;
 import org.spongepowered.common.config.category.TileEntityActivationCategory;
 import org.spongepowered.common.config.category.TimingsCategory;
 import org.spongepowered.common.config.category.WorldCategory;
@@ -63,6 +64,8 @@ public class GeneralConfigBase extends ConfigBase {
     private SpawnerCategory spawner = new SpawnerCategory();
     @Setting(value = "tileentity-activation")
     private TileEntityActivationCategory tileEntityActivationCategory = new TileEntityActivationCategory();
+    @Setting(value = "tick-throttle", comment = "Reduces the tick rate of non-critical entities and tileentities under load.")
+    private TickThrottleCategory tickThrottle = new TickThrottleCategory();
     @Setting
     private TimingsCategory timings = new TimingsCategory();
     @Setting(value = "world-generation-modifiers", comment = "World Generation Modifiers to apply to the world")
@@ -108,6 +111,10 @@ public TileEntityActivationCategory getTileEntityActivationRange() {
         return this.tileEntityActivationCategory;
     }
 
+    public TickThrottleCategory getTickThrottle() {
+        return this.tickThrottle;
+    }
+
     public TimingsCategory getTimings() {
         return this.timings;
     }
@@ -30,6 +30,7 @@
 import com.google.common.collect.ImmutableMap;
 import com.google.common.collect.Maps;
 import ninja.leaping.configurate.objectmapping.Setting;
+import org.spongepowered.common.config.category.AsyncSchedulerCategory;
 import org.spongepowered.common.config.category.BrokenModCategory;
 import org.spongepowered.common.config.category.BungeeCordCategory;
 import org.spongepowered.common.config.category.PhaseTrackerCategory;
@@ -100,6 +101,9 @@ public class GlobalConfig extends GeneralConfigBase {
     @Setting(value = "metrics")
     private MetricsCategory metricsCategory = new MetricsCategory();
 
+    @Setting(value = "async-scheduler", comment = "Configuration options related to the execution of asynchronous plugin tasks.")
+    private AsyncSchedulerCategory asyncScheduler = new AsyncSchedulerCategory();
+
     public GlobalConfig() {
         super();
     }
@@ -173,6 +177,10 @@ public MovementChecksCategory getMovementChecks() {
         return this.movementChecks;
     }
 
+    public AsyncSchedulerCategory getAsyncScheduler() {
+        return this.asyncScheduler;
+    }
+
     public MetricsCategory getMetricsCategory() {
         return this.metricsCategory;
     }
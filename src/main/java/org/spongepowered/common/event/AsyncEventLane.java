@@ -0,0 +1,138 @@
+/*
+ * This file is part of Sponge, licensed under the MIT License (MIT).
+ *
+ * Copyright (c) SpongePowered <https://www.spongepowered.org>
+ * Copyright (c) contributors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.spongepowered.common.event;
+
+import com.google.common.util.concurrent.ThreadFactoryBuilder;
+import org.apache.logging.log4j.Logger;
+import org.spongepowered.api.event.Event;
+import org.spongepowered.common.config.category.AsyncEventCategory;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.function.BiConsumer;
+
+import javax.annotation.Nullable;
+
+/**
+ * A lane of worker threads running the {@link org.spongepowered.api.event.Order#POST}
+ * listeners of thread safe events, once every other listener has been run on the
+ * posting thread.
+ *
+ * <p>Every event type is always handled by the same worker, so listeners see
+ * the events of a type in the order they were posted and the listeners of a
+ * single event are still called in order. When the queue of a worker is full,
+ * the posting thread waits until there is room again, so a worker stays the
+ * only thread running the listeners of its events.</p>
+ */
+final class AsyncEventLane {
+
+    private final List<Class<?>> eventTypes = new ArrayList<>();
+    private final Worker[] workers;
+    private final BiConsumer<Event, RegisteredListener<?>[]> poster;
+
+    AsyncEventLane(AsyncEventCategory category, Logger logger, BiConsumer<Event, RegisteredListener<?>[]> poster) {
+        this.poster = poster;
+        for (String name : category.getEventTypes()) {
+            try {
+                final Class<?> type = Class.forName(name, false, AsyncEventLane.class.getClassLoader());
+                if (!Event.class.isAssignableFrom(type)) {
+                    logger.warn("Ignoring asynchronous event type {} as it is not an event", name);
+                    continue;
+                }
+                this.eventTypes.add(type);
+            } catch (ClassNotFoundException e) {
+                logger.warn("Ignoring unknown asynchronous event type {}", name);
+            }
+        }
+        final ThreadFactory threadFactory = new ThreadFactoryBuilder()
+                .setNameFormat("Sponge - Async Event Thread #%d")
+                .setDaemon(true)
+                .build();
+        this.workers = new Worker[Math.max(1, category.getNumThreads())];
+        for (int i = 0; i < this.workers.length; i++) {
+            this.workers[i] = new Worker(Math.max(1, category.getQueueSize()), threadFactory);
+        }
+    }
+
+    boolean accepts(Class<?> eventClass) {
+        for (Class<?> type : this.eventTypes) {
+            if (type.isAssignableFrom(eventClass)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    void dispatch(Event event, RegisteredListener<?>[] listeners) {
+        final int hash = event.getClass().hashCode();
+        final Worker worker = this.workers[((hash ^ (hash >>> 16)) & Integer.MAX_VALUE) % this.workers.length];
+        worker.execute(() -> this.poster.accept(event, listeners));
+    }
+
+    private static final class Worker extends ThreadPoolExecutor {
+
+        @Nullable private volatile Thread thread;
+
+        Worker(int queueSize, ThreadFactory threadFactory) {
+            super(1, 1, 0L, TimeUnit.MILLISECONDS, new ArrayBlockingQueue<>(queueSize), threadFactory, Worker::waitForRoom);
+        }
+
+        @Override
+        protected void beforeExecute(Thread thread, Runnable task) {
+            this.thread = thread;
+        }
+
+        private static void waitForRoom(Runnable task, ThreadPoolExecutor executor) {
+            if (executor.isShutdown()) {
+                throw new RejectedExecutionException("The asynchronous event lane has been shut down");
+            }
+            final BlockingQueue<Runnable> queue = executor.getQueue();
+            if (Thread.currentThread() == ((Worker) executor).thread) {
+                // A listener of this worker posted another event, waiting would never end.
+                // The worker is the only consumer of its queue, so it can catch up on the
+                // queued events itself without breaking their order.
+                Runnable queued;
+                while ((queued = queue.poll()) != null) {
+                    queued.run();
+                }
+                task.run();
+                return;
+            }
+            try {
+                queue.put(task);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw new RejectedExecutionException("Interrupted while waiting for the asynchronous event lane", e);
+            }
+        }
+    }
+
+}
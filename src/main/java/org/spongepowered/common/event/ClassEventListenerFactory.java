@@ -40,6 +40,7 @@
 import static org.objectweb.asm.Opcodes.GETFIELD;
 import static org.objectweb.asm.Opcodes.GETSTATIC;
 import static org.objectweb.asm.Opcodes.IFNULL;
+import static org.objectweb.asm.Opcodes.ILOAD;
 import static org.objectweb.asm.Opcodes.INVOKEINTERFACE;
 import static org.objectweb.asm.Opcodes.INVOKESPECIAL;
 import static org.objectweb.asm.Opcodes.INVOKEVIRTUAL;
@@ -60,6 +61,8 @@
 import org.spongepowered.api.util.generator.GeneratorUtils;
 import org.spongepowered.common.event.filter.EventFilter;
 import org.spongepowered.common.event.filter.FilterFactory;
+import org.spongepowered.common.event.filter.FilterGenerator;
+import org.spongepowered.common.event.filter.VoidFilterMethodVisitor;
 import org.spongepowered.common.event.gen.DefineableClassLoader;
 
 import java.lang.reflect.Method;
@@ -67,6 +70,15 @@
 
 public final class ClassEventListenerFactory implements AnnotatedEventListener.Factory {
 
+    /**
+     * Whether the filter logic of listeners should be inlined into the
+     * generated listener class instead of being generated as a separate
+     * {@link EventFilter} class which returns the listener arguments as an
+     * array. This results in a single generated class and a single virtual
+     * call per listener.
+     */
+    public static final boolean INLINE_FILTERS = Boolean.parseBoolean(System.getProperty("sponge.filter.inline", "false"));
+
     private final AtomicInteger id = new AtomicInteger();
     private final DefineableClassLoader classLoader;
     private final LoadingCache<Method, Class<? extends AnnotatedEventListener>> cache = CacheBuilder.newBuilder()
@@ -82,13 +94,19 @@ public Class<? extends AnnotatedEventListener> load(Method method) throws Except
     private FilterFactory filterFactory;
 
     private final String targetPackage;
+    private final boolean inlineFilters;
 
     public ClassEventListenerFactory(String targetPackage, FilterFactory factory, DefineableClassLoader classLoader) {
+        this(targetPackage, factory, classLoader, INLINE_FILTERS);
+    }
+
+    public ClassEventListenerFactory(String targetPackage, FilterFactory factory, DefineableClassLoader classLoader, boolean inlineFilters) {
         checkNotNull(targetPackage, "targetPackage");
         checkArgument(!targetPackage.isEmpty(), "targetPackage cannot be empty");
         this.targetPackage = targetPackage + '.';
         this.filterFactory = checkNotNull(factory, "filterFactory");
         this.classLoader = checkNotNull(classLoader, "classLoader");
+        this.inlineFilters = inlineFilters;
     }
 
     @Override
@@ -103,6 +121,9 @@ Class<? extends AnnotatedEventListener> createClass(Method method) throws Except
         Class<?> eventClass = method.getParameterTypes()[0];
         String name = this.targetPackage + eventClass.getSimpleName() + "Listener_" + handle.getSimpleName() + '_' + method.getName()
                 + this.id.incrementAndGet();
+        if (this.inlineFilters) {
+            return this.classLoader.defineClass(name, generateInlinedClass(name, handle, method, eventClass));
+        }
         Class<? extends EventFilter> filter = this.filterFactory.createFilter(method);
 
         if (filter == null && method.getParameterCount() != 1) {
@@ -192,6 +213,58 @@ private static byte[] generateClass(String name, Class<?> handle, Method method,
         return cw.toByteArray();
     }
 
+    private static byte[] generateInlinedClass(String name, Class<?> handle, Method method, Class<?> eventClass) {
+        name = name.replace('.', '/');
+        final String handleName = Type.getInternalName(handle);
+        final String handleDescriptor = Type.getDescriptor(handle);
+        final String eventName = Type.getInternalName(eventClass);
+        final Class<?>[] parameters = method.getParameterTypes();
+        final FilterGenerator.FilterWriter filter = FilterGenerator.getInstance().createWriter(method);
+
+        ClassWriter cw = new ClassWriter(ClassWriter.COMPUTE_FRAMES | ClassWriter.COMPUTE_MAXS);
+        MethodVisitor mv;
+
+        cw.visit(V1_6, ACC_PUBLIC + ACC_FINAL + ACC_SUPER, name, null, BASE_HANDLER, null);
+        filter.writeFields(cw);
+        {
+            mv = cw.visitMethod(ACC_PUBLIC, "<init>", '(' + handleDescriptor + ")V", null, null);
+            mv.visitCode();
+            mv.visitVarInsn(ALOAD, 0);
+            mv.visitVarInsn(ALOAD, 1);
+            mv.visitMethodInsn(INVOKESPECIAL, BASE_HANDLER, "<init>", "(Ljava/lang/Object;)V", false);
+            filter.writeCtor(name, cw, mv);
+            mv.visitInsn(RETURN);
+            mv.visitMaxs(0, 0);
+            mv.visitEnd();
+        }
+        {
+            // The filter rejects by returning early, so everything after it is the accepted path
+            mv = new VoidFilterMethodVisitor(cw.visitMethod(ACC_PUBLIC, "handle", HANDLE_METHOD_DESCRIPTOR, null,
+                    new String[] { "java/lang/Exception" }));
+            mv.visitCode();
+            final int[] plocals = filter.writeFilter(name, cw, mv, method);
+            mv.visitVarInsn(ALOAD, 0);
+            mv.visitFieldInsn(GETFIELD, name, "handle", "Ljava/lang/Object;");
+            mv.visitTypeInsn(CHECKCAST, handleName);
+            mv.visitVarInsn(ALOAD, 1);
+            mv.visitTypeInsn(CHECKCAST, eventName);
+            for (int i = 1; i < parameters.length; i++) {
+                final Type paramType = Type.getType(parameters[i]);
+                mv.visitVarInsn(paramType.getOpcode(ILOAD), plocals[i - 1]);
+                if (paramType.getSort() == Type.OBJECT || paramType.getSort() == Type.ARRAY) {
+                    mv.visitTypeInsn(CHECKCAST, paramType.getInternalName());
+                }
+            }
+            mv.visitMethodInsn(INVOKEVIRTUAL, handleName, method.getName(), Type.getMethodDescriptor(method), false);
+            mv.visitInsn(RETURN);
+            mv.visitMaxs(0, 0);
+            mv.visitEnd();
+        }
+        cw.visitEnd();
+
+        return cw.toByteArray();
+    }
+
     private static byte[] generateClass(String name, Class<?> handle, Method method, Class<?> eventClass) {
         name = name.replace('.', '/');
         final String handleName = Type.getInternalName(handle);
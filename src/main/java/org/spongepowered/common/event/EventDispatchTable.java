@@ -0,0 +1,101 @@
+/*
+ * This file is part of Sponge, licensed under the MIT License (MIT).
+ *
+ * Copyright (c) SpongePowered <https://www.spongepowered.org>
+ * Copyright (c) contributors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.spongepowered.common.event;
+
+import org.spongepowered.api.event.Event;
+
+import java.util.Arrays;
+import java.util.function.Function;
+
+/**
+ * A dispatch table for non generic events. Every event class that is posted
+ * is assigned a dense integer id, and the baked {@link RegisteredListener.Cache}
+ * for that class is stored in an array indexed by that id.
+ *
+ * <p>The table is copy-on-write: a lookup is a {@link ClassValue} read
+ * followed by a volatile array read, while misses and registration changes
+ * publish a new array. Posting never hashes the event class nor takes
+ * the event manager lock once the event class has been seen.</p>
+ *
+ * <p>Registration changes swap in an empty array, so that the snapshots
+ * are only rebaked for the event classes that are posted afterwards.</p>
+ */
+final class EventDispatchTable {
+
+    private static final RegisteredListener.Cache[] EMPTY_TABLE = new RegisteredListener.Cache[0];
+
+    private final Function<Class<? extends Event>, RegisteredListener.Cache> baker;
+    private final ClassValue<Integer> ids = new ClassValue<Integer>() {
+        @Override
+        protected Integer computeValue(Class<?> type) {
+            return EventDispatchTable.this.nextId(type);
+        }
+    };
+
+    private volatile RegisteredListener.Cache[] table = EMPTY_TABLE;
+    // Only accessed while holding the monitor of this table
+    private int size;
+
+    EventDispatchTable(Function<Class<? extends Event>, RegisteredListener.Cache> baker) {
+        this.baker = baker;
+    }
+
+    private synchronized int nextId(Class<?> type) {
+        return this.size++;
+    }
+
+    RegisteredListener.Cache get(Class<? extends Event> eventClass) {
+        final int id = this.ids.get(eventClass);
+        final RegisteredListener.Cache[] table = this.table;
+        if (id < table.length) {
+            final RegisteredListener.Cache cache = table[id];
+            if (cache != null) {
+                return cache;
+            }
+        }
+        return this.bake(eventClass, id);
+    }
+
+    private synchronized RegisteredListener.Cache bake(Class<? extends Event> eventClass, int id) {
+        RegisteredListener.Cache[] table = this.table;
+        if (id < table.length && table[id] != null) {
+            return table[id];
+        }
+        final RegisteredListener.Cache cache = this.baker.apply(eventClass);
+        table = Arrays.copyOf(table, Math.max(table.length, id + 1));
+        table[id] = cache;
+        this.table = table;
+        return cache;
+    }
+
+    /**
+     * Discards every baked snapshot, they are rebaked on their next lookup.
+     * Called after listeners are registered or removed.
+     */
+    synchronized void invalidate() {
+        this.table = EMPTY_TABLE;
+    }
+
+}
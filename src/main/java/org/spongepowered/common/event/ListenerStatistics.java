@@ -0,0 +1,191 @@
+/*
+ * This file is part of Sponge, licensed under the MIT License (MIT).
+ *
+ * Copyright (c) SpongePowered <https://www.spongepowered.org>
+ * Copyright (c) contributors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.spongepowered.common.event;
+
+import java.lang.management.ManagementFactory;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+import javax.annotation.Nullable;
+
+/**
+ * Invocation statistics of a single {@link RegisteredListener}. Latencies
+ * are recorded in a histogram of power of two nanosecond buckets, which is
+ * precise enough to tell a slow listener apart while keeping recording to a
+ * couple of atomic increments.
+ *
+ * <p>Only one in a configurable number of invocations is measured, every
+ * sample is weighted by that rate so the totals are estimates of the real
+ * counts.</p>
+ */
+public final class ListenerStatistics {
+
+    private static final int BUCKETS = 64;
+    @Nullable private static final AllocationCounter ALLOCATION_COUNTER;
+
+    static {
+        AllocationCounter counter;
+        try {
+            counter = AllocationCounter.create();
+        } catch (LinkageError e) {
+            // The runtime has no com.sun.management extension to link against
+            counter = null;
+        }
+        ALLOCATION_COUNTER = counter;
+    }
+
+    /**
+     * Gets the amount of bytes allocated so far by the current thread.
+     *
+     * @return The allocated bytes, or -1 if the runtime does not support
+     *     measuring thread allocations
+     */
+    static long getCurrentThreadAllocatedBytes() {
+        if (ALLOCATION_COUNTER == null) {
+            return -1;
+        }
+        return ALLOCATION_COUNTER.getCurrentThreadAllocatedBytes();
+    }
+
+    // Racy on purpose, a lost update only shifts which invocation is sampled
+    private int sampleCountdown;
+
+    private final AtomicLong invocations = new AtomicLong();
+    private final AtomicLong totalNanos = new AtomicLong();
+    private final AtomicLong allocatedBytes = new AtomicLong();
+    private final AtomicLongArray histogram = new AtomicLongArray(BUCKETS);
+
+    /**
+     * Gets whether the next invocation should be measured.
+     *
+     * @param sampleRate One in how many invocations is measured
+     * @return True if the invocation should be measured and recorded
+     */
+    boolean shouldSample(int sampleRate) {
+        if (--this.sampleCountdown > 0) {
+            return false;
+        }
+        this.sampleCountdown = sampleRate;
+        return true;
+    }
+
+    void record(long nanos, long allocatedBytes, int weight) {
+        this.invocations.addAndGet(weight);
+        this.totalNanos.addAndGet(nanos * weight);
+        if (allocatedBytes > 0) {
+            this.allocatedBytes.addAndGet(allocatedBytes * weight);
+        }
+        this.histogram.addAndGet(BUCKETS - 1 - Long.numberOfLeadingZeros(Math.max(nanos, 1)), weight);
+    }
+
+    public long getInvocations() {
+        return this.invocations.get();
+    }
+
+    public long getTotalNanos() {
+        return this.totalNanos.get();
+    }
+
+    public long getAllocatedBytes() {
+        return this.allocatedBytes.get();
+    }
+
+    /**
+     * Gets an upper bound of the latency below which the given fraction of
+     * invocations completed.
+     *
+     * @param percentile The percentile, between 0 and 1
+     * @return The latency in nanoseconds, or 0 if there were no invocations
+     */
+    public long getPercentileNanos(double percentile) {
+        final long[] counts = new long[BUCKETS];
+        long total = 0;
+        for (int i = 0; i < BUCKETS; i++) {
+            counts[i] = this.histogram.get(i);
+            total += counts[i];
+        }
+        if (total == 0) {
+            return 0;
+        }
+        final long target = (long) Math.ceil(total * percentile);
+        long seen = 0;
+        for (int i = 0; i < BUCKETS - 1; i++) {
+            seen += counts[i];
+            if (seen >= target) {
+                return (2L << i) - 1;
+            }
+        }
+        return Long.MAX_VALUE;
+    }
+
+    public void reset() {
+        this.invocations.set(0);
+        this.totalNanos.set(0);
+        this.allocatedBytes.set(0);
+        for (int i = 0; i < BUCKETS; i++) {
+            this.histogram.set(i, 0);
+        }
+    }
+
+    /**
+     * Reads the allocated bytes of the current thread through the
+     * {@code com.sun.management} extension of the thread bean. It is kept in
+     * its own class so that runtimes without that extension never have to
+     * link it.
+     */
+    private static final class AllocationCounter {
+
+        private final com.sun.management.ThreadMXBean bean;
+
+        private AllocationCounter(com.sun.management.ThreadMXBean bean) {
+            this.bean = bean;
+        }
+
+        long getCurrentThreadAllocatedBytes() {
+            return this.bean.getThreadAllocatedBytes(Thread.currentThread().getId());
+        }
+
+        @Nullable
+        static AllocationCounter create() {
+            try {
+                final java.lang.management.ThreadMXBean bean = ManagementFactory.getThreadMXBean();
+                if (!(bean instanceof com.sun.management.ThreadMXBean)) {
+                    return null;
+                }
+                final com.sun.management.ThreadMXBean allocationBean = (com.sun.management.ThreadMXBean) bean;
+                if (!allocationBean.isThreadAllocatedMemorySupported() || !allocationBean.isThreadAllocatedMemoryEnabled()) {
+                    return null;
+                }
+                final AllocationCounter counter = new AllocationCounter(allocationBean);
+                // Probe once, so an unsupported call fails here and not during event dispatch
+                counter.getCurrentThreadAllocatedBytes();
+                return counter;
+            } catch (LinkageError | RuntimeException e) {
+                return null;
+            }
+        }
+    }
+
+}
@@ -48,6 +48,7 @@
     private final EventListener<? super T> listener;
 
     private final boolean beforeModifications;
+    private final ListenerStatistics statistics = new ListenerStatistics();
     private Timing listenerTimer;
 
     RegisteredListener(PluginContainer plugin, EventType<T> eventType, Order order, EventListener<? super T> listener, boolean beforeModifications) {
@@ -74,6 +75,10 @@ public boolean isBeforeModifications() {
         return this.beforeModifications;
     }
 
+    public ListenerStatistics getStatistics() {
+        return this.statistics;
+    }
+
     public Timing getTimingsHandler() {
         if (this.listenerTimer == null) {
             this.listenerTimer = SpongeTimings.getPluginTimings(this.plugin, getHandle().getClass().getSimpleName());
@@ -103,12 +108,26 @@ public int compareTo(RegisteredListener<?> handler) {
     public static final class Cache {
 
         private final List<RegisteredListener<?>> listeners;
+        private final RegisteredListener<?>[] listenerArray;
+        private final RegisteredListener<?>[] deferredListenerArray;
         private final EnumMap<Order, List<RegisteredListener<?>>> listenersByOrder;
 
         private static final Order[] ORDERS = Order.values();
+        private static final RegisteredListener<?>[] NO_LISTENERS = new RegisteredListener<?>[0];
 
         Cache(List<RegisteredListener<?>> listeners) {
+            this(listeners, false);
+        }
+
+        Cache(List<RegisteredListener<?>> listeners, boolean deferPostListeners) {
             this.listeners = listeners;
+            if (deferPostListeners) {
+                this.listenerArray = listeners.stream().filter(l -> l.getOrder() != Order.POST).toArray(RegisteredListener<?>[]::new);
+                this.deferredListenerArray = listeners.stream().filter(l -> l.getOrder() == Order.POST).toArray(RegisteredListener<?>[]::new);
+            } else {
+                this.listenerArray = listeners.toArray(new RegisteredListener<?>[0]);
+                this.deferredListenerArray = NO_LISTENERS;
+            }
 
             this.listenersByOrder = Maps.newEnumMap(Order.class);
             for (Order order : ORDERS) {
@@ -123,6 +142,28 @@ public List<RegisteredListener<?>> getListeners() {
             return this.listeners;
         }
 
+        /**
+         * Gets the listeners to be called on the posting thread as a flat
+         * array, in posting order. The returned array is shared and must not
+         * be modified.
+         *
+         * @return The listeners
+         */
+        RegisteredListener<?>[] getListenerArray() {
+            return this.listenerArray;
+        }
+
+        /**
+         * Gets the {@link Order#POST} listeners which are handed to the
+         * {@link AsyncEventLane} after the other listeners have been called.
+         *
+         * @return The deferred listeners, empty if the event is not posted
+         *     through the async lane
+         */
+        RegisteredListener<?>[] getDeferredListenerArray() {
+            return this.deferredListenerArray;
+        }
+
         public List<RegisteredListener<?>> getListenersByOrder(Order order) {
             return this.listenersByOrder.get(checkNotNull(order, "order"));
         }
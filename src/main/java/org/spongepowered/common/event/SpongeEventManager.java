@@ -60,6 +60,8 @@
 import org.spongepowered.common.event.tracking.PhaseTracker;
 import org.spongepowered.common.event.tracking.phase.plugin.PluginPhase;
 import org.spongepowered.common.bridge.inventory.ContainerBridge;
+import org.spongepowered.common.config.category.AsyncEventCategory;
+import org.spongepowered.common.config.type.GlobalConfig;
 import org.spongepowered.common.item.inventory.custom.CustomInventory;
 import org.spongepowered.common.item.inventory.custom.CustomInventoryListener;
 import org.spongepowered.common.util.TypeTokenHelper;
@@ -79,7 +81,6 @@
 import java.util.Set;
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.function.Predicate;
-import java.util.stream.Collectors;
 
 import javax.annotation.Nullable;
 import javax.inject.Inject;
@@ -107,6 +108,19 @@ public class SpongeEventManager implements EventManager {
     protected final LoadingCache<EventType<?>, RegisteredListener.Cache> handlersCache =
             Caffeine.newBuilder().initialCapacity(150).build(this::bakeHandlers);
 
+    /**
+     * The id indexed dispatch table used for all non generic events, these
+     * make up the vast majority of posted events. {@link GenericEvent}s still
+     * go through the {@link #handlersCache} since their listeners depend on
+     * the generic type of the event instance.
+     */
+    private final EventDispatchTable dispatchTable = new EventDispatchTable(type -> this.bakeHandlers(new EventType<>(type)));
+
+    @Nullable private AsyncEventLane asyncLane;
+    private boolean recordStatistics;
+    private int statisticsSampleRate = 1;
+    private volatile boolean configInitialized;
+
     @Inject
     public SpongeEventManager(Logger logger, PluginManager pluginManager) {
         this.logger = logger;
@@ -162,7 +176,30 @@ <T extends Event> RegisteredListener.Cache bakeHandlers(EventType<T> eventType)
         }
 
         Collections.sort(handlers);
-        return new RegisteredListener.Cache(handlers);
+        this.initConfig();
+        return new RegisteredListener.Cache(handlers, this.asyncLane != null && this.asyncLane.accepts(eventType.getType()));
+    }
+
+    /**
+     * Reads the event related settings of the global config. This happens
+     * when the first listener cache is baked, as the event manager is
+     * created before the config can be loaded.
+     */
+    private void initConfig() {
+        if (!this.configInitialized && SpongeImpl.isInitialized()) {
+            synchronized (this.lock) {
+                if (!this.configInitialized) {
+                    final GlobalConfig config = SpongeImpl.getGlobalConfigAdapter().getConfig();
+                    final AsyncEventCategory category = config.getOptimizations().getAsyncEventCategory();
+                    if (category.isEnabled()) {
+                        this.asyncLane = new AsyncEventLane(category, this.logger, this::post);
+                    }
+                    this.recordStatistics = config.getDebug().recordListenerStatistics();
+                    this.statisticsSampleRate = config.getDebug().getListenerStatisticsSampleRate();
+                    this.configInitialized = true;
+                }
+            }
+        }
     }
 
     @Nullable
@@ -214,6 +251,7 @@ private void register(List<RegisteredListener<? extends Event>> handlers) {
 
         if (changed) {
             this.handlersCache.invalidateAll();
+            this.dispatchTable.invalidate();
         }
     }
 
@@ -364,6 +402,7 @@ private void unregister(Predicate<RegisteredListener<?>> unregister) {
 
         if (changed) {
             this.handlersCache.invalidateAll();
+            this.dispatchTable.invalidate();
         }
     }
 
@@ -388,17 +427,14 @@ public void unregisterPluginListeners(Object pluginObj) {
     protected RegisteredListener.Cache getHandlerCache(Event event) {
         checkNotNull(event, "event");
         final Class<? extends Event> eventClass = event.getClass();
-        final EventType<? extends Event> eventType;
-        if (event instanceof GenericEvent) {
-            eventType = new EventType(eventClass, checkNotNull(((GenericEvent) event).getGenericType()));
-        } else {
-            eventType = new EventType(eventClass, null);
+        if (!(event instanceof GenericEvent)) {
+            return this.dispatchTable.get(eventClass);
         }
-        return this.handlersCache.get(eventType);
+        return this.handlersCache.get(new EventType(eventClass, checkNotNull(((GenericEvent) event).getGenericType())));
     }
 
     @SuppressWarnings("unchecked")
-    private boolean post(Event event, List<RegisteredListener<?>> handlers) {
+    private boolean post(Event event, RegisteredListener<?>[] handlers) {
         if (!Sponge.getServer().isMainThread()) {
             // If this event is being posted asynchronously then we don't want
             // to do any timing or cause stack changes
@@ -407,7 +443,7 @@ private boolean post(Event event, List<RegisteredListener<?>> handlers) {
                     if (event instanceof AbstractEvent) {
                         ((AbstractEvent) event).currentOrder = handler.getOrder();
                     }
-                    handler.handle(event);
+                    this.handle(handler, event);
                 } catch (Throwable e) {
                     SpongeImpl.getLogger().error("Could not pass {} to {}", event.getClass().getSimpleName(), handler.getPlugin(), e);
                 }
@@ -430,7 +466,7 @@ private boolean post(Event event, List<RegisteredListener<?>> handlers) {
                 if (event instanceof AbstractEvent) {
                     ((AbstractEvent) event).currentOrder = handler.getOrder();
                 }
-                handler.handle(event);
+                this.handle(handler, event);
             } catch (Throwable e) {
                 // TODO - add some better handling, especially since we have the stakc frame and phase context to boot
                 final PrettyPrinter printer = new PrettyPrinter(60).add("Error with event listener handling").centre().hr();
@@ -444,6 +480,39 @@ private boolean post(Event event, List<RegisteredListener<?>> handlers) {
         return event instanceof Cancellable && ((Cancellable) event).isCancelled();
     }
 
+    @SuppressWarnings({"unchecked", "rawtypes"})
+    private void handle(RegisteredListener handler, Event event) throws Exception {
+        if (!this.recordStatistics) {
+            handler.handle(event);
+            return;
+        }
+        final ListenerStatistics statistics = handler.getStatistics();
+        final int sampleRate = this.statisticsSampleRate;
+        if (!statistics.shouldSample(sampleRate)) {
+            handler.handle(event);
+            return;
+        }
+        final long allocated = ListenerStatistics.getCurrentThreadAllocatedBytes();
+        final long start = System.nanoTime();
+        try {
+            handler.handle(event);
+        } finally {
+            final long nanos = System.nanoTime() - start;
+            statistics.record(nanos, allocated == -1 ? 0 : ListenerStatistics.getCurrentThreadAllocatedBytes() - allocated, sampleRate);
+        }
+    }
+
+    /**
+     * Gets a snapshot of all the currently registered listeners.
+     *
+     * @return The registered listeners
+     */
+    public List<RegisteredListener<?>> getRegisteredListeners() {
+        synchronized (this.lock) {
+            return new ArrayList<>(this.handlersByEvent.values());
+        }
+    }
+
     @Nullable
     private EventListenerPhaseContext createPluginContext(RegisteredListener<?> handler) {
         if (PhaseTracker.getInstance().getCurrentState().allowsEventListener()) {
@@ -475,12 +544,19 @@ public boolean postServer(Event event) {
     }
 
     public boolean post(Event event, boolean allowClientThread) {
-        return post(event, getHandlerCache(event).getListeners());
+        final RegisteredListener.Cache cache = getHandlerCache(event);
+        final boolean cancelled = post(event, cache.getListenerArray());
+        final RegisteredListener<?>[] deferred = cache.getDeferredListenerArray();
+        if (deferred.length != 0) {
+            // The async lane is only set up when there are deferred listeners
+            this.asyncLane.dispatch(event, deferred);
+        }
+        return cancelled;
     }
 
     public boolean post(Event event, PluginContainer plugin) {
         return post(event, getHandlerCache(event).getListeners().stream()
                 .filter(l -> l.getPlugin().equals(plugin))
-                .collect(Collectors.toList()));
+                .toArray(RegisteredListener<?>[]::new));
     }
 }
@@ -86,6 +86,8 @@
 import java.lang.reflect.Parameter;
 import java.util.List;
 
+import javax.annotation.Nullable;
+
 public class FilterGenerator {
 
     public static final boolean FILTER_DEBUG = Boolean.parseBoolean(System.getProperty("sponge.filter.debug", "false"));
@@ -106,42 +108,14 @@ public byte[] generateClass(String name, Method method) {
 
         cw.visit(V1_6, ACC_PUBLIC + ACC_FINAL + ACC_SUPER, name, null, "java/lang/Object", new String[] { Type.getInternalName(EventFilter.class) });
 
-        SubtypeFilterDelegate sfilter = null;
-        List<FilterDelegate> additional = Lists.newArrayList();
-        boolean cancellation = false;
-        for (Annotation anno : method.getAnnotations()) {
-            Object obj = filterFromAnnotation(anno.annotationType());
-            if (obj == null) {
-                continue;
-            }
-            if (obj instanceof SubtypeFilter) {
-                if (sfilter != null) {
-                    throw new IllegalStateException("Cannot have both @Include and @Exclude annotations present at once");
-                }
-                sfilter = ((SubtypeFilter) obj).getDelegate(anno);
-            } else if (obj instanceof EventTypeFilter) {
-                EventTypeFilter etf = (EventTypeFilter) obj;
-                additional.add(etf.getDelegate(anno));
-                if (etf == EventTypeFilter.CANCELLATION) {
-                    cancellation = true;
-                }
-            }
-        }
-        if (!cancellation && Cancellable.class.isAssignableFrom(method.getParameterTypes()[0])) {
-            additional.add(new CancellationEventFilterDelegate(Tristate.FALSE));
-        }
-
-        if (sfilter != null) {
-            sfilter.createFields(cw);
-        }
+        final FilterWriter filter = createWriter(method);
+        filter.writeFields(cw);
         {
             mv = cw.visitMethod(ACC_PUBLIC, "<init>", "()V", null, null);
             mv.visitCode();
             mv.visitVarInsn(ALOAD, 0);
             mv.visitMethodInsn(INVOKESPECIAL, "java/lang/Object", "<init>", "()V", false);
-            if (sfilter != null) {
-                sfilter.writeCtor(name, cw, mv);
-            }
+            filter.writeCtor(name, cw, mv);
             mv.visitInsn(RETURN);
             mv.visitMaxs(0, 0);
             mv.visitEnd();
@@ -149,51 +123,7 @@ public byte[] generateClass(String name, Method method) {
         {
             mv = cw.visitMethod(ACC_PUBLIC, "filter", "(" + Type.getDescriptor(Event.class) + ")[Ljava/lang/Object;", null, null);
             mv.visitCode();
-            // index of the next available local variable
-            int local = 2;
-            if (sfilter != null) {
-                local = sfilter.write(name, cw, mv, method, local);
-            }
-            for (FilterDelegate eventFilter : additional) {
-                local = eventFilter.write(name, cw, mv, method, local);
-            }
-
-            // local var indices of the parameters values
-            int[] plocals = new int[params.length - 1];
-            for (int i = 1; i < params.length; i++) {
-                Parameter param = params[i];
-                ParameterFilterSourceDelegate source = null;
-                List<ParameterFilterDelegate> paramFilters = Lists.newArrayList();
-                for (Annotation anno : param.getAnnotations()) {
-                    Object obj = filterFromAnnotation(anno.annotationType());
-                    if (obj == null) {
-                        continue;
-                    }
-                    if (obj instanceof ParameterSource) {
-                        if (source != null) {
-                            throw new IllegalStateException("Cannot have multiple parameter filter source annotations (for " + param.getName() + ")");
-                        }
-                        source = ((ParameterSource) obj).getDelegate(anno);
-                    } else if (obj instanceof ParameterFilter) {
-                        paramFilters.add(((ParameterFilter) obj).getDelegate(anno));
-                    }
-                }
-                if (source == null) {
-                    throw new IllegalStateException("Cannot have additional parameters filters without a source (for " + param.getName() + ")");
-                }
-                if (source instanceof AllCauseFilterSourceDelegate && !paramFilters.isEmpty()) {
-                    // TODO until better handling for filtering arrays is added
-                    throw new IllegalStateException(
-                            "Cannot have additional parameters filters without an array source (for " + param.getName() + ")");
-                }
-                Tuple<Integer, Integer> localState = source.write(cw, mv, method, param, local);
-                local = localState.getFirst();
-                plocals[i - 1] = localState.getSecond();
-
-                for (ParameterFilterDelegate paramFilter : paramFilters) {
-                    paramFilter.write(cw, mv, method, param, plocals[i - 1]);
-                }
-            }
+            int[] plocals = filter.writeFilter(name, cw, mv, method);
 
             // create the return array
             if (params.length == 1) {
@@ -239,6 +169,42 @@ public byte[] generateClass(String name, Method method) {
         return data;
     }
 
+    /**
+     * Creates a {@link FilterWriter} for the given listener method, which can
+     * write the filter logic of the method either into a standalone
+     * {@link EventFilter} or inline into a generated event listener.
+     *
+     * @param method The listener method
+     * @return The filter writer
+     */
+    public FilterWriter createWriter(Method method) {
+        SubtypeFilterDelegate sfilter = null;
+        List<FilterDelegate> additional = Lists.newArrayList();
+        boolean cancellation = false;
+        for (Annotation anno : method.getAnnotations()) {
+            Object obj = filterFromAnnotation(anno.annotationType());
+            if (obj == null) {
+                continue;
+            }
+            if (obj instanceof SubtypeFilter) {
+                if (sfilter != null) {
+                    throw new IllegalStateException("Cannot have both @Include and @Exclude annotations present at once");
+                }
+                sfilter = ((SubtypeFilter) obj).getDelegate(anno);
+            } else if (obj instanceof EventTypeFilter) {
+                EventTypeFilter etf = (EventTypeFilter) obj;
+                additional.add(etf.getDelegate(anno));
+                if (etf == EventTypeFilter.CANCELLATION) {
+                    cancellation = true;
+                }
+            }
+        }
+        if (!cancellation && Cancellable.class.isAssignableFrom(method.getParameterTypes()[0])) {
+            additional.add(new CancellationEventFilterDelegate(Tristate.FALSE));
+        }
+        return new FilterWriter(sfilter, additional);
+    }
+
     private static Object filterFromAnnotation(Class<? extends Annotation> cls) {
         Object filter;
         if ((filter = SubtypeFilter.valueOf(cls)) != null)
@@ -391,6 +357,92 @@ public static ParameterFilter valueOf(Class<? extends Annotation> cls) {
         }
     }
 
+    /**
+     * Writes the filtering logic of a single listener method. Every rejecting
+     * branch is written as {@code return null}, callers writing into a method
+     * that does not return a value should wrap their visitor with a
+     * {@link VoidFilterMethodVisitor}.
+     */
+    public static final class FilterWriter {
+
+        @Nullable private final SubtypeFilterDelegate sfilter;
+        private final List<FilterDelegate> additional;
+
+        FilterWriter(@Nullable SubtypeFilterDelegate sfilter, List<FilterDelegate> additional) {
+            this.sfilter = sfilter;
+            this.additional = additional;
+        }
+
+        public void writeFields(ClassWriter cw) {
+            if (this.sfilter != null) {
+                this.sfilter.createFields(cw);
+            }
+        }
+
+        public void writeCtor(String name, ClassWriter cw, MethodVisitor mv) {
+            if (this.sfilter != null) {
+                this.sfilter.writeCtor(name, cw, mv);
+            }
+        }
+
+        /**
+         * Writes the filter checks, the event is expected in local 1.
+         *
+         * @return The local variable indices holding the values of the
+         *     additional listener parameters
+         */
+        public int[] writeFilter(String name, ClassWriter cw, MethodVisitor mv, Method method) {
+            Parameter[] params = method.getParameters();
+            // index of the next available local variable
+            int local = 2;
+            if (this.sfilter != null) {
+                local = this.sfilter.write(name, cw, mv, method, local);
+            }
+            for (FilterDelegate eventFilter : this.additional) {
+                local = eventFilter.write(name, cw, mv, method, local);
+            }
+
+            // local var indices of the parameters values
+            int[] plocals = new int[params.length - 1];
+            for (int i = 1; i < params.length; i++) {
+                Parameter param = params[i];
+                ParameterFilterSourceDelegate source = null;
+                List<ParameterFilterDelegate> paramFilters = Lists.newArrayList();
+                for (Annotation anno : param.getAnnotations()) {
+                    Object obj = filterFromAnnotation(anno.annotationType());
+                    if (obj == null) {
+                        continue;
+                    }
+                    if (obj instanceof ParameterSource) {
+                        if (source != null) {
+                            throw new IllegalStateException("Cannot have multiple parameter filter source annotations (for " + param.getName() + ")");
+                        }
+                        source = ((ParameterSource) obj).getDelegate(anno);
+                    } else if (obj instanceof ParameterFilter) {
+                        paramFilters.add(((ParameterFilter) obj).getDelegate(anno));
+                    }
+                }
+                if (source == null) {
+                    throw new IllegalStateException("Cannot have additional parameters filters without a source (for " + param.getName() + ")");
+                }
+                if (source instanceof AllCauseFilterSourceDelegate && !paramFilters.isEmpty()) {
+                    // TODO until better handling for filtering arrays is added
+                    throw new IllegalStateException(
+                            "Cannot have additional parameters filters without an array source (for " + param.getName() + ")");
+                }
+                Tuple<Integer, Integer> localState = source.write(cw, mv, method, param, local);
+                local = localState.getFirst();
+                plocals[i - 1] = localState.getSecond();
+
+                for (ParameterFilterDelegate paramFilter : paramFilters) {
+                    paramFilter.write(cw, mv, method, param, plocals[i - 1]);
+                }
+            }
+            return plocals;
+        }
+
+    }
+
     private static final class Holder {
 
         static final FilterGenerator INSTANCE = new FilterGenerator();
@@ -469,6 +469,36 @@ default boolean doesBulkBlockCapture(final C context) {
         return true;
     }
 
+    /**
+     * Gets whether this state, with the provided context, defers the light check of a block
+     * change at the given position until it is unwound. States returning {@code true} are
+     * responsible for checking the light of the position, which allows positions changed more
+     * than once to only be relit once the final block is in place.
+     *
+     * @param context The context the block change is occurring in
+     * @param world The world the block change is occurring in
+     * @param pos The position of the changed block
+     * @return True if the light check will be performed by this state
+     */
+    default boolean defersLightCheck(final C context, final WorldServer world, final BlockPos pos) {
+        return false;
+    }
+
+    /**
+     * Gets whether this state, with the provided context, defers the heightmap and skylight
+     * updates of block changes in the given chunk until it is unwound. States returning
+     * {@code true} are responsible for calling {@link ChunkBridge#bridge$updateDeferredSkylight()},
+     * which recomputes each changed column once instead of once per changed block. This is not
+     * asked when async lighting is enabled, as relights are then run by the lighting threads.
+     *
+     * @param context The context the block change is occurring in
+     * @param chunk The chunk of the changed block
+     * @return True if the skylight update will be performed by this state
+     */
+    default boolean defersSkylightUpdate(final C context, final Chunk chunk) {
+        return false;
+    }
+
     /**
      * Whether this state can deny chunk load/generation requests. Certain states can allow them
      * and certain others can deny them. Usually the denials are coming from states like ticks
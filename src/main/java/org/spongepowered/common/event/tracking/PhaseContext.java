@@ -617,22 +617,16 @@ public void close() { // Should never throw an exception
         }
         PhaseTracker.getInstance().completePhase(this.state);
         if (!((IPhaseState) this.state).shouldProvideModifiers(this)) {
-            if (this.usedFrame != null) {
-                this.usedFrame.iterator().forEachRemaining(Sponge.getCauseStackManager()::popCauseFrame);
-            }
+            this.popUsedFrames();
             return;
         }
-        if (this.usedFrame == null && SpongeImplHooks.isMainThread()) {
-            // So, this part is interesting... Since the used frame is null, that means
+        if ((this.usedFrame == null || this.usedFrame.isEmpty()) && SpongeImplHooks.isMainThread()) {
+            // So, this part is interesting... Since the used frame is empty, that means
             // the cause stack manager still has the refernce of this context/phase, we have
             // to "pop off" the list.
             SpongeImpl.getCauseStackManager().popFrameMutator(this);
         }
-        if (this.usedFrame != null) {
-            this.usedFrame.iterator().forEachRemaining(Sponge.getCauseStackManager()::popCauseFrame);
-            this.usedFrame.clear();
-            this.usedFrame = null;
-        }
+        this.popUsedFrames();
         this.reset();
         this.isCompleted = false;
         if (this.state instanceof PooledPhaseState) {
@@ -640,6 +634,16 @@ public void close() { // Should never throw an exception
         }
     }
 
+    private void popUsedFrames() {
+        if (this.usedFrame == null) {
+            return;
+        }
+        // The deque is kept around to be reused when this context is pulled from the pool again
+        for (CauseStackManager.StackFrame frame = this.usedFrame.poll(); frame != null; frame = this.usedFrame.poll()) {
+            Sponge.getCauseStackManager().popCauseFrame(frame);
+        }
+    }
+
     protected void reset() {
         this.source = null;
         this.neighborNotificationSource = null;
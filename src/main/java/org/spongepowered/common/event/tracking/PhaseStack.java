@@ -29,8 +29,8 @@
 
 import org.spongepowered.common.event.tracking.phase.general.GeneralPhase;
 
-import java.util.ArrayDeque;
-import java.util.Deque;
+import java.util.Arrays;
+import java.util.NoSuchElementException;
 import java.util.Objects;
 import java.util.function.Consumer;
 
@@ -47,58 +47,81 @@ final class PhaseStack {
 
     private static final int DEFAULT_QUEUE_SIZE = 16;
 
-    private final Deque<PhaseContext<?>> phases;
+    /**
+     * The phases, with the top of the stack at {@code size - 1}. This is a
+     * plain array instead of a {@link java.util.Deque} as the stack is pushed
+     * and popped for every tracked block, entity and tile entity tick, and
+     * only ever accessed from the main thread.
+     */
+    private PhaseContext<?>[] phases;
+    private int size;
 
     PhaseStack() {
         this(DEFAULT_QUEUE_SIZE);
     }
 
     private PhaseStack(int size) {
-        this.phases = new ArrayDeque<>(size);
+        this.phases = new PhaseContext<?>[size];
     }
 
     PhaseContext<?> peek() {
-        final PhaseContext<?> phase = this.phases.peek();
-        return phase == null ? PhaseContext.empty() : phase;
+        return this.size == 0 ? PhaseContext.empty() : this.phases[this.size - 1];
     }
 
     IPhaseState<?> peekState() {
-        final PhaseContext<?> peek = this.phases.peek();
-        return peek == null ? GeneralPhase.State.COMPLETE : peek.state;
+        return this.size == 0 ? GeneralPhase.State.COMPLETE : this.phases[this.size - 1].state;
     }
 
     PhaseContext<?> peekContext() {
-        final PhaseContext<?> peek = this.phases.peek();
-        return peek == null ? PhaseContext.empty() : peek;
+        return this.peek();
     }
 
     PhaseContext<?> pop() {
-        return this.phases.pop();
+        if (this.size == 0) {
+            throw new NoSuchElementException();
+        }
+        final PhaseContext<?> context = this.phases[--this.size];
+        this.phases[this.size] = null;
+        return context;
     }
 
     PhaseStack push(IPhaseState<?> state, PhaseContext<?> context) {
         checkNotNull(context, "Tuple cannot be null!");
         checkArgument(context.state == state, "Illegal IPhaseState not matching PhaseContext: %s", context);
         checkArgument(context.isComplete(), "Phase context must be complete: %s", context);
-        this.phases.push(context);
+        if (this.size == this.phases.length) {
+            this.phases = Arrays.copyOf(this.phases, this.size << 1);
+        }
+        this.phases[this.size++] = context;
         return this;
     }
 
+    /**
+     * Iterates the phases from the top of the stack to the bottom.
+     *
+     * @param consumer The consumer
+     */
     public void forEach(Consumer<PhaseContext<?>> consumer) {
-        this.phases.forEach(consumer);
+        for (int i = this.size - 1; i >= 0; i--) {
+            consumer.accept(this.phases[i]);
+        }
     }
 
     public boolean isEmpty() {
-        return this.phases.isEmpty();
+        return this.size == 0;
     }
 
     public int size() {
-        return this.phases.size();
+        return this.size;
     }
 
     @Override
     public int hashCode() {
-        return Objects.hash(this.phases);
+        int result = 1;
+        for (int i = 0; i < this.size; i++) {
+            result = 31 * result + this.phases[i].hashCode();
+        }
+        return result;
     }
 
     @Override
@@ -110,19 +133,27 @@ public boolean equals(Object obj) {
             return false;
         }
         final PhaseStack other = (PhaseStack) obj;
-        return Objects.equals(this.phases, other.phases);
+        if (this.size != other.size) {
+            return false;
+        }
+        for (int i = 0; i < this.size; i++) {
+            if (!Objects.equals(this.phases[i], other.phases[i])) {
+                return false;
+            }
+        }
+        return true;
     }
 
     @Override
     public String toString() {
         return com.google.common.base.MoreObjects.toStringHelper(this)
-                .add("phases", this.phases)
+                .add("phases", Arrays.asList(this.phases).subList(0, this.size))
                 .toString();
     }
 
     /**
      * We basically want to iterate through the phases to determine if there's multiple of one state re-entering
-     * when it shouldn't. To do this, we have to build a miniature map based on arrays
+     * when it shouldn't. Since the stack is already array backed, consecutive phases can be compared in place.
      * @param state The phase state to check
      * @param phaseContext The phase context to check against for runaways
      */
@@ -132,23 +163,13 @@ boolean checkForRunaways(IPhaseState<?> state, @Nullable PhaseContext<?> phaseCo
         if (!state.isNotReEntrant()) {
             return false;
         }
-        final int totalCount = this.phases.size();
-        final PhaseContext<?>[] allContexts = new PhaseContext[totalCount];
-        int i = 0;
-        // So first, we want to collect all the states into an array as they are pushed to the stack,
-        // which means that we should see the re-entrant phase pretty soon.
-        for (PhaseContext<?> data : this.phases) {
-            allContexts[i++] = data;
-        }
-        // Now we can actually iterate through the array
-        for (int index = 0; index < allContexts.length; index++) {
-            if (index < allContexts.length - 1) { // We can't go further than the length, cause that's the top of the stack
-                final PhaseContext<?> latestContext = allContexts[index];
-                final IPhaseState<?> latestState = latestContext.state;
-                if (latestState == allContexts[index + 1].state && latestState == state && (phaseContext == null || latestContext.isRunaway(phaseContext))) {
-                    // Found a consecutive duplicate and can now print out
-                    return true;
-                }
+        // Now we can actually iterate through the phases, from the top of the stack
+        for (int index = this.size - 1; index > 0; index--) {
+            final PhaseContext<?> latestContext = this.phases[index];
+            final IPhaseState<?> latestState = latestContext.state;
+            if (latestState == this.phases[index - 1].state && latestState == state && (phaseContext == null || latestContext.isRunaway(phaseContext))) {
+                // Found a consecutive duplicate and can now print out
+                return true;
             }
         }
         return false;
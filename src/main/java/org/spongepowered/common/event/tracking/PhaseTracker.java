@@ -899,9 +899,13 @@ public boolean setBlockState(final WorldServerBridge mixinWorld, final BlockPos
         // Forge changes the BlockState.getLightOpacity to use Forge's hook.
         if (SpongeImplHooks.getBlockLightOpacity(newState, minecraftWorld, pos) != oldOpacity || SpongeImplHooks.getChunkPosLight(newState, minecraftWorld, pos) != oldLight) {
             // Sponge - End
-            minecraftWorld.profiler.startSection("checkLight");
-            minecraftWorld.checkLight(pos);
-            minecraftWorld.profiler.endSection();
+            // Sponge Start - Allow bulk edits to only relight once all their changes are in place
+            if (!((IPhaseState) phaseState).defersLightCheck(context, (WorldServer) minecraftWorld, pos)) {
+                minecraftWorld.profiler.startSection("checkLight");
+                minecraftWorld.checkLight(pos);
+                minecraftWorld.profiler.endSection();
+            }
+            // Sponge End
         }
 
         // Sponge Start - At this point, we can stop and check for captures.
@@ -868,11 +868,20 @@ public static void associateTrackerToTarget(final BlockChange blockChange, final
     }
 
     public static void addTileEntityToBuilder(@Nullable final net.minecraft.tileentity.TileEntity existing, final SpongeBlockSnapshotBuilder builder) {
+        addTileEntityToBuilder(existing, builder, false);
+    }
+
+    public static void addTileEntityToBuilder(@Nullable final net.minecraft.tileentity.TileEntity existing, final SpongeBlockSnapshotBuilder builder,
+        final boolean lazy) {
         // We MUST only check to see if a TE exists to avoid creating a new one.
         final TileEntity tile = (TileEntity) existing;
         for (final DataManipulator<?, ?> manipulator : ((CustomDataHolderBridge) tile).bridge$getCustomManipulators()) {
             builder.add(manipulator);
         }
+        if (lazy) {
+            builder.tileEntity(existing);
+            return;
+        }
         final NBTTagCompound nbt = new NBTTagCompound();
         // Some mods like OpenComputers assert if attempting to save robot while moving
         try {
@@ -31,7 +31,10 @@
 import com.google.common.collect.ListMultimap;
 import com.google.common.collect.Lists;
 import com.google.common.collect.Multimap;
-import com.google.common.collect.Multimaps;
+import it.unimi.dsi.fastutil.longs.Long2ObjectLinkedOpenHashMap;
+import it.unimi.dsi.fastutil.longs.Long2ObjectMap;
+import it.unimi.dsi.fastutil.longs.LongOpenHashSet;
+import it.unimi.dsi.fastutil.longs.LongSet;
 import net.minecraft.block.Block;
 import net.minecraft.block.BlockEventData;
 import net.minecraft.block.state.IBlockState;
@@ -59,14 +62,12 @@
 
 import java.util.ArrayList;
 import java.util.Collections;
-import java.util.HashSet;
 import java.util.Iterator;
 import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Objects;
 import java.util.Optional;
-import java.util.Set;
 import java.util.function.BiConsumer;
 
 import javax.annotation.Nullable;
@@ -76,11 +77,13 @@ public final class MultiBlockCaptureSupplier implements ICaptureSupplier {
 
     public static final boolean PRINT_TRANSACTIONS = Boolean.valueOf(System.getProperty("sponge.debugBlockTransactions", "false"));
 
-    @Nullable private LinkedListMultimap<BlockPos, SpongeBlockSnapshot> multimap;
+    // Positions are keyed by their packed BlockPos#toLong() value, the linked map keeps the
+    // first-change order of positions while each list keeps the order of changes for that position.
+    @Nullable private Long2ObjectLinkedOpenHashMap<List<SpongeBlockSnapshot>> multimap;
     @Nullable private ListMultimap<BlockPos, BlockEventData> scheduledEvents;
     @Nullable private List<SpongeBlockSnapshot> snapshots;
     @Nullable private LinkedHashMap<WorldServer, SpongeProxyBlockAccess.Proxy> processingWorlds;
-    @Nullable private Set<BlockPos> usedBlocks;
+    @Nullable private LongSet usedBlocks;
     private int transactionIndex = -1; // These are used to keep track of which snapshot is being referred to as "most recent change"
     private int snapshotIndex = -1;    // so that we can appropriately cancel or discard or apply specific event transactions
     // We made BlockTransaction a Node and this is a pseudo LinkedList due to the nature of needing
@@ -104,7 +107,7 @@ public MultiBlockCaptureSupplier() {
      * flag of changes does not result in a valid {@link BlockChange}, and therefor an invalid
      * {@link ChangeBlockEvent} is generated, potentially leading to duplication bugs with
      * protection plugins. As a result, the consuming {@link BlockSnapshot} is placed into
-     * a {@link ListMultimap} keyed by the {@link BlockPos}, and if there are multiple snapshots
+     * a list per position keyed by the packed {@link BlockPos#toLong()}, and if there are multiple snapshots
      * per {@link BlockPos}, has multiple changes will be {@code true}, and this method
      * will return {@code true}.
      *
@@ -116,11 +119,11 @@ public boolean put(final BlockSnapshot snapshot, final IBlockState newState) {
         // Start by figuring out the backing snapshot. In all likelyhood, we could just cast, but we want to be safe
         final SpongeBlockSnapshot backingSnapshot = getBackingSnapshot(snapshot);
         // Get the key of the block position, we know this is a pure block pos and not a mutable one too.
-        final BlockPos blockPos = backingSnapshot.getBlockPos();
+        final long blockPos = backingSnapshot.getBlockPos().toLong();
         if (this.usedBlocks == null) { // Means we have a first usage. All three fields are null
             // At this point, we know we have not captured anything and
             // can just populate the normal list.
-            this.usedBlocks = new HashSet<>();
+            this.usedBlocks = new LongOpenHashSet();
 
             this.usedBlocks.add(blockPos);
             this.addSnapshot(backingSnapshot);
@@ -139,7 +142,7 @@ public boolean put(final BlockSnapshot snapshot, final IBlockState newState) {
                 this.addSnapshot(backingSnapshot);
             }
             // we don't have to
-            this.multimap.put(blockPos, backingSnapshot);
+            this.putMulti(blockPos, backingSnapshot);
 
             // If the position is duplicated, we need to update the original snapshot of the now incoming block change
             // in relation to the original state (so if a block was set to air, then afterwards set to piston head, it should go from break to modify)
@@ -152,13 +155,13 @@ public boolean put(final BlockSnapshot snapshot, final IBlockState newState) {
         if (!added) {
             // Ok, means we have a multi change on a same position, now to use the multimap
             // for the first time.
-            this.multimap = LinkedListMultimap.create(); // LinkedListMultimap is insertion order respective, so the backed lists per
+            this.multimap = new Long2ObjectLinkedOpenHashMap<>(this.snapshots.size() + 1); // The linked map is insertion order respective, so the backed lists per
             // Now to populate it from the previously used list of snapshots...
             for (final SpongeBlockSnapshot existing : this.snapshots) { // Ignore snapshots potentially being null, it will never be null at this point.
-                this.multimap.put(existing.getBlockPos(), existing);
+                this.putMulti(existing.getBlockPos().toLong(), existing);
             }
             // And place the snapshot into the multimap.
-            this.multimap.put(blockPos, backingSnapshot);
+            this.putMulti(blockPos, backingSnapshot);
             // Now we can re-evaluate the modified block position
             // If the position is duplicated, we need to update the original snapshot of the now incoming block change
             // in relation to the original state (so if a block was set to air, then afterwards set to piston head, it should go from break to modify)
@@ -172,6 +175,16 @@ public boolean put(final BlockSnapshot snapshot, final IBlockState newState) {
         return true;
     }
 
+    private void putMulti(final long blockPos, final SpongeBlockSnapshot backingSnapshot) {
+        List<SpongeBlockSnapshot> list = this.multimap.get(blockPos);
+        if (list == null) {
+            // Most positions only ever see a single change, so keep the backing array as small as possible
+            list = new ArrayList<>(2);
+            this.multimap.put(blockPos, list);
+        }
+        list.add(backingSnapshot);
+    }
+
     private void addSnapshot(final SpongeBlockSnapshot backingSnapshot) {
         if (this.snapshots == null) {
             this.snapshots = new ArrayList<>();
@@ -189,10 +202,10 @@ private void addSnapshot(final SpongeBlockSnapshot backingSnapshot) {
      * {@code null}, otherwise it will cause an NPE.</p>
      *
      * @param newState The incoming block change to compare to change
-     * @param blockPos The block position to get the backing list from the multimap
+     * @param blockPos The packed block position to get the backing list from the multimap
      */
     @SuppressWarnings("unchecked")
-    private void associateBlockChangeForPosition(final IBlockState newState, final BlockPos blockPos) {
+    private void associateBlockChangeForPosition(final IBlockState newState, final long blockPos) {
         final List<SpongeBlockSnapshot> list = this.multimap.get(blockPos);
         if (list != null && !list.isEmpty()) {
             final SpongeBlockSnapshot originalSnapshot = list.get(0);
@@ -243,7 +256,7 @@ public final void prune(final BlockSnapshot snapshot) {
         // Start by figuring out the backing snapshot. In all likelyhood, we could just cast, but we want to be safe
         final SpongeBlockSnapshot backingSnapshot = getBackingSnapshot(snapshot);
         // Get the key of the block position, we know this is a pure block pos and not a mutable one too.
-        final BlockPos blockPos = backingSnapshot.getBlockPos();
+        final long blockPos = backingSnapshot.getBlockPos().toLong();
         // Check if we have a multi-pos
         if (this.multimap != null) {
             pruneFromMulti(backingSnapshot, blockPos);
@@ -255,7 +268,7 @@ public final void prune(final BlockSnapshot snapshot) {
         }
     }
 
-    private void pruneSingle(final SpongeBlockSnapshot backingSnapshot, final BlockPos blockPos) {
+    private void pruneSingle(final SpongeBlockSnapshot backingSnapshot, final long blockPos) {
         if (this.usedBlocks == null) {
             // means we didn't actually capture???
             throw new IllegalStateException("Expected to remove a single block change that was supposed to be captured....");
@@ -268,7 +281,7 @@ private void pruneSingle(final SpongeBlockSnapshot backingSnapshot, final BlockP
         this.snapshots.remove(backingSnapshot); // Should be the same snapshot used
     }
 
-    private void pruneFromMulti(final SpongeBlockSnapshot backingSnapshot, final BlockPos blockPos) {
+    private void pruneFromMulti(final SpongeBlockSnapshot backingSnapshot, final long blockPos) {
         final List<SpongeBlockSnapshot> snapshots = this.multimap.get(blockPos);
         if (snapshots != null) {
             for (final Iterator<SpongeBlockSnapshot> iterator = snapshots.iterator(); iterator.hasNext(); ) {
@@ -280,7 +293,7 @@ private void pruneFromMulti(final SpongeBlockSnapshot backingSnapshot, final Blo
             }
             // If the list view is now empty, we need to prune the position from the multimap
             if (snapshots.isEmpty()) {
-                this.multimap.removeAll(blockPos);
+                this.multimap.remove(blockPos);
                 // And then prune the snapshot from the list of firsts
                 for (final Iterator<SpongeBlockSnapshot> firsts = this.snapshots.iterator(); firsts.hasNext(); ) {
                     final SpongeBlockSnapshot next = firsts.next();
@@ -335,16 +348,14 @@ public final boolean isEmpty() {
      *
      * @param consumer The consumer to activate
      */
-    @SuppressWarnings("UnstableApiUsage") // Guava marks Multimaps.asMap as Beta features
     public final void acceptAndClearIfNotEmpty(final BiConsumer<List<? extends BlockSnapshot>, Map<BlockPos, List<BlockSnapshot>>> consumer) {
         if (this.multimap != null) {
             final List<? extends BlockSnapshot> blockSnapshots = get();
-            // Since multimaps provide a view when asMap is called, we need to recreate the collection
-            // of the map to pass into the consumer
-            final Map<BlockPos, List<SpongeBlockSnapshot>> view = Multimaps.asMap(this.multimap);
-            final Map<BlockPos, List<BlockSnapshot>> map = new LinkedHashMap<>(view.size());
-            for (final Map.Entry<BlockPos, List<SpongeBlockSnapshot>> entryView : view.entrySet()) {
-                map.put(entryView.getKey(), new ArrayList<>(entryView.getValue()));
+            // The per position lists are handed over as they are, clearing the multimap only drops
+            // the references to them so they cannot be contaminated by further captures.
+            final Map<BlockPos, List<BlockSnapshot>> map = new LinkedHashMap<>(this.multimap.size());
+            for (final Long2ObjectMap.Entry<List<SpongeBlockSnapshot>> entry : this.multimap.long2ObjectEntrySet()) {
+                map.put(BlockPos.fromLong(entry.getLongKey()), Collections.unmodifiableList(entry.getValue()));
             }
             this.multimap.clear(); // Clean captured lists before they get potentially contaminated by processing.
             consumer.accept(blockSnapshots, map); // Accept the list and map
@@ -545,6 +556,7 @@ public void cancelTransaction(final BlockSnapshot original) {
 
 
     public void clear() {
+        this.serializePendingSnapshots();
         if (this.multimap != null) {
             this.multimap.clear();
             this.multimap = null;
@@ -563,6 +575,25 @@ public void clear() {
         this.transactionIndex = -1;
     }
 
+    /**
+     * Serializes the tile data of captured snapshots that still lazily
+     * reference their tile entity, so they no longer hold on to it or
+     * observe later changes once their captures are processed or discarded.
+     */
+    private void serializePendingSnapshots() {
+        if (this.multimap != null) {
+            for (final List<SpongeBlockSnapshot> snapshots : this.multimap.values()) {
+                for (final SpongeBlockSnapshot snapshot : snapshots) {
+                    snapshot.serializeTileEntity();
+                }
+            }
+        } else if (this.snapshots != null) {
+            for (final SpongeBlockSnapshot snapshot : this.snapshots) {
+                snapshot.serializeTileEntity();
+            }
+        }
+    }
+
     public void restoreOriginals() {
         if (this.snapshots != null && !this.snapshots.isEmpty()) {
             for (final SpongeBlockSnapshot original : Lists.reverse(this.snapshots)) {
@@ -590,11 +621,11 @@ public Optional<Transaction<BlockSnapshot>> createTransaction(final SpongeBlockS
         // Up until this point, we can create a default Transaction
         if (this.multimap != null) { // But we need to check if there's any intermediary block changes...
             // And because multi is true, we can be sure the multimap is populated at least somewhere.
-            final List<SpongeBlockSnapshot> intermediary = this.multimap.get(blockPos);
-            if (!intermediary.isEmpty() && intermediary.size() > 1) {
-                // We need to make a carbon copy of the list since it's technically a key view list
-                // within the multimap, so, if the multimap is cleared, at the very least, the list will
-                // not be cleared. Likewise, we also need to skip over the first element since the snapshots
+            final List<SpongeBlockSnapshot> intermediary = this.multimap.get(blockPos.toLong());
+            if (intermediary != null && intermediary.size() > 1) {
+                // We need to make a carbon copy of the list since it's the live list backing the
+                // position within the multimap, so, if it is pruned afterwards, at the very least, the copy will
+                // not be modified. Likewise, we also need to skip over the first element since the snapshots
                 // list will have that element anyways (we don't want to be providing duplicate snapshots
                 // for plugins to witness and come to expect that they are intermediary states, when they're still the original positions
                 final ImmutableList.Builder<SpongeBlockSnapshot> builder = ImmutableList.builder();
@@ -615,7 +646,7 @@ public Optional<Transaction<BlockSnapshot>> createTransaction(final SpongeBlockS
     }
 
     public boolean trackEvent(final BlockPos pos, final BlockEventData blockEventData) {
-        if (this.usedBlocks != null && this.usedBlocks.contains(pos)) {
+        if (this.usedBlocks != null && this.usedBlocks.contains(pos.toLong())) {
             if (this.scheduledEvents == null) {
                 this.scheduledEvents = LinkedListMultimap.create();
             }
@@ -832,6 +863,7 @@ public boolean hasBlocksCaptured() {
     }
 
     public void reset() {
+        this.serializePendingSnapshots();
         if (this.multimap != null) {
             // shouldn't but whatever, it's the end of a phase.
             this.multimap.clear();
@@ -0,0 +1,113 @@
+/*
+ * This file is part of Sponge, licensed under the MIT License (MIT).
+ *
+ * Copyright (c) SpongePowered <https://www.spongepowered.org>
+ * Copyright (c) contributors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.spongepowered.common.event.tracking.phase.plugin;
+
+import it.unimi.dsi.fastutil.longs.LongIterator;
+import it.unimi.dsi.fastutil.longs.LongOpenHashSet;
+import it.unimi.dsi.fastutil.longs.LongSet;
+import net.minecraft.util.math.BlockPos;
+import net.minecraft.world.WorldServer;
+import net.minecraft.world.chunk.Chunk;
+import org.spongepowered.api.plugin.PluginContainer;
+import org.spongepowered.asm.util.PrettyPrinter;
+import org.spongepowered.common.bridge.world.chunk.ChunkBridge;
+import org.spongepowered.common.event.tracking.IPhaseState;
+
+import java.util.Collections;
+import java.util.IdentityHashMap;
+import java.util.Map;
+import java.util.Set;
+
+import javax.annotation.Nullable;
+
+public class BulkBlockEditContext extends PluginPhaseContext<BulkBlockEditContext> {
+
+    @Nullable PluginContainer container;
+    private final Map<WorldServer, LongSet> deferredLightChecks = new IdentityHashMap<>();
+    private final Set<Chunk> deferredSkylightChunks = Collections.newSetFromMap(new IdentityHashMap<>());
+
+    BulkBlockEditContext(final IPhaseState<? extends BulkBlockEditContext> phaseState) {
+        super(phaseState);
+    }
+
+    public BulkBlockEditContext container(final PluginContainer container) {
+        this.container = container;
+        return this;
+    }
+
+    void deferLightCheck(final WorldServer world, final BlockPos pos) {
+        this.deferredLightChecks.computeIfAbsent(world, key -> new LongOpenHashSet()).add(pos.toLong());
+    }
+
+    void deferSkylightUpdate(final Chunk chunk) {
+        this.deferredSkylightChunks.add(chunk);
+    }
+
+    void performDeferredSkylightUpdates() {
+        for (final Chunk chunk : this.deferredSkylightChunks) {
+            ((ChunkBridge) chunk).bridge$updateDeferredSkylight();
+        }
+        this.deferredSkylightChunks.clear();
+    }
+
+    void performDeferredLightChecks() {
+        if (this.deferredLightChecks.isEmpty()) {
+            return;
+        }
+        for (final Map.Entry<WorldServer, LongSet> entry : this.deferredLightChecks.entrySet()) {
+            final WorldServer world = entry.getKey();
+            world.profiler.startSection("checkLight");
+            for (final LongIterator iterator = entry.getValue().iterator(); iterator.hasNext(); ) {
+                world.checkLight(BlockPos.fromLong(iterator.nextLong()));
+            }
+            world.profiler.endSection();
+        }
+        this.deferredLightChecks.clear();
+    }
+
+    @Override
+    public PrettyPrinter printCustom(final PrettyPrinter printer, final int indent) {
+        super.printCustom(printer, indent);
+        final String s = String.format("%1$" + indent + "s", "");
+        if (this.container != null) {
+            printer.add(s + "- %s: %s", "PluginContainer", this.container);
+        }
+        for (final Map.Entry<WorldServer, LongSet> entry : this.deferredLightChecks.entrySet()) {
+            printer.add(s + "- %s: %s", "DeferredLightChecks", entry.getKey().getWorldInfo().getWorldName() + " -> " + entry.getValue().size());
+        }
+        if (!this.deferredSkylightChunks.isEmpty()) {
+            printer.add(s + "- %s: %s", "DeferredSkylightChunks", this.deferredSkylightChunks.size());
+        }
+        return printer;
+    }
+
+    @Override
+    protected void reset() {
+        super.reset();
+        this.container = null;
+        this.deferredLightChecks.clear();
+        this.deferredSkylightChunks.clear();
+    }
+}
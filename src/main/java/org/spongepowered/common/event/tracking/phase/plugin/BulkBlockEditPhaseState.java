@@ -0,0 +1,132 @@
+/*
+ * This file is part of Sponge, licensed under the MIT License (MIT).
+ *
+ * Copyright (c) SpongePowered <https://www.spongepowered.org>
+ * Copyright (c) contributors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.spongepowered.common.event.tracking.phase.plugin;
+
+import net.minecraft.entity.item.EntityItem;
+import net.minecraft.util.math.BlockPos;
+import net.minecraft.world.WorldServer;
+import net.minecraft.world.chunk.Chunk;
+import org.spongepowered.api.Sponge;
+import org.spongepowered.api.entity.Entity;
+import org.spongepowered.api.event.CauseStackManager;
+import org.spongepowered.api.event.cause.EventContextKeys;
+import org.spongepowered.api.event.cause.entity.spawn.SpawnTypes;
+import org.spongepowered.common.event.SpongeCommonEventFactory;
+import org.spongepowered.common.event.tracking.TrackingUtil;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.function.BiConsumer;
+
+/**
+ * Entered by plugins performing a large batch of block changes. All changes are
+ * captured until the batch is closed and then processed in a single pass, such
+ * that one set of {@link org.spongepowered.api.event.block.ChangeBlockEvent}s is
+ * thrown, light checks are only performed once per changed position and the
+ * heightmap and skylight of each changed column are only updated once.
+ */
+final class BulkBlockEditPhaseState extends PluginPhaseState<BulkBlockEditContext> {
+
+    private final BiConsumer<CauseStackManager.StackFrame, BulkBlockEditContext> PLUGIN_MODIFIER = super.getFrameModifier()
+        .andThen((frame, context) -> {
+            context.getSource(Object.class).ifPresent(frame::pushCause);
+            if (context.container != null) {
+                frame.pushCause(context.container);
+            }
+        });
+
+    BulkBlockEditPhaseState() {
+    }
+
+    @Override
+    public BulkBlockEditContext createNewContext() {
+        return new BulkBlockEditContext(this)
+            .addCaptures();
+    }
+
+    @Override
+    public BiConsumer<CauseStackManager.StackFrame, BulkBlockEditContext> getFrameModifier() {
+        return this.PLUGIN_MODIFIER;
+    }
+
+    @Override
+    public boolean defersLightCheck(final BulkBlockEditContext context, final WorldServer world, final BlockPos pos) {
+        context.deferLightCheck(world, pos);
+        return true;
+    }
+
+    @Override
+    public boolean defersSkylightUpdate(final BulkBlockEditContext context, final Chunk chunk) {
+        context.deferSkylightUpdate(chunk);
+        return true;
+    }
+
+    @SuppressWarnings({"unchecked", "RedundantCast"})
+    @Override
+    public void unwind(final BulkBlockEditContext context) {
+        // Relight first so that the blocks notified during processing observe the final light levels,
+        // as they would have when the changes were applied one by one. The heightmaps have to be up to
+        // date before the light checks, as these depend on which positions can see the sky.
+        context.performDeferredSkylightUpdates();
+        context.performDeferredLightChecks();
+        TrackingUtil.processBlockCaptures(context);
+        context.getCapturedItemsSupplier()
+            .acceptAndClearIfNotEmpty(items -> {
+                final ArrayList<Entity> entities = new ArrayList<>();
+                for (final EntityItem item : items) {
+                    entities.add((Entity) item);
+                }
+                Sponge.getCauseStackManager().addContext(EventContextKeys.SPAWN_TYPE, SpawnTypes.DROPPED_ITEM);
+                SpongeCommonEventFactory.callDropItemDestruct(entities, context);
+            });
+        context.getBlockItemDropSupplier()
+            .acceptAndClearIfNotEmpty(drops -> {
+                drops.asMap().forEach((key, value) -> {
+                    Sponge.getCauseStackManager().addContext(EventContextKeys.SPAWN_TYPE, SpawnTypes.DROPPED_ITEM);
+                    SpongeCommonEventFactory.callDropItemDestruct(new ArrayList<>((Collection<? extends Entity>) (Collection<?>) value), context);
+                });
+            });
+        context.getCapturedEntitySupplier()
+            .acceptAndClearIfNotEmpty(entities -> {
+                Sponge.getCauseStackManager().addContext(EventContextKeys.SPAWN_TYPE, SpawnTypes.PLUGIN);
+                SpongeCommonEventFactory.callSpawnEntity(entities, context);
+            });
+    }
+
+    @Override
+    public boolean spawnEntityOrCapture(final BulkBlockEditContext context, final Entity entity, final int chunkX, final int chunkZ) {
+        return context.captureEntity(entity);
+    }
+
+    @Override
+    public boolean doesCaptureEntitySpawns() {
+        return true;
+    }
+
+    @Override
+    public boolean handlesOwnStateCompletion() {
+        return true;
+    }
+}
@@ -31,6 +31,7 @@ public final class PluginPhase {
     public static final class State {
 
         public static final IPhaseState<BasicPluginContext> BLOCK_WORKER = new BlockWorkerPhaseState();
+        public static final IPhaseState<BulkBlockEditContext> BULK_BLOCK_EDIT = new BulkBlockEditPhaseState();
         public static final IPhaseState<BasicPluginContext> CUSTOM_SPAWN = new BasicPluginState();
         public static final IPhaseState<BasicPluginContext> SCHEDULED_TASK = new ScheduledTaskPhaseState();
         public static final IPhaseState<BasicPluginContext> TELEPORT = new BasicPluginState();
@@ -30,6 +30,7 @@
 import net.minecraft.entity.player.EntityPlayer;
 import net.minecraft.util.EnumHand;
 import net.minecraft.world.World;
+import net.minecraft.world.WorldServer;
 import org.objectweb.asm.Opcodes;
 import org.spongepowered.api.Sponge;
 import org.spongepowered.api.entity.Entity;
@@ -61,6 +62,7 @@
 import org.spongepowered.common.bridge.entity.ai.EntityAITasksBridge;
 import org.spongepowered.common.bridge.entity.player.EntityPlayerBridge;
 import org.spongepowered.common.bridge.world.WorldInfoBridge;
+import org.spongepowered.common.bridge.world.WorldServerBridge;
 import org.spongepowered.common.entity.EntityUtil;
 import org.spongepowered.common.event.ShouldFire;
 import org.spongepowered.common.event.SpongeCommonEventFactory;
@@ -272,6 +274,13 @@ private boolean onCanGrief(final EntityLiving thisEntity) {
         return thisEntity.canPickUpLoot() && ((GrieferBridge) this).bridge$CanGrief();
     }
 
+    @Inject(method = "enablePersistence", at = @At("RETURN"))
+    private void impl$updateMobSpawnCount(final CallbackInfo ci) {
+        if (this.world instanceof WorldServer) {
+            ((WorldServerBridge) this.world).bridge$getMobSpawnTracker().onSpawnCountChanged((net.minecraft.entity.Entity) (Object) this);
+        }
+    }
+
 
     @Override
     public void bridge$onJoinWorld() {
@@ -133,6 +133,7 @@ public abstract class EntityMixin implements EntityBridge, TrackableBridge, Vani
     private boolean vanish$pendingVisibilityUpdate = false;
     private int vanish$visibilityTicks = 0;
     @Nullable private DestructEntityEvent impl$destructEvent;
+    private int impl$spawnCountMask = -1;
 
     @Shadow @Nullable private Entity ridingEntity;
     @Shadow @Final private List<Entity> riddenByEntities;
@@ -773,6 +774,16 @@ public EntityItem entityDropItem(final ItemStack stack, final float offsetY) {
         return chunk == null || chunk.bridge$isActive();
     }
 
+    @Override
+    public int bridge$getSpawnCountMask() {
+        return this.impl$spawnCountMask;
+    }
+
+    @Override
+    public void bridge$setSpawnCountMask(final int mask) {
+        this.impl$spawnCountMask = mask;
+    }
+
     @Override
     public void bridge$setInvulnerable(final boolean value) {
         this.invulnerable = value;
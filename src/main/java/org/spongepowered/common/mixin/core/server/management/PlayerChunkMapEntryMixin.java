@@ -31,15 +31,21 @@
 import net.minecraft.server.management.PlayerChunkMapEntry;
 import net.minecraft.util.math.ChunkPos;
 import net.minecraft.world.chunk.Chunk;
+import net.minecraft.world.gen.ChunkProviderServer;
 import org.spongepowered.asm.mixin.Final;
 import org.spongepowered.asm.mixin.Mixin;
 import org.spongepowered.asm.mixin.Shadow;
 import org.spongepowered.asm.mixin.injection.At;
 import org.spongepowered.asm.mixin.injection.Inject;
+import org.spongepowered.asm.mixin.injection.Redirect;
 import org.spongepowered.asm.mixin.injection.callback.CallbackInfo;
+import org.spongepowered.common.SpongeImpl;
 import org.spongepowered.common.bridge.server.management.PlayerChunkMapEntryBridge;
+import org.spongepowered.common.bridge.world.chunk.ChunkProviderServerBridge;
 
 import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
 
 import javax.annotation.Nullable;
 
@@ -69,6 +75,55 @@ public abstract class PlayerChunkMapEntryMixin implements PlayerChunkMapEntryBri
         }
     }
 
+    /**
+     * Reads the chunks players move into asynchronously, the entry is left
+     * without a chunk until it is loaded, which the player chunk map checks
+     * for every tick. Forge already loads these chunks asynchronously, using
+     * a different method.
+     */
+    @Redirect(method = {"<init>", "providePlayerChunk"},
+        at = @At(value = "INVOKE", target = "Lnet/minecraft/world/gen/ChunkProviderServer;loadChunk(II)Lnet/minecraft/world/chunk/Chunk;"),
+        require = 0)
+    @Nullable
+    private Chunk impl$loadChunkAsync(final ChunkProviderServer chunkProvider, final int x, final int z) {
+        if (!SpongeImpl.getGlobalConfigAdapter().getConfig().getOptimizations().getAsyncChunkLoadingCategory().isEnabled()) {
+            return chunkProvider.loadChunk(x, z);
+        }
+        final CompletableFuture<Optional<Chunk>> future = ((ChunkProviderServerBridge) chunkProvider).bridge$loadChunkAsync(x, z);
+        if (!future.isDone()) {
+            return null;
+        }
+        if (future.isCompletedExceptionally()) {
+            ((ChunkProviderServerBridge) chunkProvider).bridge$removeChunkLoad(x, z);
+            return chunkProvider.loadChunk(x, z);
+        }
+        return future.join().orElse(null);
+    }
+
+    @Redirect(method = "providePlayerChunk",
+        at = @At(value = "INVOKE", target = "Lnet/minecraft/world/gen/ChunkProviderServer;provideChunk(II)Lnet/minecraft/world/chunk/Chunk;"),
+        require = 0)
+    @Nullable
+    private Chunk impl$provideChunkAsync(final ChunkProviderServer chunkProvider, final int x, final int z) {
+        if (!SpongeImpl.getGlobalConfigAdapter().getConfig().getOptimizations().getAsyncChunkLoadingCategory().isEnabled()) {
+            return chunkProvider.provideChunk(x, z);
+        }
+        final CompletableFuture<Optional<Chunk>> future = ((ChunkProviderServerBridge) chunkProvider).bridge$loadChunkAsync(x, z);
+        if (!future.isDone()) {
+            return null;
+        }
+        if (!future.isCompletedExceptionally()) {
+            final Optional<Chunk> chunk = future.join();
+            if (chunk.isPresent()) {
+                return chunk.get();
+            }
+        }
+        // The chunk doesn't exist yet, generate it. The load is kept until now, as it
+        // would otherwise only start reading the chunk again.
+        ((ChunkProviderServerBridge) chunkProvider).bridge$removeChunkLoad(x, z);
+        return chunkProvider.provideChunk(x, z);
+    }
+
     @Override
     public void bridge$markBiomesForUpdate() {
         this.impl$updateBiomes = true;
@@ -33,11 +33,14 @@
 import org.spongepowered.asm.mixin.Mixin;
 import org.spongepowered.asm.mixin.Shadow;
 import org.spongepowered.asm.mixin.injection.At;
+import org.spongepowered.asm.mixin.injection.Inject;
 import org.spongepowered.asm.mixin.injection.Redirect;
+import org.spongepowered.asm.mixin.injection.callback.CallbackInfo;
 import org.spongepowered.common.bridge.server.management.PlayerChunkMapBridge;
 import org.spongepowered.common.bridge.server.management.PlayerChunkMapEntryBridge;
 import org.spongepowered.common.bridge.world.WorldServerBridge;
 import org.spongepowered.common.bridge.world.chunk.ChunkBridge;
+import org.spongepowered.common.bridge.world.chunk.ChunkProviderServerBridge;
 
 import javax.annotation.Nullable;
 
@@ -61,6 +64,14 @@ public abstract class PlayerChunkMapMixin implements PlayerChunkMapBridge {
         return this.playerViewRadius;
     }
 
+    @Inject(method = "removeEntry", at = @At("HEAD"))
+    private void impl$cancelPendingChunkLoad(final PlayerChunkMapEntry entry, final CallbackInfo ci) {
+        // The chunk is still being read asynchronously, which is not needed anymore
+        if (entry.getChunk() == null) {
+            ((ChunkProviderServerBridge) this.world.getChunkProvider()).bridge$removeChunkLoad(entry.getPos().x, entry.getPos().z);
+        }
+    }
+
     @Redirect(method = "removeEntry", at = @At(value = "INVOKE", target = "Lnet/minecraft/world/gen/ChunkProviderServer;"
             + "queueUnload(Lnet/minecraft/world/chunk/Chunk;)V"))
     private void impl$ScheduleUnloadWithChunkGC(final ChunkProviderServer chunkProvider, final Chunk chunk) {
@@ -37,6 +37,7 @@
 import org.spongepowered.asm.mixin.injection.Inject;
 import org.spongepowered.asm.mixin.injection.callback.CallbackInfo;
 import org.spongepowered.asm.mixin.injection.callback.CallbackInfoReturnable;
+import org.spongepowered.common.block.SpongeBlockSnapshot;
 import org.spongepowered.common.bridge.TimingBridge;
 import org.spongepowered.common.bridge.TrackableBridge;
 import org.spongepowered.common.bridge.data.CustomDataHolderBridge;
@@ -62,6 +63,7 @@ abstract class TileEntityMixin implements TileEntityBridge, DataCompoundHolder,
     private boolean impl$allowsBlockEventCreation = true;
     private boolean impl$allowsEntityEventCreation = true;
     private boolean impl$isCaptured = false;
+    @Nullable private SpongeBlockSnapshot impl$pendingSnapshot;
 
     @Shadow protected net.minecraft.world.World world;
     @Shadow private int blockMetadata;
@@ -199,6 +201,25 @@ abstract class TileEntityMixin implements TileEntityBridge, DataCompoundHolder,
         this.impl$isCaptured = captured;
     }
 
+    @Nullable
+    @Override
+    public SpongeBlockSnapshot bridge$getPendingSnapshot() {
+        return this.impl$pendingSnapshot;
+    }
+
+    @Override
+    public void bridge$setPendingSnapshot(@Nullable final SpongeBlockSnapshot snapshot) {
+        this.impl$pendingSnapshot = snapshot;
+    }
+
+    @Override
+    public void bridge$serializePendingSnapshot() {
+        final SpongeBlockSnapshot pending = this.impl$pendingSnapshot;
+        if (pending != null) {
+            pending.serializeTileEntity();
+        }
+    }
+
     @Override
     public void bridge$refreshTrackerStates() {
         if (((TileEntity) this).getType() != null) {
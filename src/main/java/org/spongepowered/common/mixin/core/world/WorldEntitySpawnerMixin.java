@@ -25,12 +25,13 @@
 package org.spongepowered.common.mixin.core.world;
 
 import com.flowpowered.math.vector.Vector3d;
+import it.unimi.dsi.fastutil.longs.Long2IntMap;
+import it.unimi.dsi.fastutil.longs.LongIterator;
 import net.minecraft.block.state.IBlockState;
 import net.minecraft.entity.EntityLiving;
 import net.minecraft.entity.EntitySpawnPlacementRegistry;
 import net.minecraft.entity.EnumCreatureType;
 import net.minecraft.entity.IEntityLivingData;
-import net.minecraft.entity.player.EntityPlayer;
 import net.minecraft.server.management.PlayerChunkMapEntry;
 import net.minecraft.util.WeightedRandom;
 import net.minecraft.util.math.BlockPos;
@@ -54,7 +55,6 @@
 import org.spongepowered.asm.mixin.injection.callback.CallbackInfo;
 import org.spongepowered.common.SpongeImpl;
 import org.spongepowered.common.SpongeImplHooks;
-import org.spongepowered.common.bridge.entity.player.EntityPlayerBridge;
 import org.spongepowered.common.bridge.world.WorldServerBridge;
 import org.spongepowered.common.bridge.world.WorldInfoBridge;
 import org.spongepowered.common.bridge.world.chunk.ChunkBridge;
@@ -66,6 +66,7 @@
 import org.spongepowered.common.event.tracking.phase.generation.GenerationPhase;
 import org.spongepowered.common.registry.type.entity.EntityTypeRegistryModule;
 import org.spongepowered.common.util.SpawnerSpawnType;
+import org.spongepowered.common.world.MobSpawnTracker;
 
 import java.util.ArrayList;
 import java.util.Iterator;
@@ -109,6 +110,7 @@ public int findChunksForSpawning(final WorldServer world, final boolean spawnHos
 
             final WorldServerBridge spongeWorld = (WorldServerBridge) world;
             spongeWorld.bridge$getTimingsHandler().mobSpawn.startTiming();
+            spongeWorld.bridge$getTimingsHandler().mobSpawnSetup.startTiming();
 
             int chunkSpawnCandidates = 0;
             final int mobSpawnRange = Math.min(((WorldInfoBridge) world.getWorldInfo()).bridge$getConfigAdapter().getConfig().getWorld().getMobSpawnRange(),
@@ -118,50 +120,55 @@ public int findChunksForSpawning(final WorldServer world, final boolean spawnHos
             // mob spawn range set by server.
             final int MOB_SPAWN_COUNT_DIV = (2 * mobSpawnRange + 1) * (2 * mobSpawnRange + 1);
 
-            for (final EntityPlayer entityplayer : world.playerEntities) {
-                // We treat players who do not affect spawning as "spectators"
-                if (!((EntityPlayerBridge) entityplayer).bridge$affectsSpawning() || entityplayer.isSpectator()) {
+            // Sponge - The chunks around players are only recomputed for players that
+            // moved into another chunk, and each chunk counts once for every player it
+            // is in range of, same as iterating the area around every player would.
+            final MobSpawnTracker spawnTracker = spongeWorld.bridge$getMobSpawnTracker();
+            spawnTracker.updatePlayers(world.playerEntities, mobSpawnRange);
+            final ChunkProviderBridge chunkProvider = (ChunkProviderBridge) world.getChunkProvider();
+
+            for (final Long2IntMap.Entry entry : spawnTracker.getCandidateChunks().long2IntEntrySet()) {
+                final long key = entry.getLongKey();
+                final Chunk chunk = chunkProvider.bridge$getLoadedChunkWithoutMarkingActive((int) key, (int) (key >> 32));
+                if (chunk == null || (chunk.unloadQueued && !((ChunkBridge) chunk).bridge$isPersistedChunk())) {
+                    // Don't attempt to spawn in an unloaded chunk
                     continue;
                 }
+                chunkSpawnCandidates += entry.getIntValue();
+            }
 
-                final int playerPosX = MathHelper.floor(entityplayer.posX / 16.0D);
-                final int playerPosZ = MathHelper.floor(entityplayer.posZ / 16.0D);
-
-                for (int i = -mobSpawnRange; i <= mobSpawnRange; ++i) {
-                    for (int j = -mobSpawnRange; j <= mobSpawnRange; ++j) {
-                        final boolean flag = i == -mobSpawnRange || i == mobSpawnRange || j == -mobSpawnRange || j == mobSpawnRange;
-                        final Chunk
-                            chunk =
-                            ((ChunkProviderBridge) world.getChunkProvider())
-                                .bridge$getLoadedChunkWithoutMarkingActive(i + playerPosX, j + playerPosZ);
-                        if (chunk == null || (chunk.unloadQueued && !((ChunkBridge) chunk).bridge$isPersistedChunk())) {
-                            // Don't attempt to spawn in an unloaded chunk
-                            continue;
-                        }
+            final LongIterator eligibleIterator = spawnTracker.getEligibleChunks().keySet().iterator();
+            while (eligibleIterator.hasNext()) {
+                final long key = eligibleIterator.nextLong();
+                final Chunk chunk = chunkProvider.bridge$getLoadedChunkWithoutMarkingActive((int) key, (int) (key >> 32));
+                if (chunk == null || (chunk.unloadQueued && !((ChunkBridge) chunk).bridge$isPersistedChunk())) {
+                    continue;
+                }
 
-                        final ChunkBridge spongeChunk = (ChunkBridge) chunk;
-                        ++chunkSpawnCandidates;
-                        final ChunkPos chunkPos = chunk.getPos();
-                        if (!flag && world.getWorldBorder().contains(chunkPos)) {
-                            final PlayerChunkMapEntry playerchunkmapentry = world.getPlayerChunkMap().getEntry(chunkPos.x, chunkPos.z);
+                final ChunkBridge spongeChunk = (ChunkBridge) chunk;
+                final ChunkPos chunkPos = chunk.getPos();
+                if (world.getWorldBorder().contains(chunkPos)) {
+                    final PlayerChunkMapEntry playerchunkmapentry = world.getPlayerChunkMap().getEntry(chunkPos.x, chunkPos.z);
 
-                            if (playerchunkmapentry != null && playerchunkmapentry.isSentToPlayers() && !spongeChunk.bridge$isSpawning()) {
-                                this.impl$eligibleSpawnChunks.add(chunk);
-                                spongeChunk.bridge$setIsSpawning(true);
-                            }
-                        }
+                    if (playerchunkmapentry != null && playerchunkmapentry.isSentToPlayers() && !spongeChunk.bridge$isSpawning()) {
+                        this.impl$eligibleSpawnChunks.add(chunk);
+                        spongeChunk.bridge$setIsSpawning(true);
                     }
                 }
             }
 
+            final long worldTotalTime = world.getTotalWorldTime();
+            spawnTracker.resyncIfNeeded(world.loadedEntityList, worldTotalTime);
+            spongeWorld.bridge$getTimingsHandler().mobSpawnSetup.stopTiming();
+
             // If there are no eligible chunks, return early
             if (this.impl$eligibleSpawnChunks.isEmpty()) {
                 spongeWorld.bridge$getTimingsHandler().mobSpawn.stopTiming();
                 return 0;
             }
 
+            spongeWorld.bridge$getTimingsHandler().mobSpawnSpawning.startTiming();
             int totalSpawned = 0;
-            final long worldTotalTime = world.getTotalWorldTime();
             final SpongeConfig<WorldConfig> configAdapter = ((WorldInfoBridge) world.getWorldInfo()).bridge$getConfigAdapter();
 
             labelOuterLoop:
@@ -187,7 +194,7 @@ public int findChunksForSpawning(final WorldServer world, final boolean spawnHos
                 }
 
                 if ((!enumCreatureType.getPeacefulCreature() || spawnPeacefulMobs) && (enumCreatureType.getPeacefulCreature() || spawnHostileMobs)) {
-                    final int entityCount = SpongeImplHooks.countEntities(world, enumCreatureType, true);
+                    final int entityCount = spawnTracker.getCreatureCount(enumCreatureType);
                     final int maxCount = limit * chunkSpawnCandidates / MOB_SPAWN_COUNT_DIV;
                     if (entityCount > maxCount) {
                         continue labelOuterLoop;
@@ -296,6 +303,7 @@ public int findChunksForSpawning(final WorldServer world, final boolean spawnHos
                 }
             }
 
+            spongeWorld.bridge$getTimingsHandler().mobSpawnSpawning.stopTiming();
             spongeWorld.bridge$getTimingsHandler().mobSpawn.stopTiming();
 
             return totalSpawned;
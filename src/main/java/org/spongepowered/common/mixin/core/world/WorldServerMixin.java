@@ -76,6 +76,7 @@
 import net.minecraft.world.chunk.Chunk;
 import net.minecraft.world.chunk.storage.ExtendedBlockStorage;
 import net.minecraft.world.gen.ChunkGeneratorEnd;
+import net.minecraft.world.chunk.storage.IChunkLoader;
 import net.minecraft.world.gen.ChunkProviderServer;
 import net.minecraft.world.gen.IChunkGenerator;
 import net.minecraft.world.storage.ISaveHandler;
@@ -152,6 +153,7 @@
 import org.spongepowered.common.bridge.world.chunk.ChunkBridge;
 import org.spongepowered.common.bridge.world.chunk.ChunkProviderBridge;
 import org.spongepowered.common.bridge.world.chunk.ChunkProviderServerBridge;
+import org.spongepowered.common.bridge.world.chunk.storage.AnvilChunkLoaderBridge;
 import org.spongepowered.common.bridge.world.gen.PopulatorProviderBridge;
 import org.spongepowered.common.config.SpongeConfig;
 import org.spongepowered.common.config.category.WorldCategory;
@@ -177,13 +179,17 @@
 import org.spongepowered.common.util.Constants;
 import org.spongepowered.common.util.SpongeHooks;
 import org.spongepowered.common.util.VecHelper;
+import org.spongepowered.common.world.MobSpawnTracker;
+import org.spongepowered.common.world.RandomTickScanner;
 import org.spongepowered.common.world.SpongeLocatableBlockBuilder;
+import org.spongepowered.common.world.TickThrottle;
 import org.spongepowered.common.world.WorldManager;
 import org.spongepowered.common.world.border.PlayerBorderListener;
 import org.spongepowered.common.world.gen.SpongeChunkGenerator;
 import org.spongepowered.common.world.gen.SpongeGenerationPopulator;
 import org.spongepowered.common.world.gen.SpongeWorldGenerator;
 import org.spongepowered.common.world.gen.WorldGenConstants;
+import org.spongepowered.common.world.storage.ChunkCodec;
 
 import java.util.ArrayList;
 import java.util.Collection;
@@ -213,10 +219,13 @@ public abstract class WorldServerMixin extends WorldMixin implements WorldServer
     private int impl$chunkLoadCount = 0;
     private long impl$chunkUnloadDelay = Constants.World.CHUNK_UNLOAD_DELAY;
     private boolean impl$weatherThunderEnabled = true;
+    @Nullable private RandomTickScanner impl$randomTickScanner;
     private boolean impl$weatherIceAndSnowEnabled = true;
     private int impl$dimensionId;
     @Nullable private NextTickListEntry impl$tmpScheduledObj;
     @Nullable private GenericGenerationContext impl$spawnGenerationContext;
+    private final TickThrottle impl$tickThrottle = new TickThrottle((WorldServer) (Object) this);
+    private final MobSpawnTracker impl$mobSpawnTracker = new MobSpawnTracker();
 
     @Shadow @Final private MinecraftServer server;
     @Shadow @Final private PlayerChunkMap playerChunkMap;
@@ -282,6 +291,10 @@ private void onSetWorld(final WorldProvider worldProvider, final World worldIn)
         this.impl$weatherThunderEnabled = worldCategory.getWeatherThunder();
         this.updateEntityTick = 0;
         this.setMemoryViewDistance(this.chooseViewDistanceValue(worldCategory.getViewDistance()));
+        final IChunkLoader chunkLoader = ((ChunkProviderServer) this.chunkProvider).chunkLoader;
+        if (chunkLoader instanceof AnvilChunkLoaderBridge) {
+            ((AnvilChunkLoaderBridge) chunkLoader).bridge$setChunkCodec(ChunkCodec.of(worldCategory));
+        }
     }
 
     @Redirect(method = "init", at = @At(value = "NEW", target = "net/minecraft/world/storage/MapStorage"))
@@ -547,12 +560,30 @@ protected void updateBlocks() {
         final boolean flag1 = this.isThundering();
         this.profiler.startSection("pollingChunks");
 
+        // Sponge start - Optionally pick the random tick candidates of all chunks in parallel up front
+        Iterator<net.minecraft.world.chunk.Chunk> chunkIterator = SpongeImplHooks.getChunkIterator((WorldServer) (Object) this);
+        RandomTickScanner scanner = null;
+        int scannedChunks = 0;
+        if (i > 0 && SpongeImpl.getGlobalConfigAdapter().getConfig().getOptimizations().getParallelRandomTickCategory().isEnabled()) {
+            final List<net.minecraft.world.chunk.Chunk> chunks = Lists.newArrayList(chunkIterator);
+            if (this.impl$randomTickScanner == null) {
+                this.impl$randomTickScanner = new RandomTickScanner();
+            }
+            scanner = this.impl$randomTickScanner;
+            this.updateLCG = this.updateLCG * 3 + 1013904223;
+            scanner.scan(chunks, i, this.updateLCG);
+            scannedChunks = chunks.size();
+            chunkIterator = chunks.iterator();
+        }
+        int chunkIndex = -1;
+        // Sponge end
+
         // Sponge: Use SpongeImplHooks for Forge
-        for (final Iterator<net.minecraft.world.chunk.Chunk> iterator =
-             SpongeImplHooks.getChunkIterator((WorldServer) (Object) this); iterator.hasNext(); ) // this.profiler.endSection()) // Sponge - don't use the profiler
+        for (final Iterator<net.minecraft.world.chunk.Chunk> iterator = chunkIterator; iterator.hasNext(); ) // this.profiler.endSection()) // Sponge - don't use the profiler
         {
             this.profiler.startSection("getChunk");
             final net.minecraft.world.chunk.Chunk chunk = iterator.next();
+            chunkIndex++; // Sponge
             final net.minecraft.world.World world = chunk.getWorld();
             final int j = chunk.x * 16;
             final int k = chunk.z * 16;
@@ -685,8 +716,23 @@ protected void updateBlocks() {
             this.impl$timings.updateBlocksRandomTick.startTiming(); // Sponge - Start random block tick timing
             this.profiler.endStartSection("tickBlocks");
 
-            if (i > 0)
+            // Sponge start - Tick the candidates picked by the parallel scan
+            if (scanner != null) {
+                final ExtendedBlockStorage[] storageArray = chunk.getBlockStorageArray();
+                final int candidates = scanner.getCandidateCount(chunkIndex);
+                for (int candidate = 0; candidate < candidates; candidate++) {
+                    final int packed = scanner.getCandidate(chunkIndex, candidate);
+                    final ExtendedBlockStorage extendedblockstorage = storageArray[packed >>> 12];
+                    // Earlier ticks may have changed the section since it was scanned
+                    if (extendedblockstorage != net.minecraft.world.chunk.Chunk.NULL_BLOCK_STORAGE && extendedblockstorage.needsRandomTick()) {
+                        this.impl$randomTickBlock(world, extendedblockstorage, packed & 15, packed >> 8 & 15, packed >> 4 & 15, j, k);
+                    }
+                }
+            } else if (i > 0) // Sponge end
             {
+                // Sponge - needsRandomTick() is backed by the section's count of random ticking block states, kept up to
+                // date by ExtendedBlockStorage#set and recalculated when the section is read from disk, so sections without
+                // any ticking blocks (stone, air, etc.) are skipped without sampling any position.
                 for (final ExtendedBlockStorage extendedblockstorage : chunk.getBlockStorageArray())
                 {
                     if (extendedblockstorage != net.minecraft.world.chunk.Chunk.NULL_BLOCK_STORAGE && extendedblockstorage.needsRandomTick())
@@ -698,43 +744,54 @@ protected void updateBlocks() {
                             final int k1 = j1 & 15;
                             final int l1 = j1 >> 8 & 15;
                             final int i2 = j1 >> 16 & 15;
-                            final IBlockState iblockstate = extendedblockstorage.get(k1, i2, l1);
-                            final Block block = iblockstate.getBlock();
-                            this.profiler.startSection("randomTick");
-
-                            if (block.getTickRandomly())
-                            {
-                                // Sponge start - capture random tick
-                                // Remove the random tick for cause tracking
-                                // block.randomTick(this, new BlockPos(k1 + j, i2 + extendedblockstorage.getYLocation(), l1 + k), iblockstate, this.rand);
-
-                                final BlockPos pos = new BlockPos(k1 + j, i2 + extendedblockstorage.getYLocation(), l1 + k);
-                                final BlockBridge spongeBlock = (BlockBridge) block;
-                                try (final Timing timing = ((TimingBridge) block).bridge$getTimingsHandler()) {
-                                    timing.startTiming();
-                                    final PhaseContext<?> context = PhaseTracker.getInstance().getCurrentContext();
-                                    final IPhaseState phaseState = context.state;
-                                    if (phaseState.alreadyCapturingBlockTicks(context)) {
-                                        block.randomTick(world, pos, iblockstate, this.rand);
-                                    } else {
-                                        TrackingUtil.randomTickBlock(this, block, pos, iblockstate, this.rand);
-                                    }
-                                }
-                                // Sponge end
-                            }
-
-                            this.profiler.endSection();
+                            // Sponge - Move the random tick into a method shared with the parallel scan
+                            this.impl$randomTickBlock(world, extendedblockstorage, k1, i2, l1, j, k);
                         }
                     }
                 }
             }
         }
+        // Sponge start - Don't hold on to chunks until the next tick
+        if (scanner != null) {
+            scanner.clear(scannedChunks);
+        }
+        // Sponge end
 
         this.impl$timings.updateBlocksRandomTick.stopTiming(); // Sponge - Stop random block timing
          this.profiler.endSection();
         // } // Sponge- Remove unnecessary else
     }
 
+    @SuppressWarnings({"unchecked", "rawtypes"})
+    private void impl$randomTickBlock(final net.minecraft.world.World world, final ExtendedBlockStorage extendedblockstorage,
+        final int x, final int y, final int z, final int chunkX, final int chunkZ) {
+        final IBlockState iblockstate = extendedblockstorage.get(x, y, z);
+        final Block block = iblockstate.getBlock();
+        this.profiler.startSection("randomTick");
+
+        if (block.getTickRandomly())
+        {
+            // Sponge start - capture random tick
+            // Remove the random tick for cause tracking
+            // block.randomTick(this, new BlockPos(k1 + j, i2 + extendedblockstorage.getYLocation(), l1 + k), iblockstate, this.rand);
+
+            final BlockPos pos = new BlockPos(x + chunkX, y + extendedblockstorage.getYLocation(), z + chunkZ);
+            try (final Timing timing = ((TimingBridge) block).bridge$getTimingsHandler()) {
+                timing.startTiming();
+                final PhaseContext<?> context = PhaseTracker.getInstance().getCurrentContext();
+                final IPhaseState phaseState = context.state;
+                if (phaseState.alreadyCapturingBlockTicks(context)) {
+                    block.randomTick(world, pos, iblockstate, this.rand);
+                } else {
+                    TrackingUtil.randomTickBlock(this, block, pos, iblockstate, this.rand);
+                }
+            }
+            // Sponge end
+        }
+
+        this.profiler.endSection();
+    }
+
     @Redirect(method = "tick", at = @At(value = "INVOKE", target = "Lnet/minecraft/world/storage/WorldInfo;setDifficulty(Lnet/minecraft/world/EnumDifficulty;)V"))
     private void syncDifficultyDueToHardcore(final WorldInfo worldInfo, final EnumDifficulty newDifficulty) {
         WorldManager.adjustWorldForDifficulty((WorldServer) (Object) this, newDifficulty, false);
@@ -1766,6 +1823,12 @@ public <T extends net.minecraft.entity.Entity> List<T> getEntitiesWithinAABB(fin
     @Inject(method = "onEntityAdded", at = @At("RETURN"))
     private void impl$entityAddedCallBridgeJoinWorld(final net.minecraft.entity.Entity entityIn, final CallbackInfo ci) {
         ((EntityBridge) entityIn).bridge$onJoinWorld();
+        this.impl$mobSpawnTracker.onEntityAdded(entityIn);
+    }
+
+    @Inject(method = "onEntityRemoved", at = @At("RETURN"))
+    private void impl$entityRemovedUpdateMobSpawnTracker(final net.minecraft.entity.Entity entityIn, final CallbackInfo ci) {
+        this.impl$mobSpawnTracker.onEntityRemoved(entityIn);
     }
 
     @Override
@@ -2435,6 +2498,16 @@ private void onTickUpdatesTickingEnd(final CallbackInfoReturnable<Boolean> cir)
         return this.impl$timings;
     }
 
+    @Override
+    public TickThrottle bridge$getTickThrottle() {
+        return this.impl$tickThrottle;
+    }
+
+    @Override
+    public MobSpawnTracker bridge$getMobSpawnTracker() {
+        return this.impl$mobSpawnTracker;
+    }
+
     @Inject(method = "updateWeather", at = @At(value = "FIELD", target = "Lnet/minecraft/world/WorldServer;prevRainingStrength:F"), cancellable = true)
     private void onAccessPreviousRain(final CallbackInfo ci) {
         final Weather weather = ((org.spongepowered.api.world.World) this).getWeather();
@@ -77,6 +77,7 @@
 import org.spongepowered.common.bridge.util.CacheKeyBridge;
 import org.spongepowered.common.bridge.world.WorldBridge;
 import org.spongepowered.common.bridge.world.WorldServerBridge;
+import org.spongepowered.common.bridge.world.WorldServerBridge_AsyncLighting;
 import org.spongepowered.common.bridge.world.chunk.ActiveChunkReferantBridge;
 import org.spongepowered.common.bridge.world.chunk.ChunkBridge;
 import org.spongepowered.common.bridge.world.chunk.ChunkProviderBridge;
@@ -139,6 +140,9 @@ public abstract class ChunkMixin implements ChunkBridge, CacheKeyBridge {
     private boolean impl$isSpawning = false;
     private final net.minecraft.world.chunk.Chunk[] impl$neighbors = new net.minecraft.world.chunk.Chunk[4];
     private long impl$cacheKey;
+    // The height to relight each column from once the deferred skylight update is performed, -1 if unchanged
+    @Nullable private int[] impl$deferredSkylightColumns;
+    private boolean impl$deferredSkylightMap;
 
     @Inject(method = "<init>(Lnet/minecraft/world/World;II)V", at = @At("RETURN"))
     private void impl$onConstruct(final World worldIn, final int x, final int z, final CallbackInfo ci) {
@@ -397,13 +401,18 @@ public IBlockState setBlockState(final BlockPos pos, final IBlockState state) {
         // Set up some default information variables for later processing
         final boolean isFake = ((WorldBridge) this.world).bridge$isFake();
         final TileEntity existing = this.getTileEntity(pos, net.minecraft.world.chunk.Chunk.EnumCreateEntityType.CHECK);
+        if (existing != null) {
+            // A previous change at this position may have lazily referenced the tile entity,
+            // its data has to be serialized before the tile entity can be changed or removed.
+            ((TileEntityBridge) existing).bridge$serializePendingSnapshot();
+        }
         final PhaseContext<?> peek = isFake ? null : PhaseTracker.getInstance().getCurrentContext();
         final IPhaseState state = isFake ? null : peek.state;
         final SpongeBlockSnapshot snapshot = (isFake
                                               || !ShouldFire.CHANGE_BLOCK_EVENT
                                               || !state.shouldCaptureBlockChangeOrSkip(peek, pos, currentState, newState, flag))
                                              ? null
-                                             : createSpongeBlockSnapshot(currentState, currentState, pos, flag, existing);
+                                             : createSpongeBlockSnapshot(currentState, newState, pos, flag, existing);
         final BlockTransaction.ChangeBlock transaction;
         final WorldServerBridge mixinWorld = isFake ? null : (WorldServerBridge) this.world;
 
@@ -490,9 +499,19 @@ public IBlockState setBlockState(final BlockPos pos, final IBlockState state) {
             return null;
         }
 
+        // Sponge start - Bulk edits update the heightmap and skylight once per column when they end. With async
+        // lighting, relights already run on the lighting threads against the heightmap of the moment they run,
+        // so they are not deferred.
+        final boolean deferSkylight = !isFake && !(this.world instanceof WorldServerBridge_AsyncLighting)
+            && state.defersSkylightUpdate(peek, (net.minecraft.world.chunk.Chunk) (Object) this);
+        // Sponge end
         // } else { // Sponge - remove unnecessary else
         if (requiresNewLightCalculations) {
-            this.generateSkylightMap();
+            if (deferSkylight) { // Sponge
+                this.impl$deferredSkylightMap = true;
+            } else {
+                this.generateSkylightMap();
+            }
         } else {
 
             // int newBlockLightOpacity = state.getLightOpacity(); - Sponge Forge moves this all the way up before tile entities are removed.
@@ -500,7 +519,9 @@ public IBlockState setBlockState(final BlockPos pos, final IBlockState state) {
             final int postNewBlockLightOpacity = SpongeImplHooks.getBlockLightOpacity(newState, this.world, pos);
             // Sponge End
 
-            if (newBlockLightOpacity > 0) {
+            if (deferSkylight) { // Sponge
+                this.impl$deferColumnRelight(combinedPos, yPos + 1);
+            } else if (newBlockLightOpacity > 0) {
                 if (yPos >= currentHeight) {
                     this.relightBlock(xPos, yPos + 1, zPos);
                 }
@@ -630,11 +651,11 @@ public IBlockState setBlockState(final BlockPos pos, final IBlockState state) {
     }
 
     private SpongeBlockSnapshot createSpongeBlockSnapshot(
-        final IBlockState state, final IBlockState extended, final BlockPos pos, final BlockChangeFlag updateFlag, @Nullable final TileEntity existing) {
+        final IBlockState state, final IBlockState newState, final BlockPos pos, final BlockChangeFlag updateFlag, @Nullable final TileEntity existing) {
         final SpongeBlockSnapshotBuilder builder = SpongeBlockSnapshotBuilder.pooled();
         builder.reset();
         builder.blockState(state)
-            .extendedState(extended)
+            .extendedState(state)
             .worldId(((org.spongepowered.api.world.World) this.world).getUniqueId())
             .position(VecHelper.toVector3i(pos));
         final Optional<UUID> creator = bridge$getBlockOwnerUUID(pos);
@@ -642,7 +663,15 @@ private SpongeBlockSnapshot createSpongeBlockSnapshot(
         creator.ifPresent(builder::creator);
         notifier.ifPresent(builder::notifier);
         if (existing != null) {
-            TrackingUtil.addTileEntityToBuilder(existing, builder);
+            // If the block stays and keeps its tile entity, nothing is going to mutate the tile entity
+            // as part of this change, so serializing it can wait until the tile data is actually needed.
+            if (state.getBlock() == newState.getBlock()
+                && SpongeImpl.getGlobalConfigAdapter().getConfig().getPhaseTracker().useLazyTileEntitySnapshots()
+                && !SpongeImplHooks.shouldRefresh(existing, this.world, pos, state, newState)) {
+                TrackingUtil.addTileEntityToBuilder(existing, builder, true);
+            } else {
+                TrackingUtil.addTileEntityToBuilder(existing, builder);
+            }
         }
         builder.flag(updateFlag);
         return builder.build();
@@ -826,6 +855,38 @@ private SpongeBlockSnapshot createSpongeBlockSnapshot(
         }
     }
 
+    private void impl$deferColumnRelight(final int combinedPos, final int y) {
+        int[] columns = this.impl$deferredSkylightColumns;
+        if (columns == null) {
+            columns = this.impl$deferredSkylightColumns = new int[256];
+            Arrays.fill(columns, -1);
+        }
+        // Relighting from the highest changed position covers every change below it
+        if (y > columns[combinedPos]) {
+            columns[combinedPos] = y;
+        }
+    }
+
+    @Override
+    public void bridge$updateDeferredSkylight() {
+        if (this.impl$deferredSkylightMap) {
+            this.impl$deferredSkylightMap = false;
+            this.generateSkylightMap();
+        }
+        final int[] columns = this.impl$deferredSkylightColumns;
+        if (columns == null) {
+            return;
+        }
+        this.impl$deferredSkylightColumns = null;
+        for (int combinedPos = 0; combinedPos < columns.length; combinedPos++) {
+            if (columns[combinedPos] >= 0) {
+                // Starts at the higher of the current height and the changed position and
+                // walks down to the new height, updating the skylight of the column once.
+                this.relightBlock(combinedPos & 15, columns[combinedPos], combinedPos >> 4);
+            }
+        }
+    }
+
     @Inject(method = "generateSkylightMap", at = @At("HEAD"), cancellable = true)
     private void impl$IfLightingEnabledCancel(final CallbackInfo ci) {
         if (!WorldGenConstants.lightingEnabled) {
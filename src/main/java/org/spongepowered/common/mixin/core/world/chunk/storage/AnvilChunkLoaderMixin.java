@@ -25,15 +25,22 @@
 package org.spongepowered.common.mixin.core.world.chunk.storage;
 
 import com.flowpowered.math.vector.Vector3d;
+import com.google.common.io.CountingOutputStream;
 import net.minecraft.entity.Entity;
 import net.minecraft.entity.EntityList;
 import net.minecraft.entity.item.EntityMinecart;
+import net.minecraft.nbt.CompressedStreamTools;
+import net.minecraft.nbt.NBTBase;
 import net.minecraft.nbt.NBTTagCompound;
 import net.minecraft.nbt.NBTTagList;
 import net.minecraft.util.ResourceLocation;
+import net.minecraft.util.datafix.DataFixer;
+import net.minecraft.util.datafix.FixTypes;
 import net.minecraft.util.math.ChunkPos;
 import net.minecraft.world.World;
 import net.minecraft.world.chunk.storage.AnvilChunkLoader;
+import net.minecraft.world.chunk.storage.ExtendedBlockStorage;
+import net.minecraft.world.chunk.storage.RegionFile;
 import net.minecraft.world.chunk.storage.RegionFileCache;
 import net.minecraft.world.storage.ThreadedFileIOBase;
 import org.apache.logging.log4j.Logger;
@@ -63,25 +70,56 @@
 import org.spongepowered.common.registry.type.entity.EntityTypeRegistryModule;
 import org.spongepowered.common.util.Constants;
 import org.spongepowered.common.util.QueuedChunk;
+import org.spongepowered.common.world.storage.ChunkCodec;
+import org.spongepowered.common.world.storage.ChunkReaderPool;
+import org.spongepowered.common.world.storage.ChunkSectionsSnapshot;
+import org.spongepowered.common.world.storage.ChunkWriterPool;
 
+import java.io.DataInputStream;
+import java.io.DataOutput;
+import java.io.DataOutputStream;
 import java.io.File;
+import java.io.IOException;
+import java.io.OutputStream;
 import java.nio.file.Path;
 import java.util.HashMap;
 import java.util.Map;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import javax.annotation.Nullable;
 
 @Mixin(AnvilChunkLoader.class)
 public abstract class AnvilChunkLoaderMixin implements AnvilChunkLoaderBridge {
 
+    private static final ExtendedBlockStorage[] EMPTY_SECTIONS = new ExtendedBlockStorage[0];
+
     private ConcurrentLinkedQueue<QueuedChunk> impl$queue = new ConcurrentLinkedQueue<>();
     private final Object impl$lock = new Object();
+    private final Map<Long, ChunkWriterPool.RegionWriter> impl$regionWriters = new ConcurrentHashMap<>();
+    private final AtomicInteger impl$pendingWrites = new AtomicInteger();
+    private volatile long impl$writeLag;
+    private boolean impl$useWriterPool;
+    private final Map<ChunkPos, ChunkSectionsSnapshot> impl$pendingSections = new ConcurrentHashMap<>();
+    @Nullable private ChunkSectionsSnapshot impl$capturedSections;
+    private final Map<ChunkPos, CompletableFuture<NBTTagCompound>> impl$prefetchedChunks = new ConcurrentHashMap<>();
+    private ChunkCodec impl$chunkCodec = ChunkCodec.VANILLA;
+    private boolean impl$deferSections;
 
     @Shadow @Final private static Logger LOGGER;
     @Shadow @Final private Map<ChunkPos, NBTTagCompound> chunksToSave;
     @Shadow @Final private File chunkSaveLocation;
     @Shadow private boolean flushing;
+    @Shadow @Final private DataFixer fixer;
 
     @Shadow private void writeChunkData(final ChunkPos pos, final NBTTagCompound compound) { } // Shadow
+    @Shadow private void writeChunkToNBT(final net.minecraft.world.chunk.Chunk chunkIn, final World worldIn, final NBTTagCompound compound) { } // Shadow
+    @Shadow @Nullable protected abstract net.minecraft.world.chunk.Chunk checkedReadChunkFromNBT(World worldIn, int x, int z, NBTTagCompound compound);
 
     @Inject(method = "writeChunkToNBT", at = @At(value = "RETURN"))
     private void impl$writeSpongeOwnerNotifierPosTable(final net.minecraft.world.chunk.Chunk chunkIn, final World worldIn,
@@ -213,7 +251,139 @@ private void onReadChunkFromNBT(final World worldIn, final NBTTagCompound compou
         }
         // Sponge end
 
-        return RegionFileCache.getChunkInputStream(this.chunkSaveLocation, x, z) != null;
+        // Sponge start - Only check the sector offsets of the region file, which are
+        // kept in memory once it is open, instead of reading and inflating the whole
+        // chunk. This also doesn't create a region file that doesn't exist yet.
+        // return RegionFileCache.getChunkInputStream(this.chunkSaveLocation, x, z) != null;
+        return RegionFileCache.chunkExists(this.chunkSaveLocation, x, z);
+        // Sponge end
+    }
+
+    @Inject(method = "<init>", at = @At("RETURN"))
+    private void impl$checkWriterPool(final File chunkSaveLocation, final DataFixer dataFixer, final CallbackInfo ci) {
+        // Decided once per loader, so that a region is never written by the pool
+        // and the vanilla thread at the same time.
+        this.impl$useWriterPool = ChunkWriterPool.isEnabled();
+    }
+
+    @Override
+    public void bridge$setChunkCodec(final ChunkCodec codec) {
+        this.impl$chunkCodec = codec;
+    }
+
+    @Redirect(method = "writeChunkData",
+        at = @At(value = "INVOKE",
+            target = "Lnet/minecraft/world/chunk/storage/RegionFileCache;getChunkOutputStream(Ljava/io/File;II)Ljava/io/DataOutputStream;"))
+    private DataOutputStream impl$getChunkOutputStream(final File worldDir, final int x, final int z) throws IOException {
+        final ChunkCodec codec = this.impl$chunkCodec;
+        if (codec == ChunkCodec.VANILLA) {
+            return RegionFileCache.getChunkOutputStream(worldDir, x, z);
+        }
+        final RegionFile region = RegionFileCache.createOrLoadRegionFile(worldDir, x, z);
+        return codec.openChunkOutputStream(region, x & 31, z & 31);
+    }
+
+    @Redirect(method = "writeChunkData",
+        at = @At(value = "INVOKE", target = "Lnet/minecraft/nbt/CompressedStreamTools;write(Lnet/minecraft/nbt/NBTTagCompound;Ljava/io/DataOutput;)V"))
+    private void impl$countWrittenBytes(final NBTTagCompound compound, final DataOutput output) throws IOException {
+        if (!(output instanceof OutputStream)) {
+            CompressedStreamTools.write(compound, output);
+            return;
+        }
+        final CountingOutputStream counter = new CountingOutputStream((OutputStream) output);
+        CompressedStreamTools.write(compound, new DataOutputStream(counter));
+        ChunkWriterPool.onBytesWritten(counter.getCount());
+    }
+
+    @Redirect(method = "saveChunk",
+        at = @At(value = "INVOKE",
+            target = "Lnet/minecraft/world/chunk/storage/AnvilChunkLoader;writeChunkToNBT(Lnet/minecraft/world/chunk/Chunk;Lnet/minecraft/world/World;Lnet/minecraft/nbt/NBTTagCompound;)V"))
+    private void impl$deferSectionSerialization(final AnvilChunkLoader loader, final net.minecraft.world.chunk.Chunk chunk, final World world,
+        final NBTTagCompound level) {
+        if (!SpongeImpl.getGlobalConfigAdapter().getConfig().getOptimizations().getChunkWriterCategory().serializeSectionsOffThread()) {
+            this.writeChunkToNBT(chunk, world, level);
+            return;
+        }
+        this.impl$deferSections = true;
+        try {
+            this.writeChunkToNBT(chunk, world, level);
+        } finally {
+            this.impl$deferSections = false;
+        }
+        final NBTBase sections = level.getTag("Sections");
+        if (sections instanceof NBTTagList && ((NBTTagList) sections).isEmpty()) {
+            this.impl$capturedSections = new ChunkSectionsSnapshot(level, (NBTTagList) sections, chunk.getBlockStorageArray(),
+                world.provider.hasSkyLight());
+        }
+    }
+
+    @Redirect(method = "writeChunkToNBT",
+        at = @At(value = "INVOKE", target = "Lnet/minecraft/world/chunk/Chunk;getBlockStorageArray()[Lnet/minecraft/world/chunk/storage/ExtendedBlockStorage;"))
+    private ExtendedBlockStorage[] impl$skipDeferredSections(final net.minecraft.world.chunk.Chunk chunk) {
+        // The sections are written by the chunk writer, see ChunkSectionsSnapshot
+        return this.impl$deferSections ? EMPTY_SECTIONS : chunk.getBlockStorageArray();
+    }
+
+    @Inject(method = {"loadChunk", "loadChunk__Async"}, at = @At("HEAD"), require = 0, expect = 0)
+    private void impl$completePendingSections(final World world, final int x, final int z, final CallbackInfoReturnable<?> cir) {
+        if (this.impl$pendingSections.isEmpty()) {
+            return;
+        }
+        final ChunkSectionsSnapshot sections = this.impl$pendingSections.get(new ChunkPos(x, z));
+        if (sections != null) {
+            // The chunk is loaded again before it was written, so the queued
+            // compound needs its sections now.
+            sections.complete();
+        }
+    }
+
+    @Inject(method = "loadChunk", at = @At("HEAD"), cancellable = true)
+    private void impl$loadPrefetchedChunk(final World world, final int x, final int z,
+        final CallbackInfoReturnable<net.minecraft.world.chunk.Chunk> cir) {
+        if (this.impl$prefetchedChunks.isEmpty()) {
+            return;
+        }
+        final CompletableFuture<NBTTagCompound> prefetched = this.impl$prefetchedChunks.remove(new ChunkPos(x, z));
+        if (prefetched == null) {
+            return;
+        }
+        final NBTTagCompound compound;
+        try {
+            compound = prefetched.join();
+        } catch (CompletionException | CancellationException e) {
+            // Read it again the vanilla way, which reports the failure
+            return;
+        }
+        if (compound != null) {
+            cir.setReturnValue(this.checkedReadChunkFromNBT(world, x, z, compound));
+        }
+    }
+
+    @Override
+    public CompletableFuture<?> bridge$prefetchChunk(final int x, final int z) {
+        return this.impl$prefetchedChunks.computeIfAbsent(new ChunkPos(x, z), pos -> ChunkReaderPool.read(() -> {
+            // Chunks still waiting to be written are loaded from memory anyways, and
+            // chunks which were never saved are left to the main thread to generate
+            if (this.chunksToSave.containsKey(pos) || !RegionFileCache.chunkExists(this.chunkSaveLocation, pos.x, pos.z)) {
+                return null;
+            }
+            final DataInputStream stream = RegionFileCache.getChunkInputStream(this.chunkSaveLocation, pos.x, pos.z);
+            if (stream == null) {
+                return null;
+            }
+            return this.fixer.process(FixTypes.CHUNK, CompressedStreamTools.read(stream));
+        }));
+    }
+
+    @Override
+    public void bridge$discardPrefetchedChunk(final int x, final int z) {
+        if (!this.impl$prefetchedChunks.isEmpty()) {
+            final CompletableFuture<NBTTagCompound> prefetched = this.impl$prefetchedChunks.remove(new ChunkPos(x, z));
+            if (prefetched != null) {
+                // Skips the read if it has not started yet
+                prefetched.cancel(false);
+            }
+        }
     }
 
     /**
@@ -225,10 +395,33 @@ private void onReadChunkFromNBT(final World worldIn, final NBTTagCompound compou
      */
     @Overwrite
     protected void addChunkToPending(final ChunkPos pos, final NBTTagCompound compound) {
+        final QueuedChunk queuedChunk = new QueuedChunk(pos, compound);
+        // Sponge start - Hand the deferred sections over to the writer
+        final ChunkSectionsSnapshot sections = this.impl$capturedSections;
+        this.impl$capturedSections = null;
+        if (sections != null && sections.isFor(compound)) {
+            queuedChunk.sections = sections;
+            this.impl$pendingSections.put(pos, sections);
+        }
+        // Sponge end
         synchronized (this.impl$lock) {
             this.chunksToSave.put(pos, compound);
         }
-        this.impl$queue.add(new QueuedChunk(pos, compound));
+        // Sponge - A chunk read ahead of this save is outdated now
+        final CompletableFuture<NBTTagCompound> prefetched = this.impl$prefetchedChunks.remove(pos);
+        if (prefetched != null) {
+            prefetched.cancel(false);
+        }
+        this.impl$pendingWrites.incrementAndGet();
+        ChunkWriterPool.onChunkQueued();
+
+        // Sponge start - Write through the region sharded pool
+        if (this.impl$useWriterPool) {
+            ChunkWriterPool.queue(this.impl$regionWriters, this, queuedChunk);
+            return;
+        }
+        // Sponge end
+        this.impl$queue.add(queuedChunk);
 
         ThreadedFileIOBase.getThreadedIOInstance().queueIO((AnvilChunkLoader) (Object) this);
     }
@@ -243,58 +436,94 @@ public boolean writeNextIO() {
         final QueuedChunk chunk = this.impl$queue.poll();
         if (chunk == null) {
             if (this.flushing) {
+                // Sponge - Wait for the chunks still being written by the pool
+                this.impl$awaitPendingWrites();
                 LOGGER.info("ThreadedAnvilChunkStorage ({}): All chunks are saved", new Object[] {this.chunkSaveLocation.getName()});
             }
 
             return false;
-        } else {
-            final ChunkPos chunkpos = chunk.coords;
-            boolean lvt_3_1_;
+        }
+        this.bridge$writeQueuedChunk(chunk);
+        return true;
+    }
 
-            try {
-                // this.field_193415_c.add(chunkpos);
-                final NBTTagCompound nbttagcompound = chunk.compound;
-
-                if (nbttagcompound != null) {
-                    int attempts = 0;
-                    Exception laste = null;
-                    while (attempts++ < 5) {
-                        try {
-                            this.writeChunkData(chunkpos, nbttagcompound);
-                            laste = null;
-                            break;
-                        } catch (Exception exception) {
-                            // LOGGER.error((String)"Failed to save chunk",
-                            // (Throwable)exception);
-                            laste = exception;
-                        }
-                        try {
-                            Thread.sleep(10);
-                        } catch (InterruptedException e) {
-                            e.printStackTrace();
-                        }
-                    }
-                    if (laste != null) {
-                        laste.printStackTrace();
-                    }
+    private void impl$awaitPendingWrites() {
+        synchronized (this.impl$lock) {
+            while (this.impl$pendingWrites.get() > 0) {
+                try {
+                    this.impl$lock.wait(10);
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                    return;
                 }
+            }
+        }
+    }
+
+    @Override
+    public void bridge$writeQueuedChunk(final QueuedChunk chunk) {
+        final ChunkPos chunkpos = chunk.coords;
+        final NBTTagCompound nbttagcompound = chunk.compound;
+        if (chunk.sections != null) {
+            chunk.sections.complete();
+            this.impl$pendingSections.remove(chunkpos, chunk.sections);
+        }
 
-                synchronized (this.impl$lock) {
-                    if (this.chunksToSave.get(chunkpos) == nbttagcompound) {
-                        this.chunksToSave.remove(chunkpos);
+        if (nbttagcompound != null) {
+            int attempts = 0;
+            Exception laste = null;
+            // Sponge - Keep the region file open while writing, clearing the region file cache would close it
+            final RegionFile region = ChunkWriterPool.acquireRegionFile(this.chunkSaveLocation, chunkpos.x, chunkpos.z);
+            try {
+                while (attempts++ < 5) {
+                    try {
+                        this.writeChunkData(chunkpos, nbttagcompound);
+                        laste = null;
+                        break;
+                    } catch (Exception exception) {
+                        // LOGGER.error((String)"Failed to save chunk",
+                        // (Throwable)exception);
+                        laste = exception;
+                    }
+                    try {
+                        Thread.sleep(10);
+                    } catch (InterruptedException e) {
+                        e.printStackTrace();
                     }
                 }
-                // Sponge - This will not equal if a newer version is still
-                // pending
-                lvt_3_1_ = true;
             } finally {
-                // this.field_193415_c.remove(chunkpos);
+                ChunkWriterPool.releaseRegionFile(region);
             }
+            if (laste != null) {
+                SpongeImpl.getLogger().error("Failed to save chunk [{}, {}] of {} after {} attempts", chunkpos.x, chunkpos.z,
+                    this.chunkSaveLocation, attempts - 1, laste);
+            }
+        }
+        this.impl$writeLag = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - chunk.queuedTime);
 
-            return lvt_3_1_;
+        synchronized (this.impl$lock) {
+            // Sponge - This will not equal if a newer version is still
+            // pending
+            if (this.chunksToSave.get(chunkpos) == nbttagcompound) {
+                this.chunksToSave.remove(chunkpos);
+            }
+            ChunkWriterPool.onChunkWritten();
+            if (this.impl$pendingWrites.decrementAndGet() <= 0) {
+                this.impl$lock.notifyAll();
+            }
         }
     }
 
+    @Override
+    public int bridge$getPendingChunkWrites() {
+        return Math.max(0, this.impl$pendingWrites.get());
+    }
+
+    @Override
+    public long bridge$getChunkWriteLag() {
+        return this.impl$writeLag;
+    }
+
     @Override
     public Path bridge$getWorldDir() {
         return this.chunkSaveLocation.toPath();
@@ -0,0 +1,73 @@
+/*
+ * This file is part of Sponge, licensed under the MIT License (MIT).
+ *
+ * Copyright (c) SpongePowered <https://www.spongepowered.org>
+ * Copyright (c) contributors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.spongepowered.common.mixin.core.world.chunk.storage;
+
+import net.minecraft.world.chunk.storage.RegionFile;
+import net.minecraft.world.chunk.storage.RegionFileCache;
+import org.spongepowered.asm.mixin.Final;
+import org.spongepowered.asm.mixin.Mixin;
+import org.spongepowered.asm.mixin.Shadow;
+import org.spongepowered.asm.mixin.injection.At;
+import org.spongepowered.asm.mixin.injection.Inject;
+import org.spongepowered.asm.mixin.injection.callback.CallbackInfo;
+import org.spongepowered.common.SpongeImpl;
+import org.spongepowered.common.world.storage.ChunkWriterPool;
+
+import java.io.File;
+import java.io.IOException;
+import java.util.Iterator;
+import java.util.Map;
+
+@Mixin(RegionFileCache.class)
+public abstract class RegionFileCacheMixin {
+
+    @Shadow @Final private static Map<File, RegionFile> REGIONS_BY_FILE;
+
+    /**
+     * Keeps the region files a chunk is being written to open. Closing them
+     * would fail the write, which is likely with many chunk writer threads
+     * writing to different regions while the cache is full.
+     */
+    @Inject(method = "clearRegionFileReferences", at = @At("HEAD"), cancellable = true)
+    private static void impl$keepRegionFilesInUse(final CallbackInfo ci) {
+        if (!ChunkWriterPool.hasRegionFilesInUse()) {
+            return;
+        }
+        final Iterator<RegionFile> iterator = REGIONS_BY_FILE.values().iterator();
+        while (iterator.hasNext()) {
+            final RegionFile region = iterator.next();
+            if (ChunkWriterPool.isRegionFileInUse(region)) {
+                continue;
+            }
+            try {
+                region.close();
+            } catch (IOException e) {
+                SpongeImpl.getLogger().error("Failed to close a region file", e);
+            }
+            iterator.remove();
+        }
+        ci.cancel();
+    }
+}
@@ -0,0 +1,118 @@
+/*
+ * This file is part of Sponge, licensed under the MIT License (MIT).
+ *
+ * Copyright (c) SpongePowered <https://www.spongepowered.org>
+ * Copyright (c) contributors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.spongepowered.common.mixin.core.world.chunk.storage;
+
+import net.minecraft.world.chunk.storage.RegionFile;
+import org.spongepowered.asm.mixin.Mixin;
+import org.spongepowered.asm.mixin.Overwrite;
+import org.spongepowered.asm.mixin.Shadow;
+import org.spongepowered.asm.mixin.injection.At;
+import org.spongepowered.asm.mixin.injection.Redirect;
+import org.spongepowered.common.bridge.world.chunk.storage.RegionFileBridge;
+import org.spongepowered.common.world.storage.ChunkCompression;
+
+import java.io.BufferedInputStream;
+import java.io.ByteArrayInputStream;
+import java.io.DataInputStream;
+import java.io.IOException;
+import java.io.RandomAccessFile;
+import java.util.List;
+
+import javax.annotation.Nullable;
+
+@Mixin(RegionFile.class)
+public abstract class RegionFileMixin implements RegionFileBridge {
+
+    @Shadow private RandomAccessFile dataFile;
+    @Shadow private List<Boolean> sectorFree;
+
+    @Shadow private boolean outOfBounds(final int x, final int z) { return false; } // Shadow
+    @Shadow private int getOffset(final int x, final int z) { return 0; } // Shadow
+    @Shadow protected abstract void write(int x, int z, byte[] data, int length);
+
+    private byte impl$compressionType = ChunkCompression.ZLIB.getId();
+
+    /**
+     * @author Sponge - October 18th, 2026
+     * @reason Reads chunks stored with any supported compression, detected
+     * from the compression type byte of each chunk.
+     *
+     * @param x The x coordinate of the chunk within the region
+     * @param z The z coordinate of the chunk within the region
+     * @return The stream of the decompressed chunk data, or null if the chunk
+     *     doesn't exist or can't be read
+     */
+    @Overwrite
+    @Nullable
+    public synchronized DataInputStream getChunkDataInputStream(final int x, final int z) {
+        if (this.outOfBounds(x, z)) {
+            return null;
+        }
+        try {
+            final int offset = this.getOffset(x, z);
+            if (offset == 0) {
+                return null;
+            }
+            final int sectorNumber = offset >> 8;
+            final int sectorCount = offset & 255;
+            if (sectorNumber + sectorCount > this.sectorFree.size()) {
+                return null;
+            }
+            this.dataFile.seek((long) (sectorNumber * 4096));
+            final int length = this.dataFile.readInt();
+            if (length > 4096 * sectorCount || length <= 0) {
+                return null;
+            }
+            // Sponge start - Detect the compression of the chunk
+            // if (b0 == 1) { GZIPInputStream } else if (b0 == 2) { InflaterInputStream } else { return null; }
+            final ChunkCompression compression = ChunkCompression.byId(this.dataFile.readByte());
+            if (compression == null) {
+                return null;
+            }
+            final byte[] data = new byte[length - 1];
+            this.dataFile.read(data);
+            return new DataInputStream(new BufferedInputStream(compression.wrap(new ByteArrayInputStream(data))));
+            // Sponge end
+        } catch (IOException e) {
+            return null;
+        }
+    }
+
+    @Redirect(method = "write(I[BI)V", at = @At(value = "INVOKE", target = "Ljava/io/RandomAccessFile;writeByte(I)V"))
+    private void impl$writeCompressionType(final RandomAccessFile dataFile, final int compressionType) throws IOException {
+        dataFile.writeByte(this.impl$compressionType);
+    }
+
+    @Override
+    public synchronized void bridge$writeChunk(final int x, final int z, final byte[] data, final int length, final byte compressionType) {
+        // Reentrant, so no other chunk can be written with this compression type
+        this.impl$compressionType = compressionType;
+        try {
+            this.write(x, z, data, length);
+        } finally {
+            this.impl$compressionType = ChunkCompression.ZLIB.getId();
+        }
+    }
+}
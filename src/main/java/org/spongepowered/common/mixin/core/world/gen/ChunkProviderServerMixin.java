@@ -56,6 +56,7 @@
 import org.spongepowered.common.bridge.world.chunk.ChunkBridge;
 import org.spongepowered.common.bridge.world.chunk.ChunkProviderBridge;
 import org.spongepowered.common.bridge.world.chunk.ChunkProviderServerBridge;
+import org.spongepowered.common.bridge.world.chunk.storage.AnvilChunkLoaderBridge;
 import org.spongepowered.common.config.category.WorldCategory;
 import org.spongepowered.common.event.tracking.IPhaseState;
 import org.spongepowered.common.event.tracking.PhaseContext;
@@ -64,11 +65,14 @@
 import org.spongepowered.common.util.CachedLong2ObjectMap;
 import org.spongepowered.common.util.Constants;
 import org.spongepowered.common.world.SpongeEmptyChunk;
+import org.spongepowered.common.world.storage.ChunkWriterPool;
+import org.spongepowered.common.world.storage.PendingChunkLoads;
 import org.spongepowered.common.world.storage.WorldStorageUtil;
 
 import java.io.ByteArrayOutputStream;
 import java.io.PrintStream;
 import java.util.Iterator;
+import java.util.Optional;
 import java.util.concurrent.CompletableFuture;
 
 import javax.annotation.Nullable;
@@ -81,6 +85,7 @@ public abstract class ChunkProviderServerMixin implements ChunkProviderServerBri
     private boolean impl$forceChunkRequests = false;
     private long impl$chunkUnloadDelay = Constants.World.DEFAULT_CHUNK_UNLOAD_DELAY;
     private int impl$maxChunkUnloads = Constants.World.MAX_CHUNK_UNLOADS;
+    @Nullable private PendingChunkLoads impl$pendingChunkLoads;
 
     @Shadow @Final private WorldServer world;
     @Shadow @Final private IChunkLoader chunkLoader;
@@ -129,6 +134,40 @@ public abstract class ChunkProviderServerMixin implements ChunkProviderServerBri
         return WorldStorageUtil.doesChunkExistSync(this.world, this.chunkLoader, chunkCoords);
     }
 
+    @Override
+    public CompletableFuture<Optional<Chunk>> bridge$loadChunkAsync(final int x, final int z) {
+        if (!SpongeImpl.getServer().isCallingFromMinecraftThread()) {
+            final CompletableFuture<Optional<Chunk>> future = new CompletableFuture<>();
+            SpongeImpl.getServer().addScheduledTask(() -> this.bridge$loadChunkAsync(x, z).whenComplete((chunk, error) -> {
+                if (error != null) {
+                    future.completeExceptionally(error);
+                } else {
+                    future.complete(chunk);
+                }
+            }));
+            return future;
+        }
+        final Chunk loadedChunk = this.getLoadedChunk(x, z);
+        if (loadedChunk != null) {
+            return CompletableFuture.completedFuture(Optional.of(loadedChunk));
+        }
+        if (!(this.chunkLoader instanceof AnvilChunkLoaderBridge)) {
+            return CompletableFuture.completedFuture(Optional.ofNullable(this.loadChunk(x, z)));
+        }
+        if (this.impl$pendingChunkLoads == null) {
+            this.impl$pendingChunkLoads = new PendingChunkLoads((AnvilChunkLoaderBridge) this.chunkLoader, this::loadChunk,
+                SpongeImpl.getServer()::addScheduledTask, SpongeImpl.getServer()::getTickCounter);
+        }
+        return this.impl$pendingChunkLoads.load(x, z);
+    }
+
+    @Override
+    public void bridge$removeChunkLoad(final int x, final int z) {
+        if (this.impl$pendingChunkLoads != null) {
+            this.impl$pendingChunkLoads.remove(x, z);
+        }
+    }
+
     /**
      * @author blood - October 25th, 2016
      * @reason Removes usage of droppedChunksSet in favor of unloaded flag.
@@ -273,7 +312,9 @@ public boolean tick()
             final Iterator<Chunk> iterator = this.loadedChunks.values().iterator();
             int chunksUnloaded = 0;
             final long now = System.currentTimeMillis();
-            while (chunksUnloaded < this.impl$maxChunkUnloads && iterator.hasNext()) {
+            // Unload fewer chunks while the chunk writers are falling behind
+            final int maxChunkUnloads = ChunkWriterPool.getUnloadLimit(this.impl$maxChunkUnloads);
+            while (chunksUnloaded < maxChunkUnloads && iterator.hasNext()) {
                 final Chunk chunk = iterator.next();
                 final ChunkBridge spongeChunk = (ChunkBridge) chunk;
                 if (chunk != null && chunk.unloadQueued && !spongeChunk.bridge$isPersistedChunk()) {
@@ -293,6 +334,9 @@ public boolean tick()
             ((WorldServerBridge) this.world).bridge$getTimingsHandler().doChunkUnload.stopTiming();
         }
 
+        if (this.impl$pendingChunkLoads != null) {
+            this.impl$pendingChunkLoads.expireCompletedLoads();
+        }
         this.chunkLoader.chunkTick();
         return false;
     }
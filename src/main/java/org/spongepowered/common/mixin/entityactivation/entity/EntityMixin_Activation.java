@@ -33,16 +33,17 @@
 import org.spongepowered.common.bridge.world.WorldBridge;
 import org.spongepowered.common.bridge.world.WorldInfoBridge;
 import org.spongepowered.common.mixin.plugin.entityactivation.EntityActivationRange;
-import org.spongepowered.common.mixin.plugin.entityactivation.interfaces.ActivationCapability;
+import org.spongepowered.common.mixin.plugin.entityactivation.interfaces.EntityActivationCapability;
 
 import javax.annotation.Nullable;
 
 @Mixin(value = net.minecraft.entity.Entity.class, priority = 1002)
-public abstract class EntityMixin_Activation implements ActivationCapability {
+public abstract class EntityMixin_Activation implements EntityActivationCapability {
 
     private final byte activation$activationType = EntityActivationRange.initializeEntityActivationType((net.minecraft.entity.Entity) (Object) this);
     private boolean activation$defaultActivationState = true;
     private long activation$activatedTick = Integer.MIN_VALUE;
+    private long activation$nearActivatedTick = Integer.MIN_VALUE;
     private int activation$activationRange;
     private boolean activation$refreshCache = false;
 
@@ -87,6 +88,16 @@ public abstract class EntityMixin_Activation implements ActivationCapability {
         this.activation$activatedTick = tick;
     }
 
+    @Override
+    public long activation$getNearActivatedTick() {
+        return this.activation$nearActivatedTick;
+    }
+
+    @Override
+    public void activation$setNearActivatedTick(final long tick) {
+        this.activation$nearActivatedTick = tick;
+    }
+
     @Override
     public int activation$getActivationRange() {
         return this.activation$activationRange;
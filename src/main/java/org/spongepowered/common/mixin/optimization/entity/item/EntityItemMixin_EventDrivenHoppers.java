@@ -0,0 +1,60 @@
+/*
+ * This file is part of Sponge, licensed under the MIT License (MIT).
+ *
+ * Copyright (c) SpongePowered <https://www.spongepowered.org>
+ * Copyright (c) contributors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.spongepowered.common.mixin.optimization.entity.item;
+
+import net.minecraft.entity.item.EntityItem;
+import net.minecraft.util.math.MathHelper;
+import org.spongepowered.asm.mixin.Mixin;
+import org.spongepowered.asm.mixin.injection.At;
+import org.spongepowered.asm.mixin.injection.Inject;
+import org.spongepowered.asm.mixin.injection.callback.CallbackInfo;
+import org.spongepowered.common.world.HopperWakeHelper;
+
+@Mixin(EntityItem.class)
+public abstract class EntityItemMixin_EventDrivenHoppers {
+
+    private int eventDrivenHopper$lastBlockX;
+    private int eventDrivenHopper$lastBlockY = Integer.MIN_VALUE;
+    private int eventDrivenHopper$lastBlockZ;
+
+    @Inject(method = "onUpdate", at = @At("RETURN"))
+    private void eventDrivenHopper$wakeUpHoppersBelow(final CallbackInfo ci) {
+        final EntityItem item = (EntityItem) (Object) this;
+        if (item.world.isRemote || item.isDead) {
+            return;
+        }
+        // Only items entering a new block can have reached the intake area of another hopper
+        final int blockX = MathHelper.floor(item.posX);
+        final int blockY = MathHelper.floor(item.posY);
+        final int blockZ = MathHelper.floor(item.posZ);
+        if (blockX != this.eventDrivenHopper$lastBlockX || blockY != this.eventDrivenHopper$lastBlockY
+            || blockZ != this.eventDrivenHopper$lastBlockZ) {
+            this.eventDrivenHopper$lastBlockX = blockX;
+            this.eventDrivenHopper$lastBlockY = blockY;
+            this.eventDrivenHopper$lastBlockZ = blockZ;
+            HopperWakeHelper.wakeHoppersBelow(item.world, item.getEntityBoundingBox());
+        }
+    }
+}
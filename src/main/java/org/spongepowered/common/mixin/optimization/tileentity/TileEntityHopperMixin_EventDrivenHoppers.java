@@ -0,0 +1,96 @@
+/*
+ * This file is part of Sponge, licensed under the MIT License (MIT).
+ *
+ * Copyright (c) SpongePowered <https://www.spongepowered.org>
+ * Copyright (c) contributors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.spongepowered.common.mixin.optimization.tileentity;
+
+import net.minecraft.item.ItemStack;
+import net.minecraft.tileentity.TileEntity;
+import net.minecraft.tileentity.TileEntityHopper;
+import net.minecraft.world.World;
+import org.spongepowered.asm.mixin.Mixin;
+import org.spongepowered.asm.mixin.Shadow;
+import org.spongepowered.asm.mixin.injection.At;
+import org.spongepowered.asm.mixin.injection.Inject;
+import org.spongepowered.asm.mixin.injection.callback.CallbackInfo;
+import org.spongepowered.asm.mixin.injection.callback.CallbackInfoReturnable;
+import org.spongepowered.common.bridge.optimization.EventDrivenHopperBridge;
+import org.spongepowered.common.event.ShouldFire;
+
+@Mixin(value = TileEntityHopper.class, priority = 1300)
+public abstract class TileEntityHopperMixin_EventDrivenHoppers extends TileEntity implements EventDrivenHopperBridge {
+
+    // Hoppers can also be changed by things that do not notify them, such as
+    // entity inventories, so a sleeping hopper still checks in every so often.
+    private static final int MAX_SLEEP_TICKS = 20;
+
+    @Shadow private long tickedGameTime;
+
+    @Shadow protected abstract boolean isOnTransferCooldown();
+
+    private boolean eventDrivenHopper$sleeping;
+    private long eventDrivenHopper$sleepTime;
+
+    @Override
+    public void hopperBridge$wakeUp() {
+        this.eventDrivenHopper$sleeping = false;
+    }
+
+    @Inject(method = "update", at = @At("HEAD"), cancellable = true)
+    private void eventDrivenHopper$skipUpdateWhileSleeping(final CallbackInfo ci) {
+        if (!this.eventDrivenHopper$sleeping) {
+            return;
+        }
+        final World world = this.world;
+        if (world == null || world.isRemote) {
+            return;
+        }
+        final long totalWorldTime = world.getTotalWorldTime();
+        if (totalWorldTime - this.eventDrivenHopper$sleepTime >= MAX_SLEEP_TICKS) {
+            this.eventDrivenHopper$sleeping = false;
+            return;
+        }
+        // Keep the tick time up to date, inserting into a hopper compares it to determine the cooldown
+        this.tickedGameTime = totalWorldTime;
+        ci.cancel();
+    }
+
+    @Inject(method = "updateHopper", at = @At("RETURN"))
+    private void eventDrivenHopper$sleepWhenIdle(final CallbackInfoReturnable<Boolean> cir) {
+        if (cir.getReturnValue() || this.world == null || this.world.isRemote || this.isOnTransferCooldown()) {
+            return;
+        }
+        // Plugins may cancel transfers based on state we can not observe
+        if (ShouldFire.CHANGE_INVENTORY_EVENT_TRANSFER_PRE) {
+            return;
+        }
+        this.eventDrivenHopper$sleeping = true;
+        this.eventDrivenHopper$sleepTime = this.world.getTotalWorldTime();
+    }
+
+    @Inject(method = "setInventorySlotContents", at = @At("HEAD"))
+    private void eventDrivenHopper$wakeUpOnSlotChange(final int index, final ItemStack stack, final CallbackInfo ci) {
+        this.eventDrivenHopper$sleeping = false;
+    }
+
+}
@@ -24,7 +24,6 @@
  */
 package org.spongepowered.common.mixin.optimization.world;
 
-import com.google.common.util.concurrent.ThreadFactoryBuilder;
 import net.minecraft.block.state.IBlockState;
 import net.minecraft.util.EnumFacing;
 import net.minecraft.util.math.BlockPos;
@@ -33,6 +32,9 @@
 import net.minecraft.world.WorldServer;
 import net.minecraft.world.chunk.Chunk;
 import org.spongepowered.asm.mixin.Mixin;
+import org.spongepowered.asm.mixin.injection.At;
+import org.spongepowered.asm.mixin.injection.Inject;
+import org.spongepowered.asm.mixin.injection.callback.CallbackInfo;
 import org.spongepowered.common.SpongeImpl;
 import org.spongepowered.common.SpongeImplHooks;
 import org.spongepowered.common.bridge.world.WorldServerBridge_AsyncLighting;
@@ -42,18 +44,23 @@
 import org.spongepowered.common.bridge.util.math.BlockPosBridge;
 import org.spongepowered.common.mixin.core.world.WorldMixin;
 import org.spongepowered.common.util.Constants;
+import org.spongepowered.common.world.lighting.LightingEngine;
 
 import java.util.List;
-import java.util.concurrent.ExecutorService;
-import java.util.concurrent.Executors;
 
 import javax.annotation.Nullable;
 
 @Mixin(value = WorldServer.class)
 public abstract class WorldServerMixin_Async_Lighting extends WorldMixin implements WorldServerBridge_AsyncLighting {
 
-    private ExecutorService asyncLightingImpl$lightExecutorService =
-                Executors.newFixedThreadPool(SpongeImpl.getGlobalConfigAdapter().getConfig().getOptimizations().getAsyncLightingCategory().getNumThreads(), new ThreadFactoryBuilder().setNameFormat("Sponge - Async Light Thread").build());
+    private final LightingEngine asyncLightingImpl$lightingEngine = new LightingEngine(this,
+        SpongeImpl.getGlobalConfigAdapter().getConfig().getOptimizations().getAsyncLightingCategory().getNumThreads());
+
+    @Inject(method = "tick", at = @At("HEAD"))
+    private void asyncLightingImpl$updatePlayerPositions(final CallbackInfo ci) {
+        this.asyncLightingImpl$lightingEngine.updatePlayerPositions(this.playerEntities);
+        this.asyncLightingImpl$lightingEngine.processDeferredUpdates();
+    }
 
     @Override
     public boolean checkLightFor(final EnumSkyBlock lightType, final BlockPos pos) {
@@ -67,7 +74,6 @@ public boolean checkLightFor(final EnumSkyBlock lightType, final BlockPos pos) {
         if (false && !this.isAreaLoaded(pos, 17, false)) {
             return false;
         } else {
-            final ChunkBridge_AsyncLighting spongeChunk = (ChunkBridge_AsyncLighting) currentChunk;
             int i = 0;
             int j = 0;
             //this.theProfiler.startSection("getBrightness"); // Sponge - don't use profiler off of main thread
@@ -183,13 +189,7 @@ public boolean checkLightFor(final EnumSkyBlock lightType, final BlockPos pos) {
             }
 
             // Sponge start - Asynchronous light updates
-            spongeChunk.asyncLightingBridge$getQueuedLightingUpdates(lightType).remove((Short) this.asyncLightingImpl$blockPosToShort(pos));
-            spongeChunk.asyncLightingBridge$getPendingLightUpdates().decrementAndGet();
-            for (final net.minecraft.world.chunk.Chunk neighborChunk : neighbors) {
-                final ChunkBridge_AsyncLighting neighbor = (ChunkBridge_AsyncLighting) neighborChunk;
-                neighbor.asyncLightingBridge$getPendingLightUpdates().decrementAndGet();
-            }
-
+            this.asyncLightingImpl$completeLightUpdate(lightType, pos, currentChunk, neighbors);
             // Sponge end
             //this.theProfiler.endSection(); // Sponge - don't use profiler off of main thread
             return true;
@@ -198,7 +198,7 @@ public boolean checkLightFor(final EnumSkyBlock lightType, final BlockPos pos) {
 
     @Override
     public boolean asyncLightingBridge$updateLightAsync(final EnumSkyBlock lightType, final BlockPos pos, @Nullable Chunk currentChunk) {
-        if (this.getMinecraftServer().isServerStopped() || this.asyncLightingImpl$lightExecutorService.isShutdown()) {
+        if (this.getMinecraftServer().isServerStopped() || this.asyncLightingImpl$lightingEngine.isShutdown()) {
             return false;
         }
 
@@ -212,12 +212,11 @@ public boolean checkLightFor(final EnumSkyBlock lightType, final BlockPos pos) {
         }
 
         final short shortPos = this.asyncLightingImpl$blockPosToShort(pos);
-        if (spongeChunk.asyncLightingBridge$getQueuedLightingUpdates(lightType).contains(shortPos)) {
+        if (!spongeChunk.asyncLightingBridge$getQueuedLightingUpdates(lightType).add(shortPos)) {
             return false;
         }
 
         final Chunk chunk = currentChunk;
-        spongeChunk.asyncLightingBridge$getQueuedLightingUpdates(lightType).add(shortPos);
         spongeChunk.asyncLightingBridge$getPendingLightUpdates().incrementAndGet();
         spongeChunk.asyncLightingBridge$setLightUpdateTime(chunk.getWorld().getTotalWorldTime());
 
@@ -253,11 +252,8 @@ public boolean checkLightFor(final EnumSkyBlock lightType, final BlockPos pos) {
             neighbor.asyncLightingBridge$setLightUpdateTime(chunk.getWorld().getTotalWorldTime());
         }
 
-        //System.out.println("size = " + ((ThreadPoolExecutor) this.asyncLightingImpl$lightExecutorService).getQueue().size());
         if (SpongeImpl.getServer().isCallingFromMinecraftThread()) {
-            this.asyncLightingImpl$lightExecutorService.execute(() -> {
-                this.asyncLightingBridge$checkLightAsync(lightType, pos, chunk, neighbors);
-            });
+            this.asyncLightingImpl$lightingEngine.queueUpdate(new LightingEngine.LightUpdate(lightType, pos, chunk, neighbors));
         } else {
             this.asyncLightingBridge$checkLightAsync(lightType, pos, chunk, neighbors);
         }
@@ -266,8 +262,24 @@ public boolean checkLightFor(final EnumSkyBlock lightType, final BlockPos pos) {
     }
 
     @Override
-    public ExecutorService asyncLightingBridge$getLightingExecutor() {
-        return this.asyncLightingImpl$lightExecutorService;
+    public void asyncLightingBridge$discardLightUpdate(final LightingEngine.LightUpdate update) {
+        this.asyncLightingImpl$completeLightUpdate(update.lightType, update.pos, update.chunk, update.neighbors);
+    }
+
+    @Override
+    public LightingEngine asyncLightingBridge$getLightingEngine() {
+        return this.asyncLightingImpl$lightingEngine;
+    }
+
+    private void asyncLightingImpl$completeLightUpdate(final EnumSkyBlock lightType, final BlockPos pos, final Chunk currentChunk,
+        final List<Chunk> neighbors) {
+        final ChunkBridge_AsyncLighting spongeChunk = (ChunkBridge_AsyncLighting) currentChunk;
+        spongeChunk.asyncLightingBridge$getQueuedLightingUpdates(lightType).remove(this.asyncLightingImpl$blockPosToShort(pos));
+        spongeChunk.asyncLightingBridge$getPendingLightUpdates().decrementAndGet();
+        for (final net.minecraft.world.chunk.Chunk neighborChunk : neighbors) {
+            final ChunkBridge_AsyncLighting neighbor = (ChunkBridge_AsyncLighting) neighborChunk;
+            neighbor.asyncLightingBridge$getPendingLightUpdates().decrementAndGet();
+        }
     }
 
     // Thread safe methods to retrieve a chunk during async light updates
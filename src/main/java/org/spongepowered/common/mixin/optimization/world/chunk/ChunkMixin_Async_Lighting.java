@@ -47,13 +47,12 @@
 import org.spongepowered.common.bridge.world.chunk.ChunkBridge_AsyncLighting;
 import org.spongepowered.common.bridge.world.chunk.ChunkProviderBridge;
 import org.spongepowered.common.util.Constants;
+import org.spongepowered.common.util.StripedShortSet;
+import org.spongepowered.common.world.lighting.LightingEngine;
 
 import java.util.Collections;
 import java.util.List;
-import java.util.Set;
-import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.ConcurrentLinkedQueue;
-import java.util.concurrent.ExecutorService;
 import java.util.concurrent.RejectedExecutionException;
 import java.util.concurrent.atomic.AtomicInteger;
 
@@ -63,12 +62,12 @@
 public abstract class ChunkMixin_Async_Lighting implements ChunkBridge_AsyncLighting {
 
     // Keeps track of block positions in this chunk currently queued for sky light update
-    private Set<Short> asyncLighting$queuedSkyLightingUpdates = ConcurrentHashMap.newKeySet();
+    private final StripedShortSet asyncLighting$queuedSkyLightingUpdates = new StripedShortSet();
     // Keeps track of block positions in this chunk currently queued for block light update
-    private Set<Short> asyncLighting$queuedBlockLightingUpdates = ConcurrentHashMap.newKeySet();
+    private final StripedShortSet asyncLighting$queuedBlockLightingUpdates = new StripedShortSet();
     private AtomicInteger asyncLighting$pendingLightUpdates = new AtomicInteger();
     private long asyncLighting$lightUpdateTime;
-    private ExecutorService asyncLighting$lightExecutorService;
+    private LightingEngine asyncLighting$lightingEngine;
     private boolean asyncLighting$isServerChunk;
 
     @Shadow @Final private World world;
@@ -99,7 +98,7 @@ public abstract class ChunkMixin_Async_Lighting implements ChunkBridge_AsyncLigh
     private void asyncLighting$initializeFields(final World worldIn, final int x, final int z, final CallbackInfo ci) {
         this.asyncLighting$isServerChunk = !((WorldBridge) worldIn).bridge$isFake();
         if (this.asyncLighting$isServerChunk) {
-            this.asyncLighting$lightExecutorService = ((WorldServerBridge_AsyncLighting) worldIn).asyncLightingBridge$getLightingExecutor();
+            this.asyncLighting$lightingEngine = ((WorldServerBridge_AsyncLighting) worldIn).asyncLightingBridge$getLightingEngine();
         }
     }
 
@@ -125,7 +124,7 @@ public abstract class ChunkMixin_Async_Lighting implements ChunkBridge_AsyncLigh
             final List<Chunk> neighbors = this.asyncLighting$getSurroundingChunks();
             if (this.isGapLightingUpdated && this.world.provider.hasSkyLight() && !skipRecheckGaps && !neighbors.isEmpty())
             {
-                this.asyncLighting$lightExecutorService.execute(() -> {
+                this.asyncLighting$lightingEngine.execute((Chunk) (Object) this, () -> {
                     this.asyncLighting$recheckGapsAsync(neighbors);
                 });
                 this.isGapLightingUpdated = false;
@@ -135,7 +134,7 @@ public abstract class ChunkMixin_Async_Lighting implements ChunkBridge_AsyncLigh
 
             if (!this.isLightPopulated && this.isTerrainPopulated && !neighbors.isEmpty())
             {
-                this.asyncLighting$lightExecutorService.execute(() -> {
+                this.asyncLighting$lightingEngine.execute((Chunk) (Object) this, () -> {
                     this.asyncLighting$checkLightAsync(neighbors);
                 });
                 // set to true to avoid requeuing the same task when not finished
@@ -259,7 +258,7 @@ public abstract class ChunkMixin_Async_Lighting implements ChunkBridge_AsyncLigh
     @Inject(method = "checkLight()V", at = @At("HEAD"), cancellable = true)
     private void asyncLighting$checkLightHead(final CallbackInfo ci) {
         if (this.asyncLighting$isServerChunk) {
-            if (this.world.getMinecraftServer().isServerStopped() || this.asyncLighting$lightExecutorService.isShutdown()) {
+            if (this.world.getMinecraftServer().isServerStopped() || this.asyncLighting$lightingEngine.isShutdown()) {
                 return;
             }
 
@@ -274,13 +273,13 @@ public abstract class ChunkMixin_Async_Lighting implements ChunkBridge_AsyncLigh
 
             if (SpongeImpl.getServer().isCallingFromMinecraftThread()) {
                 try {
-                    this.asyncLighting$lightExecutorService.execute(() -> {
+                    this.asyncLighting$lightingEngine.execute((Chunk) (Object) this, () -> {
                         this.asyncLighting$checkLightAsync(neighborChunks);
                     });
                 } catch (RejectedExecutionException e) {
                     // This could happen if ServerHangWatchdog kills the server
                     // between the start of the method and the execute() call.
-                    if (!this.world.getMinecraftServer().isServerStopped() && !this.asyncLighting$lightExecutorService.isShutdown()) {
+                    if (!this.world.getMinecraftServer().isServerStopped() && !this.asyncLighting$lightingEngine.isShutdown()) {
                         throw e;
                     }
                 }
@@ -502,7 +501,7 @@ else if (flag && k == 0 && !this.asyncLighting$checkWorldLight(blockpos$mutableb
     @Inject(method = "relightBlock", at = @At("HEAD"), cancellable = true)
     private void asyncLighting$onRelightBlock(final int x, final int y, final int z, final CallbackInfo ci) {
         if (this.asyncLighting$isServerChunk) {
-            this.asyncLighting$lightExecutorService.execute(() -> {
+            this.asyncLighting$lightingEngine.execute((Chunk) (Object) this, () -> {
                 this.asyncLighting$relightBlockAsync(x, y, z);
             });
             ci.cancel();
@@ -702,13 +701,13 @@ else if (flag && k == 0 && !this.asyncLighting$checkWorldLight(blockpos$mutableb
     }
 
     /**
-     * Gets the list of block positions currently queued for lighting updates.
+     * Gets the set of block positions currently queued for lighting updates.
      *
      * @param type The light type
-     * @return The list of queued block positions, empty if none
+     * @return The set of queued block positions
      */
     @Override
-    public Set<Short> asyncLightingBridge$getQueuedLightingUpdates(final EnumSkyBlock type) {
+    public StripedShortSet asyncLightingBridge$getQueuedLightingUpdates(final EnumSkyBlock type) {
         if (type == EnumSkyBlock.SKY) {
             return this.asyncLighting$queuedSkyLightingUpdates;
         }
@@ -0,0 +1,146 @@
+/*
+ * This file is part of Sponge, licensed under the MIT License (MIT).
+ *
+ * Copyright (c) SpongePowered <https://www.spongepowered.org>
+ * Copyright (c) contributors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.spongepowered.common.mixin.optimization.world.chunk;
+
+import com.google.common.base.Predicate;
+import net.minecraft.entity.Entity;
+import net.minecraft.util.ClassInheritanceMultiMap;
+import net.minecraft.util.math.AxisAlignedBB;
+import net.minecraft.util.math.MathHelper;
+import net.minecraft.world.World;
+import net.minecraft.world.chunk.Chunk;
+import org.spongepowered.asm.mixin.Final;
+import org.spongepowered.asm.mixin.Mixin;
+import org.spongepowered.asm.mixin.Shadow;
+import org.spongepowered.asm.mixin.injection.At;
+import org.spongepowered.asm.mixin.injection.Inject;
+import org.spongepowered.asm.mixin.injection.Redirect;
+import org.spongepowered.asm.mixin.injection.callback.CallbackInfo;
+import org.spongepowered.common.world.EntityCollisionGrid;
+
+import java.util.Collections;
+import java.util.Iterator;
+import java.util.List;
+
+import javax.annotation.Nullable;
+
+@Mixin(Chunk.class)
+public abstract class ChunkMixin_EntityCollisionGrid {
+
+    @Shadow @Final private World world;
+    @Shadow @Final public int x;
+    @Shadow @Final public int z;
+    @Shadow @Final private ClassInheritanceMultiMap<Entity>[] entityLists;
+
+    private final EntityCollisionGrid[] collisionGrid$grids = new EntityCollisionGrid[16];
+
+    @Inject(method = "addEntity", at = @At("RETURN"))
+    private void collisionGrid$addToGrid(final Entity entityIn, final CallbackInfo ci) {
+        final EntityCollisionGrid grid = this.collisionGrid$grids[entityIn.chunkCoordY];
+        if (grid != null) {
+            grid.add(entityIn);
+        }
+    }
+
+    @Inject(method = "removeEntityAtIndex", at = @At("RETURN"))
+    private void collisionGrid$removeFromGrid(final Entity entityIn, final int index, final CallbackInfo ci) {
+        final int section = MathHelper.clamp(index, 0, this.entityLists.length - 1);
+        final EntityCollisionGrid grid = this.collisionGrid$grids[section];
+        if (grid != null) {
+            grid.remove(entityIn);
+            if (grid.size() < EntityCollisionGrid.MIN_ENTITIES / 2) {
+                grid.clear();
+                this.collisionGrid$grids[section] = null;
+            }
+        }
+    }
+
+    @Inject(method = "onUnload", at = @At("RETURN"))
+    private void collisionGrid$clearGridsOnUnload(final CallbackInfo ci) {
+        for (int i = 0; i < this.collisionGrid$grids.length; i++) {
+            if (this.collisionGrid$grids[i] != null) {
+                this.collisionGrid$grids[i].clear();
+                this.collisionGrid$grids[i] = null;
+            }
+        }
+    }
+
+    @SuppressWarnings("Guava")
+    @Redirect(method = "getEntitiesWithinAABBForEntity",
+        at = @At(value = "INVOKE", target = "Lnet/minecraft/util/ClassInheritanceMultiMap;iterator()Ljava/util/Iterator;"))
+    private Iterator<Entity> collisionGrid$queryGrid(final ClassInheritanceMultiMap<Entity> entities, @Nullable final Entity entityIn,
+        final AxisAlignedBB aabb, final List<Entity> listToFill, final Predicate<? super Entity> filter) {
+        final EntityCollisionGrid grid = this.collisionGrid$getGrid(entities);
+        if (grid == null) {
+            return entities.iterator();
+        }
+        // The grid fills the list itself, leaving nothing for the vanilla loop to test
+        grid.getEntitiesWithinAABBForEntity(entityIn, aabb, listToFill, filter);
+        return Collections.emptyIterator();
+    }
+
+    @SuppressWarnings("Guava")
+    @Redirect(method = "getEntitiesOfTypeWithinAABB",
+        at = @At(value = "INVOKE", target = "Lnet/minecraft/util/ClassInheritanceMultiMap;getByClass(Ljava/lang/Class;)Ljava/lang/Iterable;"))
+    private <T extends Entity> Iterable<T> collisionGrid$queryGridByClass(final ClassInheritanceMultiMap<Entity> entities,
+        final Class<T> clazz, final Class<? extends T> entityClass, final AxisAlignedBB aabb, final List<T> listToFill,
+        final Predicate<? super T> filter) {
+        final EntityCollisionGrid grid = this.collisionGrid$getGrid(entities);
+        if (grid == null) {
+            return entities.getByClass(clazz);
+        }
+        grid.getEntitiesOfTypeWithinAABB(entityClass, aabb, listToFill, filter);
+        return Collections.emptyList();
+    }
+
+    /**
+     * Gets the grid of the given section entity list, building it if the
+     * section has grown large enough to benefit from one.
+     *
+     * @param entities The entity list of a section of this chunk
+     * @return The grid, or null if the section should be searched directly
+     */
+    @Nullable
+    private EntityCollisionGrid collisionGrid$getGrid(final ClassInheritanceMultiMap<Entity> entities) {
+        if (this.world.isRemote) {
+            return null;
+        }
+        for (int section = 0; section < this.entityLists.length; section++) {
+            if (this.entityLists[section] != entities) {
+                continue;
+            }
+            EntityCollisionGrid grid = this.collisionGrid$grids[section];
+            if (grid == null && entities.size() >= EntityCollisionGrid.MIN_ENTITIES) {
+                grid = new EntityCollisionGrid(this.x, section, this.z);
+                for (final Entity entity : entities) {
+                    grid.add(entity);
+                }
+                this.collisionGrid$grids[section] = grid;
+            }
+            return grid;
+        }
+        return null;
+    }
+}
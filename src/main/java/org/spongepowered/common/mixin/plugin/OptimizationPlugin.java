@@ -133,6 +133,18 @@ public void postApply(String targetClassName, ClassNode targetClass, String mixi
                     OptimizationCategory::isOptimizeHoppers)
             .put("org.spongepowered.common.mixin.optimization.tileentity.TileEntityHopperMixin_HopperOptimization",
                     OptimizationCategory::isOptimizeHoppers)
+            .put("org.spongepowered.common.mixin.optimization.tileentity.TileEntityMixin_EventDrivenHoppers",
+                    OptimizationCategory::useEventDrivenHoppers)
+            .put("org.spongepowered.common.mixin.optimization.tileentity.TileEntityHopperMixin_EventDrivenHoppers",
+                    OptimizationCategory::useEventDrivenHoppers)
+            .put("org.spongepowered.common.mixin.optimization.block.BlockHopperMixin_EventDrivenHoppers",
+                    OptimizationCategory::useEventDrivenHoppers)
+            .put("org.spongepowered.common.mixin.optimization.entity.item.EntityItemMixin_EventDrivenHoppers",
+                    OptimizationCategory::useEventDrivenHoppers)
+            .put("org.spongepowered.common.mixin.optimization.entity.EntityMixin_EntityCollisionGrid",
+                    OptimizationCategory::useEntityCollisionGrid)
+            .put("org.spongepowered.common.mixin.optimization.world.chunk.ChunkMixin_EntityCollisionGrid",
+                    OptimizationCategory::useEntityCollisionGrid)
             .put("org.spongepowered.common.mixin.optimization.entity.EntityMixin_UseActiveChunkForCollisions",
                     OptimizationCategory::isUseActiveChunkForCollisions)
             .put("org.spongepowered.common.mixin.optimization.world.WorldMixin_UseActiveChunkForCollisions",
@@ -27,7 +27,8 @@
 import static com.google.common.base.Preconditions.checkNotNull;
 
 import com.google.common.collect.ImmutableMap;
-import com.google.common.collect.Maps;
+import it.unimi.dsi.fastutil.longs.Long2ObjectMap;
+import it.unimi.dsi.fastutil.longs.Long2ObjectOpenHashMap;
 import net.minecraft.entity.Entity;
 import net.minecraft.entity.EntityLiving;
 import net.minecraft.entity.EntityLivingBase;
@@ -51,6 +52,7 @@
 import net.minecraft.entity.projectile.EntityFireball;
 import net.minecraft.entity.projectile.EntityThrowable;
 import net.minecraft.util.math.AxisAlignedBB;
+import net.minecraft.util.math.ChunkPos;
 import net.minecraft.util.math.MathHelper;
 import net.minecraft.world.World;
 import net.minecraft.world.WorldServer;
@@ -64,6 +66,7 @@
 import org.spongepowered.common.bridge.entity.EntityBridge;
 import org.spongepowered.common.bridge.world.WorldBridge;
 import org.spongepowered.common.bridge.world.WorldInfoBridge;
+import org.spongepowered.common.bridge.world.WorldServerBridge;
 import org.spongepowered.common.bridge.world.chunk.ActiveChunkReferantBridge;
 import org.spongepowered.common.bridge.world.chunk.ChunkBridge;
 import org.spongepowered.common.bridge.world.chunk.ChunkProviderBridge;
@@ -77,8 +80,10 @@
 import org.spongepowered.common.mixin.core.entity.EntityLivingBaseAccessor;
 import org.spongepowered.common.mixin.entityactivation.util.math.AxisAlignedBBAccessor_EntityActivation;
 import org.spongepowered.common.mixin.plugin.entityactivation.interfaces.ActivationCapability;
+import org.spongepowered.common.mixin.plugin.entityactivation.interfaces.EntityActivationCapability;
 
-import java.util.Map;
+import java.util.ArrayList;
+import java.util.List;
 
 public class EntityActivationRange {
 
@@ -90,14 +95,8 @@ public class EntityActivationRange {
             .put((byte) 5, "misc")
             .build();
 
-    static AxisAlignedBB maxBB = new AxisAlignedBB(0, 0, 0, 0, 0, 0);
-    static AxisAlignedBB miscBB = new AxisAlignedBB(0, 0, 0, 0, 0, 0);
-    static AxisAlignedBB creatureBB = new AxisAlignedBB(0, 0, 0, 0, 0, 0);
-    static AxisAlignedBB monsterBB = new AxisAlignedBB(0, 0, 0, 0, 0, 0);
-    static AxisAlignedBB aquaticBB = new AxisAlignedBB(0, 0, 0, 0, 0, 0);
-    static AxisAlignedBB ambientBB = new AxisAlignedBB(0, 0, 0, 0, 0, 0);
-    static AxisAlignedBB tileEntityBB = new AxisAlignedBB(0, 0, 0, 0, 0, 0);
-    static Map<Byte, Integer> maxActivationRanges = Maps.newHashMap();
+    // The largest activation range of any entity type, bounding the chunks checked around players
+    static int maxActivationRange;
 
     /**
      * Initializes an entities type on construction to specify what group this
@@ -218,39 +217,50 @@ public static void growBb(final AxisAlignedBB target, final AxisAlignedBB source
      * Find what entities are in range of the players in the world and set
      * active if in range.
      *
+     * <p>Every loaded chunk within the maximum activation range of a player
+     * is collected once along with the players that can reach it, so each
+     * entity is only visited a single time per tick and tested against the
+     * players near its chunk.</p>
+     *
      * @param world The world to perform activation checks in
      */
     public static void activateEntities(final World world) {
-        if (((WorldBridge) world).bridge$isFake()) {
+        if (((WorldBridge) world).bridge$isFake() || world.playerEntities.isEmpty()) {
             return;
         }
 
-        for (final EntityPlayer player : world.playerEntities) {
+        final long currentTick = SpongeImpl.getServer().getTickCounter();
+        final int maxRange = Math.min((((org.spongepowered.api.world.World) world).getViewDistance() << 4) - 8, maxActivationRange);
+        final Long2ObjectMap<List<EntityPlayer>> playersByChunk = new Long2ObjectOpenHashMap<>();
 
-            int maxRange = 0;
-            for (final Integer range : maxActivationRanges.values()) {
-                if (range > maxRange) {
-                    maxRange = range;
+        for (final EntityPlayer player : world.playerEntities) {
+            ((ActivationCapability) player).activation$setActivatedTick(currentTick);
+
+            final AxisAlignedBB playerBB = player.getEntityBoundingBox();
+            final int minChunkX = MathHelper.floor((playerBB.minX - maxRange) / 16.0D);
+            final int maxChunkX = MathHelper.floor((playerBB.maxX + maxRange) / 16.0D);
+            final int minChunkZ = MathHelper.floor((playerBB.minZ - maxRange) / 16.0D);
+            final int maxChunkZ = MathHelper.floor((playerBB.maxZ + maxRange) / 16.0D);
+
+            for (int chunkX = minChunkX; chunkX <= maxChunkX; ++chunkX) {
+                for (int chunkZ = minChunkZ; chunkZ <= maxChunkZ; ++chunkZ) {
+                    final long key = ChunkPos.asLong(chunkX, chunkZ);
+                    List<EntityPlayer> players = playersByChunk.get(key);
+                    if (players == null) {
+                        players = new ArrayList<>(2);
+                        playersByChunk.put(key, players);
+                    }
+                    players.add(player);
                 }
             }
+        }
 
-            maxRange = Math.min((((org.spongepowered.api.world.World) world).getViewDistance() << 4) - 8, maxRange);
-            ((ActivationCapability) player).activation$setActivatedTick(SpongeImpl.getServer().getTickCounter());
-            growBb(maxBB, player.getEntityBoundingBox(), maxRange, 256, maxRange);
-
-            final int i = MathHelper.floor(maxBB.minX / 16.0D);
-            final int j = MathHelper.floor(maxBB.maxX / 16.0D);
-            final int k = MathHelper.floor(maxBB.minZ / 16.0D);
-            final int l = MathHelper.floor(maxBB.maxZ / 16.0D);
-
-            for (int i1 = i; i1 <= j; ++i1) {
-                for (int j1 = k; j1 <= l; ++j1) {
-                    final WorldServer worldserver = (WorldServer) world;
-                    final Chunk chunk = ((ChunkProviderBridge) worldserver.getChunkProvider()).bridge$getLoadedChunkWithoutMarkingActive(i1, j1);
-                    if (chunk != null) {
-                        activateChunkEntities(player, chunk);
-                    }
-                }
+        final ChunkProviderBridge chunkProvider = (ChunkProviderBridge) ((WorldServer) world).getChunkProvider();
+        for (final Long2ObjectMap.Entry<List<EntityPlayer>> entry : playersByChunk.long2ObjectEntrySet()) {
+            final long key = entry.getLongKey();
+            final Chunk chunk = chunkProvider.bridge$getLoadedChunkWithoutMarkingActive((int) key, (int) (key >> 32));
+            if (chunk != null) {
+                activateChunkEntities(entry.getValue(), chunk, currentTick);
             }
         }
     }
@@ -258,16 +268,16 @@ public static void activateEntities(final World world) {
     /**
      * Checks for the activation state of all entities in this chunk.
      *
+     * @param players The players within activation range of the chunk
      * @param chunk Chunk to check for activation
+     * @param currentTick The current server tick
      */
-    private static void activateChunkEntities(final EntityPlayer player, final Chunk chunk) {
+    private static void activateChunkEntities(final List<EntityPlayer> players, final Chunk chunk, final long currentTick) {
         for (int i = 0; i < chunk.getEntityLists().length; ++i) {
 
-            for (final Object o : chunk.getEntityLists()[i]) {
-                final Entity entity = (Entity) o;
+            for (final Entity entity : chunk.getEntityLists()[i]) {
                 final EntityType type = ((org.spongepowered.api.entity.Entity) entity).getType();
-                final ActivationCapability spongeEntity = (ActivationCapability) entity;
-                final long currentTick = SpongeImpl.getServer().getTickCounter();
+                final EntityActivationCapability spongeEntity = (EntityActivationCapability) entity;
                 if (!((EntityBridge) entity).bridge$shouldTick()) {
                     continue;
                 }
@@ -287,54 +297,41 @@ private static void activateChunkEntities(final EntityPlayer player, final Chunk
                         EntityActivationRange.initializeEntityActivationState(entity);
                         spongeEntity.activation$requiresActivationCacheRefresh(false);
                     }
-                    // check for entity type overrides
-                    final byte activationType = spongeEntity.activation$getActivationType();
-                    final int bbActivationRange = spongeEntity.activation$getActivationRange();
-
-                    if (activationType == 5) {
-                        growBb(miscBB, player.getEntityBoundingBox(), bbActivationRange, 256, bbActivationRange);
-                    } else if (activationType == 4) {
-                        growBb(ambientBB, player.getEntityBoundingBox(), bbActivationRange, 256, bbActivationRange);
-                    } else if (activationType == 3) {
-                        growBb(aquaticBB, player.getEntityBoundingBox(), bbActivationRange, 256, bbActivationRange);
-                    } else if (activationType == 2) {
-                        growBb(creatureBB, player.getEntityBoundingBox(), bbActivationRange, 256, bbActivationRange);
-                    } else {
-                        growBb(monsterBB, player.getEntityBoundingBox(), bbActivationRange, 256, bbActivationRange);
-                    }
 
-                    switch (spongeEntity.activation$getActivationType()) {
-                        case 1:
-                            if (monsterBB.intersects(entity.getEntityBoundingBox())) {
-                                spongeEntity.activation$setActivatedTick(currentTick);
-                            }
-                            break;
-                        case 2:
-                            if (creatureBB.intersects(entity.getEntityBoundingBox())) {
-                                spongeEntity.activation$setActivatedTick(currentTick);
-                            }
-                            break;
-                        case 3:
-                            if (aquaticBB.intersects(entity.getEntityBoundingBox())) {
-                                spongeEntity.activation$setActivatedTick(currentTick);
-                            }
-                            break;
-                        case 4:
-                            if (ambientBB.intersects(entity.getEntityBoundingBox())) {
-                                spongeEntity.activation$setActivatedTick(currentTick);
-                            }
-                            break;
-                        case 5:
-                        default:
-                            if (miscBB.intersects(entity.getEntityBoundingBox())) {
-                                spongeEntity.activation$setActivatedTick(currentTick);
+                    final int range = spongeEntity.activation$getActivationRange();
+                    final AxisAlignedBB entityBB = entity.getEntityBoundingBox();
+                    for (final EntityPlayer player : players) {
+                        final AxisAlignedBB playerBB = player.getEntityBoundingBox();
+                        if (isInActivationRange(playerBB, entityBB, range)) {
+                            spongeEntity.activation$setActivatedTick(currentTick);
+                            // entities in the inner half of their range are never throttled
+                            if (isInActivationRange(playerBB, entityBB, range >> 1)) {
+                                spongeEntity.activation$setNearActivatedTick(currentTick);
+                                break;
                             }
+                        }
                     }
                 }
             }
         }
     }
 
+    /**
+     * Checks whether the given entity bounding box intersects the player
+     * bounding box grown by the activation range, without allocating a
+     * new bounding box.
+     *
+     * @param playerBB The player bounding box
+     * @param entityBB The entity bounding box
+     * @param range The horizontal activation range
+     * @return Whether the entity is within the activation range
+     */
+    private static boolean isInActivationRange(final AxisAlignedBB playerBB, final AxisAlignedBB entityBB, final int range) {
+        return entityBB.minX < playerBB.maxX + range && entityBB.maxX > playerBB.minX - range
+                && entityBB.minY < playerBB.maxY + 256 && entityBB.maxY > playerBB.minY - 256
+                && entityBB.minZ < playerBB.maxZ + range && entityBB.maxZ > playerBB.minZ - range;
+    }
+
     /**
      * If an entity is not in range, do some more checks to see if we should
      * give it a shot.
@@ -409,7 +406,7 @@ public static boolean checkIfActive(final Entity entity) {
         }
 
         final long currentTick = SpongeImpl.getServer().getTickCounter();
-        final ActivationCapability spongeEntity = (ActivationCapability) entity;
+        final EntityActivationCapability spongeEntity = (EntityActivationCapability) entity;
         boolean isActive = spongeEntity.activation$getActivatedTick() >= currentTick || spongeEntity.activation$getDefaultActivationState();
 
         // Should this entity tick?
@@ -423,7 +420,9 @@ public static boolean checkIfActive(final Entity entity) {
                 isActive = true;
             }
             // Add a little performance juice to active entities. Skip 1/4 if not immune.
-        } else if (!spongeEntity.activation$getDefaultActivationState() && entity.ticksExisted % 4 == 0 && !checkEntityImmunities(entity)) {
+        } else if (!spongeEntity.activation$getDefaultActivationState()
+                && (entity.ticksExisted % 4 == 0 || isThrottled(entity, spongeEntity, currentTick))
+                && !checkEntityImmunities(entity)) {
             isActive = false;
         }
 
@@ -434,6 +433,22 @@ public static boolean checkIfActive(final Entity entity) {
         return isActive;
     }
 
+    /**
+     * Checks if the entity is far enough from players to have its ticks
+     * throttled by the tick throttle of its world this tick.
+     *
+     * @param entity The entity to check
+     * @param spongeEntity The activation capability of the entity
+     * @param currentTick The current server tick
+     * @return Whether the entity should skip this tick
+     */
+    private static boolean isThrottled(final Entity entity, final EntityActivationCapability spongeEntity, final long currentTick) {
+        if (spongeEntity.activation$getNearActivatedTick() >= currentTick || !(entity.world instanceof WorldServer)) {
+            return false;
+        }
+        return ((WorldServerBridge) entity.world).bridge$getTickThrottle().shouldSkip(entity.getEntityId(), currentTick);
+    }
+
     public static void addEntityToConfig(final World world, final SpongeEntityType type, final byte activationType) {
         checkNotNull(world, "world");
         checkNotNull(type, "type");
@@ -479,12 +494,9 @@ public static void addEntityToConfig(final World world, final SpongeEntityType t
             }
         }
 
-        // check max ranges
-        final Integer maxRange = maxActivationRanges.get(activationType);
-        if (maxRange == null) {
-            maxActivationRanges.put(activationType, activationRange);
-        } else if (activationRange > maxRange) {
-            maxActivationRanges.put(activationType, activationRange);
+        // check max range
+        if (activationRange > maxActivationRange) {
+            maxActivationRange = activationRange;
         }
 
         if (autoPopulate && requiresSave) {
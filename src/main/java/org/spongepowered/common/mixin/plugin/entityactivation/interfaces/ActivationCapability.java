@@ -55,4 +55,13 @@ public interface ActivationCapability {
 
     void activation$setSpongeTickRate(int tickRate);
 
+    // tileentity throttling
+    int activation$getThrottledTicks();
+
+    void activation$setThrottledTicks(int ticks);
+
+    int activation$getElapsedTicks();
+
+    void activation$setElapsedTicks(int ticks);
+
 }
@@ -38,6 +38,7 @@
 import org.spongepowered.common.SpongeImpl;
 import org.spongepowered.common.bridge.tileentity.TileEntityBridge;
 import org.spongepowered.common.bridge.world.WorldInfoBridge;
+import org.spongepowered.common.bridge.world.WorldServerBridge;
 import org.spongepowered.common.bridge.world.chunk.ActiveChunkReferantBridge;
 import org.spongepowered.common.bridge.world.chunk.ChunkBridge;
 import org.spongepowered.common.config.SpongeConfig;
@@ -50,6 +51,7 @@
 import org.spongepowered.common.mixin.core.server.management.PlayerchunkMapEntryAccessor;
 import org.spongepowered.common.mixin.plugin.entityactivation.interfaces.ActivationCapability;
 import org.spongepowered.common.util.VecHelper;
+import org.spongepowered.common.world.TickThrottle;
 
 import java.util.Map;
 
@@ -220,10 +222,28 @@ public static boolean checkIfActive(final TileEntity tileEntity) {
         }
 
         // check tick rate
-        if (isActive && world.getWorldInfo().getWorldTotalTime() % spongeTileEntity.activation$getSpongeTickRate() != 0L) {
+        final long worldTime = world.getWorldInfo().getWorldTotalTime();
+        final int tickRate = spongeTileEntity.activation$getSpongeTickRate();
+        if (isActive && worldTime % tickRate != 0L) {
             isActive = false;
         }
 
+        // throttle non-critical tileentities when the server is under load, the skipped
+        // updates are counted in world ticks at the tick rate so realtime tileentities can
+        // catch up on the next update
+        if (isActive && !activeChunk.bridge$isPersistedChunk() && world instanceof WorldServer) {
+            final TickThrottle throttle = ((WorldServerBridge) world).bridge$getTickThrottle();
+            if (throttle.isThrottled(((org.spongepowered.api.block.tileentity.TileEntity) tileEntity).getType())
+                    && throttle.shouldSkip(tileEntity.getPos().hashCode(), worldTime / tickRate)) {
+                spongeTileEntity.activation$setThrottledTicks(spongeTileEntity.activation$getThrottledTicks() + 1);
+                isActive = false;
+            }
+        }
+
+        if (isActive) {
+            spongeTileEntity.activation$setElapsedTicks(spongeTileEntity.activation$getThrottledTicks() + 1);
+            spongeTileEntity.activation$setThrottledTicks(0);
+        }
         return isActive;
     }
 
@@ -33,6 +33,7 @@
 import org.spongepowered.asm.mixin.injection.Redirect;
 import org.spongepowered.common.bridge.world.WorldBridge;
 import org.spongepowered.common.bridge.RealTimeTrackingBridge;
+import org.spongepowered.common.world.TickThrottle;
 
 @Mixin(TileEntityBrewingStand.class)
 public abstract class TileEntityBrewingStandMixin_RealTime extends TileEntity {
@@ -52,7 +53,8 @@ public abstract class TileEntityBrewingStandMixin_RealTime extends TileEntity {
             this.brewTime = modifier;
             return;
         }
-        final int ticks = (int) ((RealTimeTrackingBridge) this.world).realTimeBridge$getRealTimeTicks();
+        final int ticks = (int) ((RealTimeTrackingBridge) this.world).realTimeBridge$getRealTimeTicks()
+            * TickThrottle.getElapsedTicks(this);
         this.brewTime = Math.max(0, this.brewTime - ticks);
     }
 
@@ -35,6 +35,7 @@
 import org.spongepowered.asm.mixin.injection.Slice;
 import org.spongepowered.common.bridge.world.WorldBridge;
 import org.spongepowered.common.bridge.RealTimeTrackingBridge;
+import org.spongepowered.common.world.TickThrottle;
 
 @Mixin(value = TileEntityFurnace.class, priority = 1001)
 public abstract class TileEntityFurnaceMixin_RealTime extends TileEntity {
@@ -68,7 +69,8 @@ public abstract class TileEntityFurnaceMixin_RealTime extends TileEntity {
             this.furnaceBurnTime = modifier;
             return;
         }
-        final int ticks = (int) ((RealTimeTrackingBridge) this.getWorld()).realTimeBridge$getRealTimeTicks();
+        final int ticks = (int) ((RealTimeTrackingBridge) this.getWorld()).realTimeBridge$getRealTimeTicks()
+            * TickThrottle.getElapsedTicks(this);
         this.furnaceBurnTime = Math.max(0, this.furnaceBurnTime - Math.max(1, ticks - 1));
     }
 
@@ -98,7 +100,8 @@ public abstract class TileEntityFurnaceMixin_RealTime extends TileEntity {
             this.cookTime = modifier;
             return;
         }
-        final int ticks = (int) ((RealTimeTrackingBridge) this.getWorld()).realTimeBridge$getRealTimeTicks();
+        final int ticks = (int) ((RealTimeTrackingBridge) this.getWorld()).realTimeBridge$getRealTimeTicks()
+            * TickThrottle.getElapsedTicks(this);
         this.cookTime = Math.min(this.totalCookTime, this.cookTime + ticks);
     }
 
@@ -125,7 +128,8 @@ public abstract class TileEntityFurnaceMixin_RealTime extends TileEntity {
             this.cookTime = modifier;
             return;
         }
-        final int ticks = (int) ((RealTimeTrackingBridge) this.getWorld()).realTimeBridge$getRealTimeTicks();
+        final int ticks = (int) ((RealTimeTrackingBridge) this.getWorld()).realTimeBridge$getRealTimeTicks()
+            * TickThrottle.getElapsedTicks(this);
         this.cookTime = MathHelper.clamp(this.cookTime - (2 * ticks), 0, this.totalCookTime);
     }
 
@@ -37,6 +37,8 @@ public class TileEntityMixin_Activation implements ActivationCapability {
     private int tileActivationImpl$activationRange;
     private int tileActivationImpl$ticksExisted;
     private int tileActivationImpl$tickRate = 1;
+    private int tileActivationImpl$throttledTicks;
+    private int tileActivationImpl$elapsedTicks = 1;
 
     @Override
     public final void activation$incrementSpongeTicksExisted() {
@@ -87,6 +89,26 @@ public class TileEntityMixin_Activation implements ActivationCapability {
         this.tileActivationImpl$tickRate = tickRate;
     }
 
+    @Override
+    public int activation$getThrottledTicks() {
+        return this.tileActivationImpl$throttledTicks;
+    }
+
+    @Override
+    public void activation$setThrottledTicks(int ticks) {
+        this.tileActivationImpl$throttledTicks = ticks;
+    }
+
+    @Override
+    public int activation$getElapsedTicks() {
+        return this.tileActivationImpl$elapsedTicks;
+    }
+
+    @Override
+    public void activation$setElapsedTicks(int ticks) {
+        this.tileActivationImpl$elapsedTicks = ticks;
+    }
+
     @Override
     public int activation$getActivationRange() {
         return this.tileActivationImpl$activationRange;
@@ -33,6 +33,8 @@
 public class WorldTimingsHandler {
 
     public final Timing mobSpawn;
+    public final Timing mobSpawnSetup;
+    public final Timing mobSpawnSpawning;
     public final Timing doChunkUnload;
     public final Timing doPortalForcer;
     public final Timing scheduledBlocks;
@@ -80,6 +82,8 @@ public WorldTimingsHandler(World world) {
         String name = world.getWorldInfo().getWorldName() + " - ";
 
         this.mobSpawn = SpongeTimingsFactory.ofSafe(name + "mobSpawn");
+        this.mobSpawnSetup = SpongeTimingsFactory.ofSafe(name + "mobSpawn - Setup");
+        this.mobSpawnSpawning = SpongeTimingsFactory.ofSafe(name + "mobSpawn - Spawning");
         this.doChunkUnload = SpongeTimingsFactory.ofSafe(name + "doChunkUnload");
         this.scheduledBlocks = SpongeTimingsFactory.ofSafe(name + "Scheduled Blocks");
         this.scheduledBlocksCleanup = SpongeTimingsFactory.ofSafe(name + "Scheduled Blocks - Cleanup");
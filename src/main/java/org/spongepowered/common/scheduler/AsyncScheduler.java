@@ -24,136 +24,86 @@
  */
 package org.spongepowered.common.scheduler;
 
-import org.spongepowered.api.scheduler.Task;
 import org.spongepowered.common.SpongeImpl;
 
-import java.util.Set;
-import java.util.concurrent.ExecutorService;
-import java.util.concurrent.Executors;
-import java.util.concurrent.TimeUnit;
-import java.util.concurrent.locks.Condition;
-import java.util.concurrent.locks.Lock;
-import java.util.concurrent.locks.ReentrantLock;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.locks.LockSupport;
 
 public class AsyncScheduler extends SchedulerBase {
 
-    // Adjustable timeout for pending Tasks
-    private long minimumTimeout = Long.MAX_VALUE;
-    private long lastProcessingTimestamp;
-    // Locking mechanism
-    private final Lock lock = new ReentrantLock();
-    private final Condition condition = this.lock.newCondition();
-    // The dynamic thread pooling executor of asynchronous tasks.
-    private final ExecutorService executor = Executors.newCachedThreadPool();
+    // The bounded executor of asynchronous tasks, with a quota of running tasks per plugin.
+    private final AsyncTaskExecutor executor = new AsyncTaskExecutor();
+    private final Thread thread;
 
     AsyncScheduler() {
         super(ScheduledTask.TaskSynchronicity.ASYNCHRONOUS);
 
-        Thread thread = new Thread(AsyncScheduler.this::mainLoop);
-        thread.setName("Sponge Async Scheduler Thread");
-        thread.setDaemon(true);
-        thread.start();
+        this.thread = new Thread(AsyncScheduler.this::mainLoop);
+        this.thread.setName("Sponge Async Scheduler Thread");
+        this.thread.setDaemon(true);
+        this.thread.start();
     }
 
-    ExecutorService getExecutor() {
+    /**
+     * Gets an executor running tasks on behalf of Sponge itself, these do
+     * not count towards the quota of the tasks scheduled by Sponge.
+     *
+     * @return The executor
+     */
+    Executor getExecutor() {
+        return this.executor::executeInternal;
+    }
+
+    AsyncTaskExecutor getTaskExecutor() {
         return this.executor;
     }
 
     private void mainLoop() {
-        this.lastProcessingTimestamp = System.nanoTime();
         while (true) {
-            recalibrateMinimumTimeout();
             this.runTick();
         }
     }
 
-    private void recalibrateMinimumTimeout() {
-        this.lock.lock();
-        try {
-            Set<Task> tasks = this.getScheduledTasks();
-            this.minimumTimeout = Long.MAX_VALUE;
-            long now = System.nanoTime();
-            for (Task tmpTask : tasks) {
-                ScheduledTask task = (ScheduledTask) tmpTask;
-                if (task.getState() == ScheduledTask.ScheduledTaskState.EXECUTING) {
-                    // bail out for this task. We'll signal when we complete the task.
-                    continue;
-                }
-                // Recalibrate the wait delay for processing tasks before new
-                // tasks cause the scheduler to process pending tasks.
-                if (task.offset == 0 && task.period == 0) {
-                    this.minimumTimeout = 0;
-                }
-                // The time since the task last executed or was added to the map
-                long timeSinceLast = now - task.getTimestamp();
-
-                if (task.offset > 0 && task.getState() == ScheduledTask.ScheduledTaskState.WAITING) {
-                    // There is an offset and the task hasn't run yet
-                    this.minimumTimeout = Math.min(task.offset - timeSinceLast, this.minimumTimeout);
-                }
-                if (task.period > 0 && task.getState().isActive) {
-                    // The task repeats and has run after the initial delay
-                    this.minimumTimeout = Math.min(task.period - timeSinceLast, this.minimumTimeout);
-                }
-                if (this.minimumTimeout <= 0) {
-                    break;
-                }
-            }
-            if (!tasks.isEmpty()) {
-                long latency = System.nanoTime() - this.lastProcessingTimestamp;
-                this.minimumTimeout -= (latency <= 0) ? 0 : latency;
-                this.minimumTimeout = (this.minimumTimeout < 0) ? 0 : this.minimumTimeout;
-            }
-        } finally {
-            this.lock.unlock();
-        }
-    }
-
     @Override
     protected void preTick() {
-        this.lock.lock();
-        try {
-            this.condition.await(this.minimumTimeout, TimeUnit.NANOSECONDS);
-        } catch (InterruptedException ignored) {
-            // The taskMap has been modified; there is work to do.
-            // Continue on without handling the Exception.
-        } catch (IllegalMonitorStateException e) {
-            SpongeImpl.getLogger().error("The scheduler internal state machine suffered a catastrophic error", e);
+        // Sleep until tasks may become due, tasks being added
+        // or rescheduled wake the scheduler up early.
+        final long timeout = this.getTimeUntilNextSlot();
+        if (timeout > 0) {
+            LockSupport.parkNanos(this, timeout);
         }
     }
 
-    @Override
-    protected void postTick() {
-        this.lastProcessingTimestamp = System.nanoTime();
-    }
-
-    @Override
-    protected void finallyPostTick() {
-        this.lock.unlock();
-    }
-
     @Override
     protected void executeTaskRunnable(ScheduledTask task, Runnable runnable) {
-        this.executor.submit(runnable);
+        if (!this.executor.execute(task.getOwner(), runnable)) {
+            SpongeImpl.getLogger().warn("Skipped an execution of the task {} owned by {}, too many of its asynchronous tasks are queued.",
+                task.getName(), task.getOwner().getId());
+            if (task.period == 0L && task.getConsumer() instanceof TaskExecutorService.TaskFuture) {
+                // Nothing would ever complete the future of a task which does not repeat
+                ((TaskExecutorService.TaskFuture<?>) task.getConsumer()).reject(new RejectedExecutionException(
+                    "Too many asynchronous tasks of " + task.getOwner().getId() + " are queued"));
+            }
+            // Repeating tasks are attempted again after their interval
+            task.setState(ScheduledTask.ScheduledTaskState.RUNNING);
+            this.onTaskCompletion(task);
+        }
     }
 
     @Override
     protected void addTask(ScheduledTask task) {
-        this.lock.lock();
-        try {
-            super.addTask(task);
-            this.condition.signalAll();
-        } finally {
-            this.lock.unlock();
-        }
+        super.addTask(task);
+        LockSupport.unpark(this.thread);
     }
 
     @Override
     protected void onTaskCompletion(ScheduledTask task) {
         // This will likely be run from an executor thread rather than
-        // the thread that owns the task, hence no lock.
+        // the thread that owns the task.
+        super.onTaskCompletion(task);
         if (task.getState() == ScheduledTask.ScheduledTaskState.RUNNING) {
-            this.condition.signalAll();
+            LockSupport.unpark(this.thread);
         }
     }
 
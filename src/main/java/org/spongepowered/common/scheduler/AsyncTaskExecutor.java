@@ -0,0 +1,299 @@
+/*
+ * This file is part of Sponge, licensed under the MIT License (MIT).
+ *
+ * Copyright (c) SpongePowered <https://www.spongepowered.org>
+ * Copyright (c) contributors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.spongepowered.common.scheduler;
+
+import com.google.common.util.concurrent.ThreadFactoryBuilder;
+import org.spongepowered.api.plugin.PluginContainer;
+import org.spongepowered.common.SpongeImpl;
+import org.spongepowered.common.config.category.AsyncSchedulerCategory;
+
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Map;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.Executor;
+import java.util.concurrent.Executors;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+import javax.annotation.Nullable;
+
+/**
+ * Runs asynchronous tasks on a bounded pool of threads, or on virtual threads
+ * where enabled and supported. Each plugin may only have a limited amount of
+ * tasks running at once, any further tasks wait in a queue of the plugin. A
+ * plugin submitting many tasks thus only ever competes for the threads with
+ * its running tasks, while the tasks of other plugins keep being run. Virtual
+ * threads are not limited in number, so the quota doesn't apply to them.
+ */
+public final class AsyncTaskExecutor {
+
+    private static final double LATENCY_SMOOTHING = 0.05D;
+
+    private final Map<PluginContainer, PluginTasks> plugins = new ConcurrentHashMap<>();
+    @Nullable private volatile PluginTasks internalTasks;
+    @Nullable private final AsyncSchedulerCategory config;
+    @Nullable private volatile Executor executor;
+    private volatile boolean virtualThreads;
+
+    AsyncTaskExecutor() {
+        this.config = null;
+    }
+
+    AsyncTaskExecutor(final AsyncSchedulerCategory config, final Executor executor) {
+        this.config = config;
+        this.executor = executor;
+    }
+
+    private AsyncSchedulerCategory getConfig() {
+        if (this.config != null) {
+            return this.config;
+        }
+        return SpongeImpl.getGlobalConfigAdapter().getConfig().getAsyncScheduler();
+    }
+
+    private Executor getExecutor() {
+        Executor executor = this.executor;
+        if (executor == null) {
+            synchronized (this) {
+                executor = this.executor;
+                if (executor == null) {
+                    executor = this.createExecutor(this.getConfig());
+                    this.executor = executor;
+                }
+            }
+        }
+        return executor;
+    }
+
+    private Executor createExecutor(final AsyncSchedulerCategory config) {
+        if (config.useVirtualThreads()) {
+            try {
+                // Looked up reflectively, as virtual threads are only available on Java 21 and above
+                final Executor executor = (Executor) Executors.class.getMethod("newVirtualThreadPerTaskExecutor").invoke(null);
+                this.virtualThreads = true;
+                return executor;
+            } catch (ReflectiveOperationException e) {
+                SpongeImpl.getLogger().warn("Virtual threads are not supported by this Java runtime, falling back to a thread pool "
+                    + "for asynchronous tasks");
+            }
+        }
+        final int threads = Math.max(1, config.getMaxThreads());
+        final ThreadPoolExecutor executor = new ThreadPoolExecutor(threads, threads, 60L, TimeUnit.SECONDS, new LinkedBlockingQueue<>(),
+            new ThreadFactoryBuilder()
+                .setNameFormat("Sponge - Async Task Thread #%d")
+                .setDaemon(true)
+                .build());
+        executor.allowCoreThreadTimeOut(true);
+        return executor;
+    }
+
+    private int getMaxRunningTasksPerPlugin() {
+        // Resolves whether virtual threads are used
+        this.getExecutor();
+        if (this.virtualThreads) {
+            return Integer.MAX_VALUE;
+        }
+        return Math.max(1, this.getConfig().getMaxRunningTasksPerPlugin());
+    }
+
+    /**
+     * Queues the task of the plugin to be run.
+     *
+     * @param plugin The plugin owning the task
+     * @param task The task
+     * @return False if the task was rejected as too many tasks of the plugin are queued
+     */
+    boolean execute(final PluginContainer plugin, final Runnable task) {
+        return this.plugins.computeIfAbsent(plugin, key -> new PluginTasks(key, true)).submit(task);
+    }
+
+    /**
+     * Queues a task Sponge runs on its own behalf, such as a profile lookup.
+     * These tasks have their own quota of running tasks, apart from the
+     * scheduled tasks of every plugin including Sponge, and are never
+     * rejected.
+     *
+     * @param task The task
+     */
+    void executeInternal(final Runnable task) {
+        PluginTasks tasks = this.internalTasks;
+        if (tasks == null) {
+            synchronized (this) {
+                tasks = this.internalTasks;
+                if (tasks == null) {
+                    tasks = new PluginTasks(SpongeImpl.getPlugin(), false);
+                    this.internalTasks = tasks;
+                }
+            }
+        }
+        tasks.submit(task);
+    }
+
+    /**
+     * Gets the tasks of every plugin which has submitted tasks.
+     *
+     * @return The tasks of each plugin
+     */
+    public Collection<PluginTasks> getPluginTasks() {
+        return Collections.unmodifiableCollection(this.plugins.values());
+    }
+
+    /**
+     * The tasks of a single plugin.
+     */
+    public final class PluginTasks {
+
+        private final PluginContainer plugin;
+        private final boolean bounded;
+        private final Queue<QueuedTask> queue = new ConcurrentLinkedQueue<>();
+        private final AtomicInteger queued = new AtomicInteger();
+        private final AtomicInteger running = new AtomicInteger();
+        private final AtomicLong rejected = new AtomicLong();
+        private final AtomicLong completed = new AtomicLong();
+        private final AtomicBoolean stalled = new AtomicBoolean();
+        private double averageLatency;
+
+        PluginTasks(final PluginContainer plugin, final boolean bounded) {
+            this.plugin = plugin;
+            this.bounded = bounded;
+        }
+
+        public PluginContainer getPlugin() {
+            return this.plugin;
+        }
+
+        public int getQueued() {
+            return this.queued.get();
+        }
+
+        public int getRunning() {
+            return this.running.get();
+        }
+
+        public long getRejected() {
+            return this.rejected.get();
+        }
+
+        public long getCompleted() {
+            return this.completed.get();
+        }
+
+        /**
+         * Gets the smoothed time in milliseconds tasks of the plugin wait
+         * before being run.
+         *
+         * @return The average latency
+         */
+        public synchronized double getAverageLatency() {
+            return this.averageLatency;
+        }
+
+        private synchronized void recordLatency(final long queuedTime) {
+            final double latency = (System.nanoTime() - queuedTime) / 1_000_000D;
+            this.averageLatency += (latency - this.averageLatency) * LATENCY_SMOOTHING;
+        }
+
+        boolean submit(final Runnable task) {
+            final int maxQueued = this.bounded ? AsyncTaskExecutor.this.getConfig().getMaxQueuedTasksPerPlugin() : 0;
+            if (maxQueued > 0) {
+                int queued;
+                do {
+                    queued = this.queued.get();
+                    if (queued >= maxQueued) {
+                        this.rejected.incrementAndGet();
+                        return false;
+                    }
+                } while (!this.queued.compareAndSet(queued, queued + 1));
+            } else {
+                this.queued.incrementAndGet();
+            }
+            this.queue.add(new QueuedTask(task));
+            this.drain();
+            return true;
+        }
+
+        // Starts queued tasks for as long as the plugin is below its quota of running tasks
+        private void drain() {
+            final int maxRunning = AsyncTaskExecutor.this.getMaxRunningTasksPerPlugin();
+            while (!this.queue.isEmpty()) {
+                final int running = this.running.get();
+                if (running >= maxRunning) {
+                    if (this.stalled.compareAndSet(false, true)) {
+                        SpongeImpl.getLogger().warn("Plugin {} has {} asynchronous tasks running, further tasks wait until one of them "
+                            + "completes. Consider raising max-running-tasks-per-plugin if this happens often.", this.plugin.getId(), running);
+                    }
+                    return;
+                }
+                if (!this.running.compareAndSet(running, running + 1)) {
+                    continue;
+                }
+                final QueuedTask task = this.queue.poll();
+                if (task == null) {
+                    // Taken by a concurrent drain
+                    this.running.decrementAndGet();
+                    continue;
+                }
+                this.queued.decrementAndGet();
+                try {
+                    AsyncTaskExecutor.this.getExecutor().execute(() -> this.run(task));
+                } catch (RejectedExecutionException e) {
+                    this.running.decrementAndGet();
+                    this.rejected.incrementAndGet();
+                    SpongeImpl.getLogger().error("Failed to run an asynchronous task of plugin {}", this.plugin.getId(), e);
+                }
+            }
+            this.stalled.set(false);
+        }
+
+        private void run(final QueuedTask task) {
+            this.recordLatency(task.queuedTime);
+            try {
+                task.runnable.run();
+            } finally {
+                this.completed.incrementAndGet();
+                this.running.decrementAndGet();
+                this.drain();
+            }
+        }
+    }
+
+    private static final class QueuedTask {
+
+        final Runnable runnable;
+        final long queuedTime = System.nanoTime();
+
+        QueuedTask(final Runnable runnable) {
+            this.runnable = runnable;
+        }
+    }
+}
@@ -36,6 +36,8 @@
 import java.util.function.Consumer;
 import java.util.concurrent.TimeUnit;
 
+import javax.annotation.Nullable;
+
 /**
  * An internal representation of a {@link Task} created by a plugin.
  */
@@ -54,6 +56,10 @@ public class ScheduledTask implements Task {
     private final TaskSynchronicity syncType;
     private final String stringRepresentation;
     private Timing taskTimer;
+    // The scheduler the task was submitted to
+    @Nullable private SchedulerBase scheduler;
+    // The entry of the task in a timing wheel, only accessed by the thread of the scheduler
+    @Nullable TimingWheel<ScheduledTask>.Entry wheelEntry;
 
     // Internal Task state. Not for user-service use.
     public enum ScheduledTaskState {
@@ -136,7 +142,11 @@ public boolean cancel() {
         if (getState() != ScheduledTask.ScheduledTaskState.RUNNING && getState() != ScheduledTaskState.EXECUTING) {
             success = true;
         }
+        final boolean wasCancelled = this.state == ScheduledTaskState.CANCELED;
         this.setState(ScheduledTask.ScheduledTaskState.CANCELED);
+        if (!wasCancelled && this.scheduler != null) {
+            this.scheduler.onTaskCancelled(this);
+        }
         return success;
     }
 
@@ -182,6 +192,10 @@ void setTimestamp(long timestamp) {
         this.timestamp = timestamp;
     }
 
+    void setScheduler(SchedulerBase scheduler) {
+        this.scheduler = scheduler;
+    }
+
     ScheduledTaskState getState() {
         return this.state;
     }
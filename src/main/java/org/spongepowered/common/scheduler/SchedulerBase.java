@@ -35,17 +35,33 @@
 import org.spongepowered.common.event.tracking.PhaseContext;
 import org.spongepowered.common.event.tracking.phase.plugin.PluginPhase;
 
+import java.util.ArrayList;
+import java.util.List;
 import java.util.Map;
 import java.util.Optional;
+import java.util.Queue;
 import java.util.Set;
 import java.util.UUID;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.TimeUnit;
 
 import javax.annotation.Nullable;
 
 abstract class SchedulerBase {
 
-    // The simple queue of all pending (and running) ScheduledTasks
+    // The resolution of the timing wheel holding tasks delayed by real time
+    private static final long TIME_SLOT_NS = TimeUnit.MILLISECONDS.toNanos(1);
+
+    // All pending (and running) ScheduledTasks
     private final Map<UUID, ScheduledTask> taskMap = Maps.newConcurrentMap();
+    // Tasks added or rescheduled from any thread, waiting to be placed in a timing wheel by the scheduler
+    private final Queue<ScheduledTask> pendingTasks = new ConcurrentLinkedQueue<>();
+    // Tasks cancelled from any thread, waiting to be removed from their timing wheel by the scheduler
+    private final Queue<ScheduledTask> cancelledTasks = new ConcurrentLinkedQueue<>();
+    // Tasks waiting to be run, in slots of TIME_SLOT_NS since the scheduler was created
+    private final TimingWheel<ScheduledTask> timeWheel = new TimingWheel<>(0L);
+    private final long timeOrigin = System.nanoTime();
+    private final List<ScheduledTask> dueTasks = new ArrayList<>();
     private long sequenceNumber = 0L;
     private final String taskNameFmt;
 
@@ -73,14 +89,17 @@ protected long getTimestamp(ScheduledTask task) {
     }
 
     /**
-     * Adds the task to the task map, will attempt to process the task on the
-     * next call to {@link #runTick}.
+     * Adds the task to the task map, will attempt to process the task once it
+     * is due on a following call to {@link #runTick}. This may be called from
+     * any thread.
      *
      * @param task The task to add
      */
     protected void addTask(ScheduledTask task) {
+        task.setScheduler(this);
         task.setTimestamp(this.getTimestamp(task));
         this.taskMap.put(task.getUniqueId(), task);
+        this.pendingTasks.add(task);
     }
 
     /**
@@ -92,26 +111,110 @@ protected void removeTask(ScheduledTask task) {
         this.taskMap.remove(task.getUniqueId());
     }
 
+    /**
+     * Removes the cancelled task from the task map, it is removed from its
+     * timing wheel on the next call to {@link #runTick}. This may be called
+     * from any thread.
+     *
+     * @param task The cancelled task
+     */
+    void onTaskCancelled(ScheduledTask task) {
+        this.removeTask(task);
+        this.cancelledTasks.add(task);
+    }
+
     protected Optional<Task> getTask(UUID id) {
-        return Optional.<Task>ofNullable(this.taskMap.get(id));
+        final ScheduledTask task = this.taskMap.get(id);
+        if (task == null || task.getState() == ScheduledTask.ScheduledTaskState.CANCELED) {
+            return Optional.empty();
+        }
+        return Optional.of(task);
     }
 
     protected Set<Task> getScheduledTasks() {
-        synchronized (this.taskMap) {
-            return Sets.<Task>newHashSet(this.taskMap.values());
+        final Set<Task> tasks = Sets.newHashSet();
+        for (ScheduledTask task : this.taskMap.values()) {
+            // A task may be cancelled just before it is removed
+            if (task.getState() != ScheduledTask.ScheduledTaskState.CANCELED) {
+                tasks.add(task);
+            }
+        }
+        return tasks;
+    }
+
+    /**
+     * Places the task in the timing wheel, to be processed once its next
+     * execution is due.
+     *
+     * @param task The task to schedule
+     */
+    protected void scheduleTask(ScheduledTask task) {
+        task.wheelEntry = this.timeWheel.add(task, this.toTimeSlot(task.nextExecutionTimestamp()));
+    }
+
+    /**
+     * Advances the timing wheels up to now, adding all the tasks which are
+     * due to the given list.
+     *
+     * @param due The list to add the due tasks to
+     */
+    protected void collectDueTasks(List<ScheduledTask> due) {
+        this.timeWheel.advance((System.nanoTime() - this.timeOrigin) / TIME_SLOT_NS, due);
+    }
+
+    /**
+     * Gets the time until tasks delayed by real time may become due, which
+     * is zero if tasks are waiting to be scheduled.
+     *
+     * @return The time in nanoseconds, {@link Long#MAX_VALUE} if no task is scheduled
+     */
+    protected long getTimeUntilNextSlot() {
+        if (!this.pendingTasks.isEmpty()) {
+            return 0L;
+        }
+        final long slot = this.timeWheel.getNextSlot();
+        if (slot == Long.MAX_VALUE) {
+            return Long.MAX_VALUE;
+        }
+        return this.timeOrigin + slot * TIME_SLOT_NS - System.nanoTime();
+    }
+
+    // Rounds up, such that a task is never in a slot before the time it is due
+    private long toTimeSlot(long timestamp) {
+        final long elapsed = timestamp - this.timeOrigin;
+        if (elapsed <= 0) {
+            return 0L;
         }
+        return (elapsed + TIME_SLOT_NS - 1) / TIME_SLOT_NS;
     }
 
     /**
-     * Process all tasks in the map.
+     * Process all tasks which are due.
      */
     protected final void runTick() {
         this.preTick();
         TimingsManager.PLUGIN_SCHEDULER_HANDLER.startTimingIfSync();
         try {
-            this.taskMap.values().forEach(this::processTask);
+            ScheduledTask pending;
+            while ((pending = this.pendingTasks.poll()) != null) {
+                if (pending.getState() != ScheduledTask.ScheduledTaskState.CANCELED) {
+                    this.scheduleTask(pending);
+                }
+            }
+            ScheduledTask cancelled;
+            while ((cancelled = this.cancelledTasks.poll()) != null) {
+                if (cancelled.wheelEntry != null) {
+                    cancelled.wheelEntry.remove();
+                    cancelled.wheelEntry = null;
+                }
+            }
+            this.collectDueTasks(this.dueTasks);
+            for (ScheduledTask task : this.dueTasks) {
+                this.processTask(task);
+            }
             this.postTick();
         } finally {
+            this.dueTasks.clear();
             this.finallyPostTick();
         }
         TimingsManager.PLUGIN_SCHEDULER_HANDLER.stopTimingIfSync();
@@ -137,7 +240,7 @@ protected void finallyPostTick() {
     }
 
     /**
-     * Processes the task.
+     * Processes a task taken from the timing wheel.
      *
      * @param task The task to process
      */
@@ -148,8 +251,8 @@ protected void processTask(ScheduledTask task) {
             this.removeTask(task);
             return;
         }
-        // If the task is already being processed, we wait for the previous
-        // occurrence to terminate.
+        // If the task is already being processed, it will be rescheduled once
+        // the previous occurrence terminates.
         if (task.getState() == ScheduledTask.ScheduledTaskState.EXECUTING) {
             return;
         }
@@ -165,7 +268,8 @@ protected void processTask(ScheduledTask task) {
         long now = this.getTimestamp(task);
         // So, if the current time minus the timestamp of the task is greater
         // than the delay to wait before starting the task, then start the task.
-        // Repeating tasks get a reset-timestamp each time they are set RUNNING
+        // Repeating tasks get a reset-timestamp each time they are set RUNNING,
+        // and are placed back in the timing wheel once they have completed.
         // If the task has a period of 0 (zero) this task will not repeat, and
         // is removed after we start it.
         if (threshold <= (now - task.getTimestamp())) {
@@ -176,6 +280,8 @@ protected void processTask(ScheduledTask task) {
             if (task.period == 0L) {
                 this.removeTask(task);
             }
+        } else {
+            this.scheduleTask(task);
         }
     }
 
@@ -226,10 +332,15 @@ protected PhaseContext<?> createContext(ScheduledTask task, PluginContainer cont
 
     /**
      * Run when a task has completed and is switching into
-     * the {@link ScheduledTask.ScheduledTaskState#RUNNING} state
+     * the {@link ScheduledTask.ScheduledTaskState#RUNNING} state,
+     * placing repeating tasks back in the timing wheel.
      */
     protected void onTaskCompletion(ScheduledTask task) {
-        // no-op for sync methods.
+        if (task.getState() == ScheduledTask.ScheduledTaskState.CANCELED) {
+            this.removeTask(task);
+        } else if (task.period > 0L) {
+            this.pendingTasks.add(task);
+        }
     }
 
 }
@@ -198,6 +198,16 @@ public void tickSyncScheduler() {
         }
     }
 
+    /**
+     * Gets the executor running asynchronous tasks, which keeps track of the
+     * tasks of each plugin.
+     *
+     * @return The executor of asynchronous tasks
+     */
+    public AsyncTaskExecutor getAsyncTaskExecutor() {
+        return this.asyncScheduler.getTaskExecutor();
+    }
+
     public <T> CompletableFuture<T> submitAsyncTask(Callable<T> callable) {
         return Functional.asyncFailableFuture(callable, this.asyncScheduler.getExecutor());
     }
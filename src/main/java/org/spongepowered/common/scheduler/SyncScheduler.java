@@ -28,12 +28,16 @@
 import org.spongepowered.common.event.tracking.phase.plugin.BasicPluginContext;
 import org.spongepowered.common.event.tracking.phase.plugin.PluginPhase;
 
+import java.util.List;
+
 import javax.annotation.Nullable;
 
 public class SyncScheduler extends SchedulerBase {
 
     // The number of ticks elapsed since this scheduler began.
     private volatile long counter = 0L;
+    // Tasks delayed by ticks, in a slot per tick
+    private final TimingWheel<ScheduledTask> tickWheel = new TimingWheel<>(0L);
 
     SyncScheduler() {
         super(ScheduledTask.TaskSynchronicity.SYNCHRONOUS);
@@ -65,6 +69,22 @@ protected long getTimestamp(ScheduledTask task) {
         return 0L;
     }
 
+    @Override
+    protected void scheduleTask(ScheduledTask task) {
+        final boolean isTicks = task.getState().isActive ? task.intervalIsTicks : task.delayIsTicks;
+        if (isTicks) {
+            task.wheelEntry = this.tickWheel.add(task, task.nextExecutionTimestamp());
+        } else {
+            super.scheduleTask(task);
+        }
+    }
+
+    @Override
+    protected void collectDueTasks(List<ScheduledTask> due) {
+        super.collectDueTasks(due);
+        this.tickWheel.advance(this.counter, due);
+    }
+
     @Override
     protected void executeTaskRunnable(ScheduledTask task, Runnable runnable) {
         try (BasicPluginContext context = createContext(task)) {
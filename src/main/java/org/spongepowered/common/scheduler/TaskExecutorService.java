@@ -36,8 +36,10 @@
 import java.util.concurrent.Delayed;
 import java.util.concurrent.ExecutionException;
 import java.util.concurrent.FutureTask;
+import java.util.concurrent.RejectedExecutionException;
 import java.util.concurrent.TimeUnit;
 import java.util.concurrent.TimeoutException;
+import java.util.function.Consumer;
 import java.util.function.Supplier;
 
 import javax.annotation.Nullable;
@@ -93,7 +95,7 @@ public void execute(Runnable command) {
 
     @Override
     public SpongeFuture<?> schedule(Runnable command, long delay, TimeUnit unit) {
-        final FutureTask<?> runnable = new FutureTask<>(command, null);
+        final TaskFuture<?> runnable = new TaskFuture<>(command, null);
 
         final Task task = this.createTask(runnable)
                 .delay(delay, unit)
@@ -104,7 +106,7 @@ public SpongeFuture<?> schedule(Runnable command, long delay, TimeUnit unit) {
 
     @Override
     public <V> SpongeFuture<V> schedule(Callable<V> callable, long delay, TimeUnit unit) {
-        final FutureTask<V> runnable = new FutureTask<>(callable);
+        final TaskFuture<V> runnable = new TaskFuture<>(callable);
 
         final Task task = this.createTask(runnable)
                 .delay(delay, unit)
@@ -138,6 +140,10 @@ private Task.Builder createTask(Runnable command) {
         return this.taskBuilderProvider.get().execute(command);
     }
 
+    private Task.Builder createTask(TaskFuture<?> future) {
+        return this.taskBuilderProvider.get().execute((Consumer<Task>) future);
+    }
+
     private static class SpongeTaskFuture<V> implements SpongeFuture<V> {
 
         private final FutureTask<V> runnable;
@@ -226,11 +232,35 @@ public V get(long timeout, TimeUnit unit) throws InterruptedException, Execution
         }
     }
 
+    /**
+     * A FutureTask which is the consumer of its task, such that the
+     * scheduler can fail it when it rejects a run of the task.
+     */
+    static class TaskFuture<V> extends FutureTask<V> implements Consumer<Task> {
+
+        TaskFuture(Callable<V> callable) {
+            super(callable);
+        }
+
+        TaskFuture(Runnable runnable, @Nullable V result) {
+            super(runnable, result);
+        }
+
+        @Override
+        public void accept(Task task) {
+            this.run();
+        }
+
+        void reject(RejectedExecutionException exception) {
+            this.setException(exception);
+        }
+    }
+
     /**
      * An extension of the JREs FutureTask that can be repeatedly executed,
      * required for scheduling on an interval.
      */
-    private static class RepeatableFutureTask<V> extends FutureTask<V> {
+    private static class RepeatableFutureTask<V> extends TaskFuture<V> {
 
         @Nullable private Task owningTask = null;
 
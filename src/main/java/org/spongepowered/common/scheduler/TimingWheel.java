@@ -0,0 +1,252 @@
+/*
+ * This file is part of Sponge, licensed under the MIT License (MIT).
+ *
+ * Copyright (c) SpongePowered <https://www.spongepowered.org>
+ * Copyright (c) contributors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.spongepowered.common.scheduler;
+
+import java.util.Collection;
+
+import javax.annotation.Nullable;
+
+/**
+ * A hierarchical timing wheel, holding values until the slot they are due in
+ * has been reached. Slots are abstract units of time, such as ticks or
+ * milliseconds, chosen by the user of the wheel.
+ *
+ * <p>Each level of the wheel holds 256 slots, with every slot of a level
+ * spanning all the slots of the level below. Values are placed in the lowest
+ * level their due slot shares a span with the current slot, and cascade down
+ * a level every time the current slot enters the span of their slot. Adding
+ * a value and extracting a due value are thus constant time operations, no
+ * matter how many values are held by the wheel.</p>
+ *
+ * <p>Every added value gets an {@link Entry}, through which it can be removed
+ * in constant time before it is due.</p>
+ *
+ * <p>Timing wheels are not thread safe, values have to be added, removed and
+ * extracted by the thread owning the wheel.</p>
+ *
+ * @param <T> The type of held values
+ */
+final class TimingWheel<T> {
+
+    private static final int SLOT_BITS = 8;
+    private static final int SLOTS = 1 << SLOT_BITS;
+    private static final int SLOT_MASK = SLOTS - 1;
+    private static final int LEVELS = Long.SIZE / SLOT_BITS;
+    // The level of entries in the overdue list, and of entries no longer held by the wheel
+    private static final int OVERDUE = -1;
+    private static final int UNLINKED = -2;
+
+    @SuppressWarnings("unchecked")
+    private final Entry[][] levels = new TimingWheel.Entry[LEVELS][];
+    // Values added with a slot that has already been passed
+    @Nullable private Entry overdue;
+    // The next slot to be processed
+    private long current;
+    private int size;
+
+    TimingWheel(final long start) {
+        this.current = start;
+    }
+
+    int size() {
+        return this.size;
+    }
+
+    /**
+     * Adds the value to this wheel, it will be extracted once this wheel is
+     * advanced to the given slot.
+     *
+     * @param value The value
+     * @param slot The slot the value is due in
+     * @return The entry of the value, to remove it before it is due
+     */
+    Entry add(final T value, final long slot) {
+        this.size++;
+        final Entry entry = new Entry(value, slot);
+        this.insert(entry);
+        return entry;
+    }
+
+    /**
+     * Advances this wheel up to and including the given slot, adding all the
+     * values which are due to the given collection.
+     *
+     * @param to The slot to advance to
+     * @param due The collection to add the due values to
+     */
+    void advance(final long to, final Collection<? super T> due) {
+        this.extract(this.overdue, due);
+        this.overdue = null;
+        while (this.current <= to) {
+            if (this.size == 0) {
+                this.current = to + 1;
+                return;
+            }
+            for (int level = LEVELS - 1; level > 0; level--) {
+                if ((this.current & ((1L << (SLOT_BITS * level)) - 1)) == 0) {
+                    this.cascade(level);
+                }
+            }
+            final Entry[] slots = this.levels[0];
+            if (slots != null) {
+                final int index = (int) this.current & SLOT_MASK;
+                this.extract(slots[index], due);
+                slots[index] = null;
+            }
+            this.current++;
+        }
+    }
+
+    /**
+     * Gets the earliest slot this wheel may have due values in, which is
+     * either a slot holding values or the next slot values cascade in.
+     *
+     * @return The next slot, or {@link Long#MAX_VALUE} if this wheel is empty
+     */
+    long getNextSlot() {
+        if (this.overdue != null) {
+            return this.current - 1;
+        }
+        if (this.size == 0) {
+            return Long.MAX_VALUE;
+        }
+        long slot = this.current;
+        if ((slot & SLOT_MASK) == 0) {
+            return slot;
+        }
+        final Entry[] slots = this.levels[0];
+        do {
+            if (slots != null && slots[(int) slot & SLOT_MASK] != null) {
+                return slot;
+            }
+            slot++;
+        } while ((slot & SLOT_MASK) != 0);
+        return slot;
+    }
+
+    private void extract(@Nullable Entry entry, final Collection<? super T> due) {
+        while (entry != null) {
+            final Entry next = entry.next;
+            due.add(entry.value);
+            entry.unlink();
+            this.size--;
+            entry = next;
+        }
+    }
+
+    private void insert(final Entry entry) {
+        entry.prev = null;
+        if (entry.slot < this.current) {
+            entry.level = OVERDUE;
+            entry.next = this.overdue;
+            if (this.overdue != null) {
+                this.overdue.prev = entry;
+            }
+            this.overdue = entry;
+            return;
+        }
+        int level = 0;
+        while (level < LEVELS - 1 && (entry.slot >>> (SLOT_BITS * (level + 1))) != (this.current >>> (SLOT_BITS * (level + 1)))) {
+            level++;
+        }
+        Entry[] slots = this.levels[level];
+        if (slots == null) {
+            @SuppressWarnings("unchecked")
+            final Entry[] newSlots = new TimingWheel.Entry[SLOTS];
+            slots = this.levels[level] = newSlots;
+        }
+        final int index = (int) (entry.slot >>> (SLOT_BITS * level)) & SLOT_MASK;
+        entry.level = level;
+        entry.index = index;
+        entry.next = slots[index];
+        if (entry.next != null) {
+            entry.next.prev = entry;
+        }
+        slots[index] = entry;
+    }
+
+    private void cascade(final int level) {
+        final Entry[] slots = this.levels[level];
+        if (slots == null) {
+            return;
+        }
+        final int index = (int) (this.current >>> (SLOT_BITS * level)) & SLOT_MASK;
+        Entry entry = slots[index];
+        slots[index] = null;
+        while (entry != null) {
+            final Entry next = entry.next;
+            this.insert(entry);
+            entry = next;
+        }
+    }
+
+    /**
+     * A value held by the wheel, in the doubly linked list of its slot.
+     */
+    final class Entry {
+
+        final T value;
+        final long slot;
+        int level;
+        int index;
+        @Nullable Entry prev;
+        @Nullable Entry next;
+
+        Entry(final T value, final long slot) {
+            this.value = value;
+            this.slot = slot;
+        }
+
+        /**
+         * Removes the value from the wheel, if it is still held by it.
+         *
+         * @return False if the value was already extracted or removed
+         */
+        boolean remove() {
+            if (this.level == UNLINKED) {
+                return false;
+            }
+            if (this.prev != null) {
+                this.prev.next = this.next;
+            } else if (this.level == OVERDUE) {
+                TimingWheel.this.overdue = this.next;
+            } else {
+                TimingWheel.this.levels[this.level][this.index] = this.next;
+            }
+            if (this.next != null) {
+                this.next.prev = this.prev;
+            }
+            this.unlink();
+            TimingWheel.this.size--;
+            return true;
+        }
+
+        void unlink() {
+            this.level = UNLINKED;
+            this.prev = null;
+            this.next = null;
+        }
+    }
+}
@@ -26,13 +26,19 @@
 
 import net.minecraft.nbt.NBTTagCompound;
 import net.minecraft.util.math.ChunkPos;
+import org.spongepowered.common.world.storage.ChunkSectionsSnapshot;
+
+import javax.annotation.Nullable;
 
 public class QueuedChunk {
     public ChunkPos coords;
     public NBTTagCompound compound;
+    public long queuedTime;
+    @Nullable public ChunkSectionsSnapshot sections;
 
     public QueuedChunk(ChunkPos coords, NBTTagCompound compound) {
         this.coords = coords;
         this.compound = compound;
+        this.queuedTime = System.nanoTime();
     }
 }
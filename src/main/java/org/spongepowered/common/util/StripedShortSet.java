@@ -0,0 +1,83 @@
+/*
+ * This file is part of Sponge, licensed under the MIT License (MIT).
+ *
+ * Copyright (c) SpongePowered <https://www.spongepowered.org>
+ * Copyright (c) contributors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.spongepowered.common.util;
+
+import it.unimi.dsi.fastutil.shorts.ShortOpenHashSet;
+
+/**
+ * A thread safe set of primitive shorts, split into stripes each guarded by
+ * their own lock so that threads working on different values rarely contend.
+ * The stripes are only allocated once a value is added to them.
+ */
+public final class StripedShortSet {
+
+    private static final int STRIPES = 4;
+
+    private final Object[] locks = new Object[STRIPES];
+    private final ShortOpenHashSet[] stripes = new ShortOpenHashSet[STRIPES];
+
+    public StripedShortSet() {
+        for (int i = 0; i < STRIPES; i++) {
+            this.locks[i] = new Object();
+        }
+    }
+
+    private static int getStripe(final short value) {
+        return (value ^ (value >>> 4)) & (STRIPES - 1);
+    }
+
+    /**
+     * Adds the value to this set.
+     *
+     * @param value The value
+     * @return True if the value was not in this set yet
+     */
+    public boolean add(final short value) {
+        final int stripe = getStripe(value);
+        synchronized (this.locks[stripe]) {
+            ShortOpenHashSet set = this.stripes[stripe];
+            if (set == null) {
+                set = this.stripes[stripe] = new ShortOpenHashSet();
+            }
+            return set.add(value);
+        }
+    }
+
+    public boolean contains(final short value) {
+        final int stripe = getStripe(value);
+        synchronized (this.locks[stripe]) {
+            final ShortOpenHashSet set = this.stripes[stripe];
+            return set != null && set.contains(value);
+        }
+    }
+
+    public boolean remove(final short value) {
+        final int stripe = getStripe(value);
+        synchronized (this.locks[stripe]) {
+            final ShortOpenHashSet set = this.stripes[stripe];
+            return set != null && set.remove(value);
+        }
+    }
+}
@@ -0,0 +1,89 @@
+/*
+ * This file is part of Sponge, licensed under the MIT License (MIT).
+ *
+ * Copyright (c) SpongePowered <https://www.spongepowered.org>
+ * Copyright (c) contributors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.spongepowered.common.world;
+
+import static com.google.common.base.Preconditions.checkNotNull;
+import static com.google.common.base.Preconditions.checkState;
+
+import org.spongepowered.api.event.block.ChangeBlockEvent;
+import org.spongepowered.api.plugin.PluginContainer;
+import org.spongepowered.api.world.extent.MutableBlockVolume;
+import org.spongepowered.common.SpongeImplHooks;
+import org.spongepowered.common.event.tracking.PhaseTracker;
+import org.spongepowered.common.event.tracking.phase.plugin.BulkBlockEditContext;
+import org.spongepowered.common.event.tracking.phase.plugin.PluginPhase;
+
+import javax.annotation.Nullable;
+
+/**
+ * An opt-in for plugins performing a large amount of block changes through
+ * {@link MutableBlockVolume#setBlock}, such as pasting schematics. While open,
+ * block changes are captured instead of being processed one at a time, and
+ * once closed, light checks are performed once per changed position, followed
+ * by a single set of {@link ChangeBlockEvent}s for all of the changes along
+ * with their neighbor notifications.
+ *
+ * <pre>{@code
+ * try (BulkBlockEdit edit = BulkBlockEdit.begin(plugin)) {
+ *     for (...) {
+ *         world.setBlock(x, y, z, state, BlockChangeFlags.NONE);
+ *     }
+ * }
+ * }</pre>
+ *
+ * <p>Edits begun while another edit is open join the outer edit.</p>
+ */
+public final class BulkBlockEdit implements AutoCloseable {
+
+    @Nullable private BulkBlockEditContext context;
+
+    public static BulkBlockEdit begin(final PluginContainer plugin) {
+        checkNotNull(plugin, "plugin");
+        checkState(SpongeImplHooks.isMainThread(), "Bulk block edits can only be performed on the main thread!");
+        if (PhaseTracker.getInstance().getCurrentState() == PluginPhase.State.BULK_BLOCK_EDIT) {
+            return new BulkBlockEdit(null);
+        }
+        final BulkBlockEditContext context = PluginPhase.State.BULK_BLOCK_EDIT.createPhaseContext()
+            .container(plugin);
+        context.buildAndSwitch();
+        return new BulkBlockEdit(context);
+    }
+
+    private BulkBlockEdit(@Nullable final BulkBlockEditContext context) {
+        this.context = context;
+    }
+
+    /**
+     * Closes this edit, processing all of the block changes captured since it was begun.
+     */
+    @Override
+    public void close() {
+        final BulkBlockEditContext context = this.context;
+        if (context != null) {
+            this.context = null;
+            context.close();
+        }
+    }
+}
@@ -0,0 +1,287 @@
+/*
+ * This file is part of Sponge, licensed under the MIT License (MIT).
+ *
+ * Copyright (c) SpongePowered <https://www.spongepowered.org>
+ * Copyright (c) contributors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.spongepowered.common.world;
+
+import com.google.common.base.Predicate;
+import net.minecraft.entity.Entity;
+import net.minecraft.util.math.AxisAlignedBB;
+import net.minecraft.util.math.MathHelper;
+import org.spongepowered.common.bridge.optimization.EntityCollisionGridBridge;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import javax.annotation.Nullable;
+
+/**
+ * A uniform grid over the entities of a single chunk section, used as a
+ * broadphase for the bounding box queries of a chunk once a section holds
+ * enough entities for testing all of them to become expensive.
+ *
+ * <p>The section is split into cells of 4x4x4 blocks and every entity is
+ * kept in the cell of its bounding box center. Entities listed in the
+ * section but positioned outside of it, which happens until the world
+ * moves them to their new chunk, are kept in the nearest edge cell. Queries
+ * grow the box by the largest distance from an entity center to the edge
+ * of its bounding box or of any of its parts seen by the grid, so the cells
+ * searched always hold every intersecting entity. Queries test the entities
+ * of these cells directly, the same way the chunk tests every entity of
+ * the section.</p>
+ *
+ * <p>Grids are kept up to date by the chunk as entities are added and
+ * removed, and by the entities themselves as their bounding box moves.</p>
+ */
+public final class EntityCollisionGrid {
+
+    /**
+     * The amount of entities a section needs to hold before a grid is
+     * built for it. Grids are dropped again once they hold fewer than half
+     * of this amount.
+     */
+    public static final int MIN_ENTITIES = 32;
+
+    private static final int CELL_SHIFT = 2;
+    private static final int CELLS_PER_AXIS = 16 >> CELL_SHIFT;
+
+    private final int originX;
+    private final int originY;
+    private final int originZ;
+    @SuppressWarnings("unchecked")
+    private final List<Entity>[] cells = new List[CELLS_PER_AXIS * CELLS_PER_AXIS * CELLS_PER_AXIS];
+    private double maxHalfWidth;
+    private double maxHalfHeight;
+    private int size;
+
+    public EntityCollisionGrid(final int chunkX, final int sectionY, final int chunkZ) {
+        this.originX = chunkX << 4;
+        this.originY = sectionY << 4;
+        this.originZ = chunkZ << 4;
+    }
+
+    public int size() {
+        return this.size;
+    }
+
+    public void add(final Entity entity) {
+        final EntityCollisionGridBridge bridge = (EntityCollisionGridBridge) entity;
+        final EntityCollisionGrid previous = bridge.collisionGridBridge$getGrid();
+        if (previous == this) {
+            return;
+        }
+        if (previous != null) {
+            previous.remove(entity);
+        }
+        final AxisAlignedBB bb = entity.getEntityBoundingBox();
+        this.updateMaxHalfSize(entity, bb);
+        final int cell = this.getCell(bb);
+        this.getOrCreateCell(cell).add(entity);
+        bridge.collisionGridBridge$setGrid(this, cell);
+        this.size++;
+    }
+
+    public void remove(final Entity entity) {
+        final EntityCollisionGridBridge bridge = (EntityCollisionGridBridge) entity;
+        if (bridge.collisionGridBridge$getGrid() != this) {
+            return;
+        }
+        final List<Entity> cell = this.cells[bridge.collisionGridBridge$getCell()];
+        if (cell != null && cell.remove(entity)) {
+            this.size--;
+        }
+        bridge.collisionGridBridge$setGrid(null, -1);
+    }
+
+    /**
+     * Moves the entity to the cell of its current bounding box.
+     *
+     * @param entity The entity that moved
+     */
+    public void update(final Entity entity) {
+        final EntityCollisionGridBridge bridge = (EntityCollisionGridBridge) entity;
+        final AxisAlignedBB bb = entity.getEntityBoundingBox();
+        this.updateMaxHalfSize(entity, bb);
+        final int previousCell = bridge.collisionGridBridge$getCell();
+        final int cell = this.getCell(bb);
+        if (cell != previousCell) {
+            final List<Entity> previous = this.cells[previousCell];
+            if (previous != null) {
+                previous.remove(entity);
+            }
+            this.getOrCreateCell(cell).add(entity);
+            bridge.collisionGridBridge$setCell(cell);
+        }
+    }
+
+    /**
+     * Detaches all entities from this grid, once it is no longer used.
+     */
+    public void clear() {
+        for (int i = 0; i < this.cells.length; i++) {
+            final List<Entity> cell = this.cells[i];
+            if (cell != null) {
+                for (final Entity entity : cell) {
+                    ((EntityCollisionGridBridge) entity).collisionGridBridge$setGrid(null, -1);
+                }
+                this.cells[i] = null;
+            }
+        }
+        this.size = 0;
+    }
+
+    /**
+     * Adds the entities intersecting the given box to the list, like
+     * {@link net.minecraft.world.chunk.Chunk#getEntitiesWithinAABBForEntity}
+     * does for the entities of a section.
+     *
+     * @param entityIn The entity to exclude, if any
+     * @param aabb The box to query
+     * @param listToFill The list to add the entities to
+     * @param filter The filter entities have to match, if any
+     */
+    public void getEntitiesWithinAABBForEntity(@Nullable final Entity entityIn, final AxisAlignedBB aabb, final List<Entity> listToFill,
+        @Nullable final Predicate<? super Entity> filter) {
+        final int minX = this.clampCell(aabb.minX - this.maxHalfWidth - this.originX);
+        final int maxX = this.clampCell(aabb.maxX + this.maxHalfWidth - this.originX);
+        final int minY = this.clampCell(aabb.minY - this.maxHalfHeight - this.originY);
+        final int maxY = this.clampCell(aabb.maxY + this.maxHalfHeight - this.originY);
+        final int minZ = this.clampCell(aabb.minZ - this.maxHalfWidth - this.originZ);
+        final int maxZ = this.clampCell(aabb.maxZ + this.maxHalfWidth - this.originZ);
+        for (int y = minY; y <= maxY; y++) {
+            for (int z = minZ; z <= maxZ; z++) {
+                for (int x = minX; x <= maxX; x++) {
+                    final List<Entity> cell = this.cells[index(x, y, z)];
+                    if (cell == null) {
+                        continue;
+                    }
+                    for (int i = 0; i < cell.size(); i++) {
+                        final Entity entity = cell.get(i);
+                        if (entity == entityIn || !entity.getEntityBoundingBox().intersects(aabb)) {
+                            continue;
+                        }
+                        if (filter == null || filter.apply(entity)) {
+                            listToFill.add(entity);
+                        }
+                        final Entity[] parts = entity.getParts();
+                        if (parts != null) {
+                            for (final Entity part : parts) {
+                                if (part != entityIn && part.getEntityBoundingBox().intersects(aabb) && (filter == null || filter.apply(part))) {
+                                    listToFill.add(part);
+                                }
+                            }
+                        }
+                    }
+                }
+            }
+        }
+    }
+
+    /**
+     * Adds the entities of the given class intersecting the given box to the
+     * list, like {@link net.minecraft.world.chunk.Chunk#getEntitiesOfTypeWithinAABB}
+     * does for the entities of a section.
+     *
+     * @param entityClass The class of the entities
+     * @param aabb The box to query
+     * @param listToFill The list to add the entities to
+     * @param filter The filter entities have to match, if any
+     * @param <T> The type of the entities
+     */
+    @SuppressWarnings("unchecked")
+    public <T extends Entity> void getEntitiesOfTypeWithinAABB(final Class<? extends T> entityClass, final AxisAlignedBB aabb,
+        final List<T> listToFill, @Nullable final Predicate<? super T> filter) {
+        final int minX = this.clampCell(aabb.minX - this.maxHalfWidth - this.originX);
+        final int maxX = this.clampCell(aabb.maxX + this.maxHalfWidth - this.originX);
+        final int minY = this.clampCell(aabb.minY - this.maxHalfHeight - this.originY);
+        final int maxY = this.clampCell(aabb.maxY + this.maxHalfHeight - this.originY);
+        final int minZ = this.clampCell(aabb.minZ - this.maxHalfWidth - this.originZ);
+        final int maxZ = this.clampCell(aabb.maxZ + this.maxHalfWidth - this.originZ);
+        for (int y = minY; y <= maxY; y++) {
+            for (int z = minZ; z <= maxZ; z++) {
+                for (int x = minX; x <= maxX; x++) {
+                    final List<Entity> cell = this.cells[index(x, y, z)];
+                    if (cell == null) {
+                        continue;
+                    }
+                    for (int i = 0; i < cell.size(); i++) {
+                        final Entity entity = cell.get(i);
+                        if (entityClass.isInstance(entity) && entity.getEntityBoundingBox().intersects(aabb)
+                            && (filter == null || filter.apply((T) entity))) {
+                            listToFill.add((T) entity);
+                        }
+                    }
+                }
+            }
+        }
+    }
+
+    private List<Entity> getOrCreateCell(final int cell) {
+        List<Entity> entities = this.cells[cell];
+        if (entities == null) {
+            entities = new ArrayList<>();
+            this.cells[cell] = entities;
+        }
+        return entities;
+    }
+
+    private void updateMaxHalfSize(final Entity entity, final AxisAlignedBB bb) {
+        final double centerX = (bb.minX + bb.maxX) / 2.0D;
+        final double centerY = (bb.minY + bb.maxY) / 2.0D;
+        final double centerZ = (bb.minZ + bb.maxZ) / 2.0D;
+        this.updateMaxHalfSize(bb, centerX, centerY, centerZ);
+        // Parts are only queried along with their entity, yet are kept within the reach of its cell
+        final Entity[] parts = entity.getParts();
+        if (parts != null) {
+            for (final Entity part : parts) {
+                this.updateMaxHalfSize(part.getEntityBoundingBox(), centerX, centerY, centerZ);
+            }
+        }
+    }
+
+    private void updateMaxHalfSize(final AxisAlignedBB bb, final double centerX, final double centerY, final double centerZ) {
+        final double halfWidth = Math.max(Math.max(centerX - bb.minX, bb.maxX - centerX), Math.max(centerZ - bb.minZ, bb.maxZ - centerZ));
+        final double halfHeight = Math.max(centerY - bb.minY, bb.maxY - centerY);
+        if (halfWidth > this.maxHalfWidth) {
+            this.maxHalfWidth = halfWidth;
+        }
+        if (halfHeight > this.maxHalfHeight) {
+            this.maxHalfHeight = halfHeight;
+        }
+    }
+
+    private int getCell(final AxisAlignedBB bb) {
+        return index(
+            this.clampCell((bb.minX + bb.maxX) / 2.0D - this.originX),
+            this.clampCell((bb.minY + bb.maxY) / 2.0D - this.originY),
+            this.clampCell((bb.minZ + bb.maxZ) / 2.0D - this.originZ));
+    }
+
+    private int clampCell(final double relative) {
+        return MathHelper.clamp(MathHelper.floor(relative) >> CELL_SHIFT, 0, CELLS_PER_AXIS - 1);
+    }
+
+    private static int index(final int x, final int y, final int z) {
+        return (y * CELLS_PER_AXIS + z) * CELLS_PER_AXIS + x;
+    }
+}
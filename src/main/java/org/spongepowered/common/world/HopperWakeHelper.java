@@ -0,0 +1,124 @@
+/*
+ * This file is part of Sponge, licensed under the MIT License (MIT).
+ *
+ * Copyright (c) SpongePowered <https://www.spongepowered.org>
+ * Copyright (c) contributors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.spongepowered.common.world;
+
+import net.minecraft.tileentity.TileEntity;
+import net.minecraft.util.EnumFacing;
+import net.minecraft.util.math.AxisAlignedBB;
+import net.minecraft.util.math.BlockPos;
+import net.minecraft.util.math.MathHelper;
+import net.minecraft.world.World;
+import net.minecraft.world.chunk.Chunk;
+import org.spongepowered.common.bridge.optimization.EventDrivenHopperBridge;
+import org.spongepowered.common.bridge.world.WorldBridge;
+import org.spongepowered.common.bridge.world.chunk.ChunkProviderBridge;
+
+import javax.annotation.Nullable;
+
+/**
+ * Delivers the change notifications that wake up sleeping hoppers. Only
+ * loaded chunks are looked at, a hopper in an unloaded chunk will be awake
+ * when it is loaded again.
+ */
+public final class HopperWakeHelper {
+
+    /**
+     * Wakes up the hopper at the given position and the hoppers next to
+     * it, as any of them may transfer items from or into the inventory at
+     * the given position.
+     *
+     * @param world The world
+     * @param pos The position of the changed inventory
+     */
+    public static void wakeHoppersAround(final World world, final BlockPos pos) {
+        wakeHopper(world, pos);
+        final BlockPos.PooledMutableBlockPos neighbor = BlockPos.PooledMutableBlockPos.retain();
+        try {
+            for (final EnumFacing facing : EnumFacing.VALUES) {
+                neighbor.setPos(pos.getX() + facing.getXOffset(), pos.getY() + facing.getYOffset(), pos.getZ() + facing.getZOffset());
+                wakeHopper(world, neighbor);
+            }
+        } finally {
+            neighbor.release();
+        }
+    }
+
+    /**
+     * Wakes up the hoppers whose item intake area may overlap the given
+     * bounding box of an item entity.
+     *
+     * @param world The world
+     * @param boundingBox The bounding box of the item
+     */
+    public static void wakeHoppersBelow(final World world, final AxisAlignedBB boundingBox) {
+        final int minX = MathHelper.floor(boundingBox.minX);
+        final int maxX = MathHelper.floor(boundingBox.maxX);
+        final int minZ = MathHelper.floor(boundingBox.minZ);
+        final int maxZ = MathHelper.floor(boundingBox.maxZ);
+        // hoppers collect items up to a block above them
+        final int minY = MathHelper.floor(boundingBox.minY) - 1;
+        final int maxY = MathHelper.floor(boundingBox.minY);
+        final BlockPos.PooledMutableBlockPos pos = BlockPos.PooledMutableBlockPos.retain();
+        try {
+            for (int x = minX; x <= maxX; x++) {
+                for (int z = minZ; z <= maxZ; z++) {
+                    for (int y = minY; y <= maxY; y++) {
+                        wakeHopper(world, pos.setPos(x, y, z));
+                    }
+                }
+            }
+        } finally {
+            pos.release();
+        }
+    }
+
+    /**
+     * Wakes up the hopper at the given position, if there is one.
+     *
+     * @param world The world
+     * @param pos The position
+     */
+    public static void wakeHopper(final World world, final BlockPos pos) {
+        final TileEntity tileEntity = getLoadedTileEntity(world, pos);
+        if (tileEntity instanceof EventDrivenHopperBridge) {
+            ((EventDrivenHopperBridge) tileEntity).hopperBridge$wakeUp();
+        }
+    }
+
+    @Nullable
+    private static TileEntity getLoadedTileEntity(final World world, final BlockPos pos) {
+        if (world.isRemote || ((WorldBridge) world).bridge$isFake() || world.isOutsideBuildHeight(pos)) {
+            return null;
+        }
+        final Chunk chunk = ((ChunkProviderBridge) world.getChunkProvider()).bridge$getLoadedChunkWithoutMarkingActive(pos.getX() >> 4, pos.getZ() >> 4);
+        if (chunk == null) {
+            return null;
+        }
+        return chunk.getTileEntity(pos, Chunk.EnumCreateEntityType.CHECK);
+    }
+
+    private HopperWakeHelper() {
+    }
+}
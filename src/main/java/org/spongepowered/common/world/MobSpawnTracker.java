@@ -0,0 +1,262 @@
+/*
+ * This file is part of Sponge, licensed under the MIT License (MIT).
+ *
+ * Copyright (c) SpongePowered <https://www.spongepowered.org>
+ * Copyright (c) contributors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.spongepowered.common.world;
+
+import it.unimi.dsi.fastutil.longs.Long2IntMap;
+import it.unimi.dsi.fastutil.longs.Long2IntOpenHashMap;
+import net.minecraft.entity.Entity;
+import net.minecraft.entity.EntityLiving;
+import net.minecraft.entity.EnumCreatureType;
+import net.minecraft.entity.player.EntityPlayer;
+import net.minecraft.util.math.ChunkPos;
+import net.minecraft.util.math.MathHelper;
+import org.spongepowered.common.SpongeImplHooks;
+import org.spongepowered.common.bridge.entity.EntityBridge;
+import org.spongepowered.common.bridge.entity.player.EntityPlayerBridge;
+
+import java.util.IdentityHashMap;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Keeps the state the mob spawner of a world needs at the start of every
+ * spawn cycle up to date as it changes, instead of recomputing it.
+ *
+ * <p>Entities are counted per {@link EnumCreatureType} as they are added
+ * to and removed from the world, following the rules of
+ * {@link net.minecraft.world.World#countEntities(Class)}. Whether an entity
+ * counts can change afterwards, for example when it is named, so the counts
+ * are also rebuilt from the loaded entities every minute.</p>
+ *
+ * <p>The chunks within mob spawn range of the players that affect spawning
+ * are reference counted, and only updated for players that crossed into
+ * another chunk since the previous cycle.</p>
+ */
+public final class MobSpawnTracker {
+
+    private static final int NOT_TRACKED = -1;
+    private static final int RESYNC_INTERVAL = 1200;
+
+    private final EnumCreatureType[] creatureTypes = EnumCreatureType.values();
+    private final int[] creatureCounts = new int[this.creatureTypes.length];
+    private long lastResyncTime = -RESYNC_INTERVAL;
+
+    private final Map<EntityPlayer, SpawnArea> playerAreas = new IdentityHashMap<>();
+    private final Long2IntOpenHashMap candidateChunks = new Long2IntOpenHashMap();
+    private final Long2IntOpenHashMap eligibleChunks = new Long2IntOpenHashMap();
+    private int updateCount;
+
+    public void onEntityAdded(final Entity entity) {
+        if (((EntityBridge) entity).bridge$getSpawnCountMask() != NOT_TRACKED) {
+            return;
+        }
+        final int mask = this.getSpawnCountMask(entity);
+        this.addCounts(mask, 1);
+        ((EntityBridge) entity).bridge$setSpawnCountMask(mask);
+    }
+
+    public void onEntityRemoved(final Entity entity) {
+        if (entity instanceof EntityPlayer) {
+            final SpawnArea area = this.playerAreas.remove(entity);
+            if (area != null) {
+                this.updateArea(area, -1);
+            }
+        }
+        final int mask = ((EntityBridge) entity).bridge$getSpawnCountMask();
+        if (mask == NOT_TRACKED) {
+            return;
+        }
+        this.addCounts(mask, -1);
+        ((EntityBridge) entity).bridge$setSpawnCountMask(NOT_TRACKED);
+    }
+
+    /**
+     * Re-evaluates which creature types the entity counts as, after
+     * something that may affect it changed.
+     *
+     * @param entity The entity
+     */
+    public void onSpawnCountChanged(final Entity entity) {
+        final int mask = ((EntityBridge) entity).bridge$getSpawnCountMask();
+        if (mask == NOT_TRACKED) {
+            return;
+        }
+        final int newMask = this.getSpawnCountMask(entity);
+        if (newMask != mask) {
+            this.addCounts(mask, -1);
+            this.addCounts(newMask, 1);
+            ((EntityBridge) entity).bridge$setSpawnCountMask(newMask);
+        }
+    }
+
+    /**
+     * Gets the amount of entities of the given creature type that count
+     * towards its spawn limit.
+     *
+     * @param type The creature type
+     * @return The entity count
+     */
+    public int getCreatureCount(final EnumCreatureType type) {
+        return Math.max(0, this.creatureCounts[type.ordinal()]);
+    }
+
+    /**
+     * Rebuilds the creature counts from the loaded entities if they have
+     * not been rebuilt for a while.
+     *
+     * @param loadedEntities The loaded entities of the world
+     * @param totalWorldTime The total time of the world
+     */
+    public void resyncIfNeeded(final List<Entity> loadedEntities, final long totalWorldTime) {
+        if (totalWorldTime - this.lastResyncTime < RESYNC_INTERVAL) {
+            return;
+        }
+        this.lastResyncTime = totalWorldTime;
+        for (int i = 0; i < this.creatureCounts.length; i++) {
+            this.creatureCounts[i] = 0;
+        }
+        for (final Entity entity : loadedEntities) {
+            final int mask = this.getSpawnCountMask(entity);
+            this.addCounts(mask, 1);
+            ((EntityBridge) entity).bridge$setSpawnCountMask(mask);
+        }
+    }
+
+    /**
+     * Updates the chunks within mob spawn range of the players that affect
+     * spawning.
+     *
+     * @param players The players of the world
+     * @param mobSpawnRange The mob spawn range, in chunks
+     */
+    public void updatePlayers(final List<EntityPlayer> players, final int mobSpawnRange) {
+        final int update = ++this.updateCount;
+        for (final EntityPlayer player : players) {
+            // We treat players who do not affect spawning as "spectators"
+            if (!((EntityPlayerBridge) player).bridge$affectsSpawning() || player.isSpectator()) {
+                continue;
+            }
+            final int chunkX = MathHelper.floor(player.posX / 16.0D);
+            final int chunkZ = MathHelper.floor(player.posZ / 16.0D);
+            SpawnArea area = this.playerAreas.get(player);
+            if (area == null) {
+                area = new SpawnArea(chunkX, chunkZ, mobSpawnRange);
+                this.playerAreas.put(player, area);
+                this.updateArea(area, 1);
+            } else if (area.chunkX != chunkX || area.chunkZ != chunkZ || area.range != mobSpawnRange) {
+                this.updateArea(area, -1);
+                area.chunkX = chunkX;
+                area.chunkZ = chunkZ;
+                area.range = mobSpawnRange;
+                this.updateArea(area, 1);
+            }
+            area.lastUpdate = update;
+        }
+
+        final Iterator<SpawnArea> iterator = this.playerAreas.values().iterator();
+        while (iterator.hasNext()) {
+            final SpawnArea area = iterator.next();
+            if (area.lastUpdate != update) {
+                this.updateArea(area, -1);
+                iterator.remove();
+            }
+        }
+    }
+
+    /**
+     * Gets the chunks within mob spawn range of players, mapped to the
+     * amount of players they are in range of.
+     *
+     * @return The candidate chunks
+     */
+    public Long2IntMap getCandidateChunks() {
+        return this.candidateChunks;
+    }
+
+    /**
+     * Gets the chunks that mobs may spawn in, the candidate chunks that are
+     * not on the edge of the range of every player they are in range of.
+     *
+     * @return The eligible chunks
+     */
+    public Long2IntMap getEligibleChunks() {
+        return this.eligibleChunks;
+    }
+
+    private void updateArea(final SpawnArea area, final int delta) {
+        final int range = area.range;
+        for (int x = -range; x <= range; x++) {
+            for (int z = -range; z <= range; z++) {
+                final long key = ChunkPos.asLong(area.chunkX + x, area.chunkZ + z);
+                addReference(this.candidateChunks, key, delta);
+                if (x != -range && x != range && z != -range && z != range) {
+                    addReference(this.eligibleChunks, key, delta);
+                }
+            }
+        }
+    }
+
+    private static void addReference(final Long2IntOpenHashMap chunks, final long key, final int delta) {
+        if (chunks.addTo(key, delta) + delta <= 0) {
+            chunks.remove(key);
+        }
+    }
+
+    private void addCounts(final int mask, final int delta) {
+        for (int i = 0; i < this.creatureCounts.length; i++) {
+            if ((mask & (1 << i)) != 0) {
+                this.creatureCounts[i] += delta;
+            }
+        }
+    }
+
+    private int getSpawnCountMask(final Entity entity) {
+        if (entity instanceof EntityLiving && ((EntityLiving) entity).isNoDespawnRequired()) {
+            return 0;
+        }
+        int mask = 0;
+        for (int i = 0; i < this.creatureTypes.length && i < Integer.SIZE; i++) {
+            if (SpongeImplHooks.isCreatureOfType(entity, this.creatureTypes[i])) {
+                mask |= 1 << i;
+            }
+        }
+        return mask;
+    }
+
+    private static final class SpawnArea {
+
+        int chunkX;
+        int chunkZ;
+        int range;
+        int lastUpdate;
+
+        SpawnArea(final int chunkX, final int chunkZ, final int range) {
+            this.chunkX = chunkX;
+            this.chunkZ = chunkZ;
+            this.range = range;
+        }
+    }
+}
@@ -0,0 +1,180 @@
+/*
+ * This file is part of Sponge, licensed under the MIT License (MIT).
+ *
+ * Copyright (c) SpongePowered <https://www.spongepowered.org>
+ * Copyright (c) contributors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.spongepowered.common.world;
+
+import net.minecraft.block.state.IBlockState;
+import net.minecraft.world.chunk.Chunk;
+import net.minecraft.world.chunk.storage.ExtendedBlockStorage;
+import org.spongepowered.common.SpongeImpl;
+
+import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinWorkerThread;
+import java.util.concurrent.RecursiveAction;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import javax.annotation.Nullable;
+
+/**
+ * Selects the random tick candidates of a list of chunks in parallel, ahead of
+ * the chunks being ticked on the main thread. Only block state reads are made
+ * while scanning, the main thread waits for the scan to complete before any of
+ * the chunks are ticked, and it is expected to re-check each candidate before
+ * ticking it since earlier ticks may have changed the block.
+ *
+ * <p>Candidates are packed as {@code section << 12 | y << 8 | z << 4 | x}.</p>
+ */
+public final class RandomTickScanner {
+
+    private static final int CHUNKS_PER_TASK = 64;
+    private static final AtomicInteger THREAD_ID = new AtomicInteger();
+    @Nullable private static volatile ForkJoinPool pool;
+
+    private Chunk[] chunks = new Chunk[0];
+    private int[] candidates = new int[0];
+    private int[] candidateCounts = new int[0];
+    private int stride;
+
+    private static ForkJoinPool getPool() {
+        ForkJoinPool pool = RandomTickScanner.pool;
+        if (pool == null) {
+            synchronized (RandomTickScanner.class) {
+                pool = RandomTickScanner.pool;
+                if (pool == null) {
+                    final int threads = Math.max(1, SpongeImpl.getGlobalConfigAdapter().getConfig().getOptimizations()
+                        .getParallelRandomTickCategory().getNumThreads());
+                    pool = new ForkJoinPool(threads, forkJoinPool -> {
+                        final ForkJoinWorkerThread thread = ForkJoinPool.defaultForkJoinWorkerThreadFactory.newThread(forkJoinPool);
+                        thread.setName("Sponge - Random Tick Scan Thread #" + THREAD_ID.getAndIncrement());
+                        thread.setDaemon(true);
+                        return thread;
+                    }, null, false);
+                    RandomTickScanner.pool = pool;
+                }
+            }
+        }
+        return pool;
+    }
+
+    /**
+     * Scans the given chunks for blocks to random tick, blocking until done.
+     *
+     * @param chunks The chunks about to be ticked, in tick order
+     * @param randomTickSpeed The amount of positions picked per section
+     * @param seed The seed to derive the positions picked per chunk from
+     */
+    public void scan(final List<Chunk> chunks, final int randomTickSpeed, final int seed) {
+        final int count = chunks.size();
+        if (this.chunks.length < count) {
+            this.chunks = new Chunk[count];
+            this.candidateCounts = new int[count];
+        }
+        this.chunks = chunks.toArray(this.chunks);
+        this.stride = 16 * randomTickSpeed;
+        if (this.candidates.length < count * this.stride) {
+            this.candidates = new int[count * this.stride];
+        }
+        if (count == 0) {
+            return;
+        }
+        getPool().invoke(new ScanTask(0, count, randomTickSpeed, seed));
+    }
+
+    public int getCandidateCount(final int chunkIndex) {
+        return this.candidateCounts[chunkIndex];
+    }
+
+    public int getCandidate(final int chunkIndex, final int candidateIndex) {
+        return this.candidates[chunkIndex * this.stride + candidateIndex];
+    }
+
+    /**
+     * Drops the references to the scanned chunks so they can be collected once unloaded.
+     */
+    public void clear(final int chunkCount) {
+        for (int i = 0; i < chunkCount && i < this.chunks.length; i++) {
+            this.chunks[i] = null;
+        }
+    }
+
+    private void scanChunk(final int chunkIndex, final int randomTickSpeed, final int seed) {
+        final Chunk chunk = this.chunks[chunkIndex];
+        final int offset = chunkIndex * this.stride;
+        // Mix the chunk position into the seed so every chunk picks its own positions
+        int lcg = seed ^ (chunk.x * 0x9E3779B9) ^ (chunk.z * 0x85EBCA6B);
+        lcg ^= lcg >>> 16;
+        lcg *= 0x7FEB352D;
+        lcg ^= lcg >>> 15;
+        int count = 0;
+        final ExtendedBlockStorage[] storageArray = chunk.getBlockStorageArray();
+        for (int section = 0; section < storageArray.length; section++) {
+            final ExtendedBlockStorage storage = storageArray[section];
+            if (storage == Chunk.NULL_BLOCK_STORAGE || !storage.needsRandomTick()) {
+                continue;
+            }
+            for (int i = 0; i < randomTickSpeed; i++) {
+                lcg = lcg * 3 + 1013904223;
+                final int random = lcg >> 2;
+                final int x = random & 15;
+                final int z = random >> 8 & 15;
+                final int y = random >> 16 & 15;
+                final IBlockState state = storage.get(x, y, z);
+                if (state.getBlock().getTickRandomly()) {
+                    this.candidates[offset + count++] = section << 12 | y << 8 | z << 4 | x;
+                }
+            }
+        }
+        this.candidateCounts[chunkIndex] = count;
+    }
+
+    private final class ScanTask extends RecursiveAction {
+
+        private static final long serialVersionUID = 1L;
+        private final int from;
+        private final int to;
+        private final int randomTickSpeed;
+        private final int seed;
+
+        ScanTask(final int from, final int to, final int randomTickSpeed, final int seed) {
+            this.from = from;
+            this.to = to;
+            this.randomTickSpeed = randomTickSpeed;
+            this.seed = seed;
+        }
+
+        @Override
+        protected void compute() {
+            if (this.to - this.from <= CHUNKS_PER_TASK) {
+                for (int i = this.from; i < this.to; i++) {
+                    scanChunk(i, this.randomTickSpeed, this.seed);
+                }
+                return;
+            }
+            final int middle = (this.from + this.to) >>> 1;
+            invokeAll(new ScanTask(this.from, middle, this.randomTickSpeed, this.seed),
+                new ScanTask(middle, this.to, this.randomTickSpeed, this.seed));
+        }
+    }
+}
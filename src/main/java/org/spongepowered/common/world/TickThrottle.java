@@ -0,0 +1,152 @@
+/*
+ * This file is part of Sponge, licensed under the MIT License (MIT).
+ *
+ * Copyright (c) SpongePowered <https://www.spongepowered.org>
+ * Copyright (c) contributors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.spongepowered.common.world;
+
+import net.minecraft.tileentity.TileEntity;
+import net.minecraft.world.WorldServer;
+import org.spongepowered.api.block.tileentity.TileEntityType;
+import org.spongepowered.common.SpongeImpl;
+import org.spongepowered.common.bridge.world.WorldInfoBridge;
+import org.spongepowered.common.config.category.TickThrottleCategory;
+import org.spongepowered.common.mixin.plugin.entityactivation.interfaces.ActivationCapability;
+
+import java.util.HashSet;
+import java.util.Set;
+
+/**
+ * Tracks how far the non-critical entities and tileentities of a world
+ * should be throttled, based on the mean tick time of the server.
+ *
+ * <p>At level {@code n}, throttled objects only tick once every
+ * {@code 2^n} ticks. The level is re-evaluated once per second, as the
+ * tick times it is based on are already averaged over 100 ticks.</p>
+ */
+public final class TickThrottle {
+
+    private static final int UPDATE_INTERVAL = 20;
+
+    private final WorldServer world;
+    private final Set<String> tileEntityTypes = new HashSet<>();
+    private long lastUpdateTick = Long.MIN_VALUE;
+    private int level;
+
+    public TickThrottle(final WorldServer world) {
+        this.world = world;
+    }
+
+    /**
+     * Gets the amount of updates the current update of the given tileentity
+     * stands for. This is more than one if the throttle skipped some of its
+     * previous updates, tileentities in persisted chunks are never skipped.
+     *
+     * @param tileEntity The tileentity
+     * @return The amount of updates to compensate for, 1 if none were skipped
+     */
+    public static int getElapsedTicks(final TileEntity tileEntity) {
+        // Tileentities are only throttled when tileentity activation is enabled
+        if (!(tileEntity instanceof ActivationCapability)) {
+            return 1;
+        }
+        return Math.max(1, ((ActivationCapability) tileEntity).activation$getElapsedTicks());
+    }
+
+    /**
+     * Gets the current throttle level, re-evaluating it if needed.
+     *
+     * @return The throttle level, 0 if not throttling
+     */
+    public int getLevel() {
+        final long currentTick = SpongeImpl.getServer().getTickCounter();
+        if (currentTick - this.lastUpdateTick >= UPDATE_INTERVAL) {
+            this.lastUpdateTick = currentTick;
+            this.update();
+        }
+        return this.level;
+    }
+
+    /**
+     * Gets the amount of ticks between two updates of a throttled object.
+     *
+     * @return The tick interval
+     */
+    public int getInterval() {
+        return 1 << this.getLevel();
+    }
+
+    /**
+     * Checks whether a throttled object should be skipped this tick. The
+     * given seed is used to spread the objects over the tick interval.
+     *
+     * @param seed The seed, such as an entity id
+     * @param currentTick The current tick, counted in the same unit for
+     *     every object sharing the seed space
+     * @return Whether the object should be skipped
+     */
+    public boolean shouldSkip(final int seed, final long currentTick) {
+        final int interval = this.getInterval();
+        return interval > 1 && ((currentTick + seed) & (interval - 1)) != 0;
+    }
+
+    /**
+     * Checks whether the tileentities of the given type may be throttled.
+     *
+     * @param type The tileentity type
+     * @return Whether the type may be throttled
+     */
+    public boolean isThrottled(final TileEntityType type) {
+        return this.getLevel() > 0 && this.tileEntityTypes.contains(type.getId());
+    }
+
+    private void update() {
+        final TickThrottleCategory config = ((WorldInfoBridge) this.world.getWorldInfo()).bridge$getConfigAdapter().getConfig().getTickThrottle();
+        this.tileEntityTypes.clear();
+        if (!config.isEnabled() || config.getMaxLevel() <= 0) {
+            this.level = 0;
+            return;
+        }
+        this.tileEntityTypes.addAll(config.getTileEntities());
+
+        final double meanTickTime = mean(SpongeImpl.getServer().tickTimeArray) * 1.0e-6d;
+        final double range = config.getMaxTickTime() - config.getStartTickTime();
+        if (meanTickTime <= config.getStartTickTime()) {
+            this.level = 0;
+        } else if (range <= 0 || meanTickTime >= config.getMaxTickTime()) {
+            this.level = config.getMaxLevel();
+        } else {
+            this.level = (int) Math.ceil((meanTickTime - config.getStartTickTime()) / range * config.getMaxLevel());
+        }
+    }
+
+    private static double mean(final long[] values) {
+        if (values.length == 0) {
+            return 0;
+        }
+        long sum = 0;
+        for (final long value : values) {
+            sum += value;
+        }
+        return (double) sum / values.length;
+    }
+}
@@ -0,0 +1,311 @@
+/*
+ * This file is part of Sponge, licensed under the MIT License (MIT).
+ *
+ * Copyright (c) SpongePowered <https://www.spongepowered.org>
+ * Copyright (c) contributors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.spongepowered.common.world.lighting;
+
+import com.google.common.util.concurrent.ThreadFactoryBuilder;
+import net.minecraft.entity.player.EntityPlayer;
+import net.minecraft.util.math.BlockPos;
+import net.minecraft.util.math.MathHelper;
+import net.minecraft.world.EnumSkyBlock;
+import net.minecraft.world.chunk.Chunk;
+import org.spongepowered.common.bridge.world.WorldServerBridge_AsyncLighting;
+
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.PriorityBlockingQueue;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Runs the asynchronous light updates of a world. Block light updates are
+ * batched per chunk section, and both the batches and the chunk wide light
+ * tasks are run closest to a player first. Updates for chunks queued for
+ * unload by the time their batch runs are deferred, they are queued again
+ * if the unload is cancelled and dropped once the chunk is unloaded.
+ */
+public final class LightingEngine {
+
+    private static final double LATENCY_SMOOTHING = 0.05D;
+
+    private final WorldServerBridge_AsyncLighting world;
+    private final ThreadPoolExecutor executor;
+    private final Map<Long, SectionBatch> pendingBatches = new ConcurrentHashMap<>();
+    private final Map<Chunk, Queue<LightUpdate>> deferredUpdates = new ConcurrentHashMap<>();
+    private final AtomicLong sequence = new AtomicLong();
+    private final AtomicInteger queuedUpdates = new AtomicInteger();
+    private final AtomicLong droppedUpdates = new AtomicLong();
+    // Section coordinates of each player, three ints per player
+    private volatile int[] playerSections = new int[0];
+    private double averageLatency;
+
+    public LightingEngine(final WorldServerBridge_AsyncLighting world, final int threads) {
+        this.world = world;
+        this.executor = new ThreadPoolExecutor(threads, threads, 0L, TimeUnit.MILLISECONDS, new PriorityBlockingQueue<>(),
+            new ThreadFactoryBuilder().setNameFormat("Sponge - Async Light Thread").build());
+    }
+
+    /**
+     * Updates the player positions light updates are prioritized by, must be
+     * called from the main thread.
+     *
+     * @param players The players of the world
+     */
+    public void updatePlayerPositions(final List<EntityPlayer> players) {
+        final int[] sections = new int[players.size() * 3];
+        int i = 0;
+        for (final EntityPlayer player : players) {
+            sections[i++] = MathHelper.floor(player.posX) >> 4;
+            sections[i++] = MathHelper.floor(player.posY) >> 4;
+            sections[i++] = MathHelper.floor(player.posZ) >> 4;
+        }
+        this.playerSections = sections;
+    }
+
+    /**
+     * Queues the deferred light updates of chunks which are no longer queued
+     * for unload, and drops those of chunks which have been unloaded. Must be
+     * called from the main thread.
+     */
+    public void processDeferredUpdates() {
+        if (this.deferredUpdates.isEmpty()) {
+            return;
+        }
+        final Iterator<Map.Entry<Chunk, Queue<LightUpdate>>> iterator = this.deferredUpdates.entrySet().iterator();
+        while (iterator.hasNext()) {
+            final Map.Entry<Chunk, Queue<LightUpdate>> entry = iterator.next();
+            final Chunk chunk = entry.getKey();
+            if (chunk.unloadQueued && chunk.isLoaded()) {
+                continue;
+            }
+            iterator.remove();
+            LightUpdate update;
+            while ((update = entry.getValue().poll()) != null) {
+                if (chunk.isLoaded()) {
+                    this.world.asyncLightingBridge$updateLightAsync(update.lightType, update.pos, chunk);
+                } else {
+                    this.droppedUpdates.incrementAndGet();
+                }
+            }
+        }
+    }
+
+    /**
+     * Queues a light update for a position, merging it into the batch of its
+     * chunk section if that batch has not started yet.
+     *
+     * @param update The light update
+     */
+    public void queueUpdate(final LightUpdate update) {
+        this.queuedUpdates.incrementAndGet();
+        final int sectionY = MathHelper.clamp(update.pos.getY() >> 4, 0, 15);
+        final long key = getSectionKey(update.chunk.x, sectionY, update.chunk.z);
+        for (;;) {
+            SectionBatch batch = this.pendingBatches.get(key);
+            if (batch == null) {
+                batch = new SectionBatch(key, update.chunk, this.getPriority(update.chunk.x, sectionY, update.chunk.z));
+                batch.add(update);
+                if (this.pendingBatches.putIfAbsent(key, batch) == null) {
+                    this.executor.execute(batch);
+                    return;
+                }
+            } else if (batch.add(update)) {
+                return;
+            } else {
+                // Already running, a new batch has to be started
+                this.pendingBatches.remove(key, batch);
+            }
+        }
+    }
+
+    /**
+     * Runs a light task for a whole chunk.
+     *
+     * @param chunk The chunk the task is lighting
+     * @param task The task
+     */
+    public void execute(final Chunk chunk, final Runnable task) {
+        this.executor.execute(new ChunkTask(this.getPriority(chunk.x, -1, chunk.z), task));
+    }
+
+    public boolean isShutdown() {
+        return this.executor.isShutdown();
+    }
+
+    public void shutdownNow() {
+        this.executor.shutdownNow();
+    }
+
+    /**
+     * Gets the number of light updates waiting to be run.
+     *
+     * @return The queued updates
+     */
+    public int getQueuedUpdates() {
+        return this.queuedUpdates.get();
+    }
+
+    /**
+     * Gets the number of section batches and chunk tasks waiting for a thread.
+     *
+     * @return The queued tasks
+     */
+    public int getQueuedTasks() {
+        return this.executor.getQueue().size();
+    }
+
+    public long getDroppedUpdates() {
+        return this.droppedUpdates.get();
+    }
+
+    /**
+     * Gets the smoothed time in milliseconds tasks wait before being run.
+     *
+     * @return The average latency
+     */
+    public synchronized double getAverageLatency() {
+        return this.averageLatency;
+    }
+
+    private synchronized void recordLatency(final long queuedTime) {
+        final double latency = (System.nanoTime() - queuedTime) / 1_000_000D;
+        this.averageLatency += (latency - this.averageLatency) * LATENCY_SMOOTHING;
+    }
+
+    private long getPriority(final int chunkX, final int sectionY, final int chunkZ) {
+        final int[] sections = this.playerSections;
+        long priority = Long.MAX_VALUE;
+        for (int i = 0; i < sections.length; i += 3) {
+            // Squared in longs, the distance to far out chunks overflows an int
+            final long dx = sections[i] - chunkX;
+            final long dy = sectionY < 0 ? 0 : sections[i + 1] - sectionY;
+            final long dz = sections[i + 2] - chunkZ;
+            priority = Math.min(priority, dx * dx + dy * dy + dz * dz);
+        }
+        return priority;
+    }
+
+    private static long getSectionKey(final int chunkX, final int sectionY, final int chunkZ) {
+        return ((long) chunkX & 0x3FFFFFFL) << 38 | ((long) chunkZ & 0x3FFFFFFL) << 12 | sectionY;
+    }
+
+    /**
+     * A light update of a single position.
+     */
+    public static final class LightUpdate {
+
+        public final EnumSkyBlock lightType;
+        public final BlockPos pos;
+        public final Chunk chunk;
+        public final List<Chunk> neighbors;
+
+        public LightUpdate(final EnumSkyBlock lightType, final BlockPos pos, final Chunk chunk, final List<Chunk> neighbors) {
+            this.lightType = lightType;
+            this.pos = pos;
+            this.chunk = chunk;
+            this.neighbors = neighbors;
+        }
+    }
+
+    private abstract class LightingTask implements Runnable, Comparable<LightingTask> {
+
+        private final long priority;
+        private final long sequence = LightingEngine.this.sequence.getAndIncrement();
+        final long queuedTime = System.nanoTime();
+
+        LightingTask(final long priority) {
+            this.priority = priority;
+        }
+
+        @Override
+        public int compareTo(final LightingTask other) {
+            final int compare = Long.compare(this.priority, other.priority);
+            return compare != 0 ? compare : Long.compare(this.sequence, other.sequence);
+        }
+    }
+
+    private final class ChunkTask extends LightingTask {
+
+        private final Runnable task;
+
+        ChunkTask(final long priority, final Runnable task) {
+            super(priority);
+            this.task = task;
+        }
+
+        @Override
+        public void run() {
+            LightingEngine.this.recordLatency(this.queuedTime);
+            this.task.run();
+        }
+    }
+
+    private final class SectionBatch extends LightingTask {
+
+        private final long key;
+        private final Chunk chunk;
+        private final List<LightUpdate> updates = new ArrayList<>();
+        private boolean started;
+
+        SectionBatch(final long key, final Chunk chunk, final long priority) {
+            super(priority);
+            this.key = key;
+            this.chunk = chunk;
+        }
+
+        synchronized boolean add(final LightUpdate update) {
+            if (this.started) {
+                return false;
+            }
+            this.updates.add(update);
+            return true;
+        }
+
+        @Override
+        public void run() {
+            synchronized (this) {
+                this.started = true;
+            }
+            LightingEngine.this.pendingBatches.remove(this.key, this);
+            LightingEngine.this.recordLatency(this.queuedTime);
+            for (final LightUpdate update : this.updates) {
+                LightingEngine.this.queuedUpdates.decrementAndGet();
+                if (this.chunk.unloadQueued) {
+                    // Released, so the update does not keep the chunk loaded
+                    LightingEngine.this.world.asyncLightingBridge$discardLightUpdate(update);
+                    LightingEngine.this.deferredUpdates.computeIfAbsent(this.chunk, key -> new ConcurrentLinkedQueue<>()).add(update);
+                } else {
+                    LightingEngine.this.world.asyncLightingBridge$checkLightAsync(update.lightType, update.pos, update.chunk, update.neighbors);
+                }
+            }
+        }
+    }
+}
@@ -0,0 +1,96 @@
+/*
+ * This file is part of Sponge, licensed under the MIT License (MIT).
+ *
+ * Copyright (c) SpongePowered <https://www.spongepowered.org>
+ * Copyright (c) contributors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.spongepowered.common.world.storage;
+
+import net.minecraft.world.chunk.storage.RegionFile;
+import org.spongepowered.common.SpongeImpl;
+import org.spongepowered.common.config.category.WorldCategory;
+
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.util.zip.Deflater;
+
+/**
+ * The {@link ChunkCompression} and compression level a world stores its
+ * chunks with, resolved once from its config.
+ */
+public final class ChunkCodec {
+
+    public static final ChunkCodec VANILLA = new ChunkCodec(ChunkCompression.ZLIB, Deflater.DEFAULT_COMPRESSION);
+
+    private final ChunkCompression compression;
+    private final int level;
+
+    public ChunkCodec(final ChunkCompression compression, final int level) {
+        this.compression = compression;
+        this.level = level;
+    }
+
+    /**
+     * Gets the codec configured in the given category, falling back to the
+     * vanilla codec if the configured compression is unknown.
+     *
+     * @param category The world category
+     * @return The codec
+     */
+    public static ChunkCodec of(final WorldCategory category) {
+        final ChunkCompression compression = ChunkCompression.byName(category.getChunkCompression());
+        if (compression == null) {
+            SpongeImpl.getLogger().warn("Unknown chunk compression '{}', chunks will be stored with zlib instead", category.getChunkCompression());
+            return VANILLA;
+        }
+        int level = category.getChunkCompressionLevel();
+        if (level < Deflater.DEFAULT_COMPRESSION || level > Deflater.BEST_COMPRESSION) {
+            SpongeImpl.getLogger().warn("Invalid chunk compression level {}, the default level will be used instead", level);
+            level = Deflater.DEFAULT_COMPRESSION;
+        }
+        if (compression == ChunkCompression.ZLIB && level == Deflater.DEFAULT_COMPRESSION) {
+            return VANILLA;
+        }
+        return new ChunkCodec(compression, level);
+    }
+
+    public ChunkCompression getCompression() {
+        return this.compression;
+    }
+
+    public int getLevel() {
+        return this.level;
+    }
+
+    /**
+     * Opens a stream writing a chunk to a region file with this codec once
+     * closed.
+     *
+     * @param region The region file
+     * @param x The x coordinate of the chunk within the region
+     * @param z The z coordinate of the chunk within the region
+     * @return The stream
+     * @throws IOException If the stream could not be opened
+     */
+    public DataOutputStream openChunkOutputStream(final RegionFile region, final int x, final int z) throws IOException {
+        return ChunkCompression.openChunkOutputStream(region, x, z, this.compression, this.level);
+    }
+}
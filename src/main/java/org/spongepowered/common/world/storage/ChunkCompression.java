@@ -0,0 +1,196 @@
+/*
+ * This file is part of Sponge, licensed under the MIT License (MIT).
+ *
+ * Copyright (c) SpongePowered <https://www.spongepowered.org>
+ * Copyright (c) contributors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.spongepowered.common.world.storage;
+
+import net.minecraft.world.chunk.storage.RegionFile;
+import org.spongepowered.common.bridge.world.chunk.storage.RegionFileBridge;
+
+import java.io.BufferedOutputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.util.zip.Deflater;
+import java.util.zip.DeflaterOutputStream;
+import java.util.zip.GZIPInputStream;
+import java.util.zip.GZIPOutputStream;
+import java.util.zip.InflaterInputStream;
+
+import javax.annotation.Nullable;
+
+/**
+ * The compressions chunks can be stored with in a region file, identified by
+ * the compression type byte preceding the data of each chunk.
+ */
+public enum ChunkCompression {
+
+    GZIP(1) {
+        @Override
+        public InputStream wrap(final InputStream in) throws IOException {
+            return new GZIPInputStream(in);
+        }
+
+        @Override
+        public OutputStream wrap(final OutputStream out, final int level) throws IOException {
+            return new GZIPOutputStream(out) {
+                {
+                    if (level != Deflater.DEFAULT_COMPRESSION) {
+                        this.def.setLevel(level);
+                    }
+                }
+            };
+        }
+    },
+    ZLIB(2) {
+        @Override
+        public InputStream wrap(final InputStream in) {
+            return new InflaterInputStream(in);
+        }
+
+        @Override
+        public OutputStream wrap(final OutputStream out, final int level) {
+            if (level == Deflater.DEFAULT_COMPRESSION) {
+                return new DeflaterOutputStream(out);
+            }
+            final Deflater deflater = new Deflater(level);
+            return new DeflaterOutputStream(out, deflater) {
+                @Override
+                public void close() throws IOException {
+                    try {
+                        super.close();
+                    } finally {
+                        // Only the default deflater is released by the stream itself
+                        deflater.end();
+                    }
+                }
+            };
+        }
+    },
+    // Same id as used by vanilla since 1.15
+    NONE(3) {
+        @Override
+        public InputStream wrap(final InputStream in) {
+            return in;
+        }
+
+        @Override
+        public OutputStream wrap(final OutputStream out, final int level) {
+            return out;
+        }
+    },
+    // Same id and format as used by vanilla since 1.20.5
+    LZ4(4) {
+        @Override
+        public InputStream wrap(final InputStream in) {
+            return new Lz4BlockInputStream(in);
+        }
+
+        @Override
+        public OutputStream wrap(final OutputStream out, final int level) {
+            return new Lz4BlockOutputStream(out);
+        }
+    };
+
+    private final byte id;
+
+    ChunkCompression(final int id) {
+        this.id = (byte) id;
+    }
+
+    public byte getId() {
+        return this.id;
+    }
+
+    public abstract InputStream wrap(InputStream in) throws IOException;
+
+    public abstract OutputStream wrap(OutputStream out, int level) throws IOException;
+
+    @Nullable
+    public static ChunkCompression byId(final int id) {
+        for (final ChunkCompression compression : values()) {
+            if (compression.id == id) {
+                return compression;
+            }
+        }
+        return null;
+    }
+
+    /**
+     * Gets the compression to store chunks with from its configured name.
+     *
+     * @param name The configured name
+     * @return The compression, or null if there is no such compression
+     */
+    @Nullable
+    public static ChunkCompression byName(final String name) {
+        for (final ChunkCompression compression : values()) {
+            if (compression.name().equalsIgnoreCase(name)) {
+                return compression;
+            }
+        }
+        return null;
+    }
+
+    /**
+     * Opens a stream writing a chunk to a region file once closed, using the
+     * given compression.
+     *
+     * @param region The region file
+     * @param x The x coordinate of the chunk within the region
+     * @param z The z coordinate of the chunk within the region
+     * @param compression The compression
+     * @param level The compression level, if supported by the compression
+     * @return The stream
+     * @throws IOException If the stream could not be opened
+     */
+    public static DataOutputStream openChunkOutputStream(final RegionFile region, final int x, final int z, final ChunkCompression compression,
+        final int level) throws IOException {
+        final ChunkBuffer buffer = new ChunkBuffer((RegionFileBridge) region, x, z, compression.id);
+        return new DataOutputStream(new BufferedOutputStream(compression.wrap(buffer, level)));
+    }
+
+    // Equivalent of RegionFile.ChunkBuffer which writes the compression type
+    private static final class ChunkBuffer extends ByteArrayOutputStream {
+
+        private final RegionFileBridge region;
+        private final int x;
+        private final int z;
+        private final byte compressionType;
+
+        ChunkBuffer(final RegionFileBridge region, final int x, final int z, final byte compressionType) {
+            super(8096);
+            this.region = region;
+            this.x = x;
+            this.z = z;
+            this.compressionType = compressionType;
+        }
+
+        @Override
+        public void close() {
+            this.region.bridge$writeChunk(this.x, this.z, this.buf, this.count, this.compressionType);
+        }
+    }
+}
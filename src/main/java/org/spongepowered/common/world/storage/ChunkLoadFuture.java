@@ -0,0 +1,112 @@
+/*
+ * This file is part of Sponge, licensed under the MIT License (MIT).
+ *
+ * Copyright (c) SpongePowered <https://www.spongepowered.org>
+ * Copyright (c) contributors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.spongepowered.common.world.storage;
+
+import net.minecraft.world.chunk.Chunk;
+import org.spongepowered.common.SpongeImpl;
+
+import java.util.Optional;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.function.Supplier;
+
+/**
+ * The result of loading a chunk asynchronously. The chunk is read from disk by
+ * the {@link ChunkReaderPool}, after which the load is completed on the main
+ * thread.
+ *
+ * <p>Since the last stage needs the main thread, waiting for this future on
+ * the main thread completes the load right away instead of waiting for a
+ * scheduled task which could only run once the main thread stopped waiting.</p>
+ */
+public final class ChunkLoadFuture extends CompletableFuture<Optional<Chunk>> {
+
+    private final CompletableFuture<?> read;
+    private final Supplier<Chunk> completion;
+
+    public ChunkLoadFuture(final CompletableFuture<?> read, final Supplier<Chunk> completion) {
+        this.read = read;
+        this.completion = completion;
+        read.whenComplete((result, error) -> {
+            final Throwable cause = error instanceof CompletionException && error.getCause() != null ? error.getCause() : error;
+            // Rejected and discarded reads are expected, the chunk is then read by the main thread
+            if (cause != null && !(cause instanceof RejectedExecutionException) && !(cause instanceof CancellationException)) {
+                SpongeImpl.getLogger().error("Failed to read a chunk asynchronously, it is read again on the main thread", cause);
+            }
+        });
+    }
+
+    /**
+     * Completes the load, must be called on the main thread.
+     */
+    public void completeLoad() {
+        if (this.isDone()) {
+            return;
+        }
+        final Chunk chunk;
+        try {
+            chunk = this.completion.get();
+        } catch (Throwable t) {
+            this.completeExceptionally(t);
+            return;
+        }
+        this.complete(Optional.ofNullable(chunk));
+    }
+
+    private void completeIfMainThread() {
+        if (this.isDone() || !SpongeImpl.getServer().isCallingFromMinecraftThread()) {
+            return;
+        }
+        try {
+            this.read.join();
+        } catch (CompletionException | CancellationException ignored) {
+            // Logged once the read completed, the chunk is read again by the main thread
+        }
+        this.completeLoad();
+    }
+
+    @Override
+    public Optional<Chunk> join() {
+        this.completeIfMainThread();
+        return super.join();
+    }
+
+    @Override
+    public Optional<Chunk> get() throws InterruptedException, ExecutionException {
+        this.completeIfMainThread();
+        return super.get();
+    }
+
+    @Override
+    public Optional<Chunk> get(final long timeout, final TimeUnit unit) throws InterruptedException, ExecutionException, TimeoutException {
+        this.completeIfMainThread();
+        return super.get(timeout, unit);
+    }
+}
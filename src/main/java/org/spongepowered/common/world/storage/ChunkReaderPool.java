@@ -0,0 +1,103 @@
+/*
+ * This file is part of Sponge, licensed under the MIT License (MIT).
+ *
+ * Copyright (c) SpongePowered <https://www.spongepowered.org>
+ * Copyright (c) contributors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.spongepowered.common.world.storage;
+
+import com.google.common.util.concurrent.ThreadFactoryBuilder;
+import org.spongepowered.common.SpongeImpl;
+import org.spongepowered.common.config.category.AsyncChunkLoadingCategory;
+
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+
+import javax.annotation.Nullable;
+
+/**
+ * The pool of threads reading, decompressing and parsing chunks from their
+ * region files ahead of them being loaded on the main thread.
+ */
+public final class ChunkReaderPool {
+
+    @Nullable private static volatile ExecutorService executor;
+
+    private ChunkReaderPool() {
+    }
+
+    private static ExecutorService getExecutor() {
+        ExecutorService executor = ChunkReaderPool.executor;
+        if (executor == null) {
+            synchronized (ChunkReaderPool.class) {
+                executor = ChunkReaderPool.executor;
+                if (executor == null) {
+                    final AsyncChunkLoadingCategory category = SpongeImpl.getGlobalConfigAdapter().getConfig().getOptimizations()
+                        .getAsyncChunkLoadingCategory();
+                    final int threads = Math.max(1, category.getNumThreads());
+                    // Bounded, reads rejected once it is full are done by the main thread when the chunk is needed
+                    executor = new ThreadPoolExecutor(threads, threads, 0L, TimeUnit.MILLISECONDS,
+                        new ArrayBlockingQueue<>(Math.max(1, category.getMaxQueuedReads())),
+                        new ThreadFactoryBuilder()
+                            .setNameFormat("Sponge - Chunk Reader Thread #%d")
+                            .setDaemon(true)
+                            .build());
+                    ChunkReaderPool.executor = executor;
+                }
+            }
+        }
+        return executor;
+    }
+
+    /**
+     * Reads a chunk on the pool. The read is skipped if the returned future
+     * was completed or cancelled before it started, such as when the chunk
+     * was loaded, saved or unloaded in the meantime.
+     *
+     * @param reader The reader of the chunk
+     * @param <T> The type of the read chunk
+     * @return The future of the read, completed exceptionally with a
+     *     {@link RejectedExecutionException} if too many reads are queued
+     */
+    public static <T> CompletableFuture<T> read(final Callable<T> reader) {
+        final CompletableFuture<T> future = new CompletableFuture<>();
+        try {
+            getExecutor().execute(() -> {
+                if (future.isDone()) {
+                    return;
+                }
+                try {
+                    future.complete(reader.call());
+                } catch (Throwable t) {
+                    future.completeExceptionally(t);
+                }
+            });
+        } catch (RejectedExecutionException e) {
+            future.completeExceptionally(e);
+        }
+        return future;
+    }
+}
@@ -0,0 +1,188 @@
+/*
+ * This file is part of Sponge, licensed under the MIT License (MIT).
+ *
+ * Copyright (c) SpongePowered <https://www.spongepowered.org>
+ * Copyright (c) contributors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.spongepowered.common.world.storage;
+
+import net.minecraft.block.Block;
+import net.minecraft.block.state.IBlockState;
+import net.minecraft.init.Blocks;
+import net.minecraft.nbt.NBTTagCompound;
+import net.minecraft.nbt.NBTTagList;
+import net.minecraft.world.chunk.BlockStateContainer;
+import net.minecraft.world.chunk.Chunk;
+import net.minecraft.world.chunk.IBlockStatePalette;
+import net.minecraft.world.chunk.NibbleArray;
+import net.minecraft.world.chunk.storage.ExtendedBlockStorage;
+import org.spongepowered.common.bridge.world.chunk.BlockStateContainerBridge;
+
+import javax.annotation.Nullable;
+
+/**
+ * A copy of the block sections of a chunk taken while it is saved, from which
+ * the "Sections" list of the saved chunk compound is built later on, off of the
+ * main thread.
+ *
+ * <p>Only the backing arrays of the block storage, the palette entries and the
+ * light arrays are copied when the snapshot is taken, which is much cheaper
+ * than converting every block state to its legacy id. The list is completed
+ * once by whichever thread first needs the compound, which is either the
+ * chunk writer or a thread loading the chunk again before it was written.</p>
+ */
+public final class ChunkSectionsSnapshot {
+
+    private static final int MAX_PALETTE_BITS = 8;
+
+    private final NBTTagCompound level;
+    private final NBTTagList sections;
+    private final Section[] snapshots;
+    private boolean completed;
+
+    public ChunkSectionsSnapshot(final NBTTagCompound level, final NBTTagList sections, final ExtendedBlockStorage[] storageArray,
+        final boolean hasSkyLight) {
+        this.level = level;
+        this.sections = sections;
+        int count = 0;
+        for (final ExtendedBlockStorage storage : storageArray) {
+            if (storage != Chunk.NULL_BLOCK_STORAGE) {
+                count++;
+            }
+        }
+        this.snapshots = new Section[count];
+        int index = 0;
+        for (final ExtendedBlockStorage storage : storageArray) {
+            if (storage != Chunk.NULL_BLOCK_STORAGE) {
+                this.snapshots[index++] = new Section(storage, hasSkyLight);
+            }
+        }
+    }
+
+    /**
+     * Gets whether this snapshot holds the sections of the given chunk
+     * compound.
+     *
+     * @param compound The root compound of the saved chunk
+     * @return True if the sections belong to the compound
+     */
+    public boolean isFor(final NBTTagCompound compound) {
+        return compound.getTag("Level") == this.level;
+    }
+
+    /**
+     * Builds the section compounds into the "Sections" list of the saved
+     * chunk, if that wasn't done yet.
+     */
+    public synchronized void complete() {
+        if (this.completed) {
+            return;
+        }
+        for (final Section section : this.snapshots) {
+            this.sections.appendTag(section.write());
+        }
+        this.completed = true;
+    }
+
+    private static final class Section {
+
+        private static final IBlockState AIR = Blocks.AIR.getDefaultState();
+
+        private final byte y;
+        private final int bits;
+        private final long[] storage;
+        // Null when the global block state registry is used as palette
+        @Nullable private final IBlockState[] palette;
+        private final byte[] blockLight;
+        @Nullable private final byte[] skyLight;
+
+        Section(final ExtendedBlockStorage storage, final boolean hasSkyLight) {
+            final BlockStateContainer data = storage.getData();
+            final BlockStateContainerBridge container = (BlockStateContainerBridge) data;
+            this.y = (byte) (storage.getYLocation() >> 4 & 255);
+            this.bits = container.bridge$getBits();
+            this.storage = container.bridge$getStorage().getBackingLongArray().clone();
+            if (this.bits <= MAX_PALETTE_BITS) {
+                final IBlockStatePalette palette = container.bridge$getPalette();
+                this.palette = new IBlockState[1 << this.bits];
+                for (int id = 0; id < this.palette.length; id++) {
+                    this.palette[id] = palette.getBlockState(id);
+                }
+            } else {
+                this.palette = null;
+            }
+            this.blockLight = storage.getBlockLight().getData().clone();
+            this.skyLight = hasSkyLight ? storage.getSkyLight().getData().clone() : null;
+        }
+
+        // Mirrors BlockStateContainer#getDataForNBT and the section part of
+        // AnvilChunkLoader#writeChunkToNBT
+        NBTTagCompound write() {
+            final byte[] blocks = new byte[4096];
+            final NibbleArray data = new NibbleArray();
+            NibbleArray add = null;
+            final long mask = (1L << this.bits) - 1L;
+
+            for (int i = 0; i < 4096; ++i) {
+                final int stateId = Block.BLOCK_STATE_IDS.get(this.getState(i, mask));
+                final int x = i & 15;
+                final int y = i >> 8 & 15;
+                final int z = i >> 4 & 15;
+
+                if ((stateId >> 12 & 15) != 0) {
+                    if (add == null) {
+                        add = new NibbleArray();
+                    }
+                    add.set(x, y, z, stateId >> 12 & 15);
+                }
+                blocks[i] = (byte) (stateId >> 4 & 255);
+                data.set(x, y, z, stateId & 15);
+            }
+
+            final NBTTagCompound compound = new NBTTagCompound();
+            compound.setByte("Y", this.y);
+            compound.setByteArray("Blocks", blocks);
+            compound.setByteArray("Data", data.getData());
+            if (add != null) {
+                compound.setByteArray("Add", add.getData());
+            }
+            compound.setByteArray("BlockLight", this.blockLight);
+            compound.setByteArray("SkyLight", this.skyLight != null ? this.skyLight : new byte[this.blockLight.length]);
+            return compound;
+        }
+
+        // Mirrors BitArray#getAt
+        private IBlockState getState(final int index, final long mask) {
+            final int bitIndex = index * this.bits;
+            final int start = bitIndex / 64;
+            final int end = ((index + 1) * this.bits - 1) / 64;
+            final int offset = bitIndex % 64;
+            final int id;
+            if (start == end) {
+                id = (int) (this.storage[start] >>> offset & mask);
+            } else {
+                id = (int) ((this.storage[start] >>> offset | this.storage[end] << (64 - offset)) & mask);
+            }
+            final IBlockState state = this.palette == null ? Block.BLOCK_STATE_IDS.getByValue(id) : this.palette[id];
+            return state == null ? AIR : state;
+        }
+    }
+}
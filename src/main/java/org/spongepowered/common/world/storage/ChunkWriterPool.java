@@ -0,0 +1,288 @@
+/*
+ * This file is part of Sponge, licensed under the MIT License (MIT).
+ *
+ * Copyright (c) SpongePowered <https://www.spongepowered.org>
+ * Copyright (c) contributors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.spongepowered.common.world.storage;
+
+import com.google.common.util.concurrent.ThreadFactoryBuilder;
+import net.minecraft.util.math.ChunkPos;
+import net.minecraft.world.chunk.storage.AnvilChunkLoader;
+import net.minecraft.world.chunk.storage.RegionFile;
+import net.minecraft.world.chunk.storage.RegionFileCache;
+import net.minecraft.world.storage.ThreadedFileIOBase;
+import org.spongepowered.common.SpongeImpl;
+import org.spongepowered.common.bridge.world.chunk.storage.AnvilChunkLoaderBridge;
+import org.spongepowered.common.config.category.ChunkWriterCategory;
+import org.spongepowered.common.util.QueuedChunk;
+
+import java.io.File;
+import java.util.IdentityHashMap;
+import java.util.Map;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import javax.annotation.Nullable;
+
+/**
+ * Writes the chunks saved by {@link AnvilChunkLoader}s on a pool of threads, in
+ * place of the single {@link ThreadedFileIOBase} thread shared by every world.
+ *
+ * <p>Chunks are sharded by the region file they are stored in. Every region has
+ * its own {@link RegionWriter} which is drained by at most one thread at a time,
+ * so a region file is never written concurrently and the chunks of a region are
+ * written in the order they were saved.</p>
+ *
+ * <p>The region file a chunk is written to is kept open in the
+ * {@link RegionFileCache} until the write completes, even if the cache is
+ * cleared in the meantime.</p>
+ *
+ * <p>This also keeps the backpressure metrics of every chunk written, whether
+ * through the pool or the vanilla thread.</p>
+ */
+public final class ChunkWriterPool {
+
+    private static final long SAMPLE_INTERVAL = TimeUnit.SECONDS.toNanos(1);
+
+    private static final AtomicInteger pendingWrites = new AtomicInteger();
+    // Guarded by the lock of RegionFileCache, like the cache itself
+    private static final Map<RegionFile, Integer> regionFilesInUse = new IdentityHashMap<>();
+    @Nullable private static volatile ExecutorService executor;
+
+    private static long sampleStart = System.nanoTime();
+    private static long sampleBytes;
+    private static long bytesPerSecond;
+
+    private ChunkWriterPool() {
+    }
+
+    private static ExecutorService getExecutor() {
+        ExecutorService executor = ChunkWriterPool.executor;
+        if (executor == null) {
+            synchronized (ChunkWriterPool.class) {
+                executor = ChunkWriterPool.executor;
+                if (executor == null) {
+                    final int threads = Math.max(1, getCategory().getNumThreads());
+                    executor = Executors.newFixedThreadPool(threads, new ThreadFactoryBuilder()
+                        .setNameFormat("Sponge - Chunk Writer Thread #%d")
+                        .setDaemon(true)
+                        .build());
+                    ChunkWriterPool.executor = executor;
+                }
+            }
+        }
+        return executor;
+    }
+
+    private static ChunkWriterCategory getCategory() {
+        return SpongeImpl.getGlobalConfigAdapter().getConfig().getOptimizations().getChunkWriterCategory();
+    }
+
+    public static boolean isEnabled() {
+        return getCategory().isEnabled();
+    }
+
+    /**
+     * Gets the region key of a chunk, shared by every chunk stored in the same
+     * region file of a world.
+     *
+     * @param chunkX The chunk x coordinate
+     * @param chunkZ The chunk z coordinate
+     * @return The region key
+     */
+    public static long getRegionKey(final int chunkX, final int chunkZ) {
+        return ChunkPos.asLong(chunkX >> 5, chunkZ >> 5);
+    }
+
+    /**
+     * Gets the cached region file of a chunk, and keeps it open until it is
+     * released again.
+     *
+     * @param worldDir The world directory
+     * @param chunkX The chunk x coordinate
+     * @param chunkZ The chunk z coordinate
+     * @return The region file of the chunk
+     */
+    public static RegionFile acquireRegionFile(final File worldDir, final int chunkX, final int chunkZ) {
+        synchronized (RegionFileCache.class) {
+            final RegionFile region = RegionFileCache.createOrLoadRegionFile(worldDir, chunkX, chunkZ);
+            regionFilesInUse.merge(region, 1, Integer::sum);
+            return region;
+        }
+    }
+
+    public static void releaseRegionFile(final RegionFile region) {
+        synchronized (RegionFileCache.class) {
+            regionFilesInUse.computeIfPresent(region, (key, count) -> count > 1 ? count - 1 : null);
+        }
+    }
+
+    /**
+     * Gets whether any region file is in use. Only to be called while
+     * holding the lock of {@link RegionFileCache}.
+     *
+     * @return True if a region file is in use
+     */
+    public static boolean hasRegionFilesInUse() {
+        return !regionFilesInUse.isEmpty();
+    }
+
+    /**
+     * Gets whether the region file is in use. Only to be called while
+     * holding the lock of {@link RegionFileCache}.
+     *
+     * @param region The region file
+     * @return True if the region file is in use
+     */
+    public static boolean isRegionFileInUse(final RegionFile region) {
+        return regionFilesInUse.containsKey(region);
+    }
+
+    public static void onChunkQueued() {
+        pendingWrites.incrementAndGet();
+    }
+
+    public static void onChunkWritten() {
+        pendingWrites.decrementAndGet();
+    }
+
+    public static synchronized void onBytesWritten(final long bytes) {
+        sampleBytes += bytes;
+        final long now = System.nanoTime();
+        final long elapsed = now - sampleStart;
+        if (elapsed >= SAMPLE_INTERVAL) {
+            bytesPerSecond = sampleBytes * SAMPLE_INTERVAL / elapsed;
+            sampleStart = now;
+            sampleBytes = 0;
+        }
+    }
+
+    /**
+     * Gets the amount of chunks of every world waiting to be written.
+     *
+     * @return The amount of pending chunk writes
+     */
+    public static int getPendingWrites() {
+        return Math.max(0, pendingWrites.get());
+    }
+
+    /**
+     * Gets the amount of uncompressed chunk data written per second, over the
+     * last sampled second.
+     *
+     * @return The bytes written per second
+     */
+    public static synchronized long getBytesPerSecond() {
+        // Nothing has been written for a while
+        if (System.nanoTime() - sampleStart > 2 * SAMPLE_INTERVAL) {
+            return 0;
+        }
+        return bytesPerSecond;
+    }
+
+    /**
+     * Gets the amount of chunks a world may unload this tick. Once more chunks
+     * than the configured threshold are waiting to be written, the limit is
+     * lowered in proportion to the backlog so the writers can catch up.
+     *
+     * @param maxUnloads The configured maximum of chunk unloads per tick
+     * @return The throttled maximum of chunk unloads
+     */
+    public static int getUnloadLimit(final int maxUnloads) {
+        final ChunkWriterCategory category = getCategory();
+        final int threshold = category.getThrottleThreshold();
+        final int pending = pendingWrites.get();
+        if (!category.isEnabled() || threshold <= 0 || pending <= threshold) {
+            return maxUnloads;
+        }
+        return (int) Math.max(1, (long) maxUnloads * threshold / pending);
+    }
+
+    /**
+     * Queues the chunk to be written by the writer of its region, creating
+     * that writer if the region has none.
+     *
+     * @param writers The region writers of the chunk loader, by region key
+     * @param loader The chunk loader writing the chunk
+     * @param chunk The chunk to write
+     */
+    public static void queue(final Map<Long, RegionWriter> writers, final AnvilChunkLoaderBridge loader, final QueuedChunk chunk) {
+        // Queued within compute, so a writer can not be removed between being looked up and being given the chunk
+        writers.compute(getRegionKey(chunk.coords.x, chunk.coords.z), (key, writer) -> {
+            if (writer == null) {
+                writer = new RegionWriter(loader, writers, key);
+            }
+            writer.queue(chunk);
+            return writer;
+        });
+    }
+
+    /**
+     * The queue of chunks waiting to be written to a single region file. A
+     * writer removes itself from the writers of its chunk loader once it has
+     * written every queued chunk.
+     */
+    public static final class RegionWriter implements Runnable {
+
+        private final AnvilChunkLoaderBridge loader;
+        private final Map<Long, RegionWriter> writers;
+        private final Long key;
+        private final Queue<QueuedChunk> queue = new ConcurrentLinkedQueue<>();
+        private final AtomicBoolean scheduled = new AtomicBoolean();
+
+        RegionWriter(final AnvilChunkLoaderBridge loader, final Map<Long, RegionWriter> writers, final Long key) {
+            this.loader = loader;
+            this.writers = writers;
+            this.key = key;
+        }
+
+        void queue(final QueuedChunk chunk) {
+            this.queue.add(chunk);
+            if (this.scheduled.compareAndSet(false, true)) {
+                getExecutor().execute(this);
+            }
+        }
+
+        @Override
+        public void run() {
+            do {
+                QueuedChunk chunk;
+                while ((chunk = this.queue.poll()) != null) {
+                    this.loader.bridge$writeQueuedChunk(chunk);
+                }
+                this.scheduled.set(false);
+                // A chunk may have been queued after the last poll but before
+                // the writer was marked as idle, in which case no task was
+                // submitted for it.
+            } while (!this.queue.isEmpty() && this.scheduled.compareAndSet(false, true));
+            // Chunks are only queued within compute, so the writer can not
+            // be given another chunk while it is checked and removed here.
+            this.writers.computeIfPresent(this.key, (key, writer) ->
+                writer == this && !this.scheduled.get() && this.queue.isEmpty() ? null : writer);
+        }
+    }
+}
@@ -0,0 +1,275 @@
+/*
+ * This file is part of Sponge, licensed under the MIT License (MIT).
+ *
+ * Copyright (c) SpongePowered <https://www.spongepowered.org>
+ * Copyright (c) contributors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.spongepowered.common.world.storage;
+
+import java.io.IOException;
+import java.util.Arrays;
+
+/**
+ * A pure Java implementation of the LZ4 block format and of the framing used
+ * by the {@code LZ4BlockOutputStream} of lz4-java, which is what later vanilla
+ * versions store chunks with when using the compression type 4.
+ *
+ * <p>Each block is written as the magic {@code "LZ4Block"}, a token holding
+ * the compression method and the block size, the little endian compressed
+ * and original lengths and a 28 bit XXHash32 checksum of the original data,
+ * followed by the data itself. An empty block marks the end of the stream.</p>
+ */
+final class Lz4Block {
+
+    static final byte[] MAGIC = {'L', 'Z', '4', 'B', 'l', 'o', 'c', 'k'};
+    static final int HEADER_LENGTH = MAGIC.length + 1 + 4 + 4 + 4;
+    static final int METHOD_RAW = 0x10;
+    static final int METHOD_LZ4 = 0x20;
+    static final int BLOCK_SIZE = 1 << 16;
+    // The block size as stored in the low bits of the token
+    static final int BLOCK_SIZE_LEVEL = 32 - Integer.numberOfLeadingZeros(BLOCK_SIZE - 1) - 10;
+    static final int CHECKSUM_SEED = 0x9747b28c;
+    static final int CHECKSUM_MASK = 0xFFFFFFF;
+    static final int HASH_TABLE_SIZE = 1 << 12;
+
+    private static final int MIN_MATCH = 4;
+    private static final int LAST_LITERALS = 5;
+    private static final int MF_LIMIT = 12;
+    private static final int MAX_DISTANCE = (1 << 16) - 1;
+    private static final int HASH_LOG = Integer.numberOfTrailingZeros(HASH_TABLE_SIZE);
+    private static final int SKIP_STRENGTH = 6;
+
+    private static final int PRIME1 = 0x9E3779B1;
+    private static final int PRIME2 = 0x85EBCA77;
+    private static final int PRIME3 = 0xC2B2AE3D;
+    private static final int PRIME4 = 0x27D4EB2F;
+    private static final int PRIME5 = 0x165667B1;
+
+    private Lz4Block() {
+    }
+
+    static int maxCompressedLength(final int length) {
+        return length + length / 255 + 16;
+    }
+
+    /**
+     * Compresses the source into the destination, which has to be at least
+     * {@link #maxCompressedLength(int)} long.
+     *
+     * @param src The source
+     * @param srcLength The length of the source
+     * @param dst The destination
+     * @param dstOffset The offset to write the compressed data at
+     * @param table The hash table, of {@link #HASH_TABLE_SIZE} entries
+     * @return The length of the compressed data
+     */
+    static int compress(final byte[] src, final int srcLength, final byte[] dst, final int dstOffset, final int[] table) {
+        Arrays.fill(table, -1);
+        int anchor = 0;
+        int op = dstOffset;
+        if (srcLength > MF_LIMIT) {
+            final int matchLimit = srcLength - MF_LIMIT;
+            int ip = 0;
+            int searched = 0;
+            while (ip < matchLimit) {
+                final int sequence = readInt(src, ip);
+                final int hash = hash(sequence);
+                int ref = table[hash];
+                table[hash] = ip;
+                if (ref < 0 || ip - ref > MAX_DISTANCE || readInt(src, ref) != sequence) {
+                    // Skip faster through data that doesn't compress
+                    ip += 1 + (searched++ >>> SKIP_STRENGTH);
+                    continue;
+                }
+                searched = 0;
+                while (ip > anchor && ref > 0 && src[ip - 1] == src[ref - 1]) {
+                    ip--;
+                    ref--;
+                }
+                final int maxLength = srcLength - LAST_LITERALS - ip;
+                int length = MIN_MATCH;
+                while (length < maxLength && src[ip + length] == src[ref + length]) {
+                    length++;
+                }
+                op = writeSequence(src, anchor, ip - anchor, dst, op, ip - ref, length);
+                ip += length;
+                anchor = ip;
+            }
+        }
+        return writeSequence(src, anchor, srcLength - anchor, dst, op, 0, 0) - dstOffset;
+    }
+
+    private static int writeSequence(final byte[] src, final int literalStart, final int literalLength, final byte[] dst, int op,
+        final int offset, final int matchLength) {
+        final int tokenIndex = op++;
+        int token;
+        if (literalLength >= 15) {
+            token = 15 << 4;
+            op = writeLength(dst, op, literalLength - 15);
+        } else {
+            token = literalLength << 4;
+        }
+        System.arraycopy(src, literalStart, dst, op, literalLength);
+        op += literalLength;
+        if (matchLength != 0) {
+            dst[op++] = (byte) offset;
+            dst[op++] = (byte) (offset >>> 8);
+            final int length = matchLength - MIN_MATCH;
+            if (length >= 15) {
+                token |= 15;
+                op = writeLength(dst, op, length - 15);
+            } else {
+                token |= length;
+            }
+        }
+        dst[tokenIndex] = (byte) token;
+        return op;
+    }
+
+    private static int writeLength(final byte[] dst, int op, int length) {
+        while (length >= 255) {
+            dst[op++] = (byte) 255;
+            length -= 255;
+        }
+        dst[op++] = (byte) length;
+        return op;
+    }
+
+    /**
+     * Decompresses the source into the destination, which has to be exactly
+     * as long as the original data.
+     *
+     * @param src The source
+     * @param srcLength The length of the source
+     * @param dst The destination
+     * @param dstLength The length of the original data
+     * @throws IOException If the source is malformed
+     */
+    static void decompress(final byte[] src, final int srcLength, final byte[] dst, final int dstLength) throws IOException {
+        int ip = 0;
+        int op = 0;
+        try {
+            while (true) {
+                final int token = src[ip++] & 0xFF;
+                int literalLength = token >>> 4;
+                if (literalLength == 15) {
+                    int b;
+                    do {
+                        b = src[ip++] & 0xFF;
+                        literalLength += b;
+                    } while (b == 255);
+                }
+                if (ip + literalLength > srcLength || op + literalLength > dstLength) {
+                    throw new IOException("Malformed LZ4 block, literals out of bounds");
+                }
+                System.arraycopy(src, ip, dst, op, literalLength);
+                ip += literalLength;
+                op += literalLength;
+                if (ip == srcLength) {
+                    break;
+                }
+                final int offset = (src[ip++] & 0xFF) | (src[ip++] & 0xFF) << 8;
+                int matchLength = token & 15;
+                if (matchLength == 15) {
+                    int b;
+                    do {
+                        b = src[ip++] & 0xFF;
+                        matchLength += b;
+                    } while (b == 255);
+                }
+                matchLength += MIN_MATCH;
+                int ref = op - offset;
+                if (offset == 0 || ref < 0 || op + matchLength > dstLength) {
+                    throw new IOException("Malformed LZ4 block, match out of bounds");
+                }
+                // Matches may overlap with the data they produce
+                for (final int end = op + matchLength; op < end; ) {
+                    dst[op++] = dst[ref++];
+                }
+            }
+        } catch (ArrayIndexOutOfBoundsException e) {
+            throw new IOException("Malformed LZ4 block", e);
+        }
+        if (op != dstLength) {
+            throw new IOException("Malformed LZ4 block, expected " + dstLength + " bytes but got " + op);
+        }
+    }
+
+    static int checksum(final byte[] buf, final int length) {
+        return xxHash32(buf, 0, length, CHECKSUM_SEED) & CHECKSUM_MASK;
+    }
+
+    static int xxHash32(final byte[] buf, int off, final int length, final int seed) {
+        final int end = off + length;
+        int hash;
+        if (length >= 16) {
+            int v1 = seed + PRIME1 + PRIME2;
+            int v2 = seed + PRIME2;
+            int v3 = seed;
+            int v4 = seed - PRIME1;
+            final int limit = end - 16;
+            do {
+                v1 = Integer.rotateLeft(v1 + readIntLE(buf, off) * PRIME2, 13) * PRIME1;
+                v2 = Integer.rotateLeft(v2 + readIntLE(buf, off + 4) * PRIME2, 13) * PRIME1;
+                v3 = Integer.rotateLeft(v3 + readIntLE(buf, off + 8) * PRIME2, 13) * PRIME1;
+                v4 = Integer.rotateLeft(v4 + readIntLE(buf, off + 12) * PRIME2, 13) * PRIME1;
+                off += 16;
+            } while (off <= limit);
+            hash = Integer.rotateLeft(v1, 1) + Integer.rotateLeft(v2, 7) + Integer.rotateLeft(v3, 12) + Integer.rotateLeft(v4, 18);
+        } else {
+            hash = seed + PRIME5;
+        }
+        hash += length;
+        while (off <= end - 4) {
+            hash = Integer.rotateLeft(hash + readIntLE(buf, off) * PRIME3, 17) * PRIME4;
+            off += 4;
+        }
+        while (off < end) {
+            hash = Integer.rotateLeft(hash + (buf[off] & 0xFF) * PRIME5, 11) * PRIME1;
+            off++;
+        }
+        hash ^= hash >>> 15;
+        hash *= PRIME2;
+        hash ^= hash >>> 13;
+        hash *= PRIME3;
+        hash ^= hash >>> 16;
+        return hash;
+    }
+
+    private static int hash(final int sequence) {
+        return (sequence * -1640531535) >>> (32 - HASH_LOG);
+    }
+
+    private static int readInt(final byte[] buf, final int off) {
+        return (buf[off] & 0xFF) << 24 | (buf[off + 1] & 0xFF) << 16 | (buf[off + 2] & 0xFF) << 8 | buf[off + 3] & 0xFF;
+    }
+
+    static int readIntLE(final byte[] buf, final int off) {
+        return buf[off] & 0xFF | (buf[off + 1] & 0xFF) << 8 | (buf[off + 2] & 0xFF) << 16 | (buf[off + 3] & 0xFF) << 24;
+    }
+
+    static void writeIntLE(final byte[] buf, final int off, final int value) {
+        buf[off] = (byte) value;
+        buf[off + 1] = (byte) (value >>> 8);
+        buf[off + 2] = (byte) (value >>> 16);
+        buf[off + 3] = (byte) (value >>> 24);
+    }
+}
@@ -0,0 +1,150 @@
+/*
+ * This file is part of Sponge, licensed under the MIT License (MIT).
+ *
+ * Copyright (c) SpongePowered <https://www.spongepowered.org>
+ * Copyright (c) contributors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.spongepowered.common.world.storage;
+
+import java.io.DataInputStream;
+import java.io.EOFException;
+import java.io.FilterInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+
+/**
+ * Decompresses data written in blocks of the format described in
+ * {@link Lz4Block}, verifying the checksum of every block.
+ */
+final class Lz4BlockInputStream extends FilterInputStream {
+
+    private final DataInputStream data;
+    private final byte[] header = new byte[Lz4Block.HEADER_LENGTH];
+    private byte[] compressed = new byte[0];
+    private byte[] buffer = new byte[0];
+    private int position;
+    private int count;
+    private boolean finished;
+
+    Lz4BlockInputStream(final InputStream in) {
+        super(in);
+        this.data = new DataInputStream(in);
+    }
+
+    @Override
+    public int read() throws IOException {
+        if (this.position == this.count && !this.readBlock()) {
+            return -1;
+        }
+        return this.buffer[this.position++] & 0xFF;
+    }
+
+    @Override
+    public int read(final byte[] b, final int off, final int len) throws IOException {
+        if (len == 0) {
+            return 0;
+        }
+        if (this.position == this.count && !this.readBlock()) {
+            return -1;
+        }
+        final int length = Math.min(len, this.count - this.position);
+        System.arraycopy(this.buffer, this.position, b, off, length);
+        this.position += length;
+        return length;
+    }
+
+    @Override
+    public long skip(final long n) throws IOException {
+        if (n <= 0 || this.position == this.count && !this.readBlock()) {
+            return 0;
+        }
+        final int length = (int) Math.min(n, this.count - this.position);
+        this.position += length;
+        return length;
+    }
+
+    @Override
+    public int available() {
+        return this.count - this.position;
+    }
+
+    @Override
+    public boolean markSupported() {
+        return false;
+    }
+
+    @Override
+    public synchronized void mark(final int readlimit) {
+    }
+
+    @Override
+    public synchronized void reset() throws IOException {
+        throw new IOException("mark/reset not supported");
+    }
+
+    private boolean readBlock() throws IOException {
+        if (this.finished) {
+            return false;
+        }
+        try {
+            this.data.readFully(this.header);
+        } catch (EOFException e) {
+            throw new IOException("Truncated LZ4 stream", e);
+        }
+        for (int i = 0; i < Lz4Block.MAGIC.length; i++) {
+            if (this.header[i] != Lz4Block.MAGIC[i]) {
+                throw new IOException("Not an LZ4 block");
+            }
+        }
+        final int method = this.header[Lz4Block.MAGIC.length] & 0xF0;
+        final int compressedLength = Lz4Block.readIntLE(this.header, Lz4Block.MAGIC.length + 1);
+        final int originalLength = Lz4Block.readIntLE(this.header, Lz4Block.MAGIC.length + 5);
+        final int checksum = Lz4Block.readIntLE(this.header, Lz4Block.MAGIC.length + 9);
+        if (originalLength == 0) {
+            this.finished = true;
+            return false;
+        }
+        if (originalLength < 0 || compressedLength < 0 || originalLength > 1 << 25 || compressedLength > Lz4Block.maxCompressedLength(originalLength)
+            || method == Lz4Block.METHOD_RAW && compressedLength != originalLength) {
+            throw new IOException("Malformed LZ4 block header");
+        }
+        if (this.buffer.length < originalLength) {
+            this.buffer = new byte[originalLength];
+        }
+        if (method == Lz4Block.METHOD_RAW) {
+            this.data.readFully(this.buffer, 0, originalLength);
+        } else if (method == Lz4Block.METHOD_LZ4) {
+            if (this.compressed.length < compressedLength) {
+                this.compressed = new byte[compressedLength];
+            }
+            this.data.readFully(this.compressed, 0, compressedLength);
+            Lz4Block.decompress(this.compressed, compressedLength, this.buffer, originalLength);
+        } else {
+            throw new IOException("Unsupported LZ4 block compression method " + method);
+        }
+        if (Lz4Block.checksum(this.buffer, originalLength) != checksum) {
+            throw new IOException("LZ4 block checksum mismatch");
+        }
+        this.position = 0;
+        this.count = originalLength;
+        return true;
+    }
+}
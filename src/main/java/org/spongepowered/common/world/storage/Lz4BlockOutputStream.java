@@ -0,0 +1,110 @@
+/*
+ * This file is part of Sponge, licensed under the MIT License (MIT).
+ *
+ * Copyright (c) SpongePowered <https://www.spongepowered.org>
+ * Copyright (c) contributors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.spongepowered.common.world.storage;
+
+import java.io.FilterOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+
+/**
+ * Compresses data into blocks of the format described in {@link Lz4Block}.
+ */
+final class Lz4BlockOutputStream extends FilterOutputStream {
+
+    private final byte[] buffer = new byte[Lz4Block.BLOCK_SIZE];
+    private final byte[] compressed = new byte[Lz4Block.HEADER_LENGTH + Lz4Block.maxCompressedLength(Lz4Block.BLOCK_SIZE)];
+    private final int[] table = new int[Lz4Block.HASH_TABLE_SIZE];
+    private int count;
+    private boolean finished;
+
+    Lz4BlockOutputStream(final OutputStream out) {
+        super(out);
+    }
+
+    @Override
+    public void write(final int b) throws IOException {
+        if (this.count == this.buffer.length) {
+            this.flushBlock();
+        }
+        this.buffer[this.count++] = (byte) b;
+    }
+
+    @Override
+    public void write(final byte[] b, int off, int len) throws IOException {
+        while (len > 0) {
+            if (this.count == this.buffer.length) {
+                this.flushBlock();
+            }
+            final int length = Math.min(len, this.buffer.length - this.count);
+            System.arraycopy(b, off, this.buffer, this.count, length);
+            this.count += length;
+            off += length;
+            len -= length;
+        }
+    }
+
+    @Override
+    public void flush() throws IOException {
+        this.flushBlock();
+        this.out.flush();
+    }
+
+    @Override
+    public void close() throws IOException {
+        if (!this.finished) {
+            this.finished = true;
+            this.flushBlock();
+            // The empty block marking the end of the stream
+            this.writeHeader(Lz4Block.METHOD_RAW, 0, 0, 0);
+            this.out.write(this.compressed, 0, Lz4Block.HEADER_LENGTH);
+        }
+        super.close();
+    }
+
+    private void flushBlock() throws IOException {
+        if (this.count == 0) {
+            return;
+        }
+        final int checksum = Lz4Block.checksum(this.buffer, this.count);
+        int length = Lz4Block.compress(this.buffer, this.count, this.compressed, Lz4Block.HEADER_LENGTH, this.table);
+        if (length >= this.count) {
+            length = this.count;
+            System.arraycopy(this.buffer, 0, this.compressed, Lz4Block.HEADER_LENGTH, length);
+            this.writeHeader(Lz4Block.METHOD_RAW, length, this.count, checksum);
+        } else {
+            this.writeHeader(Lz4Block.METHOD_LZ4, length, this.count, checksum);
+        }
+        this.out.write(this.compressed, 0, Lz4Block.HEADER_LENGTH + length);
+        this.count = 0;
+    }
+
+    private void writeHeader(final int method, final int compressedLength, final int originalLength, final int checksum) {
+        System.arraycopy(Lz4Block.MAGIC, 0, this.compressed, 0, Lz4Block.MAGIC.length);
+        this.compressed[Lz4Block.MAGIC.length] = (byte) (method | Lz4Block.BLOCK_SIZE_LEVEL);
+        Lz4Block.writeIntLE(this.compressed, Lz4Block.MAGIC.length + 1, compressedLength);
+        Lz4Block.writeIntLE(this.compressed, Lz4Block.MAGIC.length + 5, originalLength);
+        Lz4Block.writeIntLE(this.compressed, Lz4Block.MAGIC.length + 9, checksum);
+    }
+}
@@ -0,0 +1,160 @@
+/*
+ * This file is part of Sponge, licensed under the MIT License (MIT).
+ *
+ * Copyright (c) SpongePowered <https://www.spongepowered.org>
+ * Copyright (c) contributors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.spongepowered.common.world.storage;
+
+import it.unimi.dsi.fastutil.longs.Long2IntMap;
+import it.unimi.dsi.fastutil.longs.Long2IntOpenHashMap;
+import it.unimi.dsi.fastutil.longs.Long2ObjectMap;
+import it.unimi.dsi.fastutil.longs.Long2ObjectOpenHashMap;
+import net.minecraft.util.math.ChunkPos;
+import net.minecraft.world.chunk.Chunk;
+import org.spongepowered.common.bridge.world.chunk.storage.AnvilChunkLoaderBridge;
+
+import java.util.Iterator;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+import java.util.function.IntSupplier;
+
+import javax.annotation.Nullable;
+
+/**
+ * The asynchronous chunk loads of a single chunk provider, only accessed on
+ * the main thread.
+ *
+ * <p>A load is forgotten once its chunk is loaded, since the chunk can then be
+ * found among the loaded chunks. A load which found no chunk on disk is kept
+ * until it is consumed by a caller which generates the chunk instead, as the
+ * completion runs before the caller checks on the load again. Otherwise the
+ * caller would start a new read every time, and never get to generate the
+ * chunk. Loads which are not consumed expire after
+ * {@link #EXPIRY_TICKS} ticks.</p>
+ */
+public final class PendingChunkLoads {
+
+    static final int EXPIRY_TICKS = 20;
+
+    /**
+     * Loads a chunk on the main thread, using the prefetched data if it is
+     * still present.
+     */
+    @FunctionalInterface
+    public interface Loader {
+
+        @Nullable
+        Chunk load(int x, int z);
+    }
+
+    private final Long2ObjectMap<ChunkLoadFuture> loads = new Long2ObjectOpenHashMap<>();
+    private final Long2IntMap completedTicks = new Long2IntOpenHashMap();
+    private final AnvilChunkLoaderBridge chunkLoader;
+    private final Loader loader;
+    private final Executor mainThread;
+    private final IntSupplier tickCounter;
+
+    public PendingChunkLoads(final AnvilChunkLoaderBridge chunkLoader, final Loader loader, final Executor mainThread,
+        final IntSupplier tickCounter) {
+        this.chunkLoader = chunkLoader;
+        this.loader = loader;
+        this.mainThread = mainThread;
+        this.tickCounter = tickCounter;
+    }
+
+    /**
+     * Gets the load of the chunk, starting to read it if it isn't pending
+     * already.
+     *
+     * @param x The chunk x coordinate
+     * @param z The chunk z coordinate
+     * @return The load of the chunk
+     */
+    public ChunkLoadFuture load(final int x, final int z) {
+        final long key = ChunkPos.asLong(x, z);
+        ChunkLoadFuture future = this.loads.get(key);
+        if (future == null) {
+            final CompletableFuture<?> read = this.chunkLoader.bridge$prefetchChunk(x, z);
+            future = new ChunkLoadFuture(read, () -> this.completeLoad(key, x, z));
+            this.loads.put(key, future);
+            final ChunkLoadFuture load = future;
+            read.whenComplete((compound, error) -> this.mainThread.execute(load::completeLoad));
+        }
+        return future;
+    }
+
+    @Nullable
+    private Chunk completeLoad(final long key, final int x, final int z) {
+        this.completedTicks.put(key, this.tickCounter.getAsInt());
+        final Chunk chunk;
+        try {
+            // Uses the prefetched chunk, unless it was loaded or saved in the meantime
+            chunk = this.loader.load(x, z);
+        } finally {
+            this.chunkLoader.bridge$discardPrefetchedChunk(x, z);
+        }
+        if (chunk != null) {
+            this.loads.remove(key);
+            this.completedTicks.remove(key);
+        }
+        return chunk;
+    }
+
+    /**
+     * Forgets a completed load of the chunk, once the caller generates the
+     * chunk it didn't find, or gave up on the load. A pending load is
+     * cancelled instead, skipping its read if it has not started yet.
+     *
+     * @param x The chunk x coordinate
+     * @param z The chunk z coordinate
+     */
+    public void remove(final int x, final int z) {
+        final long key = ChunkPos.asLong(x, z);
+        final ChunkLoadFuture future = this.loads.remove(key);
+        this.completedTicks.remove(key);
+        if (future != null && future.cancel(false)) {
+            this.chunkLoader.bridge$discardPrefetchedChunk(x, z);
+        }
+    }
+
+    /**
+     * Forgets the completed loads nobody consumed for {@link #EXPIRY_TICKS}
+     * ticks.
+     */
+    public void expireCompletedLoads() {
+        if (this.completedTicks.isEmpty()) {
+            return;
+        }
+        final int tick = this.tickCounter.getAsInt();
+        for (final Iterator<Long2IntMap.Entry> iterator = this.completedTicks.long2IntEntrySet().iterator(); iterator.hasNext(); ) {
+            final Long2IntMap.Entry entry = iterator.next();
+            if (tick - entry.getIntValue() >= EXPIRY_TICKS) {
+                this.loads.remove(entry.getLongKey());
+                iterator.remove();
+            }
+        }
+    }
+
+    public int size() {
+        return this.loads.size();
+    }
+}
@@ -0,0 +1,85 @@
+/*
+ * This file is part of Sponge, licensed under the MIT License (MIT).
+ *
+ * Copyright (c) SpongePowered <https://www.spongepowered.org>
+ * Copyright (c) contributors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.spongepowered.common.world.storage;
+
+import com.google.common.io.ByteStreams;
+import net.minecraft.world.chunk.storage.RegionFile;
+import org.spongepowered.common.SpongeImpl;
+
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.concurrent.Callable;
+
+/**
+ * Rewrites every chunk stored in the region files of an unloaded world with
+ * the given codec, returning the number of rewritten chunks.
+ */
+public final class RegionRecompressTask implements Callable<Integer> {
+
+    private final Path worldDir;
+    private final ChunkCodec codec;
+
+    public RegionRecompressTask(final Path worldDir, final ChunkCodec codec) {
+        this.worldDir = worldDir;
+        this.codec = codec;
+    }
+
+    @Override
+    public Integer call() {
+        int count = 0;
+        for (final Path regionPath : WorldStorageUtil.listRegionFiles(this.worldDir)) {
+            final RegionFile region = WorldStorageUtil.getRegionFile(regionPath);
+            for (int x = 0; x < 32; x++) {
+                for (int z = 0; z < 32; z++) {
+                    try {
+                        if (this.recompress(region, x, z)) {
+                            count++;
+                        }
+                    } catch (IOException e) {
+                        SpongeImpl.getLogger().error("Failed to recompress chunk {}, {} in region {}", x, z, regionPath, e);
+                    }
+                }
+            }
+        }
+        return count;
+    }
+
+    private boolean recompress(final RegionFile region, final int x, final int z) throws IOException {
+        final byte[] data;
+        try (final DataInputStream in = region.getChunkDataInputStream(x, z)) {
+            if (in == null) {
+                return false;
+            }
+            data = ByteStreams.toByteArray(in);
+        }
+        try (final DataOutputStream out = this.codec.openChunkOutputStream(region, x, z)) {
+            out.write(data);
+        }
+        return true;
+    }
+
+}
@@ -81,6 +81,9 @@ public static CompletableFuture<Optional<DataContainer>> getChunkData(WorldServe
         }
         File worldDir = ((AnvilChunkLoaderBridge) chunkLoader).bridge$getWorldDir().toFile();
         return SpongeImpl.getScheduler().submitAsyncTask(() -> {
+            if (!RegionFileCache.chunkExists(worldDir, x, z)) {
+                return Optional.empty();
+            }
             DataInputStream stream = RegionFileCache.getChunkInputStream(worldDir, x, z);
             return Optional.ofNullable(readDataFromRegion(stream));
         });
@@ -0,0 +1,80 @@
+/*
+ * This file is part of Sponge, licensed under the MIT License (MIT).
+ *
+ * Copyright (c) SpongePowered <https://www.spongepowered.org>
+ * Copyright (c) contributors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.spongepowered.common.event;
+
+import org.apache.logging.log4j.LogManager;
+import org.junit.Assert;
+import org.junit.Test;
+import org.mockito.Mockito;
+import org.spongepowered.api.event.Event;
+import org.spongepowered.common.config.category.AsyncEventCategory;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+public class AsyncEventLaneTest {
+
+    private static final int EVENT_COUNT = 200;
+
+    @Test
+    public void testFullQueueKeepsOrder() throws InterruptedException {
+        final AsyncEventCategory category = Mockito.mock(AsyncEventCategory.class);
+        Mockito.when(category.getNumThreads()).thenReturn(1);
+        Mockito.when(category.getQueueSize()).thenReturn(2);
+        Mockito.when(category.getEventTypes()).thenReturn(Collections.singletonList(Event.class.getName()));
+
+        final List<Event> delivered = Collections.synchronizedList(new ArrayList<>());
+        final Set<Thread> threads = Collections.synchronizedSet(new HashSet<>());
+        final CountDownLatch done = new CountDownLatch(EVENT_COUNT);
+        final AsyncEventLane lane = new AsyncEventLane(category, LogManager.getLogger(), (event, listeners) -> {
+            try {
+                Thread.sleep(1);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            delivered.add(event);
+            threads.add(Thread.currentThread());
+            done.countDown();
+        });
+
+        final List<Event> posted = new ArrayList<>();
+        for (int i = 0; i < EVENT_COUNT; i++) {
+            final Event event = Mockito.mock(Event.class);
+            posted.add(event);
+            lane.dispatch(event, new RegisteredListener<?>[0]);
+        }
+
+        Assert.assertTrue("Not every event was delivered!", done.await(30, TimeUnit.SECONDS));
+        Assert.assertEquals("Events were delivered out of order!", posted, delivered);
+        Assert.assertEquals("Events were delivered on more than one thread!", 1, threads.size());
+        Assert.assertFalse("Events were delivered on the posting thread!", threads.contains(Thread.currentThread()));
+    }
+
+}
@@ -0,0 +1,93 @@
+/*
+ * This file is part of Sponge, licensed under the MIT License (MIT).
+ *
+ * Copyright (c) SpongePowered <https://www.spongepowered.org>
+ * Copyright (c) contributors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.spongepowered.common.event;
+
+import org.junit.Assert;
+import org.junit.Test;
+import org.mockito.Mockito;
+import org.spongepowered.api.event.Event;
+import org.spongepowered.api.event.Order;
+import org.spongepowered.api.event.block.ChangeBlockEvent;
+import org.spongepowered.api.event.entity.MoveEntityEvent;
+import org.spongepowered.api.plugin.PluginContainer;
+
+import java.util.ArrayList;
+import java.util.List;
+
+public class EventDispatchTableTest {
+
+    private final List<RegisteredListener<?>> registered = new ArrayList<>();
+    private int bakes;
+
+    private RegisteredListener.Cache bake(Class<? extends Event> eventClass) {
+        this.bakes++;
+        final List<RegisteredListener<?>> handlers = new ArrayList<>();
+        for (RegisteredListener<?> listener : this.registered) {
+            if (listener.getEventType().getType().isAssignableFrom(eventClass)) {
+                handlers.add(listener);
+            }
+        }
+        return new RegisteredListener.Cache(handlers);
+    }
+
+    private RegisteredListener<?> listener(Class<? extends Event> eventClass) {
+        return new RegisteredListener<>(Mockito.mock(PluginContainer.class), new EventType<>(eventClass), Order.DEFAULT, event -> {}, false);
+    }
+
+    @Test
+    public void testSnapshotIsReused() {
+        final EventDispatchTable table = new EventDispatchTable(this::bake);
+        this.registered.add(this.listener(ChangeBlockEvent.class));
+
+        final RegisteredListener.Cache first = table.get(ChangeBlockEvent.Break.class);
+        Assert.assertEquals(1, first.getListenerArray().length);
+        Assert.assertSame("Snapshot was baked twice!", first, table.get(ChangeBlockEvent.Break.class));
+        Assert.assertEquals(0, table.get(MoveEntityEvent.class).getListenerArray().length);
+        Assert.assertEquals(2, this.bakes);
+    }
+
+    @Test
+    public void testInvalidateRebakesLazily() {
+        final EventDispatchTable table = new EventDispatchTable(this::bake);
+        final RegisteredListener.Cache empty = table.get(ChangeBlockEvent.Break.class);
+        Assert.assertEquals(0, empty.getListenerArray().length);
+        Assert.assertEquals(0, table.get(MoveEntityEvent.class).getListenerArray().length);
+
+        this.registered.add(this.listener(ChangeBlockEvent.Break.class));
+        Assert.assertSame("Snapshot changed before the table was invalidated!", empty, table.get(ChangeBlockEvent.Break.class));
+
+        table.invalidate();
+        this.registered.add(this.listener(ChangeBlockEvent.class));
+        table.invalidate();
+        Assert.assertEquals("Snapshots should only be rebaked when requested!", 2, this.bakes);
+
+        final RegisteredListener.Cache rebuilt = table.get(ChangeBlockEvent.Break.class);
+        Assert.assertNotSame(empty, rebuilt);
+        Assert.assertEquals(2, rebuilt.getListenerArray().length);
+        Assert.assertSame(rebuilt, table.get(ChangeBlockEvent.Break.class));
+        Assert.assertEquals("Only the requested event type should be rebaked!", 3, this.bakes);
+    }
+
+}
@@ -67,7 +67,11 @@ public class EventFilterTest {
     
     private final DefineableClassLoader classLoader = new DefineableClassLoader(getClass().getClassLoader());
     private final AnnotatedEventListener.Factory handlerFactory = new ClassEventListenerFactory("org.spongepowered.common.event.listener",
-            new FilterFactory("org.spongepowered.common.event.filters", this.classLoader), this.classLoader);
+            new FilterFactory("org.spongepowered.common.event.filters", this.classLoader), this.classLoader, this.inlineFilters());
+
+    protected boolean inlineFilters() {
+        return false;
+    }
 
     @Test
     public void testSimpleEvent() throws Exception {
@@ -0,0 +1,100 @@
+/*
+ * This file is part of Sponge, licensed under the MIT License (MIT).
+ *
+ * Copyright (c) SpongePowered <https://www.spongepowered.org>
+ * Copyright (c) contributors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.spongepowered.common.event;
+
+import org.junit.Assert;
+import org.junit.Test;
+
+public class ListenerStatisticsTest {
+
+    @Test
+    public void testNoInvocations() {
+        final ListenerStatistics statistics = new ListenerStatistics();
+        Assert.assertEquals(0L, statistics.getInvocations());
+        Assert.assertEquals(0L, statistics.getPercentileNanos(0.5D));
+    }
+
+    @Test
+    public void testPercentilesAreBucketUpperBounds() {
+        final ListenerStatistics statistics = new ListenerStatistics();
+        for (int i = 0; i < 90; i++) {
+            // 64 to 127 nanoseconds bucket
+            statistics.record(100L, 0L, 1);
+        }
+        for (int i = 0; i < 10; i++) {
+            // 8192 to 16383 nanoseconds bucket
+            statistics.record(10000L, 0L, 1);
+        }
+        Assert.assertEquals(127L, statistics.getPercentileNanos(0.5D));
+        Assert.assertEquals(127L, statistics.getPercentileNanos(0.9D));
+        Assert.assertEquals(16383L, statistics.getPercentileNanos(0.95D));
+        Assert.assertEquals(16383L, statistics.getPercentileNanos(1.0D));
+    }
+
+    @Test
+    public void testZeroLatencyIsInLowestBucket() {
+        final ListenerStatistics statistics = new ListenerStatistics();
+        statistics.record(0L, 0L, 1);
+        Assert.assertEquals(1L, statistics.getPercentileNanos(1.0D));
+    }
+
+    @Test
+    public void testSamplesAreWeighted() {
+        final ListenerStatistics statistics = new ListenerStatistics();
+        statistics.record(100L, 50L, 9);
+        statistics.record(10000L, -1L, 1);
+        Assert.assertEquals(10L, statistics.getInvocations());
+        Assert.assertEquals(100L * 9 + 10000L, statistics.getTotalNanos());
+        // Unsupported allocation measurements are not counted
+        Assert.assertEquals(50L * 9, statistics.getAllocatedBytes());
+        Assert.assertEquals(127L, statistics.getPercentileNanos(0.9D));
+        Assert.assertEquals(16383L, statistics.getPercentileNanos(0.95D));
+    }
+
+    @Test
+    public void testOneInRateInvocationsIsSampled() {
+        final ListenerStatistics statistics = new ListenerStatistics();
+        int sampled = 0;
+        for (int i = 0; i < 64; i++) {
+            if (statistics.shouldSample(16)) {
+                sampled++;
+            }
+        }
+        Assert.assertEquals(4, sampled);
+        Assert.assertTrue(statistics.shouldSample(1));
+        Assert.assertTrue(statistics.shouldSample(1));
+    }
+
+    @Test
+    public void testReset() {
+        final ListenerStatistics statistics = new ListenerStatistics();
+        statistics.record(100L, 50L, 4);
+        statistics.reset();
+        Assert.assertEquals(0L, statistics.getInvocations());
+        Assert.assertEquals(0L, statistics.getTotalNanos());
+        Assert.assertEquals(0L, statistics.getAllocatedBytes());
+        Assert.assertEquals(0L, statistics.getPercentileNanos(1.0D));
+    }
+}
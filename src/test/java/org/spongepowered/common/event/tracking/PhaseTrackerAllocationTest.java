@@ -0,0 +1,109 @@
+/*
+ * This file is part of Sponge, licensed under the MIT License (MIT).
+ *
+ * Copyright (c) SpongePowered <https://www.spongepowered.org>
+ * Copyright (c) contributors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.spongepowered.common.event.tracking;
+
+import org.junit.Assert;
+import org.junit.Assume;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.spongepowered.common.event.tracking.phase.general.GeneralPhase;
+import org.spongepowered.common.event.tracking.phase.tick.BlockTickContext;
+import org.spongepowered.common.event.tracking.phase.tick.DimensionContext;
+import org.spongepowered.common.event.tracking.phase.tick.TickPhase;
+import org.spongepowered.lwts.runner.LaunchWrapperTestRunner;
+
+import java.lang.management.ManagementFactory;
+
+/**
+ * Checks that entering and exiting the phases of a block tick allocates
+ * nothing once the stack and the context pools have warmed up.
+ */
+@RunWith(LaunchWrapperTestRunner.class)
+public class PhaseTrackerAllocationTest {
+
+    private static final int WARM_UP = 20000;
+    private static final int ITERATIONS = 100000;
+
+    private static com.sun.management.ThreadMXBean getThreadBean() {
+        final java.lang.management.ThreadMXBean bean = ManagementFactory.getThreadMXBean();
+        Assume.assumeTrue("Thread allocations can't be measured", bean instanceof com.sun.management.ThreadMXBean);
+        final com.sun.management.ThreadMXBean threadBean = (com.sun.management.ThreadMXBean) bean;
+        Assume.assumeTrue("Thread allocations can't be measured",
+            threadBean.isThreadAllocatedMemorySupported() && threadBean.isThreadAllocatedMemoryEnabled());
+        return threadBean;
+    }
+
+    private static void pushAndPop(final PhaseStack stack, final PhaseContext<?> context) {
+        for (int depth = 0; depth < 8; depth++) {
+            stack.push(GeneralPhase.State.COMPLETE, context);
+        }
+        for (int depth = 0; depth < 8; depth++) {
+            stack.pop();
+        }
+    }
+
+    private static void tickBlock(final Object source) {
+        try (final BlockTickContext context = TickPhase.Tick.BLOCK.createPhaseContext().source(source)) {
+            context.buildAndSwitch();
+        }
+    }
+
+    @Test
+    public void testPhaseStackPushAndPopDoNotAllocate() {
+        final com.sun.management.ThreadMXBean bean = getThreadBean();
+        final long thread = Thread.currentThread().getId();
+        final PhaseStack stack = new PhaseStack();
+        final PhaseContext<?> context = PhaseContext.empty();
+        for (int i = 0; i < WARM_UP; i++) {
+            pushAndPop(stack, context);
+        }
+        final long before = bean.getThreadAllocatedBytes(thread);
+        for (int i = 0; i < ITERATIONS; i++) {
+            pushAndPop(stack, context);
+        }
+        final long allocated = bean.getThreadAllocatedBytes(thread) - before;
+        Assert.assertEquals("Bytes allocated per push and pop", 0L, allocated / ITERATIONS);
+    }
+
+    @Test
+    public void testPooledBlockTickEnterAndExitDoNotAllocate() {
+        final com.sun.management.ThreadMXBean bean = getThreadBean();
+        final long thread = Thread.currentThread().getId();
+        final Object source = new Object();
+        // Block ticks are entered while a world phase is on the stack, so the stack never empties in between
+        try (final DimensionContext outer = TickPhase.Tick.DIMENSION.createPhaseContext().source(source)) {
+            outer.buildAndSwitch();
+            for (int i = 0; i < WARM_UP; i++) {
+                tickBlock(source);
+            }
+            final long before = bean.getThreadAllocatedBytes(thread);
+            for (int i = 0; i < ITERATIONS; i++) {
+                tickBlock(source);
+            }
+            final long allocated = bean.getThreadAllocatedBytes(thread) - before;
+            Assert.assertEquals("Bytes allocated per block tick", 0L, allocated / ITERATIONS);
+        }
+    }
+}
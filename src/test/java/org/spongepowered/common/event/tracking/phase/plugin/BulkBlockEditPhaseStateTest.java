@@ -0,0 +1,104 @@
+/*
+ * This file is part of Sponge, licensed under the MIT License (MIT).
+ *
+ * Copyright (c) SpongePowered <https://www.spongepowered.org>
+ * Copyright (c) contributors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.spongepowered.common.event.tracking.phase.plugin;
+
+import static org.mockito.ArgumentMatchers.any;
+
+import net.minecraft.entity.item.EntityItem;
+import org.junit.After;
+import org.junit.Assert;
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.mockito.Mockito;
+import org.spongepowered.api.Sponge;
+import org.spongepowered.api.entity.Entity;
+import org.spongepowered.api.event.Cancellable;
+import org.spongepowered.api.event.CauseStackManager;
+import org.spongepowered.api.event.Event;
+import org.spongepowered.api.event.entity.SpawnEntityEvent;
+import org.spongepowered.api.event.item.inventory.DropItemEvent;
+import org.spongepowered.lwts.runner.LaunchWrapperTestRunner;
+
+import java.util.ArrayList;
+import java.util.List;
+
+@RunWith(LaunchWrapperTestRunner.class)
+public class BulkBlockEditPhaseStateTest {
+
+    private final List<Event> posted = new ArrayList<>();
+
+    @Before
+    public void init() {
+        // Cancel everything, the captures would otherwise be spawned into a world
+        Mockito.when(Sponge.getEventManager().post(any(Event.class))).thenAnswer(invocation -> {
+            final Event event = invocation.getArgument(0);
+            this.posted.add(event);
+            ((Cancellable) event).setCancelled(true);
+            return true;
+        });
+    }
+
+    @After
+    public void reset() {
+        Mockito.reset(Sponge.getEventManager());
+    }
+
+    @Test
+    public void testCapturedSpawnsAreProcessedOnUnwind() {
+        final BulkBlockEditPhaseState state = (BulkBlockEditPhaseState) PluginPhase.State.BULK_BLOCK_EDIT;
+        final BulkBlockEditContext context = state.createPhaseContext();
+        final Entity entity = Mockito.mock(Entity.class);
+        final EntityItem item = Mockito.mock(EntityItem.class);
+
+        Assert.assertTrue(state.doesCaptureEntitySpawns());
+        Assert.assertTrue(state.spawnEntityOrCapture(context, entity, 0, 0));
+        Assert.assertTrue(state.spawnEntityOrCapture(context, (Entity) item, 0, 0));
+        Assert.assertTrue(context.hasCaptures());
+
+        try (final CauseStackManager.StackFrame frame = Sponge.getCauseStackManager().pushCauseFrame()) {
+            frame.pushCause(this);
+            state.unwind(context);
+        }
+
+        Assert.assertEquals(2, this.posted.size());
+        final DropItemEvent.Destruct drop = (DropItemEvent.Destruct) this.posted.stream()
+            .filter(event -> event instanceof DropItemEvent.Destruct)
+            .findFirst()
+            .orElseThrow(() -> new AssertionError("No drop event was thrown for the captured item!"));
+        Assert.assertEquals(1, drop.getEntities().size());
+        Assert.assertSame(item, drop.getEntities().get(0));
+        final SpawnEntityEvent spawn = (SpawnEntityEvent) this.posted.stream()
+            .filter(event -> event instanceof SpawnEntityEvent && !(event instanceof DropItemEvent))
+            .findFirst()
+            .orElseThrow(() -> new AssertionError("No spawn event was thrown for the captured entity!"));
+        Assert.assertEquals(1, spawn.getEntities().size());
+        Assert.assertSame(entity, spawn.getEntities().get(0));
+
+        Assert.assertTrue(context.getCapturedItemsSupplier().isEmpty());
+        Assert.assertTrue(context.getCapturedEntitySupplier().isEmpty());
+    }
+
+}
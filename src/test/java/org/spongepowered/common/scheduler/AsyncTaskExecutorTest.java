@@ -0,0 +1,144 @@
+/*
+ * This file is part of Sponge, licensed under the MIT License (MIT).
+ *
+ * Copyright (c) SpongePowered <https://www.spongepowered.org>
+ * Copyright (c) contributors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.spongepowered.common.scheduler;
+
+import org.junit.Assert;
+import org.junit.Before;
+import org.junit.Test;
+import org.mockito.Mockito;
+import org.spongepowered.api.plugin.PluginContainer;
+import org.spongepowered.common.config.category.AsyncSchedulerCategory;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.atomic.AtomicInteger;
+
+public class AsyncTaskExecutorTest {
+
+    private final PluginContainer plugin = Mockito.mock(PluginContainer.class);
+    private final AsyncSchedulerCategory config = Mockito.mock(AsyncSchedulerCategory.class);
+    // Tasks handed to the executor, run by the test
+    private final List<Runnable> started = new ArrayList<>();
+
+    @Before
+    public void setUp() {
+        Mockito.when(this.plugin.getId()).thenReturn("test");
+        Mockito.when(this.config.getMaxRunningTasksPerPlugin()).thenReturn(2);
+    }
+
+    private AsyncTaskExecutor.PluginTasks tasks(final AsyncTaskExecutor executor) {
+        return executor.getPluginTasks().iterator().next();
+    }
+
+    private void runStarted() {
+        while (!this.started.isEmpty()) {
+            this.started.remove(0).run();
+        }
+    }
+
+    @Test
+    public void testDirectExecutorRunsEveryTask() {
+        final AsyncTaskExecutor executor = new AsyncTaskExecutor(this.config, Runnable::run);
+        final AtomicInteger ran = new AtomicInteger();
+        for (int i = 0; i < 5; i++) {
+            Assert.assertTrue(executor.execute(this.plugin, ran::incrementAndGet));
+        }
+        final AsyncTaskExecutor.PluginTasks tasks = this.tasks(executor);
+        Assert.assertEquals(5, ran.get());
+        Assert.assertEquals(5L, tasks.getCompleted());
+        Assert.assertEquals(0, tasks.getRunning());
+        Assert.assertEquals(0, tasks.getQueued());
+    }
+
+    @Test
+    public void testRunningTasksAreLimitedToQuota() {
+        final AsyncTaskExecutor executor = new AsyncTaskExecutor(this.config, this.started::add);
+        final AtomicInteger ran = new AtomicInteger();
+        for (int i = 0; i < 5; i++) {
+            Assert.assertTrue(executor.execute(this.plugin, ran::incrementAndGet));
+        }
+        final AsyncTaskExecutor.PluginTasks tasks = this.tasks(executor);
+        Assert.assertEquals(2, this.started.size());
+        Assert.assertEquals(2, tasks.getRunning());
+        Assert.assertEquals(3, tasks.getQueued());
+
+        // Completing a task starts the next queued one
+        this.started.remove(0).run();
+        Assert.assertEquals(2, this.started.size());
+        Assert.assertEquals(2, tasks.getRunning());
+        Assert.assertEquals(2, tasks.getQueued());
+        Assert.assertEquals(1L, tasks.getCompleted());
+
+        this.runStarted();
+        Assert.assertEquals(5, ran.get());
+        Assert.assertEquals(0, tasks.getRunning());
+        Assert.assertEquals(0, tasks.getQueued());
+    }
+
+    @Test
+    public void testQueuedTasksAreLimited() {
+        Mockito.when(this.config.getMaxRunningTasksPerPlugin()).thenReturn(1);
+        Mockito.when(this.config.getMaxQueuedTasksPerPlugin()).thenReturn(2);
+        final AsyncTaskExecutor executor = new AsyncTaskExecutor(this.config, this.started::add);
+        Assert.assertTrue(executor.execute(this.plugin, () -> { }));
+        Assert.assertTrue(executor.execute(this.plugin, () -> { }));
+        Assert.assertTrue(executor.execute(this.plugin, () -> { }));
+        Assert.assertFalse(executor.execute(this.plugin, () -> { }));
+        final AsyncTaskExecutor.PluginTasks tasks = this.tasks(executor);
+        Assert.assertEquals(1, tasks.getRunning());
+        Assert.assertEquals(2, tasks.getQueued());
+        Assert.assertEquals(1L, tasks.getRejected());
+
+        this.runStarted();
+        Assert.assertEquals(3L, tasks.getCompleted());
+        Assert.assertTrue(executor.execute(this.plugin, () -> { }));
+    }
+
+    @Test
+    public void testRejectedExecutionReleasesQuota() {
+        final boolean[] reject = {true};
+        final AsyncTaskExecutor executor = new AsyncTaskExecutor(this.config, task -> {
+            if (reject[0]) {
+                throw new RejectedExecutionException();
+            }
+            task.run();
+        });
+        final AtomicInteger ran = new AtomicInteger();
+        for (int i = 0; i < 3; i++) {
+            executor.execute(this.plugin, ran::incrementAndGet);
+        }
+        final AsyncTaskExecutor.PluginTasks tasks = this.tasks(executor);
+        Assert.assertEquals(0, ran.get());
+        Assert.assertEquals(0, tasks.getRunning());
+        Assert.assertEquals(0, tasks.getQueued());
+        Assert.assertEquals(3L, tasks.getRejected());
+
+        reject[0] = false;
+        Assert.assertTrue(executor.execute(this.plugin, ran::incrementAndGet));
+        Assert.assertEquals(1, ran.get());
+        Assert.assertEquals(0, tasks.getRunning());
+    }
+}
@@ -0,0 +1,128 @@
+/*
+ * This file is part of Sponge, licensed under the MIT License (MIT).
+ *
+ * Copyright (c) SpongePowered <https://www.spongepowered.org>
+ * Copyright (c) contributors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.spongepowered.common.scheduler;
+
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Compares finding the due tasks among many delayed tasks by scanning every
+ * task each tick, as the schedulers did with their task map, with extracting
+ * them from a {@link TimingWheel}. Every task that runs is replaced by a new
+ * delayed task, so the amount of pending tasks stays the same.
+ *
+ * <p>Run with {@code java -cp <test classpath> org.spongepowered.common.scheduler.TimingWheelBenchmark [tasks] [ticks]}.</p>
+ */
+public final class TimingWheelBenchmark {
+
+    // Up to 5 minutes of ticks
+    private static final int MAX_DELAY = 6000;
+
+    public static void main(final String[] args) {
+        final int taskCount = args.length > 0 ? Integer.parseInt(args[0]) : 100000;
+        final int ticks = args.length > 1 ? Integer.parseInt(args[1]) : 1200;
+        System.out.printf("%d delayed tasks, %d ticks%n", taskCount, ticks);
+        System.out.printf("%-12s %14s %10s%n", "scheduler", "us/tick", "run");
+        // Warm up
+        scanTaskMap(taskCount, ticks);
+        advanceWheel(taskCount, ticks);
+        for (int i = 0; i < 3; i++) {
+            long start = System.nanoTime();
+            long run = scanTaskMap(taskCount, ticks);
+            System.out.printf("%-12s %14.1f %10d%n", "task map", (System.nanoTime() - start) / 1000.0D / ticks, run);
+            start = System.nanoTime();
+            run = advanceWheel(taskCount, ticks);
+            System.out.printf("%-12s %14.1f %10d%n", "timing wheel", (System.nanoTime() - start) / 1000.0D / ticks, run);
+        }
+    }
+
+    private static long scanTaskMap(final int taskCount, final int ticks) {
+        final Random random = new Random(0L);
+        final Map<UUID, DelayedTask> taskMap = new ConcurrentHashMap<>();
+        for (int i = 0; i < taskCount; i++) {
+            final DelayedTask task = new DelayedTask(0L, 1 + random.nextInt(MAX_DELAY));
+            taskMap.put(task.id, task);
+        }
+        final List<DelayedTask> added = new ArrayList<>();
+        long run = 0;
+        for (long tick = 1; tick <= ticks; tick++) {
+            for (final Iterator<DelayedTask> iterator = taskMap.values().iterator(); iterator.hasNext(); ) {
+                final DelayedTask task = iterator.next();
+                // The check of SchedulerBase#processTask
+                if (task.delay <= tick - task.timestamp) {
+                    iterator.remove();
+                    run++;
+                    added.add(new DelayedTask(tick, 1 + random.nextInt(MAX_DELAY)));
+                }
+            }
+            for (final DelayedTask task : added) {
+                taskMap.put(task.id, task);
+            }
+            added.clear();
+        }
+        return run;
+    }
+
+    private static long advanceWheel(final int taskCount, final int ticks) {
+        final Random random = new Random(0L);
+        final TimingWheel<DelayedTask> wheel = new TimingWheel<>(1L);
+        for (int i = 0; i < taskCount; i++) {
+            final DelayedTask task = new DelayedTask(0L, 1 + random.nextInt(MAX_DELAY));
+            wheel.add(task, task.timestamp + task.delay);
+        }
+        final List<DelayedTask> due = new ArrayList<>();
+        long run = 0;
+        for (long tick = 1; tick <= ticks; tick++) {
+            wheel.advance(tick, due);
+            for (int i = 0; i < due.size(); i++) {
+                run++;
+                final DelayedTask task = new DelayedTask(tick, 1 + random.nextInt(MAX_DELAY));
+                wheel.add(task, task.timestamp + task.delay);
+            }
+            due.clear();
+        }
+        return run;
+    }
+
+    private static final class DelayedTask {
+
+        final UUID id = UUID.randomUUID();
+        final long timestamp;
+        final long delay;
+
+        DelayedTask(final long timestamp, final long delay) {
+            this.timestamp = timestamp;
+            this.delay = delay;
+        }
+    }
+
+    private TimingWheelBenchmark() {
+    }
+}
@@ -0,0 +1,102 @@
+/*
+ * This file is part of Sponge, licensed under the MIT License (MIT).
+ *
+ * Copyright (c) SpongePowered <https://www.spongepowered.org>
+ * Copyright (c) contributors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.spongepowered.common.scheduler;
+
+import org.junit.Assert;
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+public class TimingWheelTest {
+
+    private static List<Integer> advance(final TimingWheel<Integer> wheel, final long to) {
+        final List<Integer> due = new ArrayList<>();
+        wheel.advance(to, due);
+        Collections.sort(due);
+        return due;
+    }
+
+    @Test
+    public void testValuesAreDueInTheirSlot() {
+        final TimingWheel<Integer> wheel = new TimingWheel<>(0L);
+        wheel.add(1, 1L);
+        wheel.add(300, 300L);
+        wheel.add(70000, 70000L);
+        Assert.assertEquals(Collections.singletonList(1), advance(wheel, 299L));
+        Assert.assertEquals(Collections.singletonList(300), advance(wheel, 69999L));
+        Assert.assertEquals(Collections.singletonList(70000), advance(wheel, 70000L));
+        Assert.assertEquals(0, wheel.size());
+    }
+
+    @Test
+    public void testRemovedValuesAreNeverDue() {
+        final TimingWheel<Integer> wheel = new TimingWheel<>(0L);
+        final TimingWheel<Integer>.Entry first = wheel.add(1, 5L);
+        final TimingWheel<Integer>.Entry middle = wheel.add(2, 5L);
+        wheel.add(3, 5L);
+        final TimingWheel<Integer>.Entry far = wheel.add(4, 100000L);
+        Assert.assertTrue(middle.remove());
+        Assert.assertTrue(first.remove());
+        Assert.assertTrue(far.remove());
+        Assert.assertFalse(far.remove());
+        Assert.assertEquals(1, wheel.size());
+        Assert.assertEquals(Collections.singletonList(3), advance(wheel, 200000L));
+        Assert.assertEquals(0, wheel.size());
+        Assert.assertEquals(Long.MAX_VALUE, wheel.getNextSlot());
+    }
+
+    @Test
+    public void testRemoveAfterCascade() {
+        final TimingWheel<Integer> wheel = new TimingWheel<>(0L);
+        final TimingWheel<Integer>.Entry entry = wheel.add(1, 600L);
+        wheel.add(2, 600L);
+        // Cascades the slot of both values to the lowest level
+        Assert.assertTrue(advance(wheel, 512L).isEmpty());
+        Assert.assertTrue(entry.remove());
+        Assert.assertEquals(Collections.singletonList(2), advance(wheel, 600L));
+    }
+
+    @Test
+    public void testRemoveOverdue() {
+        final TimingWheel<Integer> wheel = new TimingWheel<>(10L);
+        final TimingWheel<Integer>.Entry entry = wheel.add(1, 2L);
+        wheel.add(2, 3L);
+        Assert.assertTrue(entry.remove());
+        Assert.assertEquals(Collections.singletonList(2), advance(wheel, 10L));
+    }
+
+    @Test
+    public void testExtractedValuesCannotBeRemoved() {
+        final TimingWheel<Integer> wheel = new TimingWheel<>(0L);
+        final TimingWheel<Integer>.Entry entry = wheel.add(1, 1L);
+        wheel.add(2, 1L);
+        Assert.assertEquals(Arrays.asList(1, 2), advance(wheel, 1L));
+        Assert.assertFalse(entry.remove());
+        Assert.assertEquals(0, wheel.size());
+    }
+}
@@ -0,0 +1,113 @@
+/*
+ * This file is part of Sponge, licensed under the MIT License (MIT).
+ *
+ * Copyright (c) SpongePowered <https://www.spongepowered.org>
+ * Copyright (c) contributors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.spongepowered.common.util;
+
+import org.junit.Assert;
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+
+public class StripedShortSetTest {
+
+    // The values 0 to 3 each map to a different stripe, 16 shares the stripe of 1
+    private static final short[] VALUES = {0, 1, 2, 3, 16, -1, Short.MIN_VALUE, Short.MAX_VALUE};
+
+    @Test
+    public void testAddAndContainsAcrossStripes() {
+        final StripedShortSet set = new StripedShortSet();
+        for (final short value : VALUES) {
+            Assert.assertFalse(set.contains(value));
+            Assert.assertTrue(set.add(value));
+            Assert.assertFalse(set.add(value));
+        }
+        for (final short value : VALUES) {
+            Assert.assertTrue(set.contains(value));
+        }
+        Assert.assertFalse(set.contains((short) 4));
+        Assert.assertFalse(set.contains((short) 17));
+        Assert.assertFalse(set.contains((short) -2));
+    }
+
+    @Test
+    public void testRemoveOnlyAffectsTheValue() {
+        final StripedShortSet set = new StripedShortSet();
+        for (final short value : VALUES) {
+            set.add(value);
+        }
+        Assert.assertTrue(set.remove((short) 1));
+        Assert.assertFalse(set.remove((short) 1));
+        Assert.assertFalse(set.contains((short) 1));
+        // Same stripe
+        Assert.assertTrue(set.contains((short) 16));
+        // Other stripes
+        for (final short value : VALUES) {
+            if (value != 1) {
+                Assert.assertTrue(set.contains(value));
+            }
+        }
+        Assert.assertTrue(set.remove(Short.MIN_VALUE));
+        Assert.assertFalse(set.contains(Short.MIN_VALUE));
+        Assert.assertTrue(set.contains((short) -1));
+    }
+
+    @Test
+    public void testUnallocatedStripes() {
+        final StripedShortSet set = new StripedShortSet();
+        Assert.assertFalse(set.remove((short) 2));
+        Assert.assertFalse(set.contains((short) 2));
+        set.add((short) 0);
+        Assert.assertFalse(set.remove((short) 2));
+        Assert.assertFalse(set.contains((short) 2));
+        Assert.assertTrue(set.contains((short) 0));
+    }
+
+    @Test
+    public void testConcurrentAdds() throws InterruptedException {
+        final StripedShortSet set = new StripedShortSet();
+        final int threadCount = 4;
+        final int valueCount = 4096;
+        final List<Thread> threads = new ArrayList<>();
+        for (int i = 0; i < threadCount; i++) {
+            final int offset = i;
+            threads.add(new Thread(() -> {
+                for (int value = offset; value < valueCount; value += threadCount) {
+                    set.add((short) value);
+                }
+            }));
+        }
+        for (final Thread thread : threads) {
+            thread.start();
+        }
+        for (final Thread thread : threads) {
+            thread.join();
+        }
+        for (int value = 0; value < valueCount; value++) {
+            Assert.assertTrue("Missing value " + value, set.contains((short) value));
+        }
+        Assert.assertFalse(set.contains((short) valueCount));
+    }
+
+}
@@ -0,0 +1,191 @@
+/*
+ * This file is part of Sponge, licensed under the MIT License (MIT).
+ *
+ * Copyright (c) SpongePowered <https://www.spongepowered.org>
+ * Copyright (c) contributors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.spongepowered.common.world;
+
+import net.minecraft.entity.Entity;
+import net.minecraft.nbt.NBTTagCompound;
+import net.minecraft.util.math.AxisAlignedBB;
+import org.spongepowered.common.bridge.optimization.EntityCollisionGridBridge;
+
+import java.lang.management.ManagementFactory;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+import javax.annotation.Nullable;
+
+/**
+ * Measures the entity queries of crammed mobs, each pushing the entities
+ * around it like {@code EntityLivingBase#collideWithNearbyEntities} does, once
+ * testing every entity of the section like vanilla and once through an
+ * {@link EntityCollisionGrid}.
+ *
+ * <p>Run with {@code java -cp <test classpath> org.spongepowered.common.world.EntityCollisionGridBenchmark [entities] [rounds]}.</p>
+ */
+public final class EntityCollisionGridBenchmark {
+
+    public static void main(final String[] args) {
+        final int entityCount = args.length > 0 ? Integer.parseInt(args[0]) : 200;
+        final int rounds = args.length > 1 ? Integer.parseInt(args[1]) : 200;
+        System.out.printf("%d entities, %d rounds%n", entityCount, rounds);
+        System.out.printf("%-8s %-8s %12s %14s %10s%n", "layout", "query", "ns/query", "bytes/query", "found");
+        // A mob farm pen of 2x2 blocks, and the same mobs wandering the whole section
+        run("crammed", createEntities(entityCount, 2.0D, new Random(0L)), rounds);
+        run("spread", createEntities(entityCount, 16.0D, new Random(0L)), rounds);
+    }
+
+    private static void run(final String layout, final List<Entity> entities, final int rounds) {
+        final EntityCollisionGrid grid = new EntityCollisionGrid(0, 4, 0);
+        for (final Entity entity : entities) {
+            grid.add(entity);
+        }
+        final List<Entity> found = new ArrayList<>();
+        // Warm up
+        for (int round = 0; round < rounds; round++) {
+            querySection(entities, found);
+            queryGrid(grid, entities, found);
+        }
+        measure(layout, "section", rounds, entities.size(), () -> querySection(entities, found));
+        measure(layout, "grid", rounds, entities.size(), () -> queryGrid(grid, entities, found));
+    }
+
+    private static void measure(final String layout, final String query, final int rounds, final int entityCount, final Query queries) {
+        final long allocatedBefore = getAllocatedBytes();
+        final long start = System.nanoTime();
+        long found = 0;
+        for (int round = 0; round < rounds; round++) {
+            found += queries.run();
+        }
+        final long time = System.nanoTime() - start;
+        final long allocated = getAllocatedBytes() - allocatedBefore;
+        final long queryCount = (long) rounds * entityCount;
+        System.out.printf("%-8s %-8s %12.1f %14.1f %10d%n", layout, query, time / (double) queryCount,
+            allocatedBefore < 0 ? Double.NaN : allocated / (double) queryCount, found / rounds);
+    }
+
+    // Tests every entity of the section, like Chunk#getEntitiesWithinAABBForEntity
+    private static int querySection(final List<Entity> entities, final List<Entity> found) {
+        int count = 0;
+        for (final Entity self : entities) {
+            final AxisAlignedBB aabb = self.getEntityBoundingBox().grow(0.2D);
+            found.clear();
+            for (final Entity entity : entities) {
+                if (entity.getEntityBoundingBox().intersects(aabb) && entity != self) {
+                    found.add(entity);
+                }
+            }
+            count += found.size();
+        }
+        return count;
+    }
+
+    private static int queryGrid(final EntityCollisionGrid grid, final List<Entity> entities, final List<Entity> found) {
+        int count = 0;
+        for (final Entity self : entities) {
+            final AxisAlignedBB aabb = self.getEntityBoundingBox().grow(0.2D);
+            found.clear();
+            grid.getEntitiesWithinAABBForEntity(self, aabb, found, null);
+            count += found.size();
+        }
+        return count;
+    }
+
+    private static List<Entity> createEntities(final int count, final double area, final Random random) {
+        final List<Entity> entities = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            // Cow sized, standing on the floor of section 4
+            final double x = 0.45D + random.nextDouble() * (area - 0.9D);
+            final double z = 0.45D + random.nextDouble() * (area - 0.9D);
+            final CrammedEntity entity = new CrammedEntity();
+            entity.setEntityBoundingBox(new AxisAlignedBB(x - 0.45D, 64.0D, z - 0.45D, x + 0.45D, 65.4D, z + 0.45D));
+            entities.add(entity);
+        }
+        return entities;
+    }
+
+    private static long getAllocatedBytes() {
+        final java.lang.management.ThreadMXBean bean = ManagementFactory.getThreadMXBean();
+        if (!(bean instanceof com.sun.management.ThreadMXBean)) {
+            return -1;
+        }
+        return ((com.sun.management.ThreadMXBean) bean).getThreadAllocatedBytes(Thread.currentThread().getId());
+    }
+
+    @FunctionalInterface
+    private interface Query {
+
+        int run();
+    }
+
+    /**
+     * An entity without a world, which only has a bounding box.
+     */
+    private static final class CrammedEntity extends Entity implements EntityCollisionGridBridge {
+
+        @Nullable private EntityCollisionGrid grid;
+        private int cell = -1;
+
+        CrammedEntity() {
+            super(null);
+        }
+
+        @Override
+        protected void entityInit() {
+        }
+
+        @Override
+        protected void readEntityFromNBT(final NBTTagCompound compound) {
+        }
+
+        @Override
+        protected void writeEntityToNBT(final NBTTagCompound compound) {
+        }
+
+        @Nullable
+        @Override
+        public EntityCollisionGrid collisionGridBridge$getGrid() {
+            return this.grid;
+        }
+
+        @Override
+        public void collisionGridBridge$setGrid(@Nullable final EntityCollisionGrid grid, final int cell) {
+            this.grid = grid;
+            this.cell = cell;
+        }
+
+        @Override
+        public int collisionGridBridge$getCell() {
+            return this.cell;
+        }
+
+        @Override
+        public void collisionGridBridge$setCell(final int cell) {
+            this.cell = cell;
+        }
+    }
+
+    private EntityCollisionGridBenchmark() {
+    }
+}
@@ -0,0 +1,282 @@
+/*
+ * This file is part of Sponge, licensed under the MIT License (MIT).
+ *
+ * Copyright (c) SpongePowered <https://www.spongepowered.org>
+ * Copyright (c) contributors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.spongepowered.common.world;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.when;
+import static org.mockito.Mockito.withSettings;
+
+import net.minecraft.entity.Entity;
+import net.minecraft.util.math.AxisAlignedBB;
+import org.junit.Assert;
+import org.junit.Test;
+import org.mockito.Mockito;
+import org.spongepowered.common.bridge.optimization.EntityCollisionGridBridge;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Random;
+import java.util.Set;
+
+public class EntityCollisionGridTest {
+
+    // Chunk 1, -1 section 2, so the grid covers x 16 to 32, y 32 to 48 and z -16 to 0
+    private static final int CHUNK_X = 1;
+    private static final int SECTION_Y = 2;
+    private static final int CHUNK_Z = -1;
+
+    private static Entity entity(final AxisAlignedBB bb) {
+        final Entity entity = Mockito.mock(Entity.class, withSettings().extraInterfaces(EntityCollisionGridBridge.class));
+        final EntityCollisionGridBridge bridge = (EntityCollisionGridBridge) entity;
+        final EntityCollisionGrid[] grid = new EntityCollisionGrid[1];
+        final int[] cell = {-1};
+        doAnswer(invocation -> {
+            grid[0] = invocation.getArgument(0);
+            cell[0] = invocation.getArgument(1);
+            return null;
+        }).when(bridge).collisionGridBridge$setGrid(any(), anyInt());
+        doAnswer(invocation -> {
+            cell[0] = invocation.getArgument(0);
+            return null;
+        }).when(bridge).collisionGridBridge$setCell(anyInt());
+        when(bridge.collisionGridBridge$getGrid()).thenAnswer(invocation -> grid[0]);
+        when(bridge.collisionGridBridge$getCell()).thenAnswer(invocation -> cell[0]);
+        when(entity.getEntityBoundingBox()).thenReturn(bb);
+        return entity;
+    }
+
+    private static Entity entityAt(final double x, final double y, final double z) {
+        return entity(box(x, y, z, 0.3D, 1.8D));
+    }
+
+    private static AxisAlignedBB box(final double x, final double y, final double z, final double halfWidth, final double height) {
+        return new AxisAlignedBB(x - halfWidth, y, z - halfWidth, x + halfWidth, y + height, z + halfWidth);
+    }
+
+    private static EntityCollisionGrid grid() {
+        return new EntityCollisionGrid(CHUNK_X, SECTION_Y, CHUNK_Z);
+    }
+
+    private static List<Entity> query(final EntityCollisionGrid grid, final AxisAlignedBB aabb) {
+        final List<Entity> entities = new ArrayList<>();
+        grid.getEntitiesWithinAABBForEntity(null, aabb, entities, null);
+        return entities;
+    }
+
+    @Test
+    public void testQueryOnlyReturnsNearbyCells() {
+        final EntityCollisionGrid grid = grid();
+        final Entity near = entityAt(17.0D, 33.0D, -15.0D);
+        final Entity far = entityAt(31.0D, 45.0D, -1.0D);
+        grid.add(near);
+        grid.add(far);
+        Assert.assertEquals(2, grid.size());
+
+        final List<Entity> entities = query(grid, box(17.0D, 33.0D, -15.0D, 0.5D, 1.0D));
+        Assert.assertTrue(entities.contains(near));
+        Assert.assertFalse(entities.contains(far));
+    }
+
+    @Test
+    public void testQuerySpanningCells() {
+        final EntityCollisionGrid grid = grid();
+        final List<Entity> row = new ArrayList<>();
+        // One entity in each cell along the x axis
+        for (int x = 0; x < 4; x++) {
+            final Entity entity = entityAt(16.0D + x * 4 + 2.0D, 40.0D, -8.0D);
+            grid.add(entity);
+            row.add(entity);
+        }
+        final Entity other = entityAt(18.0D, 33.0D, -8.0D);
+        grid.add(other);
+
+        final List<Entity> entities = query(grid, new AxisAlignedBB(17.0D, 40.0D, -9.0D, 27.0D, 41.0D, -7.0D));
+        Assert.assertTrue(entities.contains(row.get(0)));
+        Assert.assertTrue(entities.contains(row.get(1)));
+        Assert.assertTrue(entities.contains(row.get(2)));
+        Assert.assertFalse(entities.contains(row.get(3)));
+        Assert.assertFalse(entities.contains(other));
+
+        // Spanning the whole section
+        Assert.assertEquals(5, query(grid, new AxisAlignedBB(0.0D, 0.0D, -64.0D, 64.0D, 256.0D, 64.0D)).size());
+    }
+
+    @Test
+    public void testEntitiesOutsideOfTheSectionAreKeptInEdgeCells() {
+        final EntityCollisionGrid grid = grid();
+        // Above the section and in the neighbouring chunks, until the world moves them
+        final Entity above = entityAt(20.0D, 49.0D, -4.0D);
+        final Entity west = entityAt(14.0D, 40.0D, -8.0D);
+        final Entity south = entityAt(24.0D, 40.0D, 1.5D);
+        grid.add(above);
+        grid.add(west);
+        grid.add(south);
+
+        Assert.assertTrue(query(grid, box(20.0D, 49.0D, -4.0D, 0.5D, 1.0D)).contains(above));
+        Assert.assertTrue(query(grid, box(14.0D, 40.0D, -8.0D, 0.5D, 1.0D)).contains(west));
+        Assert.assertTrue(query(grid, box(24.0D, 40.0D, 1.5D, 0.5D, 1.0D)).contains(south));
+        Assert.assertFalse(query(grid, box(20.0D, 33.0D, -12.0D, 0.5D, 1.0D)).contains(above));
+    }
+
+    @Test
+    public void testLargeEntitiesGrowQueries() {
+        final EntityCollisionGrid grid = grid();
+        // Centered in the last cell, but reaching far into the first ones
+        final Entity large = entity(box(30.0D, 36.0D, -8.0D, 12.0D, 2.0D));
+        grid.add(large);
+        Assert.assertTrue(query(grid, box(19.0D, 36.0D, -8.0D, 0.5D, 1.0D)).contains(large));
+    }
+
+    @Test
+    public void testQueryFindsExactlyTheIntersectingEntities() {
+        final Random random = new Random(0L);
+        final EntityCollisionGrid grid = grid();
+        final List<Entity> entities = new ArrayList<>();
+        for (int i = 0; i < 200; i++) {
+            final Entity entity = entity(box(
+                14.0D + random.nextDouble() * 20.0D,
+                30.0D + random.nextDouble() * 20.0D,
+                -18.0D + random.nextDouble() * 20.0D,
+                0.1D + random.nextDouble() * 2.0D,
+                0.2D + random.nextDouble() * 3.0D));
+            grid.add(entity);
+            entities.add(entity);
+        }
+        Assert.assertEquals(entities.size(), grid.size());
+        for (int i = 0; i < 200; i++) {
+            final AxisAlignedBB query = box(
+                14.0D + random.nextDouble() * 20.0D,
+                30.0D + random.nextDouble() * 20.0D,
+                -18.0D + random.nextDouble() * 20.0D,
+                random.nextDouble() * 4.0D,
+                random.nextDouble() * 4.0D);
+            final Set<Entity> expected = new HashSet<>();
+            for (final Entity entity : entities) {
+                if (entity.getEntityBoundingBox().intersects(query)) {
+                    expected.add(entity);
+                }
+            }
+            final List<Entity> found = query(grid, query);
+            Assert.assertEquals(expected.size(), found.size());
+            Assert.assertEquals(expected, new HashSet<>(found));
+        }
+    }
+
+    @Test
+    public void testQueryExcludesEntityAndAppliesFilter() {
+        final EntityCollisionGrid grid = grid();
+        final Entity self = entityAt(20.0D, 36.0D, -8.0D);
+        final Entity matching = entityAt(20.2D, 36.0D, -8.0D);
+        final Entity filtered = entityAt(19.8D, 36.0D, -8.0D);
+        grid.add(self);
+        grid.add(matching);
+        grid.add(filtered);
+        final AxisAlignedBB query = box(20.0D, 36.0D, -8.0D, 1.0D, 1.0D);
+
+        final List<Entity> entities = new ArrayList<>();
+        grid.getEntitiesWithinAABBForEntity(self, query, entities, entity -> entity != filtered);
+        Assert.assertEquals(Collections.singletonList(matching), entities);
+
+        final List<Entity> byType = new ArrayList<>();
+        grid.getEntitiesOfTypeWithinAABB(Entity.class, query, byType, entity -> entity != filtered);
+        Assert.assertEquals(new HashSet<>(Arrays.asList(self, matching)), new HashSet<>(byType));
+    }
+
+    @Test
+    public void testPartsAreFoundWithTheirEntity() {
+        final EntityCollisionGrid grid = grid();
+        final Entity entity = entity(box(30.0D, 36.0D, -8.0D, 2.0D, 2.0D));
+        final Entity near = Mockito.mock(Entity.class);
+        when(near.getEntityBoundingBox()).thenReturn(box(27.0D, 36.0D, -8.0D, 1.0D, 1.0D));
+        final Entity far = Mockito.mock(Entity.class);
+        when(far.getEntityBoundingBox()).thenReturn(box(18.0D, 36.0D, -8.0D, 1.0D, 1.0D));
+        when(entity.getParts()).thenReturn(new Entity[] {near, far});
+        grid.add(entity);
+
+        final List<Entity> entities = query(grid, new AxisAlignedBB(26.0D, 36.0D, -9.0D, 29.0D, 37.0D, -7.0D));
+        Assert.assertEquals(Arrays.asList(entity, near), entities);
+        // Parts are tested once their entity intersects, wherever they reach
+        Assert.assertTrue(query(grid, new AxisAlignedBB(17.0D, 36.0D, -9.0D, 29.0D, 37.0D, -7.0D)).contains(far));
+    }
+
+    @Test
+    public void testUpdateMovesEntityBetweenCells() {
+        final EntityCollisionGrid grid = grid();
+        final Entity entity = entityAt(17.0D, 33.0D, -15.0D);
+        grid.add(entity);
+        final int cell = ((EntityCollisionGridBridge) entity).collisionGridBridge$getCell();
+
+        when(entity.getEntityBoundingBox()).thenReturn(box(31.0D, 45.0D, -1.0D, 0.3D, 1.8D));
+        grid.update(entity);
+        Assert.assertNotEquals(cell, ((EntityCollisionGridBridge) entity).collisionGridBridge$getCell());
+        Assert.assertFalse(query(grid, box(17.0D, 33.0D, -15.0D, 0.5D, 1.0D)).contains(entity));
+        Assert.assertTrue(query(grid, box(31.0D, 45.0D, -1.0D, 0.5D, 1.0D)).contains(entity));
+        Assert.assertEquals(1, grid.size());
+    }
+
+    @Test
+    public void testAddingToAnotherSectionRemovesFromThePreviousGrid() {
+        final EntityCollisionGrid lower = grid();
+        final EntityCollisionGrid upper = new EntityCollisionGrid(CHUNK_X, SECTION_Y + 1, CHUNK_Z);
+        final Entity entity = entityAt(24.0D, 47.0D, -8.0D);
+        lower.add(entity);
+        Assert.assertSame(lower, ((EntityCollisionGridBridge) entity).collisionGridBridge$getGrid());
+
+        when(entity.getEntityBoundingBox()).thenReturn(box(24.0D, 48.5D, -8.0D, 0.3D, 1.8D));
+        upper.add(entity);
+        Assert.assertSame(upper, ((EntityCollisionGridBridge) entity).collisionGridBridge$getGrid());
+        Assert.assertEquals(0, lower.size());
+        Assert.assertEquals(1, upper.size());
+        Assert.assertFalse(query(lower, box(24.0D, 47.0D, -8.0D, 0.5D, 1.0D)).contains(entity));
+        Assert.assertTrue(query(upper, box(24.0D, 48.5D, -8.0D, 0.5D, 1.0D)).contains(entity));
+
+        // Removing from a grid the entity is not in does nothing
+        lower.remove(entity);
+        Assert.assertEquals(1, upper.size());
+        upper.remove(entity);
+        Assert.assertEquals(0, upper.size());
+        Assert.assertNull(((EntityCollisionGridBridge) entity).collisionGridBridge$getGrid());
+    }
+
+    @Test
+    public void testClearDetachesEntities() {
+        final EntityCollisionGrid grid = grid();
+        final Entity first = entityAt(17.0D, 33.0D, -15.0D);
+        final Entity second = entityAt(31.0D, 45.0D, -1.0D);
+        grid.add(first);
+        grid.add(second);
+        grid.clear();
+        Assert.assertEquals(0, grid.size());
+        Assert.assertNull(((EntityCollisionGridBridge) first).collisionGridBridge$getGrid());
+        Assert.assertNull(((EntityCollisionGridBridge) second).collisionGridBridge$getGrid());
+        Assert.assertTrue(query(grid, new AxisAlignedBB(16.0D, 32.0D, -16.0D, 32.0D, 48.0D, 0.0D)).isEmpty());
+    }
+
+}
@@ -0,0 +1,248 @@
+/*
+ * This file is part of Sponge, licensed under the MIT License (MIT).
+ *
+ * Copyright (c) SpongePowered <https://www.spongepowered.org>
+ * Copyright (c) contributors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.spongepowered.common.world;
+
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.when;
+import static org.mockito.Mockito.withSettings;
+
+import net.minecraft.entity.Entity;
+import net.minecraft.entity.EnumCreatureType;
+import net.minecraft.entity.monster.EntityMob;
+import net.minecraft.entity.passive.EntityAnimal;
+import net.minecraft.entity.player.EntityPlayer;
+import net.minecraft.util.math.ChunkPos;
+import net.minecraft.util.math.MathHelper;
+import org.junit.Assert;
+import org.junit.Test;
+import org.mockito.Mockito;
+import org.spongepowered.common.bridge.entity.EntityBridge;
+import org.spongepowered.common.bridge.entity.player.EntityPlayerBridge;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.Set;
+
+public class MobSpawnTrackerTest {
+
+    private static final int RANGE = 8;
+
+    private static <T extends Entity> T entity(final Class<T> type, final Class<?>... extraInterfaces) {
+        final Class<?>[] interfaces = Arrays.copyOf(extraInterfaces, extraInterfaces.length + 1);
+        interfaces[extraInterfaces.length] = EntityBridge.class;
+        final T entity = Mockito.mock(type, withSettings().extraInterfaces(interfaces));
+        final EntityBridge bridge = (EntityBridge) entity;
+        final int[] mask = {-1};
+        doAnswer(invocation -> {
+            mask[0] = invocation.getArgument(0);
+            return null;
+        }).when(bridge).bridge$setSpawnCountMask(anyInt());
+        when(bridge.bridge$getSpawnCountMask()).thenAnswer(invocation -> mask[0]);
+        return entity;
+    }
+
+    private static EntityPlayer player(final double x, final double z) {
+        final EntityPlayer player = entity(EntityPlayer.class, EntityPlayerBridge.class);
+        when(((EntityPlayerBridge) player).bridge$affectsSpawning()).thenReturn(true);
+        player.posX = x;
+        player.posZ = z;
+        return player;
+    }
+
+    // The chunks every player swept through each spawn cycle before they were tracked
+    private static Map<Long, Integer> sweepCandidates(final List<EntityPlayer> players, final int range) {
+        final Map<Long, Integer> chunks = new HashMap<>();
+        for (final EntityPlayer player : players) {
+            if (!((EntityPlayerBridge) player).bridge$affectsSpawning() || player.isSpectator()) {
+                continue;
+            }
+            final int chunkX = MathHelper.floor(player.posX / 16.0D);
+            final int chunkZ = MathHelper.floor(player.posZ / 16.0D);
+            for (int x = -range; x <= range; x++) {
+                for (int z = -range; z <= range; z++) {
+                    chunks.merge(ChunkPos.asLong(chunkX + x, chunkZ + z), 1, Integer::sum);
+                }
+            }
+        }
+        return chunks;
+    }
+
+    private static Set<Long> sweepEligible(final List<EntityPlayer> players, final int range) {
+        final Set<Long> chunks = new HashSet<>();
+        for (final EntityPlayer player : players) {
+            if (!((EntityPlayerBridge) player).bridge$affectsSpawning() || player.isSpectator()) {
+                continue;
+            }
+            final int chunkX = MathHelper.floor(player.posX / 16.0D);
+            final int chunkZ = MathHelper.floor(player.posZ / 16.0D);
+            for (int x = -range + 1; x < range; x++) {
+                for (int z = -range + 1; z < range; z++) {
+                    chunks.add(ChunkPos.asLong(chunkX + x, chunkZ + z));
+                }
+            }
+        }
+        return chunks;
+    }
+
+    private static void assertMatchesSweep(final MobSpawnTracker tracker, final List<EntityPlayer> players, final int range) {
+        Assert.assertEquals(sweepCandidates(players, range), new HashMap<>(tracker.getCandidateChunks()));
+        Assert.assertEquals(sweepEligible(players, range), new HashSet<>(tracker.getEligibleChunks().keySet()));
+    }
+
+    @Test
+    public void testOverlappingAreasAreReferenceCounted() {
+        final MobSpawnTracker tracker = new MobSpawnTracker();
+        final List<EntityPlayer> players = Arrays.asList(player(8.0D, 8.0D), player(40.0D, 8.0D));
+        tracker.updatePlayers(players, RANGE);
+        assertMatchesSweep(tracker, players, RANGE);
+        Assert.assertEquals(2, tracker.getCandidateChunks().get(ChunkPos.asLong(1, 0)));
+        Assert.assertEquals(1, tracker.getCandidateChunks().get(ChunkPos.asLong(-RANGE, 0)));
+        // On the edge of the first player's range, but within the second one's
+        Assert.assertTrue(tracker.getEligibleChunks().containsKey(ChunkPos.asLong(RANGE, 0)));
+        Assert.assertFalse(tracker.getEligibleChunks().containsKey(ChunkPos.asLong(-RANGE, 0)));
+
+        // Nothing changes while the players stay in their chunks
+        players.get(0).posX = 15.0D;
+        tracker.updatePlayers(players, RANGE);
+        assertMatchesSweep(tracker, players, RANGE);
+    }
+
+    @Test
+    public void testMovingPlayersUpdateTheirArea() {
+        final MobSpawnTracker tracker = new MobSpawnTracker();
+        final List<EntityPlayer> players = Arrays.asList(player(8.0D, 8.0D), player(-24.0D, 40.0D));
+        tracker.updatePlayers(players, RANGE);
+
+        players.get(0).posX = 8.0D + 16.0D * 5;
+        tracker.updatePlayers(players, RANGE);
+        assertMatchesSweep(tracker, players, RANGE);
+        Assert.assertFalse(tracker.getCandidateChunks().containsKey(ChunkPos.asLong(-RANGE, -RANGE)));
+
+        // Changing the range is handled like a move
+        tracker.updatePlayers(players, RANGE - 2);
+        assertMatchesSweep(tracker, players, RANGE - 2);
+    }
+
+    @Test
+    public void testRemovedAndSpectatingPlayersReleaseTheirArea() {
+        final MobSpawnTracker tracker = new MobSpawnTracker();
+        final EntityPlayer first = player(8.0D, 8.0D);
+        final EntityPlayer second = player(40.0D, 8.0D);
+        final EntityPlayer third = player(-200.0D, 8.0D);
+        tracker.updatePlayers(Arrays.asList(first, second, third), RANGE);
+
+        // Leaving the world
+        tracker.onEntityRemoved(third);
+        assertMatchesSweep(tracker, Arrays.asList(first, second), RANGE);
+
+        // No longer in the player list
+        tracker.updatePlayers(Collections.singletonList(first), RANGE);
+        assertMatchesSweep(tracker, Collections.singletonList(first), RANGE);
+
+        when(first.isSpectator()).thenReturn(true);
+        tracker.updatePlayers(Collections.singletonList(first), RANGE);
+        Assert.assertTrue(tracker.getCandidateChunks().isEmpty());
+        Assert.assertTrue(tracker.getEligibleChunks().isEmpty());
+    }
+
+    @Test
+    public void testRandomMovesMatchTheSweep() {
+        final Random random = new Random(0L);
+        final MobSpawnTracker tracker = new MobSpawnTracker();
+        final List<EntityPlayer> players = new ArrayList<>();
+        for (int i = 0; i < 6; i++) {
+            players.add(player(random.nextInt(400) - 200, random.nextInt(400) - 200));
+        }
+        for (int cycle = 0; cycle < 100; cycle++) {
+            for (final EntityPlayer player : players) {
+                player.posX += random.nextInt(41) - 20;
+                player.posZ += random.nextInt(41) - 20;
+            }
+            tracker.updatePlayers(players, RANGE);
+            assertMatchesSweep(tracker, players, RANGE);
+        }
+    }
+
+    @Test
+    public void testCreatureCountsFollowSpawnCountMasks() {
+        final MobSpawnTracker tracker = new MobSpawnTracker();
+        final EntityMob monster = entity(EntityMob.class);
+        final EntityAnimal animal = entity(EntityAnimal.class);
+        final EntityPlayer player = player(0.0D, 0.0D);
+        tracker.onEntityAdded(monster);
+        tracker.onEntityAdded(animal);
+        tracker.onEntityAdded(player);
+        // Adding twice doesn't count twice
+        tracker.onEntityAdded(monster);
+        Assert.assertEquals(1, tracker.getCreatureCount(EnumCreatureType.MONSTER));
+        Assert.assertEquals(1, tracker.getCreatureCount(EnumCreatureType.CREATURE));
+        Assert.assertEquals(0, tracker.getCreatureCount(EnumCreatureType.AMBIENT));
+
+        // Named mobs don't despawn and no longer count
+        when(monster.isNoDespawnRequired()).thenReturn(true);
+        tracker.onSpawnCountChanged(monster);
+        Assert.assertEquals(0, tracker.getCreatureCount(EnumCreatureType.MONSTER));
+        tracker.onEntityRemoved(monster);
+        Assert.assertEquals(0, tracker.getCreatureCount(EnumCreatureType.MONSTER));
+
+        tracker.onEntityRemoved(animal);
+        Assert.assertEquals(0, tracker.getCreatureCount(EnumCreatureType.CREATURE));
+        // Removing twice doesn't count twice
+        tracker.onEntityRemoved(animal);
+        Assert.assertEquals(0, tracker.getCreatureCount(EnumCreatureType.CREATURE));
+    }
+
+    @Test
+    public void testResyncRebuildsCounts() {
+        final MobSpawnTracker tracker = new MobSpawnTracker();
+        final EntityMob monster = entity(EntityMob.class);
+        final EntityAnimal animal = entity(EntityAnimal.class);
+        tracker.onEntityAdded(monster);
+        // A change that wasn't reported, the resync picks it up
+        when(monster.isNoDespawnRequired()).thenReturn(true);
+
+        tracker.resyncIfNeeded(Arrays.asList(monster, animal), 0L);
+        Assert.assertEquals(0, tracker.getCreatureCount(EnumCreatureType.MONSTER));
+        Assert.assertEquals(1, tracker.getCreatureCount(EnumCreatureType.CREATURE));
+
+        // Only rebuilt once a minute
+        tracker.resyncIfNeeded(Collections.emptyList(), 600L);
+        Assert.assertEquals(1, tracker.getCreatureCount(EnumCreatureType.CREATURE));
+        tracker.resyncIfNeeded(Collections.emptyList(), 1200L);
+        Assert.assertEquals(0, tracker.getCreatureCount(EnumCreatureType.CREATURE));
+
+        // Entities counted by the resync are removed like added ones
+        tracker.resyncIfNeeded(Collections.singletonList(animal), 2400L);
+        tracker.onEntityRemoved(animal);
+        Assert.assertEquals(0, tracker.getCreatureCount(EnumCreatureType.CREATURE));
+    }
+}
@@ -0,0 +1,176 @@
+/*
+ * This file is part of Sponge, licensed under the MIT License (MIT).
+ *
+ * Copyright (c) SpongePowered <https://www.spongepowered.org>
+ * Copyright (c) contributors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.spongepowered.common.world.storage;
+
+import net.minecraft.nbt.CompressedStreamTools;
+import net.minecraft.nbt.NBTTagCompound;
+import net.minecraft.nbt.NBTTagList;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.util.Random;
+import java.util.zip.Deflater;
+
+/**
+ * Measures how fast each {@link ChunkCompression} writes and reads typical
+ * chunk data, and how large the compressed chunks are.
+ *
+ * <p>Run with {@code java -cp <test classpath> org.spongepowered.common.world.storage.ChunkCompressionBenchmark [chunks] [rounds]}.</p>
+ */
+public final class ChunkCompressionBenchmark {
+
+    public static void main(final String[] args) throws IOException {
+        final int chunkCount = args.length > 0 ? Integer.parseInt(args[0]) : 64;
+        final int rounds = args.length > 1 ? Integer.parseInt(args[1]) : 10;
+        final byte[][] chunks = new byte[chunkCount][];
+        long totalSize = 0;
+        for (int i = 0; i < chunkCount; i++) {
+            chunks[i] = createChunkData(new Random(i));
+            totalSize += chunks[i].length;
+        }
+        System.out.printf("%d chunks, %.1f KiB on average%n", chunkCount, totalSize / 1024.0 / chunkCount);
+        System.out.printf("%-10s %12s %12s %10s%n", "codec", "write MiB/s", "read MiB/s", "ratio");
+        for (final ChunkCompression compression : ChunkCompression.values()) {
+            run(compression.name().toLowerCase(), compression, Deflater.DEFAULT_COMPRESSION, chunks, totalSize, rounds);
+        }
+        run("zlib (1)", ChunkCompression.ZLIB, Deflater.BEST_SPEED, chunks, totalSize, rounds);
+    }
+
+    private static void run(final String name, final ChunkCompression compression, final int level, final byte[][] chunks, final long totalSize,
+        final int rounds) throws IOException {
+        final byte[][] compressed = new byte[chunks.length][];
+        // Warm up, which also gives the compressed data to read
+        for (int i = 0; i < chunks.length; i++) {
+            compressed[i] = compress(compression, level, chunks[i]);
+        }
+        long compressedSize = 0;
+        for (final byte[] data : compressed) {
+            compressedSize += data.length;
+        }
+        final byte[] buffer = new byte[8192];
+        long writeTime = 0;
+        long readTime = 0;
+        for (int round = 0; round < rounds; round++) {
+            long start = System.nanoTime();
+            for (final byte[] chunk : chunks) {
+                compress(compression, level, chunk);
+            }
+            writeTime += System.nanoTime() - start;
+            start = System.nanoTime();
+            for (final byte[] data : compressed) {
+                try (final InputStream in = compression.wrap(new ByteArrayInputStream(data))) {
+                    while (in.read(buffer) != -1) {
+                        // Only decompress
+                    }
+                }
+            }
+            readTime += System.nanoTime() - start;
+        }
+        final double mebibytes = totalSize * (double) rounds / (1024 * 1024);
+        System.out.printf("%-10s %12.1f %12.1f %10.2f%n", name, mebibytes / (writeTime / 1e9), mebibytes / (readTime / 1e9),
+            totalSize / (double) compressedSize);
+    }
+
+    static byte[] compress(final ChunkCompression compression, final int level, final byte[] data) throws IOException {
+        final ByteArrayOutputStream bytes = new ByteArrayOutputStream(data.length);
+        try (final OutputStream out = compression.wrap(bytes, level)) {
+            out.write(data);
+        }
+        return bytes.toByteArray();
+    }
+
+    /**
+     * Creates the serialized data of a chunk that roughly looks like a
+     * generated overworld chunk, with stone up to the surface, some ores and
+     * caves, and light data.
+     *
+     * @param random The random to generate the chunk with
+     * @return The serialized chunk
+     */
+    static byte[] createChunkData(final Random random) throws IOException {
+        final NBTTagCompound level = new NBTTagCompound();
+        level.setInteger("xPos", random.nextInt(64));
+        level.setInteger("zPos", random.nextInt(64));
+        level.setLong("LastUpdate", random.nextInt(100000));
+        level.setBoolean("TerrainPopulated", true);
+        final int[] heightMap = new int[256];
+        final byte[] biomes = new byte[256];
+        for (int i = 0; i < 256; i++) {
+            heightMap[i] = 62 + random.nextInt(4);
+            biomes[i] = (byte) (i < 128 ? 1 : 4);
+        }
+        level.setIntArray("HeightMap", heightMap);
+        level.setByteArray("Biomes", biomes);
+        final NBTTagList sections = new NBTTagList();
+        for (int y = 0; y < 4; y++) {
+            final byte[] blocks = new byte[4096];
+            final byte[] data = new byte[2048];
+            final byte[] blockLight = new byte[2048];
+            final byte[] skyLight = new byte[2048];
+            for (int i = 0; i < 4096; i++) {
+                final int height = y * 16 + (i >> 8);
+                final int surface = heightMap[i & 255];
+                if (height == 0) {
+                    blocks[i] = 7;
+                } else if (height < surface - 4) {
+                    final int roll = random.nextInt(100);
+                    blocks[i] = (byte) (roll < 3 ? 0 : roll < 5 ? 16 : roll < 6 ? 15 : roll < 10 ? 13 : 1);
+                } else if (height < surface) {
+                    blocks[i] = 3;
+                } else if (height == surface) {
+                    blocks[i] = 2;
+                }
+                if (height >= surface) {
+                    skyLight[i >> 1] |= (byte) (i % 2 == 0 ? 0x0F : 0xF0);
+                }
+            }
+            final NBTTagCompound section = new NBTTagCompound();
+            section.setByte("Y", (byte) y);
+            section.setByteArray("Blocks", blocks);
+            section.setByteArray("Data", data);
+            section.setByteArray("BlockLight", blockLight);
+            section.setByteArray("SkyLight", skyLight);
+            sections.appendTag(section);
+        }
+        level.setTag("Sections", sections);
+        level.setTag("Entities", new NBTTagList());
+        level.setTag("TileEntities", new NBTTagList());
+        final NBTTagCompound root = new NBTTagCompound();
+        root.setTag("Level", level);
+        root.setInteger("DataVersion", 1343);
+        final ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        try (final DataOutputStream out = new DataOutputStream(bytes)) {
+            CompressedStreamTools.write(root, out);
+        }
+        return bytes.toByteArray();
+    }
+
+    private ChunkCompressionBenchmark() {
+    }
+}
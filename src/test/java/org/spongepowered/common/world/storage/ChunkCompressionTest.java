@@ -0,0 +1,97 @@
+/*
+ * This file is part of Sponge, licensed under the MIT License (MIT).
+ *
+ * Copyright (c) SpongePowered <https://www.spongepowered.org>
+ * Copyright (c) contributors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.spongepowered.common.world.storage;
+
+import com.google.common.io.ByteStreams;
+import org.junit.Assert;
+import org.junit.Test;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.Random;
+import java.util.zip.Deflater;
+
+public class ChunkCompressionTest {
+
+    private static byte[] decompress(final ChunkCompression compression, final byte[] data) throws IOException {
+        try (final InputStream in = compression.wrap(new ByteArrayInputStream(data))) {
+            return ByteStreams.toByteArray(in);
+        }
+    }
+
+    @Test
+    public void testRoundTrip() throws IOException {
+        final byte[] chunk = ChunkCompressionBenchmark.createChunkData(new Random(0));
+        for (final ChunkCompression compression : ChunkCompression.values()) {
+            final byte[] compressed = ChunkCompressionBenchmark.compress(compression, Deflater.BEST_SPEED, chunk);
+            Assert.assertArrayEquals(compression.name(), chunk, decompress(compression, compressed));
+            if (compression != ChunkCompression.NONE) {
+                Assert.assertTrue(compression + " did not compress the chunk", compressed.length < chunk.length);
+            }
+        }
+    }
+
+    @Test
+    public void testLz4RoundTripsAcrossBlocks() throws IOException {
+        final Random random = new Random(1);
+        // Random data doesn't compress and is stored raw, repeated data spans several compressed blocks
+        final byte[] randomData = new byte[3 * Lz4Block.BLOCK_SIZE + 17];
+        random.nextBytes(randomData);
+        final byte[] repeatedData = new byte[5 * Lz4Block.BLOCK_SIZE - 3];
+        for (int i = 0; i < repeatedData.length; i++) {
+            repeatedData[i] = (byte) (i / 7 % 13);
+        }
+        for (final byte[] data : new byte[][] {new byte[0], new byte[] {42}, randomData, repeatedData}) {
+            final byte[] compressed = ChunkCompressionBenchmark.compress(ChunkCompression.LZ4, Deflater.DEFAULT_COMPRESSION, data);
+            Assert.assertArrayEquals(data, decompress(ChunkCompression.LZ4, compressed));
+        }
+    }
+
+    @Test(expected = IOException.class)
+    public void testLz4DetectsCorruption() throws IOException {
+        final byte[] chunk = ChunkCompressionBenchmark.createChunkData(new Random(2));
+        final byte[] compressed = ChunkCompressionBenchmark.compress(ChunkCompression.LZ4, Deflater.DEFAULT_COMPRESSION, chunk);
+        compressed[compressed.length / 2] ^= 0x55;
+        decompress(ChunkCompression.LZ4, compressed);
+    }
+
+    @Test
+    public void testXxHash32() {
+        Assert.assertEquals(0x02CC5D05, Lz4Block.xxHash32(new byte[0], 0, 0, 0));
+        Assert.assertEquals(0x550D7456, Lz4Block.xxHash32("a".getBytes(StandardCharsets.US_ASCII), 0, 1, 0));
+        Assert.assertEquals(0x32D153FF, Lz4Block.xxHash32("abc".getBytes(StandardCharsets.US_ASCII), 0, 3, 0));
+    }
+
+    @Test
+    public void testByName() {
+        Assert.assertEquals(ChunkCompression.LZ4, ChunkCompression.byName("lz4"));
+        Assert.assertEquals(ChunkCompression.GZIP, ChunkCompression.byName("GZIP"));
+        Assert.assertNull(ChunkCompression.byName("brotli"));
+        Assert.assertEquals(ChunkCompression.LZ4, ChunkCompression.byId(4));
+    }
+
+}
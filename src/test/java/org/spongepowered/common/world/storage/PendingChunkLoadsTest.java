@@ -0,0 +1,199 @@
+/*
+ * This file is part of Sponge, licensed under the MIT License (MIT).
+ *
+ * Copyright (c) SpongePowered <https://www.spongepowered.org>
+ * Copyright (c) contributors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.spongepowered.common.world.storage;
+
+import net.minecraft.util.math.ChunkPos;
+import net.minecraft.world.World;
+import net.minecraft.world.chunk.Chunk;
+import org.junit.Assert;
+import org.junit.Before;
+import org.junit.Test;
+import org.mockito.Mockito;
+import org.spongepowered.common.bridge.world.chunk.storage.AnvilChunkLoaderBridge;
+import org.spongepowered.common.util.QueuedChunk;
+
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+
+public class PendingChunkLoadsTest {
+
+    private final Map<Long, CompletableFuture<Object>> reads = new HashMap<>();
+    private final Map<Long, Chunk> stored = new HashMap<>();
+    private final List<Runnable> scheduled = new ArrayList<>();
+    private final List<Long> discarded = new ArrayList<>();
+    private int readCount;
+    private int loadCount;
+    private int generateCount;
+    private int tick;
+    private PendingChunkLoads loads;
+
+    private final class ChunkLoader implements AnvilChunkLoaderBridge {
+
+        @Override
+        public boolean bridge$chunkExists(final World world, final int x, final int z) {
+            return PendingChunkLoadsTest.this.stored.containsKey(ChunkPos.asLong(x, z));
+        }
+
+        @Override
+        public Path bridge$getWorldDir() {
+            throw new UnsupportedOperationException();
+        }
+
+        @Override
+        public void bridge$writeQueuedChunk(final QueuedChunk chunk) {
+            throw new UnsupportedOperationException();
+        }
+
+        @Override
+        public CompletableFuture<?> bridge$prefetchChunk(final int x, final int z) {
+            PendingChunkLoadsTest.this.readCount++;
+            final CompletableFuture<Object> read = new CompletableFuture<>();
+            PendingChunkLoadsTest.this.reads.put(ChunkPos.asLong(x, z), read);
+            return read;
+        }
+
+        @Override
+        public void bridge$discardPrefetchedChunk(final int x, final int z) {
+            PendingChunkLoadsTest.this.discarded.add(ChunkPos.asLong(x, z));
+        }
+
+        @Override
+        public int bridge$getPendingChunkWrites() {
+            return 0;
+        }
+
+        @Override
+        public long bridge$getChunkWriteLag() {
+            return 0;
+        }
+
+        @Override
+        public void bridge$setChunkCodec(final ChunkCodec codec) {
+        }
+    }
+
+    @Before
+    public void init() {
+        this.loads = new PendingChunkLoads(new ChunkLoader(), (x, z) -> {
+            this.loadCount++;
+            return this.stored.get(ChunkPos.asLong(x, z));
+        }, this.scheduled::add, () -> this.tick);
+    }
+
+    private void completeRead(final int x, final int z) {
+        this.reads.get(ChunkPos.asLong(x, z)).complete(null);
+    }
+
+    private void runTick() {
+        this.tick++;
+        // Scheduled tasks run at the start of the tick
+        final List<Runnable> tasks = new ArrayList<>(this.scheduled);
+        this.scheduled.clear();
+        tasks.forEach(Runnable::run);
+        this.loads.expireCompletedLoads();
+    }
+
+    /**
+     * Mirrors PlayerChunkMapEntryMixin#impl$provideChunkAsync, generating
+     * the chunk once it is known to be missing on disk.
+     */
+    private Chunk providePlayerChunk(final int x, final int z) {
+        final CompletableFuture<Optional<Chunk>> future = this.loads.load(x, z);
+        if (!future.isDone()) {
+            return null;
+        }
+        if (!future.isCompletedExceptionally()) {
+            final Optional<Chunk> chunk = future.join();
+            if (chunk.isPresent()) {
+                return chunk.get();
+            }
+        }
+        this.loads.remove(x, z);
+        this.generateCount++;
+        final Chunk generated = Mockito.mock(Chunk.class);
+        this.stored.put(ChunkPos.asLong(x, z), generated);
+        return generated;
+    }
+
+    @Test
+    public void testMissingChunkIsGenerated() {
+        Assert.assertNull(this.providePlayerChunk(3, -7));
+        this.completeRead(3, -7);
+        this.runTick();
+        Assert.assertEquals(1, this.loadCount);
+        Assert.assertNotNull(this.providePlayerChunk(3, -7));
+        Assert.assertEquals(1, this.readCount);
+        Assert.assertEquals(1, this.generateCount);
+        Assert.assertEquals(0, this.loads.size());
+    }
+
+    @Test
+    public void testStoredChunkIsLoaded() {
+        final Chunk chunk = Mockito.mock(Chunk.class);
+        this.stored.put(ChunkPos.asLong(1, 2), chunk);
+        Assert.assertNull(this.providePlayerChunk(1, 2));
+        this.completeRead(1, 2);
+        this.runTick();
+        Assert.assertTrue(this.discarded.contains(ChunkPos.asLong(1, 2)));
+        // Found among the loaded chunks from now on
+        Assert.assertEquals(0, this.loads.size());
+        Assert.assertEquals(0, this.generateCount);
+    }
+
+    @Test
+    public void testUnconsumedMissingChunksExpire() {
+        this.loads.load(0, 0);
+        this.completeRead(0, 0);
+        this.runTick();
+        Assert.assertTrue(this.loads.load(0, 0).isDone());
+        for (int i = 1; i < PendingChunkLoads.EXPIRY_TICKS; i++) {
+            this.runTick();
+        }
+        Assert.assertEquals(1, this.loads.size());
+        this.runTick();
+        Assert.assertEquals(0, this.loads.size());
+        Assert.assertEquals(1, this.readCount);
+        Assert.assertFalse(this.loads.load(0, 0).isDone());
+        Assert.assertEquals(2, this.readCount);
+    }
+
+    @Test
+    public void testRemovingCancelsPendingLoad() {
+        final CompletableFuture<Optional<Chunk>> future = this.loads.load(5, 5);
+        this.loads.remove(5, 5);
+        Assert.assertTrue(future.isCancelled());
+        Assert.assertTrue(this.discarded.contains(ChunkPos.asLong(5, 5)));
+        this.completeRead(5, 5);
+        this.runTick();
+        Assert.assertEquals(0, this.loadCount);
+        Assert.assertEquals(0, this.loads.size());
+    }
+
+}